@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.BackendPreparedStatementCacheStatistics;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy backend prepared statement cache exporter.
+ */
+public final class ProxyBackendPreparedStatementCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_backend_prepared_statement_cache",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Backend prepared statement cache of ShardingSphere-Proxy. "
+                    + "hit_count and miss_count are numbers of prepared statements reused from cache and prepared on backend connection; eviction_count is number of evicted idle prepared statements",
+            Collections.singletonList("name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        result.addMetric(Collections.singletonList("hit_count"), BackendPreparedStatementCacheStatistics.getHitCount());
+        result.addMetric(Collections.singletonList("miss_count"), BackendPreparedStatementCacheStatistics.getMissCount());
+        result.addMetric(Collections.singletonList("eviction_count"), BackendPreparedStatementCacheStatistics.getEvictionCount());
+        return Optional.of(result);
+    }
+}
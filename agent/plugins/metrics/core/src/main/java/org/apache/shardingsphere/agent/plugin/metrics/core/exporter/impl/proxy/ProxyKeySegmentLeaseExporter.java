@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.keygen.segment.KeySegmentLeaseMetrics;
+import org.apache.shardingsphere.infra.algorithm.keygen.segment.SegmentKeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Proxy key segment lease exporter.
+ */
+public final class ProxyKeySegmentLeaseExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_key_segment_lease",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Key segment leases of SEGMENT key generators. leased_segments, prefetched_segments, blocking_leases and failed_leases are numbers of segment leases, "
+                    + "generated_keys is number of keys generated from leased segments",
+            Arrays.asList("database", "key_generator", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (ShardingSphereDatabase each : ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases().values()) {
+            each.getRuleMetaData().findSingleRule(ShardingRule.class).ifPresent(optional -> addMetrics(result, each.getName(), optional));
+        }
+        return Optional.of(result);
+    }
+    
+    private void addMetrics(final GaugeMetricFamilyMetricsCollector collector, final String databaseName, final ShardingRule rule) {
+        for (Entry<String, KeyGenerateAlgorithm> entry : rule.getKeyGenerators().entrySet()) {
+            if (entry.getValue() instanceof SegmentKeyGenerateAlgorithm) {
+                KeySegmentLeaseMetrics metrics = ((SegmentKeyGenerateAlgorithm) entry.getValue()).getMetrics();
+                collector.addMetric(Arrays.asList(databaseName, entry.getKey(), "leased_segments"), metrics.getLeasedSegmentCount());
+                collector.addMetric(Arrays.asList(databaseName, entry.getKey(), "prefetched_segments"), metrics.getPrefetchedSegmentCount());
+                collector.addMetric(Arrays.asList(databaseName, entry.getKey(), "blocking_leases"), metrics.getBlockingLeaseCount());
+                collector.addMetric(Arrays.asList(databaseName, entry.getKey(), "failed_leases"), metrics.getFailedLeaseCount());
+                collector.addMetric(Arrays.asList(databaseName, entry.getKey(), "generated_keys"), metrics.getGeneratedKeyCount());
+            }
+        }
+    }
+}
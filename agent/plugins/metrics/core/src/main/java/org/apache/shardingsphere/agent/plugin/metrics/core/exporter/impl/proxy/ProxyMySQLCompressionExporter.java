@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressionStatistics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy MySQL compressed protocol exporter.
+ */
+public final class ProxyMySQLCompressionExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_mysql_compression",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "MySQL compressed protocol of ShardingSphere-Proxy. "
+                    + "wire_bytes and payload_bytes are bytes of compressed packets payload on wire and after decompressed; compressed_packets and uncompressed_packets are numbers of outbound packets",
+            Arrays.asList("direction", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        result.addMetric(Arrays.asList("inbound", "wire_bytes"), MySQLCompressionStatistics.getInboundWireBytes());
+        result.addMetric(Arrays.asList("inbound", "payload_bytes"), MySQLCompressionStatistics.getInboundPayloadBytes());
+        result.addMetric(Arrays.asList("outbound", "wire_bytes"), MySQLCompressionStatistics.getOutboundWireBytes());
+        result.addMetric(Arrays.asList("outbound", "payload_bytes"), MySQLCompressionStatistics.getOutboundPayloadBytes());
+        result.addMetric(Arrays.asList("outbound", "compressed_packets"), MySQLCompressionStatistics.getOutboundCompressedPackets());
+        result.addMetric(Arrays.asList("outbound", "uncompressed_packets"), MySQLCompressionStatistics.getOutboundUncompressedPackets());
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.BackendPreparedStatementCacheStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProxyBackendPreparedStatementCacheExporterTest {
+    
+    @AfterEach
+    void reset() {
+        MetricConfiguration config = new MetricConfiguration("proxy_backend_prepared_statement_cache", MetricCollectorType.GAUGE_METRIC_FAMILY, null,
+                Collections.singletonList("name"), Collections.emptyMap());
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertExport() {
+        BackendPreparedStatementCacheStatistics.recordHit();
+        BackendPreparedStatementCacheStatistics.recordMiss();
+        BackendPreparedStatementCacheStatistics.recordEviction();
+        Optional<GaugeMetricFamilyMetricsCollector> collector = new ProxyBackendPreparedStatementCacheExporter().export("FIXTURE");
+        assertTrue(collector.isPresent());
+        assertThat(collector.get().toString(), is(String.format("hit_count=%s, miss_count=%s, eviction_count=%s",
+                BackendPreparedStatementCacheStatistics.getHitCount(), BackendPreparedStatementCacheStatistics.getMissCount(), BackendPreparedStatementCacheStatistics.getEvictionCount())));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.keygen.segment.KeySegmentLeaseMetrics;
+import org.apache.shardingsphere.infra.algorithm.keygen.segment.SegmentKeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+class ProxyKeySegmentLeaseExporterTest {
+    
+    @AfterEach
+    void reset() {
+        MetricConfiguration config = new MetricConfiguration("proxy_key_segment_lease",
+                MetricCollectorType.GAUGE_METRIC_FAMILY, null, Arrays.asList("database", "key_generator", "name"), Collections.emptyMap());
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertExportWithoutContextManager() {
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(null);
+        assertFalse(new ProxyKeySegmentLeaseExporter().export("FIXTURE").isPresent());
+    }
+    
+    @Test
+    void assertExportWithContextManager() {
+        ContextManager contextManager = mockContextManager();
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        Optional<GaugeMetricFamilyMetricsCollector> collector = new ProxyKeySegmentLeaseExporter().export("FIXTURE");
+        assertTrue(collector.isPresent());
+        assertThat(collector.get().toString(),
+                is("foo_db=15, segment_key_generator=15, leased_segments=3, prefetched_segments=2, blocking_leases=1, failed_leases=0, generated_keys=9"));
+    }
+    
+    private ContextManager mockContextManager() {
+        KeySegmentLeaseMetrics metrics = mock(KeySegmentLeaseMetrics.class);
+        when(metrics.getLeasedSegmentCount()).thenReturn(3L);
+        when(metrics.getPrefetchedSegmentCount()).thenReturn(2L);
+        when(metrics.getBlockingLeaseCount()).thenReturn(1L);
+        when(metrics.getGeneratedKeyCount()).thenReturn(9L);
+        SegmentKeyGenerateAlgorithm segmentKeyGenerateAlgorithm = mock(SegmentKeyGenerateAlgorithm.class);
+        when(segmentKeyGenerateAlgorithm.getMetrics()).thenReturn(metrics);
+        Map<String, KeyGenerateAlgorithm> keyGenerators = new LinkedHashMap<>(2, 1F);
+        keyGenerators.put("segment_key_generator", segmentKeyGenerateAlgorithm);
+        keyGenerators.put("uuid_key_generator", mock(KeyGenerateAlgorithm.class));
+        ShardingRule rule = mock(ShardingRule.class);
+        when(rule.getKeyGenerators()).thenReturn(keyGenerators);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        when(database.getRuleMetaData().findSingleRule(ShardingRule.class)).thenReturn(Optional.of(rule));
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getDatabases()).thenReturn(Collections.singletonMap("foo_db", database));
+        MetaDataContexts metaDataContexts = new MetaDataContexts(mock(MetaDataPersistService.class), metaData);
+        ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaDataContexts()).thenReturn(metaDataContexts);
+        return result;
+    }
+}
@@ -27,7 +27,12 @@ import org.apache.shardingsphere.agent.plugin.core.context.PluginContext;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.BuildInfoExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCMetaDataInfoExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCStateExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyBackendPreparedStatementCacheExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyEncryptDecryptCacheExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyKeySegmentLeaseExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMetaDataInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMySQLCompressionExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxySQLFederationExecutionPlanCacheExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.exoprter.PrometheusMetricsExporter;
 import org.apache.shardingsphere.agent.spi.PluginLifecycleService;
@@ -78,6 +83,11 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     private void registerCollectorForProxy() {
         new PrometheusMetricsExporter(new ProxyStateExporter()).register();
         new PrometheusMetricsExporter(new ProxyMetaDataInfoExporter()).register();
+        new PrometheusMetricsExporter(new ProxyMySQLCompressionExporter()).register();
+        new PrometheusMetricsExporter(new ProxyEncryptDecryptCacheExporter()).register();
+        new PrometheusMetricsExporter(new ProxyBackendPreparedStatementCacheExporter()).register();
+        new PrometheusMetricsExporter(new ProxyKeySegmentLeaseExporter()).register();
+        new PrometheusMetricsExporter(new ProxySQLFederationExecutionPlanCacheExporter()).register();
     }
     
     private void registerCollectorForJDBC() {
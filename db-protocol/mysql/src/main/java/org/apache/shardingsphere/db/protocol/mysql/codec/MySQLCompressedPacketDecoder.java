@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decoder of MySQL compressed packet, which unwraps compressed packets to stream of MySQL packets.
+ *
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_basic_compression_packet.html">Compressed Packet</a>
+ */
+@RequiredArgsConstructor
+public final class MySQLCompressedPacketDecoder extends ByteToMessageDecoder {
+    
+    private static final int HEADER_LENGTH = 7;
+    
+    private final AtomicInteger compressedSequenceId;
+    
+    private final Inflater inflater = new Inflater();
+    
+    @Override
+    protected void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) throws DataFormatException {
+        if (in.readableBytes() < HEADER_LENGTH) {
+            return;
+        }
+        int payloadLength = in.getUnsignedMediumLE(in.readerIndex());
+        if (in.readableBytes() < HEADER_LENGTH + payloadLength) {
+            return;
+        }
+        in.skipBytes(3);
+        compressedSequenceId.set(in.readUnsignedByte() + 1);
+        int uncompressedLength = in.readUnsignedMediumLE();
+        if (0 == uncompressedLength) {
+            MySQLCompressionStatistics.recordInbound(payloadLength, payloadLength);
+            out.add(in.readRetainedSlice(payloadLength));
+            return;
+        }
+        MySQLCompressionStatistics.recordInbound(payloadLength, uncompressedLength);
+        out.add(inflate(in.readSlice(payloadLength), uncompressedLength));
+    }
+    
+    private ByteBuf inflate(final ByteBuf compressedPayload, final int uncompressedLength) throws DataFormatException {
+        inflater.reset();
+        inflater.setInput(ByteBufUtil.getBytes(compressedPayload));
+        byte[] result = new byte[uncompressedLength];
+        int inflatedLength = 0;
+        while (inflatedLength < uncompressedLength && !inflater.finished()) {
+            int length = inflater.inflate(result, inflatedLength, uncompressedLength - inflatedLength);
+            if (0 == length && (inflater.needsInput() || inflater.needsDictionary())) {
+                break;
+            }
+            inflatedLength += length;
+        }
+        if (inflatedLength != uncompressedLength) {
+            throw new DataFormatException(String.format("Expected %d bytes after decompressed, but got %d bytes", uncompressedLength, inflatedLength));
+        }
+        return Unpooled.wrappedBuffer(result);
+    }
+    
+    @Override
+    protected void handlerRemoved0(final ChannelHandlerContext context) {
+        inflater.end();
+    }
+}
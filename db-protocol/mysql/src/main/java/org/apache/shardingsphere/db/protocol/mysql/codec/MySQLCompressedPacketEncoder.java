@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+/**
+ * Encoder of MySQL compressed packet.
+ *
+ * <p>MySQL packets written are buffered until flushed, then wrapped into compressed packets together,
+ * so that rows flushed in batch are compressed as a whole rather than one by one.
+ * Payload shorter than threshold or not shrunk by compression is sent without compressed.</p>
+ *
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_basic_compression_packet.html">Compressed Packet</a>
+ */
+@RequiredArgsConstructor
+public final class MySQLCompressedPacketEncoder extends ChannelOutboundHandlerAdapter {
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    private static final int HEADER_LENGTH = 7;
+    
+    private final AtomicInteger compressedSequenceId;
+    
+    private final int threshold;
+    
+    private final Deflater deflater = new Deflater();
+    
+    private final Collection<ChannelPromise> pendingPromises = new LinkedList<>();
+    
+    private CompositeByteBuf pendingMessages;
+    
+    @Override
+    public void write(final ChannelHandlerContext context, final Object message, final ChannelPromise promise) {
+        if (!(message instanceof ByteBuf)) {
+            context.write(message, promise);
+            return;
+        }
+        if (null == pendingMessages) {
+            pendingMessages = context.alloc().compositeBuffer(Integer.MAX_VALUE);
+        }
+        pendingMessages.addComponent(true, (ByteBuf) message);
+        pendingPromises.add(promise);
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext context) {
+        if (null != pendingMessages) {
+            CompositeByteBuf messages = pendingMessages;
+            Collection<ChannelPromise> promises = new ArrayList<>(pendingPromises);
+            pendingMessages = null;
+            pendingPromises.clear();
+            try {
+                context.write(encode(context, messages)).addListener((ChannelFutureListener) future -> notifyPromises(promises, future));
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                promises.forEach(each -> each.tryFailure(ex));
+            } finally {
+                messages.release();
+            }
+        }
+        context.flush();
+    }
+    
+    private ByteBuf encode(final ChannelHandlerContext context, final ByteBuf messages) {
+        int payloadLength = messages.readableBytes();
+        ByteBuf result = context.alloc().ioBuffer(payloadLength + (payloadLength / MAX_PAYLOAD_LENGTH + 1) * HEADER_LENGTH);
+        try {
+            while (messages.isReadable()) {
+                encodePacket(messages.readSlice(Math.min(messages.readableBytes(), MAX_PAYLOAD_LENGTH)), result);
+            }
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            result.release();
+            throw ex;
+        }
+    }
+    
+    private void encodePacket(final ByteBuf payload, final ByteBuf out) {
+        int payloadLength = payload.readableBytes();
+        if (payloadLength >= threshold) {
+            byte[] input = new byte[payloadLength];
+            payload.getBytes(payload.readerIndex(), input);
+            byte[] compressed = new byte[payloadLength];
+            deflater.reset();
+            deflater.setInput(input);
+            deflater.finish();
+            int compressedLength = deflater.deflate(compressed);
+            if (deflater.finished() && compressedLength < payloadLength) {
+                writeHeader(out, compressedLength, payloadLength);
+                out.writeBytes(compressed, 0, compressedLength);
+                MySQLCompressionStatistics.recordOutbound(compressedLength, payloadLength, true);
+                return;
+            }
+        }
+        writeHeader(out, payloadLength, 0);
+        out.writeBytes(payload);
+        MySQLCompressionStatistics.recordOutbound(payloadLength, payloadLength, false);
+    }
+    
+    private void writeHeader(final ByteBuf out, final int payloadLength, final int uncompressedLength) {
+        out.writeMediumLE(payloadLength);
+        out.writeByte(compressedSequenceId.getAndIncrement());
+        out.writeMediumLE(uncompressedLength);
+    }
+    
+    private void notifyPromises(final Collection<ChannelPromise> promises, final ChannelFuture future) {
+        for (ChannelPromise each : promises) {
+            if (future.isSuccess()) {
+                each.trySuccess();
+            } else {
+                each.tryFailure(future.cause());
+            }
+        }
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) {
+        if (null != pendingMessages) {
+            pendingMessages.release();
+            pendingMessages = null;
+        }
+        pendingPromises.clear();
+        deflater.end();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.channel.CombinedChannelDuplexHandler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Codec of MySQL compressed protocol, which is placed in front of database packet codec after compression negotiated.
+ */
+public final class MySQLCompressionCodec extends CombinedChannelDuplexHandler<MySQLCompressedPacketDecoder, MySQLCompressedPacketEncoder> {
+    
+    public MySQLCompressionCodec(final int threshold) {
+        this(new AtomicInteger(), threshold);
+    }
+    
+    private MySQLCompressionCodec(final AtomicInteger compressedSequenceId, final int threshold) {
+        super(new MySQLCompressedPacketDecoder(compressedSequenceId), new MySQLCompressedPacketEncoder(compressedSequenceId, threshold));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of MySQL compressed protocol.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLCompressionStatistics {
+    
+    private static final LongAdder INBOUND_WIRE_BYTES = new LongAdder();
+    
+    private static final LongAdder INBOUND_PAYLOAD_BYTES = new LongAdder();
+    
+    private static final LongAdder OUTBOUND_WIRE_BYTES = new LongAdder();
+    
+    private static final LongAdder OUTBOUND_PAYLOAD_BYTES = new LongAdder();
+    
+    private static final LongAdder OUTBOUND_COMPRESSED_PACKETS = new LongAdder();
+    
+    private static final LongAdder OUTBOUND_UNCOMPRESSED_PACKETS = new LongAdder();
+    
+    /**
+     * Record inbound compressed packet.
+     *
+     * @param wireBytes bytes of packet payload received
+     * @param payloadBytes bytes of packet payload after decompressed
+     */
+    public static void recordInbound(final int wireBytes, final int payloadBytes) {
+        INBOUND_WIRE_BYTES.add(wireBytes);
+        INBOUND_PAYLOAD_BYTES.add(payloadBytes);
+    }
+    
+    /**
+     * Record outbound compressed packet.
+     *
+     * @param wireBytes bytes of packet payload sent
+     * @param payloadBytes bytes of packet payload before compressed
+     * @param compressed whether packet payload is compressed
+     */
+    public static void recordOutbound(final int wireBytes, final int payloadBytes, final boolean compressed) {
+        OUTBOUND_WIRE_BYTES.add(wireBytes);
+        OUTBOUND_PAYLOAD_BYTES.add(payloadBytes);
+        if (compressed) {
+            OUTBOUND_COMPRESSED_PACKETS.increment();
+        } else {
+            OUTBOUND_UNCOMPRESSED_PACKETS.increment();
+        }
+    }
+    
+    /**
+     * Get inbound wire bytes.
+     *
+     * @return inbound wire bytes
+     */
+    public static long getInboundWireBytes() {
+        return INBOUND_WIRE_BYTES.sum();
+    }
+    
+    /**
+     * Get inbound payload bytes.
+     *
+     * @return inbound payload bytes
+     */
+    public static long getInboundPayloadBytes() {
+        return INBOUND_PAYLOAD_BYTES.sum();
+    }
+    
+    /**
+     * Get outbound wire bytes.
+     *
+     * @return outbound wire bytes
+     */
+    public static long getOutboundWireBytes() {
+        return OUTBOUND_WIRE_BYTES.sum();
+    }
+    
+    /**
+     * Get outbound payload bytes.
+     *
+     * @return outbound payload bytes
+     */
+    public static long getOutboundPayloadBytes() {
+        return OUTBOUND_PAYLOAD_BYTES.sum();
+    }
+    
+    /**
+     * Get outbound compressed packets.
+     *
+     * @return outbound compressed packets
+     */
+    public static long getOutboundCompressedPackets() {
+        return OUTBOUND_COMPRESSED_PACKETS.sum();
+    }
+    
+    /**
+     * Get outbound uncompressed packets.
+     *
+     * @return outbound uncompressed packets
+     */
+    public static long getOutboundUncompressedPackets() {
+        return OUTBOUND_UNCOMPRESSED_PACKETS.sum();
+    }
+}
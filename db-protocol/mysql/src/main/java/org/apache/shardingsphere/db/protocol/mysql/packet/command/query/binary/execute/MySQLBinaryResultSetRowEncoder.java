@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import org.apache.shardingsphere.db.protocol.binary.BinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.util.List;
+
+/**
+ * Binary result set row encoder for MySQL.
+ * 
+ * <p>Binary protocol values are resolved once for the column types of a result set, then every row is written from its column values directly.</p>
+ * 
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_binary_resultset.html#sect_protocol_binary_resultset_row">Binary Protocol Resultset Row</a>
+ */
+public final class MySQLBinaryResultSetRowEncoder {
+    
+    private static final int PACKET_HEADER = 0x00;
+    
+    private static final int NULL_BITMAP_OFFSET = 2;
+    
+    private final MySQLBinaryProtocolValue[] binaryProtocolValues;
+    
+    private final int nullBitmapLength;
+    
+    public MySQLBinaryResultSetRowEncoder(final List<? extends BinaryColumnType> columnTypes) {
+        binaryProtocolValues = new MySQLBinaryProtocolValue[columnTypes.size()];
+        for (int i = 0; i < binaryProtocolValues.length; i++) {
+            binaryProtocolValues[i] = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes.get(i));
+        }
+        nullBitmapLength = (binaryProtocolValues.length + NULL_BITMAP_OFFSET + 7) / 8;
+    }
+    
+    /**
+     * Encode row.
+     * 
+     * @param payload payload operation for MySQL packet
+     * @param values column values of row
+     */
+    public void encode(final MySQLPacketPayload payload, final Object[] values) {
+        payload.writeInt1(PACKET_HEADER);
+        writeNullBitmap(payload, values);
+        for (int i = 0; i < values.length; i++) {
+            if (null != values[i]) {
+                binaryProtocolValues[i].write(payload, values[i]);
+            }
+        }
+    }
+    
+    private void writeNullBitmap(final MySQLPacketPayload payload, final Object[] values) {
+        for (int byteIndex = 0; byteIndex < nullBitmapLength; byteIndex++) {
+            int bits = 0;
+            for (int bitIndex = 0; bitIndex < 8; bitIndex++) {
+                int columnIndex = byteIndex * 8 + bitIndex - NULL_BITMAP_OFFSET;
+                if (columnIndex >= 0 && columnIndex < values.length && null == values[columnIndex]) {
+                    bits |= 1 << bitIndex;
+                }
+            }
+            payload.writeInt1(bits);
+        }
+    }
+}
@@ -17,11 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
 
-import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
-import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
-import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
 /**
@@ -29,46 +25,19 @@ import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
  * 
  * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_binary_resultset.html#sect_protocol_binary_resultset_row">Binary Protocol Resultset Row</a>
  */
-@RequiredArgsConstructor
 public final class MySQLBinaryResultSetRowPacket extends MySQLPacket {
     
-    private static final int PACKET_HEADER = 0x00;
+    private final MySQLBinaryResultSetRowEncoder encoder;
     
-    private static final int NULL_BITMAP_OFFSET = 2;
+    private final Object[] values;
     
-    private final BinaryRow row;
+    public MySQLBinaryResultSetRowPacket(final MySQLBinaryResultSetRowEncoder encoder, final Object[] values) {
+        this.encoder = encoder;
+        this.values = values;
+    }
     
     @Override
     protected void write(final MySQLPacketPayload payload) {
-        payload.writeInt1(PACKET_HEADER);
-        writeNullBitmap(payload);
-        writeValues(payload);
-    }
-    
-    private void writeNullBitmap(final MySQLPacketPayload payload) {
-        for (int each : getNullBitmap().getNullBitmap()) {
-            payload.writeInt1(each);
-        }
-    }
-    
-    private MySQLNullBitmap getNullBitmap() {
-        MySQLNullBitmap result = new MySQLNullBitmap(row.getCells().size(), NULL_BITMAP_OFFSET);
-        int index = 0;
-        for (BinaryCell each : row.getCells()) {
-            if (null == each.getData()) {
-                result.setNullBit(index);
-            }
-            index++;
-        }
-        return result;
-    }
-    
-    private void writeValues(final MySQLPacketPayload payload) {
-        for (BinaryCell each : row.getCells()) {
-            Object data = each.getData();
-            if (null != data) {
-                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType()).write(payload, data);
-            }
-        }
+        encoder.encode(payload, values);
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLCompressionCodecTest {
+    
+    @Test
+    void assertWriteWithPayloadShorterThanThreshold() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(50));
+        channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{1, 2, 3}));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readUnsignedMediumLE(), is(3));
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(0));
+        assertThat(ByteBufUtil.getBytes(actual), is(new byte[]{1, 2, 3}));
+    }
+    
+    @Test
+    void assertWriteWithPayloadLongerThanThreshold() throws DataFormatException {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(50));
+        channel.write(Unpooled.wrappedBuffer(new byte[500]));
+        channel.write(Unpooled.wrappedBuffer(new byte[500]));
+        channel.flush();
+        ByteBuf actual = channel.readOutbound();
+        int compressedLength = actual.readUnsignedMediumLE();
+        assertTrue(compressedLength < 1000);
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(1000));
+        Inflater inflater = new Inflater();
+        inflater.setInput(ByteBufUtil.getBytes(actual));
+        byte[] inflated = new byte[1000];
+        assertThat(inflater.inflate(inflated), is(1000));
+        inflater.end();
+        assertThat(inflated, is(new byte[1000]));
+    }
+    
+    @Test
+    void assertReadCompressedPacket() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(50));
+        byte[] payload = new byte[200];
+        Arrays.fill(payload, (byte) 1);
+        Deflater deflater = new Deflater();
+        deflater.setInput(payload);
+        deflater.finish();
+        byte[] compressed = new byte[200];
+        int compressedLength = deflater.deflate(compressed);
+        deflater.end();
+        ByteBuf packet = Unpooled.buffer();
+        packet.writeMediumLE(compressedLength);
+        packet.writeByte(0);
+        packet.writeMediumLE(payload.length);
+        packet.writeBytes(compressed, 0, compressedLength);
+        channel.writeInbound(packet);
+        ByteBuf actual = channel.readInbound();
+        assertThat(ByteBufUtil.getBytes(actual), is(payload));
+        channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{1}));
+        ByteBuf response = channel.readOutbound();
+        assertThat(response.getUnsignedByte(3), is((short) 1));
+    }
+    
+    @Test
+    void assertReadUncompressedPacket() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(50));
+        ByteBuf packet = Unpooled.buffer();
+        packet.writeMediumLE(2);
+        packet.writeByte(0);
+        packet.writeMediumLE(0);
+        packet.writeBytes(new byte[]{1, 2});
+        channel.writeInbound(packet.readRetainedSlice(4));
+        assertThat(channel.inboundMessages().size(), is(0));
+        channel.writeInbound(packet);
+        ByteBuf actual = channel.readInbound();
+        assertThat(ByteBufUtil.getBytes(actual), is(new byte[]{1, 2}));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLBinaryResultSetRowEncoderTest {
+    
+    private final MySQLBinaryResultSetRowEncoder encoder = new MySQLBinaryResultSetRowEncoder(Collections.nCopies(7, MySQLBinaryColumnType.LONGLONG));
+    
+    @Test
+    void assertEncode() {
+        ByteBuf actual = Unpooled.buffer();
+        encoder.encode(new MySQLPacketPayload(actual, StandardCharsets.UTF_8), new Object[]{1L, null, 2L, null, null, null, 3L});
+        ByteBuf expected = Unpooled.buffer().writeByte(0x00).writeByte(0xE8).writeByte(0x00).writeLongLE(1L).writeLongLE(2L).writeLongLE(3L);
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertEncodeWithAllNullValues() {
+        ByteBuf actual = Unpooled.buffer();
+        encoder.encode(new MySQLPacketPayload(actual, StandardCharsets.UTF_8), new Object[7]);
+        assertThat(actual, is(Unpooled.buffer().writeByte(0x00).writeByte(0xFC).writeByte(0x01)));
+    }
+}
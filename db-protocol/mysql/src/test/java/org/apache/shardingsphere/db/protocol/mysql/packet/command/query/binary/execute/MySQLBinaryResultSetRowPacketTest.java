@@ -17,8 +17,6 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
 
-import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
-import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.Test;
@@ -38,8 +36,8 @@ class MySQLBinaryResultSetRowPacketTest {
     
     @Test
     void assertWrite() {
-        BinaryRow row = new BinaryRow(Arrays.asList(new BinaryCell(MySQLBinaryColumnType.STRING, "value"), new BinaryCell(MySQLBinaryColumnType.STRING, null)));
-        MySQLBinaryResultSetRowPacket actual = new MySQLBinaryResultSetRowPacket(row);
+        MySQLBinaryResultSetRowEncoder encoder = new MySQLBinaryResultSetRowEncoder(Arrays.asList(MySQLBinaryColumnType.STRING, MySQLBinaryColumnType.STRING));
+        MySQLBinaryResultSetRowPacket actual = new MySQLBinaryResultSetRowPacket(encoder, new Object[]{"value", null});
         actual.write(payload);
         verify(payload).writeInt1(0x00);
         verify(payload).writeInt1(0x08);
@@ -51,6 +51,8 @@ public final class PostgreSQLPacketCodecEngine implements DatabasePacketCodecEng
     
     private final List<ByteBuf> pendingMessages = new LinkedList<>();
     
+    private final List<ByteBuf> pendingCopyDataMessages = new LinkedList<>();
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
         return readableBytes >= (startupPhase ? 0 : MESSAGE_TYPE_LENGTH) + PAYLOAD_LENGTH;
@@ -65,10 +67,15 @@ public final class PostgreSQLPacketCodecEngine implements DatabasePacketCodecEng
             }
             int payloadLength = in.getInt(in.readerIndex() + 1);
             if (in.readableBytes() < MESSAGE_TYPE_LENGTH + payloadLength) {
-                return;
+                break;
             }
             byte type = in.getByte(in.readerIndex());
             PostgreSQLCommandPacketType commandPacketType = PostgreSQLCommandPacketType.valueOf(type);
+            if (PostgreSQLCommandPacketType.COPY_DATA == commandPacketType) {
+                pendingCopyDataMessages.add(in.readRetainedSlice(MESSAGE_TYPE_LENGTH + payloadLength));
+                continue;
+            }
+            handlePendingCopyDataMessages(context, out);
             if (requireAggregation(commandPacketType)) {
                 pendingMessages.add(in.readRetainedSlice(MESSAGE_TYPE_LENGTH + payloadLength));
             } else if (pendingMessages.isEmpty()) {
@@ -77,6 +84,7 @@ public final class PostgreSQLPacketCodecEngine implements DatabasePacketCodecEng
                 handlePendingMessages(context, in, out, payloadLength);
             }
         }
+        handlePendingCopyDataMessages(context, out);
     }
     
     private void handleStartupPhase(final ByteBuf in, final List<Object> out) {
@@ -103,6 +111,18 @@ public final class PostgreSQLPacketCodecEngine implements DatabasePacketCodecEng
         pendingMessages.clear();
     }
     
+    private void handlePendingCopyDataMessages(final ChannelHandlerContext context, final List<Object> out) {
+        if (pendingCopyDataMessages.isEmpty()) {
+            return;
+        }
+        if (1 == pendingCopyDataMessages.size()) {
+            out.add(pendingCopyDataMessages.get(0));
+        } else {
+            out.add(context.alloc().compositeBuffer(pendingCopyDataMessages.size()).addComponents(true, pendingCopyDataMessages));
+        }
+        pendingCopyDataMessages.clear();
+    }
+    
     @Override
     public void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
         boolean isIdentifierPacket = message instanceof PostgreSQLIdentifierPacket;
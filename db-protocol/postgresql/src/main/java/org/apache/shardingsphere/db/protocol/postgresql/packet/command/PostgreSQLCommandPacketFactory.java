@@ -20,6 +20,9 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.admin.PostgreSQLUnsupportedCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDonePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyFailPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.close.PostgreSQLComClosePacket;
@@ -49,6 +52,9 @@ public final class PostgreSQLCommandPacketFactory {
      * @return created instance
      */
     public static PostgreSQLCommandPacket newInstance(final PostgreSQLCommandPacketType commandPacketType, final PostgreSQLPacketPayload payload) {
+        if (PostgreSQLCommandPacketType.COPY_DATA == commandPacketType) {
+            return new PostgreSQLComCopyDataPacket(payload);
+        }
         if (!PostgreSQLCommandPacketType.isExtendedProtocolPacketType(commandPacketType)) {
             payload.getByteBuf().skipBytes(1);
             return getPostgreSQLCommandPacket(commandPacketType, payload);
@@ -81,6 +87,10 @@ public final class PostgreSQLCommandPacketFactory {
                 return new PostgreSQLComClosePacket(payload);
             case FLUSH_COMMAND:
                 return new PostgreSQLComFlushPacket(payload);
+            case COPY_DONE:
+                return new PostgreSQLComCopyDonePacket(payload);
+            case COPY_FAIL:
+                return new PostgreSQLComCopyFailPacket(payload);
             case TERMINATE:
                 return new PostgreSQLComTerminationPacket(payload);
             default:
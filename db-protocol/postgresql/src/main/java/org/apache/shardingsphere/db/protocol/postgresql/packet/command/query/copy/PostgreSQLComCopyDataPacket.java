@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+/**
+ * Command copy data packet for PostgreSQL.
+ *
+ * <p>Consecutive CopyData messages received in one read are decoded together, so that the data of all of them is handled by one command.</p>
+ */
+@Getter
+public final class PostgreSQLComCopyDataPacket extends PostgreSQLCommandPacket {
+    
+    private static final int MESSAGE_TYPE_LENGTH = 1;
+    
+    private static final int PAYLOAD_LENGTH = 4;
+    
+    private final byte[] data;
+    
+    public PostgreSQLComCopyDataPacket(final PostgreSQLPacketPayload payload) {
+        ByteBuf byteBuf = payload.getByteBuf();
+        data = new byte[getDataLength(byteBuf)];
+        int offset = 0;
+        while (byteBuf.isReadable()) {
+            payload.readInt1();
+            int length = payload.readInt4() - PAYLOAD_LENGTH;
+            byteBuf.readBytes(data, offset, length);
+            offset += length;
+        }
+    }
+    
+    private int getDataLength(final ByteBuf byteBuf) {
+        int result = 0;
+        int index = byteBuf.readerIndex();
+        while (index < byteBuf.writerIndex()) {
+            int length = byteBuf.getInt(index + MESSAGE_TYPE_LENGTH);
+            result += length - PAYLOAD_LENGTH;
+            index += MESSAGE_TYPE_LENGTH + length;
+        }
+        return result;
+    }
+    
+    @Override
+    protected void write(final PostgreSQLPacketPayload payload) {
+    }
+    
+    @Override
+    public PostgreSQLIdentifierTag getIdentifier() {
+        return PostgreSQLCommandPacketType.COPY_DATA;
+    }
+}
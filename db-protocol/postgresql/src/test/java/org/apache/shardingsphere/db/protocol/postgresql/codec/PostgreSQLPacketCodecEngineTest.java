@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.db.protocol.postgresql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
@@ -87,6 +89,22 @@ class PostgreSQLPacketCodecEngineTest {
         assertTrue(out.isEmpty());
     }
     
+    @Test
+    void assertDecodeWithConsecutiveCopyData() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        PostgreSQLPacketCodecEngine engine = new PostgreSQLPacketCodecEngine();
+        engine.decode(context, Unpooled.buffer().writeInt(8).writeInt(196608), new LinkedList<>());
+        ByteBuf in = Unpooled.buffer();
+        in.writeByte('d').writeInt(6).writeByte('1').writeByte('\n');
+        in.writeByte('d').writeInt(6).writeByte('2').writeByte('\n');
+        in.writeByte('c').writeInt(4);
+        List<Object> out = new LinkedList<>();
+        engine.decode(context, in, out);
+        assertThat(out.size(), is(2));
+        assertThat(((ByteBuf) out.get(0)).readableBytes(), is(14));
+        assertThat(((ByteBuf) out.get(1)).getByte(0), is((byte) 'c'));
+    }
+    
     @Test
     void assertEncodePostgreSQLPacket() {
         PostgreSQLPacket packet = mock(PostgreSQLPacket.class);
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command;
 
 import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDonePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLComTerminationPacket;
@@ -84,4 +86,16 @@ class PostgreSQLCommandPacketFactoryTest {
         when(payload.getByteBuf()).thenReturn(mock(ByteBuf.class));
         assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.TERMINATE, payload), instanceOf(PostgreSQLComTerminationPacket.class));
     }
+    
+    @Test
+    void assertNewInstanceWithCopyDataComPacket() {
+        when(payload.getByteBuf()).thenReturn(mock(ByteBuf.class));
+        assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.COPY_DATA, payload), instanceOf(PostgreSQLComCopyDataPacket.class));
+    }
+    
+    @Test
+    void assertNewInstanceWithCopyDoneComPacket() {
+        when(payload.getByteBuf()).thenReturn(mock(ByteBuf.class));
+        assertThat(PostgreSQLCommandPacketFactory.newInstance(PostgreSQLCommandPacketType.COPY_DONE, payload), instanceOf(PostgreSQLComCopyDonePacket.class));
+    }
 }
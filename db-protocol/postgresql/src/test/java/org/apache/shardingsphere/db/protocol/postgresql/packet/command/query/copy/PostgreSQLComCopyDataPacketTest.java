@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PostgreSQLComCopyDataPacketTest {
+    
+    @Test
+    void assertNewInstanceWithSingleMessage() {
+        PostgreSQLComCopyDataPacket actual = new PostgreSQLComCopyDataPacket(new PostgreSQLPacketPayload(createCopyDataMessages("1\tfoo\n"), StandardCharsets.UTF_8));
+        assertThat(new String(actual.getData(), StandardCharsets.UTF_8), is("1\tfoo\n"));
+        assertThat(actual.getIdentifier(), is(PostgreSQLCommandPacketType.COPY_DATA));
+    }
+    
+    @Test
+    void assertNewInstanceWithConsecutiveMessages() {
+        PostgreSQLComCopyDataPacket actual = new PostgreSQLComCopyDataPacket(new PostgreSQLPacketPayload(createCopyDataMessages("1\tfoo\n2\t", "bar\n", ""), StandardCharsets.UTF_8));
+        assertThat(new String(actual.getData(), StandardCharsets.UTF_8), is("1\tfoo\n2\tbar\n"));
+    }
+    
+    private ByteBuf createCopyDataMessages(final String... data) {
+        ByteBuf result = Unpooled.buffer();
+        for (String each : data) {
+            byte[] bytes = each.getBytes(StandardCharsets.UTF_8);
+            result.writeByte('d');
+            result.writeInt(bytes.length + 4);
+            result.writeBytes(bytes);
+        }
+        return result;
+    }
+}
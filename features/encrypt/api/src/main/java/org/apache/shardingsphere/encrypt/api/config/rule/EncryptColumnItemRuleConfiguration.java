@@ -30,4 +30,13 @@ public final class EncryptColumnItemRuleConfiguration {
     private final String name;
     
     private final String encryptorName;
+    
+    /**
+     * Maximum size of decrypted value cache. Less than or equal to 0 means no cache.
+     */
+    private final int decryptCacheSize;
+    
+    public EncryptColumnItemRuleConfiguration(final String name, final String encryptorName) {
+        this(name, encryptorName, 0);
+    }
 }
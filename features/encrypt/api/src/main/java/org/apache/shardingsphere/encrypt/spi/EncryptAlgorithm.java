@@ -20,6 +20,9 @@ package org.apache.shardingsphere.encrypt.spi;
 import org.apache.shardingsphere.infra.algorithm.core.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Encrypt algorithm.
  */
@@ -43,6 +46,36 @@ public interface EncryptAlgorithm extends ShardingSphereAlgorithm {
      */
     Object decrypt(Object cipherValue, AlgorithmSQLContext algorithmSQLContext);
     
+    /**
+     * Encrypt values in batch.
+     *
+     * @param plainValues plain values
+     * @param algorithmSQLContext algorithm SQL context
+     * @return cipher values, in the same order as plain values
+     */
+    default List<Object> batchEncrypt(final List<Object> plainValues, final AlgorithmSQLContext algorithmSQLContext) {
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(null == each ? null : encrypt(each, algorithmSQLContext));
+        }
+        return result;
+    }
+    
+    /**
+     * Decrypt values in batch.
+     *
+     * @param cipherValues cipher values
+     * @param algorithmSQLContext algorithm SQL context
+     * @return plain values, in the same order as cipher values
+     */
+    default List<Object> batchDecrypt(final List<Object> cipherValues, final AlgorithmSQLContext algorithmSQLContext) {
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(null == each ? null : decrypt(each, algorithmSQLContext));
+        }
+        return result;
+    }
+    
     /**
      * Get encrypt algorithm meta data.
      *
@@ -35,10 +35,14 @@ import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 /**
  * AES encrypt algorithm.
+ *
+ * <p>Initialized ciphers are confined to and reused by each thread, since cipher instances are not thread safe and creating them costs much more than encrypting short values.</p>
  */
 @EqualsAndHashCode
 public final class AESEncryptAlgorithm implements EncryptAlgorithm {
@@ -47,14 +51,27 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     
     private static final String DIGEST_ALGORITHM_NAME = "digest-algorithm-name";
     
+    private static final String BATCH_PARALLEL_THRESHOLD = "batch-parallel-threshold";
+    
     @Getter
     private final EncryptAlgorithmMetaData metaData = new EncryptAlgorithmMetaData(true, true, false);
     
     private byte[] secretKey;
     
+    private int batchParallelThreshold;
+    
+    @EqualsAndHashCode.Exclude
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    @EqualsAndHashCode.Exclude
+    private ThreadLocal<Cipher> decryptCipher;
+    
     @Override
     public void init(final Properties props) {
         secretKey = getSecretKey(props);
+        batchParallelThreshold = Integer.parseInt(props.getProperty(BATCH_PARALLEL_THRESHOLD, "0"));
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     private byte[] getSecretKey(final Properties props) {
@@ -64,13 +81,20 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         return Arrays.copyOf(DigestUtils.getDigest(digestAlgorithm.toUpperCase()).digest(aesKey.getBytes(StandardCharsets.UTF_8)), 16);
     }
     
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int decryptMode) {
+        Cipher result = Cipher.getInstance(getType());
+        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+        return result;
+    }
+    
     @SneakyThrows(GeneralSecurityException.class)
     @Override
     public String encrypt(final Object plainValue, final AlgorithmSQLContext algorithmSQLContext) {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        byte[] result = doFinal(encryptCipher, String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
         return Base64.getEncoder().encodeToString(result);
     }
     
@@ -80,14 +104,35 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue.toString().trim()));
+        byte[] result = doFinal(decryptCipher, Base64.getDecoder().decode(cipherValue.toString().trim()));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
-        return result;
+    private byte[] doFinal(final ThreadLocal<Cipher> cipher, final byte[] input) throws GeneralSecurityException {
+        try {
+            return cipher.get().doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cipher.remove();
+            throw ex;
+        }
+    }
+    
+    @Override
+    public List<Object> batchEncrypt(final List<Object> plainValues, final AlgorithmSQLContext algorithmSQLContext) {
+        return isParallel(plainValues)
+                ? plainValues.parallelStream().map(each -> (Object) encrypt(each, algorithmSQLContext)).collect(Collectors.toList())
+                : EncryptAlgorithm.super.batchEncrypt(plainValues, algorithmSQLContext);
+    }
+    
+    @Override
+    public List<Object> batchDecrypt(final List<Object> cipherValues, final AlgorithmSQLContext algorithmSQLContext) {
+        return isParallel(cipherValues)
+                ? cipherValues.parallelStream().map(each -> decrypt(each, algorithmSQLContext)).collect(Collectors.toList())
+                : EncryptAlgorithm.super.batchDecrypt(cipherValues, algorithmSQLContext);
+    }
+    
+    private boolean isParallel(final List<Object> values) {
+        return batchParallelThreshold > 0 && values.size() >= batchParallelThreshold;
     }
     
     @Override
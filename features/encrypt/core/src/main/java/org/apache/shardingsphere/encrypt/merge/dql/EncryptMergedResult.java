@@ -19,7 +19,9 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
-import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
@@ -34,6 +36,8 @@ import java.util.Optional;
 
 /**
  * Merged result for encrypt.
+ *
+ * <p>Cipher columns of the result set are resolved once on first access, so each cell only needs an array lookup before decryption.</p>
  */
 @RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
@@ -46,6 +50,10 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private CipherColumnItem[] cipherColumns;
+    
+    private AlgorithmSQLContext[] algorithmSQLContexts;
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -53,20 +61,40 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
-        if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
+        if (null == cipherColumns) {
+            initDecryptPlan();
         }
-        String originalTableName = columnProjection.get().getOriginalTable().getValue();
-        String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
-        if (!encryptRule.findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
+        CipherColumnItem cipherColumn = columnIndex <= cipherColumns.length ? cipherColumns[columnIndex - 1] : null;
+        if (null == cipherColumn) {
             return mergedResult.getValue(columnIndex, type);
         }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        EncryptColumn encryptColumn = encryptRule.getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
-        String schemaName =
-                selectStatementContext.getTablesContext().getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
+        return cipherColumn.decrypt(mergedResult.getValue(columnIndex, Object.class), algorithmSQLContexts[columnIndex - 1]);
+    }
+    
+    private void initDecryptPlan() {
+        int columnCount = selectStatementContext.getProjectionsContext().getExpandProjections().size();
+        CipherColumnItem[] cipherColumns = new CipherColumnItem[columnCount];
+        algorithmSQLContexts = new AlgorithmSQLContext[columnCount];
+        String schemaName = null;
+        for (int i = 0; i < columnCount; i++) {
+            Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(i + 1);
+            if (!columnProjection.isPresent()) {
+                continue;
+            }
+            String originalTableName = columnProjection.get().getOriginalTable().getValue();
+            String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
+            Optional<EncryptTable> encryptTable = encryptRule.findEncryptTable(originalTableName);
+            if (!encryptTable.isPresent() || !encryptTable.get().isEncryptColumn(originalColumnName)) {
+                continue;
+            }
+            if (null == schemaName) {
+                schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                        .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
+            }
+            cipherColumns[i] = encryptTable.get().getEncryptColumn(originalColumnName).getCipher();
+            algorithmSQLContexts[i] = new AlgorithmSQLContext(database.getName(), schemaName, originalTableName, originalColumnName);
+        }
+        this.cipherColumns = cipherColumns;
     }
     
     @Override
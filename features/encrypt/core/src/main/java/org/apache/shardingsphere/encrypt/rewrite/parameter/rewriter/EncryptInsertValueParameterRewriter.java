@@ -30,7 +30,6 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
 
@@ -80,19 +79,40 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
                                      final String schemaName, final String tableName, final String columnName) {
         EncryptColumn encryptColumn = encryptRule.getEncryptTable(tableName).getEncryptColumn(columnName);
         int columnIndex = getColumnIndex(paramBuilder, insertStatementContext, columnName);
+        List<Integer> rowIndexes = new ArrayList<>(insertStatementContext.getGroupedParameters().size());
+        List<Object> originalValues = new ArrayList<>(insertStatementContext.getGroupedParameters().size());
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
-            int paramIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
-            if (!each.isEmpty()) {
-                StandardParameterBuilder standardParamBuilder = paramBuilder.getParameterBuilders().get(count);
-                ExpressionSegment expressionSegment = insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex);
-                if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-                    Object literalValue = insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex).orElse(null);
-                    encryptInsertValue(encryptColumn, paramIndex, literalValue, standardParamBuilder, schemaName, tableName);
-                }
+            if (!each.isEmpty() && insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex) instanceof ParameterMarkerExpressionSegment) {
+                rowIndexes.add(count);
+                originalValues.add(insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex).orElse(null));
             }
             count++;
         }
+        if (rowIndexes.isEmpty()) {
+            return;
+        }
+        String logicColumnName = encryptColumn.getName();
+        Iterator<Object> cipherValues = encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, logicColumnName, originalValues).iterator();
+        Iterator<Object> assistedQueryValues = encryptColumn.getAssistedQuery().map(optional -> optional.encrypt(databaseName, schemaName, tableName, logicColumnName, originalValues).iterator())
+                .orElse(null);
+        Iterator<Object> likeQueryValues = encryptColumn.getLikeQuery().map(optional -> optional.encrypt(databaseName, schemaName, tableName, logicColumnName, originalValues).iterator())
+                .orElse(null);
+        for (int each : rowIndexes) {
+            int paramIndex = insertStatementContext.getInsertValueContexts().get(each).getParameterIndex(columnIndex);
+            StandardParameterBuilder standardParamBuilder = paramBuilder.getParameterBuilders().get(each);
+            standardParamBuilder.addReplacedParameters(paramIndex, cipherValues.next());
+            Collection<Object> addedParams = new LinkedList<>();
+            if (null != assistedQueryValues) {
+                addedParams.add(assistedQueryValues.next());
+            }
+            if (null != likeQueryValues) {
+                addedParams.add(likeQueryValues.next());
+            }
+            if (!addedParams.isEmpty()) {
+                standardParamBuilder.getAddedIndexAndParameters().computeIfAbsent(paramIndex, key -> new LinkedList<>()).addAll(addedParams);
+            }
+        }
     }
     
     private int getColumnIndex(final GroupedParameterBuilder paramBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
@@ -105,23 +125,4 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
         }
         return columnNames.indexOf(encryptLogicColumnName);
     }
-    
-    private void encryptInsertValue(final EncryptColumn encryptColumn, final int paramIndex, final Object originalValue,
-                                    final StandardParameterBuilder paramBuilder, final String schemaName, final String tableName) {
-        String columnName = encryptColumn.getName();
-        paramBuilder.addReplacedParameters(paramIndex, encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        Collection<Object> addedParams = new LinkedList<>();
-        if (encryptColumn.getAssistedQuery().isPresent()) {
-            addedParams.add(encryptColumn.getAssistedQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        }
-        if (encryptColumn.getLikeQuery().isPresent()) {
-            addedParams.add(encryptColumn.getLikeQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        }
-        if (!addedParams.isEmpty()) {
-            if (!paramBuilder.getAddedIndexAndParameters().containsKey(paramIndex)) {
-                paramBuilder.getAddedIndexAndParameters().put(paramIndex, new LinkedList<>());
-            }
-            paramBuilder.getAddedIndexAndParameters().get(paramIndex).addAll(addedParams);
-        }
-    }
 }
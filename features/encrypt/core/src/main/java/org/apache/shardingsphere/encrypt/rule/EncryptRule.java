@@ -75,6 +75,9 @@ public final class EncryptRule implements DatabaseRule {
         ShardingSpherePreconditions.checkState(encryptors.containsKey(columnRuleConfig.getCipher().getEncryptorName())
                 && encryptors.get(columnRuleConfig.getCipher().getEncryptorName()).getMetaData().isSupportDecrypt(),
                 () -> new MismatchedEncryptAlgorithmTypeException(databaseName, "Cipher", columnRuleConfig.getCipher().getEncryptorName(), "decrypt"));
+        ShardingSpherePreconditions.checkState(columnRuleConfig.getCipher().getDecryptCacheSize() <= 0
+                || encryptors.get(columnRuleConfig.getCipher().getEncryptorName()).getMetaData().isSupportEquivalentFilter(),
+                () -> new MismatchedEncryptAlgorithmTypeException(databaseName, "Decrypt cached cipher", columnRuleConfig.getCipher().getEncryptorName(), "equivalent filter"));
         columnRuleConfig.getAssistedQuery().ifPresent(optional -> ShardingSpherePreconditions.checkState(encryptors.containsKey(optional.getEncryptorName())
                 && encryptors.get(optional.getEncryptorName()).getMetaData().isSupportEquivalentFilter(),
                 () -> new MismatchedEncryptAlgorithmTypeException(databaseName, "Assisted query", columnRuleConfig.getCipher().getEncryptorName(), "equivalent filter")));
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.encrypt.rule;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
 import lombok.Getter;
+import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnItemRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
 import org.apache.shardingsphere.encrypt.exception.metadata.EncryptColumnNotFoundException;
@@ -26,6 +27,7 @@ import org.apache.shardingsphere.encrypt.exception.metadata.EncryptLogicColumnNo
 import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
 import org.apache.shardingsphere.encrypt.rule.column.item.AssistedQueryColumnItem;
 import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.encrypt.rule.column.item.DecryptedValueCache;
 import org.apache.shardingsphere.encrypt.rule.column.item.LikeQueryColumnItem;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
@@ -59,7 +61,7 @@ public final class EncryptTable {
     }
     
     private EncryptColumn createEncryptColumn(final EncryptColumnRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors) {
-        EncryptColumn result = new EncryptColumn(config.getName(), new CipherColumnItem(config.getCipher().getName(), encryptors.get(config.getCipher().getEncryptorName())));
+        EncryptColumn result = new EncryptColumn(config.getName(), createCipherColumnItem(config.getCipher(), encryptors));
         if (config.getAssistedQuery().isPresent()) {
             result.setAssistedQuery(new AssistedQueryColumnItem(config.getAssistedQuery().get().getName(), encryptors.get(config.getAssistedQuery().get().getEncryptorName())));
         }
@@ -69,6 +71,10 @@ public final class EncryptTable {
         return result;
     }
     
+    private CipherColumnItem createCipherColumnItem(final EncryptColumnItemRuleConfiguration config, final Map<String, EncryptAlgorithm> encryptors) {
+        return new CipherColumnItem(config.getName(), encryptors.get(config.getEncryptorName()), config.getDecryptCacheSize() > 0 ? new DecryptedValueCache(config.getDecryptCacheSize()) : null);
+    }
+    
     /**
      * Find encryptor.
      *
@@ -22,8 +22,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Cipher column item.
@@ -36,6 +36,21 @@ public final class CipherColumnItem {
     
     private final EncryptAlgorithm encryptor;
     
+    private final DecryptedValueCache decryptedValueCache;
+    
+    public CipherColumnItem(final String name, final EncryptAlgorithm encryptor) {
+        this(name, encryptor, null);
+    }
+    
+    /**
+     * Get decrypted value cache.
+     *
+     * @return decrypted value cache
+     */
+    public Optional<DecryptedValueCache> getDecryptedValueCache() {
+        return Optional.ofNullable(decryptedValueCache);
+    }
+    
     /**
      * Encrypt.
      *
@@ -65,11 +80,7 @@ public final class CipherColumnItem {
      */
     public List<Object> encrypt(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final List<Object> originalValues) {
         AlgorithmSQLContext algorithmSQLContext = new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName);
-        List<Object> result = new LinkedList<>();
-        for (Object each : originalValues) {
-            result.add(null == each ? null : encryptor.encrypt(each, algorithmSQLContext));
-        }
-        return result;
+        return encryptor.batchEncrypt(originalValues, algorithmSQLContext);
     }
     
     /**
@@ -83,9 +94,20 @@ public final class CipherColumnItem {
      * @return decrypted value
      */
     public Object decrypt(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final Object cipherValue) {
+        return decrypt(cipherValue, new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName));
+    }
+    
+    /**
+     * Decrypt.
+     *
+     * @param cipherValue cipher value
+     * @param algorithmSQLContext algorithm SQL context
+     * @return decrypted value
+     */
+    public Object decrypt(final Object cipherValue, final AlgorithmSQLContext algorithmSQLContext) {
         if (null == cipherValue) {
             return null;
         }
-        return encryptor.decrypt(cipherValue, new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName));
+        return null == decryptedValueCache ? encryptor.decrypt(cipherValue, algorithmSQLContext) : decryptedValueCache.get(cipherValue, key -> encryptor.decrypt(key, algorithmSQLContext));
     }
 }
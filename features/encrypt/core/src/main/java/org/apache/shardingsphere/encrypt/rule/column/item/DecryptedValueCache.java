@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule.column.item;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.function.Function;
+
+/**
+ * Decrypted value cache.
+ *
+ * <p>Cache is bound to the cipher column item and its encryptor, so it is discarded together with them when encrypt rule is rebuilt.</p>
+ */
+public final class DecryptedValueCache {
+    
+    private final Cache<Object, Object> cache;
+    
+    public DecryptedValueCache(final int maximumSize) {
+        cache = Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+    
+    /**
+     * Get decrypted value.
+     *
+     * @param cipherValue cipher value
+     * @param decryptor decryptor to decrypt cipher value when cache missed
+     * @return decrypted value
+     */
+    public Object get(final Object cipherValue, final Function<Object, Object> decryptor) {
+        return cipherValue.getClass().isArray() ? decryptor.apply(cipherValue) : cache.get(cipherValue, decryptor);
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+    
+    /**
+     * Get hit ratio.
+     *
+     * @return hit ratio, 1.0 if no request
+     */
+    public double getHitRatio() {
+        return cache.stats().hitRate();
+    }
+}
@@ -31,4 +31,6 @@ public final class YamlEncryptColumnItemRuleConfiguration implements YamlConfigu
     private String name;
     
     private String encryptorName;
+    
+    private Integer decryptCacheSize;
 }
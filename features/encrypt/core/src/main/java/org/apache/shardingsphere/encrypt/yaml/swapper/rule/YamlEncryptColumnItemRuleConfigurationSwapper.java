@@ -31,11 +31,14 @@ public final class YamlEncryptColumnItemRuleConfigurationSwapper implements Yaml
         YamlEncryptColumnItemRuleConfiguration result = new YamlEncryptColumnItemRuleConfiguration();
         result.setName(data.getName());
         result.setEncryptorName(data.getEncryptorName());
+        if (data.getDecryptCacheSize() > 0) {
+            result.setDecryptCacheSize(data.getDecryptCacheSize());
+        }
         return result;
     }
     
     @Override
     public EncryptColumnItemRuleConfiguration swapToObject(final YamlEncryptColumnItemRuleConfiguration yamlConfig) {
-        return new EncryptColumnItemRuleConfiguration(yamlConfig.getName(), yamlConfig.getEncryptorName());
+        return new EncryptColumnItemRuleConfiguration(yamlConfig.getName(), yamlConfig.getEncryptorName(), null == yamlConfig.getDecryptCacheSize() ? 0 : yamlConfig.getDecryptCacheSize());
     }
 }
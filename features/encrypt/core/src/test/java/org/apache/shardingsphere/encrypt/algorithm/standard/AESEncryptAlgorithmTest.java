@@ -30,6 +30,10 @@ import org.mockito.MockedStatic;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -97,4 +101,21 @@ class AESEncryptAlgorithmTest {
     void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(AlgorithmSQLContext.class)));
     }
+    
+    @Test
+    void assertBatchEncryptAndDecrypt() {
+        List<Object> actual = encryptAlgorithm.batchEncrypt(Arrays.asList("test", null, "test"), mock(AlgorithmSQLContext.class));
+        assertThat(actual, is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")));
+        assertThat(encryptAlgorithm.batchDecrypt(actual, mock(AlgorithmSQLContext.class)), is(Arrays.asList("test", null, "test")));
+    }
+    
+    @Test
+    void assertBatchEncryptAndDecryptInParallel() {
+        EncryptAlgorithm parallelEncryptAlgorithm = TypedSPILoader.getService(EncryptAlgorithm.class, "AES",
+                PropertiesBuilder.build(new Property("aes-key-value", "test"), new Property("batch-parallel-threshold", "2")));
+        List<Object> plainValues = IntStream.range(0, 100).mapToObj(each -> (Object) String.valueOf(each)).collect(Collectors.toList());
+        List<Object> actual = parallelEncryptAlgorithm.batchEncrypt(plainValues, mock(AlgorithmSQLContext.class));
+        assertThat(actual.get(0), is(encryptAlgorithm.encrypt("0", mock(AlgorithmSQLContext.class))));
+        assertThat(parallelEncryptAlgorithm.batchDecrypt(actual, mock(AlgorithmSQLContext.class)), is(plainValues));
+    }
 }
@@ -18,6 +18,11 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -29,13 +34,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,6 +69,31 @@ class EncryptMergedResultTest {
         assertFalse(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).next());
     }
     
+    @Test
+    void assertGetValueWithCipherColumn() throws SQLException {
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getProjectionsContext().getExpandProjections()).thenReturn(Arrays.asList(mock(Projection.class), mock(Projection.class)));
+        ColumnProjection columnProjection = mock(ColumnProjection.class, RETURNS_DEEP_STUBS);
+        when(columnProjection.getOriginalTable().getValue()).thenReturn("t_user");
+        when(columnProjection.getOriginalColumn().getValue()).thenReturn("user_name");
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
+        when(selectStatementContext.findColumnProjection(2)).thenReturn(Optional.empty());
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        EncryptTable encryptTable = mock(EncryptTable.class, RETURNS_DEEP_STUBS);
+        when(encryptTable.isEncryptColumn("user_name")).thenReturn(true);
+        CipherColumnItem cipherColumnItem = mock(CipherColumnItem.class);
+        when(cipherColumnItem.decrypt(eq("cipher_value"), any(AlgorithmSQLContext.class))).thenReturn("plain_value");
+        when(encryptTable.getEncryptColumn("user_name").getCipher()).thenReturn(cipherColumnItem);
+        when(encryptRule.findEncryptTable("t_user")).thenReturn(Optional.of(encryptTable));
+        when(mergedResult.getValue(1, Object.class)).thenReturn("cipher_value");
+        when(mergedResult.getValue(2, String.class)).thenReturn("plain_column_value");
+        EncryptMergedResult actual = new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("plain_value"));
+        assertThat(actual.getValue(1, String.class), is("plain_value"));
+        assertThat(actual.getValue(2, String.class), is("plain_column_value"));
+        verify(selectStatementContext).findColumnProjection(1);
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
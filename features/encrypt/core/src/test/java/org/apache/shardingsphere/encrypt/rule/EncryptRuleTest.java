@@ -107,6 +107,22 @@ class EncryptRuleTest {
         assertThrows(MismatchedEncryptAlgorithmTypeException.class, () -> new EncryptRule("foo_db", ruleConfig));
     }
     
+    @Test
+    void assertNewEncryptRuleWithDecryptCacheOnDeterministicEncryptor() {
+        EncryptColumnRuleConfiguration columnConfig = new EncryptColumnRuleConfiguration("pwd", new EncryptColumnItemRuleConfiguration("pwd_cipher", "standard_encryptor", 16));
+        EncryptRuleConfiguration ruleConfig = new EncryptRuleConfiguration(Collections.singleton(new EncryptTableRuleConfiguration("t_encrypt", Collections.singleton(columnConfig))),
+                Collections.singletonMap("standard_encryptor", new AlgorithmConfiguration("CORE.FIXTURE", new Properties())));
+        assertTrue(new EncryptRule("foo_db", ruleConfig).getEncryptTable("t_encrypt").getEncryptColumn("pwd").getCipher().getDecryptedValueCache().isPresent());
+    }
+    
+    @Test
+    void assertNewEncryptRuleWithDecryptCacheOnNonDeterministicEncryptor() {
+        EncryptColumnRuleConfiguration columnConfig = new EncryptColumnRuleConfiguration("pwd", new EncryptColumnItemRuleConfiguration("pwd_cipher", "non_deterministic_encryptor", 16));
+        EncryptRuleConfiguration ruleConfig = new EncryptRuleConfiguration(Collections.singleton(new EncryptTableRuleConfiguration("t_encrypt", Collections.singleton(columnConfig))),
+                Collections.singletonMap("non_deterministic_encryptor", new AlgorithmConfiguration("CORE.NON_DETERMINISTIC.FIXTURE", new Properties())));
+        assertThrows(MismatchedEncryptAlgorithmTypeException.class, () -> new EncryptRule("foo_db", ruleConfig));
+    }
+    
     private EncryptColumnRuleConfiguration createEncryptColumnRuleConfiguration(final String encryptorName, final String assistedQueryEncryptorName, final String likeEncryptorName) {
         EncryptColumnRuleConfiguration result = new EncryptColumnRuleConfiguration("pwd", new EncryptColumnItemRuleConfiguration("pwd_cipher", encryptorName));
         result.setAssistedQuery(new EncryptColumnItemRuleConfiguration("pwd_assist", assistedQueryEncryptorName));
@@ -21,7 +21,9 @@ import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnItemRuleCo
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
 import org.apache.shardingsphere.encrypt.exception.metadata.EncryptLogicColumnNotFoundException;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -33,7 +35,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class EncryptTableTest {
     
@@ -92,4 +98,25 @@ class EncryptTableTest {
     void assertGetLogicColumnByCipherColumnWhenNotFind() {
         assertThrows(EncryptLogicColumnNotFoundException.class, () -> encryptTable.getLogicColumnByCipherColumn("invalidColumn"));
     }
+    
+    @Test
+    void assertDecryptWithDecryptedValueCache() {
+        EncryptColumnItemRuleConfiguration cipherConfig = new EncryptColumnItemRuleConfiguration("cipherColumn", "myEncryptor", 16);
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt(eq("cipher_value"), any(AlgorithmSQLContext.class))).thenReturn("plain_value");
+        EncryptTable actual = new EncryptTable(new EncryptTableRuleConfiguration("t_encrypt",
+                Collections.singleton(new EncryptColumnRuleConfiguration("logicColumn", cipherConfig))), Collections.singletonMap("myEncryptor", encryptAlgorithm));
+        CipherColumnItem cipherColumnItem = actual.getEncryptColumn("logicColumn").getCipher();
+        assertThat(cipherColumnItem.decrypt("foo_db", "foo_schema", "t_encrypt", "logicColumn", "cipher_value"), is("plain_value"));
+        assertThat(cipherColumnItem.decrypt("foo_db", "foo_schema", "t_encrypt", "logicColumn", "cipher_value"), is("plain_value"));
+        verify(encryptAlgorithm).decrypt(eq("cipher_value"), any(AlgorithmSQLContext.class));
+        assertTrue(cipherColumnItem.getDecryptedValueCache().isPresent());
+        assertThat(cipherColumnItem.getDecryptedValueCache().get().getHitCount(), is(1L));
+        assertThat(cipherColumnItem.getDecryptedValueCache().get().getHitRatio(), is(0.5D));
+    }
+    
+    @Test
+    void assertDecryptWithoutDecryptedValueCache() {
+        assertFalse(encryptTable.getEncryptColumn("logicColumn").getCipher().getDecryptedValueCache().isPresent());
+    }
 }
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class YamlEncryptColumnRuleConfigurationSwapperTest {
@@ -32,13 +33,15 @@ class YamlEncryptColumnRuleConfigurationSwapperTest {
     @Test
     void assertSwapToYamlConfiguration() {
         YamlEncryptColumnRuleConfigurationSwapper swapper = new YamlEncryptColumnRuleConfigurationSwapper();
-        EncryptColumnRuleConfiguration encryptColumnRuleConfig = new EncryptColumnRuleConfiguration("logicColumn", new EncryptColumnItemRuleConfiguration("cipherColumn", "encryptorName"));
+        EncryptColumnRuleConfiguration encryptColumnRuleConfig = new EncryptColumnRuleConfiguration("logicColumn", new EncryptColumnItemRuleConfiguration("cipherColumn", "encryptorName", 16));
         encryptColumnRuleConfig.setAssistedQuery(new EncryptColumnItemRuleConfiguration("assistedQueryColumn", "foo_assist_query_encryptor"));
         encryptColumnRuleConfig.setLikeQuery(new EncryptColumnItemRuleConfiguration("likeQueryColumn", "foo_like_encryptor"));
         YamlEncryptColumnRuleConfiguration actual = swapper.swapToYamlConfiguration(encryptColumnRuleConfig);
         assertThat(actual.getName(), is("logicColumn"));
         assertThat(actual.getCipher().getName(), is("cipherColumn"));
         assertThat(actual.getCipher().getEncryptorName(), is("encryptorName"));
+        assertThat(actual.getCipher().getDecryptCacheSize(), is(16));
+        assertNull(actual.getAssistedQuery().getDecryptCacheSize());
         assertThat(actual.getAssistedQuery().getName(), is("assistedQueryColumn"));
         assertThat(actual.getAssistedQuery().getEncryptorName(), is("foo_assist_query_encryptor"));
         assertThat(actual.getLikeQuery().getName(), is("likeQueryColumn"));
@@ -56,6 +59,8 @@ class YamlEncryptColumnRuleConfigurationSwapperTest {
         assertTrue(actual.getLikeQuery().isPresent());
         assertThat(actual.getLikeQuery().get().getName(), is("likeQueryColumn"));
         assertThat(actual.getCipher().getEncryptorName(), is("encryptorName"));
+        assertThat(actual.getCipher().getDecryptCacheSize(), is(16));
+        assertThat(actual.getAssistedQuery().get().getDecryptCacheSize(), is(0));
     }
     
     private YamlEncryptColumnRuleConfiguration buildYamlEncryptColumnRuleConfiguration() {
@@ -64,6 +69,7 @@ class YamlEncryptColumnRuleConfigurationSwapperTest {
         YamlEncryptColumnItemRuleConfiguration cipherColumnConfig = new YamlEncryptColumnItemRuleConfiguration();
         cipherColumnConfig.setName("cipherColumn");
         cipherColumnConfig.setEncryptorName("encryptorName");
+        cipherColumnConfig.setDecryptCacheSize(16);
         result.setCipher(cipherColumnConfig);
         YamlEncryptColumnItemRuleConfiguration assistedQueryColumnConfig = new YamlEncryptColumnItemRuleConfiguration();
         assistedQueryColumnConfig.setName("assistedQueryColumn");
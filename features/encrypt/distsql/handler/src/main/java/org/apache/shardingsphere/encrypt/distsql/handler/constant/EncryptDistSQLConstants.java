@@ -44,6 +44,8 @@ public final class EncryptDistSQLConstants {
     
     public static final String CIPHER = "CIPHER=%s";
     
+    public static final String DECRYPT_CACHE_SIZE = "DECRYPT_CACHE_SIZE=%s";
+    
     public static final String ASSISTED_QUERY_COLUMN = "ASSISTED_QUERY_COLUMN=%s";
     
     public static final String LIKE_QUERY_COLUMN = "LIKE_QUERY_COLUMN=%s";
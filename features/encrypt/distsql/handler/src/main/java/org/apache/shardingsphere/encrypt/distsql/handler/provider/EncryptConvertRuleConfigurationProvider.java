@@ -77,6 +77,9 @@ public final class EncryptConvertRuleConfigurationProvider implements ConvertRul
         if (!Strings.isNullOrEmpty(cipherColumnName)) {
             result.append(String.format(EncryptDistSQLConstants.CIPHER, cipherColumnName));
         }
+        if (ruleConfig.getCipher().getDecryptCacheSize() > 0) {
+            result.append(EncryptDistSQLConstants.COMMA).append(' ').append(String.format(EncryptDistSQLConstants.DECRYPT_CACHE_SIZE, ruleConfig.getCipher().getDecryptCacheSize()));
+        }
         if (ruleConfig.getAssistedQuery().isPresent()) {
             result.append(EncryptDistSQLConstants.COMMA).append(' ').append(String.format(EncryptDistSQLConstants.ASSISTED_QUERY_COLUMN, ruleConfig.getAssistedQuery().get().getName()));
         }
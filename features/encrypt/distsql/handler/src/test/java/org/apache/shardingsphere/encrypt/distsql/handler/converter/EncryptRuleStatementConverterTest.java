@@ -44,13 +44,14 @@ class EncryptRuleStatementConverterTest {
         assertTrue(actual.getTables().iterator().next().getColumns().iterator().next().getAssistedQuery().isPresent());
         assertThat(actual.getTables().iterator().next().getColumns().iterator().next().getAssistedQuery().get().getName(), is("assisted_column"));
         assertThat(actual.getTables().iterator().next().getColumns().iterator().next().getCipher().getEncryptorName(), is("t_encrypt_user_id"));
+        assertThat(actual.getTables().iterator().next().getColumns().iterator().next().getCipher().getDecryptCacheSize(), is(16));
         assertThat(actual.getTables().iterator().next().getColumns().iterator().next().getAssistedQuery().get().getEncryptorName(), is("assist_t_encrypt_user_id"));
         assertThat(actual.getTables().iterator().next().getColumns().iterator().next().getLikeQuery().get().getEncryptorName(), is("like_t_encrypt_user_id"));
     }
     
     private Collection<EncryptColumnSegment> createColumns() {
         return Collections.singleton(new EncryptColumnSegment("user_id",
-                new EncryptColumnItemSegment("user_cipher", new AlgorithmSegment("MD5", PropertiesBuilder.build(new Property("MD5-key", "MD5-value")))),
+                new EncryptColumnItemSegment("user_cipher", new AlgorithmSegment("MD5", PropertiesBuilder.build(new Property("MD5-key", "MD5-value"))), 16),
                 new EncryptColumnItemSegment("assisted_column", new AlgorithmSegment("MD5", PropertiesBuilder.build(new Property("MD5-key", "MD5-value")))),
                 new EncryptColumnItemSegment("like_column", new AlgorithmSegment("MD5", PropertiesBuilder.build(new Property("MD5-key", "MD5-value"))))));
     }
@@ -99,6 +99,10 @@ CIPHER
     : C I P H E R
     ;
 
+DECRYPT_CACHE_SIZE
+    : D E C R Y P T UL_ C A C H E UL_ S I Z E
+    ;
+
 ASSISTED_QUERY
     : A S S I S T E D UL_ Q U E R Y
     ;
@@ -40,7 +40,7 @@ encryptTableRuleDefinition
     ;
 
 encryptColumnDefinition
-    : LP_ columnDefinition COMMA_ cipherColumnDefinition (COMMA_ assistedQueryColumnDefinition)? (COMMA_ likeQueryColumnDefinition)? COMMA_ encryptAlgorithm (COMMA_ assistedQueryAlgorithm)? (COMMA_ likeQueryAlgorithm)? RP_
+    : LP_ columnDefinition COMMA_ cipherColumnDefinition (COMMA_ decryptCacheSizeDefinition)? (COMMA_ assistedQueryColumnDefinition)? (COMMA_ likeQueryColumnDefinition)? COMMA_ encryptAlgorithm (COMMA_ assistedQueryAlgorithm)? (COMMA_ likeQueryAlgorithm)? RP_
     ;
 
 columnDefinition
@@ -59,6 +59,10 @@ cipherColumnName
     : IDENTIFIER_
     ;
 
+decryptCacheSizeDefinition
+    : DECRYPT_CACHE_SIZE EQ_ INT_
+    ;
+
 assistedQueryColumnDefinition
     : (ASSISTED_QUERY | ASSISTED_QUERY_COLUMN) EQ_ assistedQueryColumnName
     ;
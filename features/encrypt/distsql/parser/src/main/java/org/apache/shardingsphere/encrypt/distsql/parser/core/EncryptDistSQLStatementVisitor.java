@@ -86,8 +86,8 @@ public final class EncryptDistSQLStatementVisitor extends EncryptDistSQLStatemen
     
     @Override
     public ASTNode visitEncryptColumnDefinition(final EncryptColumnDefinitionContext ctx) {
-        EncryptColumnItemSegment cipher = new EncryptColumnItemSegment(
-                getIdentifierValue(ctx.cipherColumnDefinition().cipherColumnName()), (AlgorithmSegment) visit(ctx.encryptAlgorithm().algorithmDefinition()));
+        EncryptColumnItemSegment cipher = new EncryptColumnItemSegment(getIdentifierValue(ctx.cipherColumnDefinition().cipherColumnName()),
+                (AlgorithmSegment) visit(ctx.encryptAlgorithm().algorithmDefinition()), getDecryptCacheSize(ctx));
         EncryptColumnItemSegment assistedQuery = null == ctx.assistedQueryColumnDefinition()
                 ? null
                 : new EncryptColumnItemSegment(getIdentifierValue(ctx.assistedQueryColumnDefinition().assistedQueryColumnName()), getAssistedEncryptor(ctx));
@@ -97,6 +97,10 @@ public final class EncryptDistSQLStatementVisitor extends EncryptDistSQLStatemen
         return new EncryptColumnSegment(getIdentifierValue(ctx.columnDefinition().columnName()), cipher, assistedQuery, likeQuery);
     }
     
+    private int getDecryptCacheSize(final EncryptColumnDefinitionContext ctx) {
+        return null == ctx.decryptCacheSizeDefinition() ? 0 : Integer.parseInt(ctx.decryptCacheSizeDefinition().INT_().getText());
+    }
+    
     private AlgorithmSegment getAssistedEncryptor(final EncryptColumnDefinitionContext ctx) {
         return null == ctx.assistedQueryAlgorithm() ? null : (AlgorithmSegment) visit(ctx.assistedQueryAlgorithm().algorithmDefinition());
     }
@@ -32,4 +32,10 @@ public final class EncryptColumnItemSegment implements DistSQLSegment {
     private final String name;
     
     private final AlgorithmSegment encryptor;
+    
+    private final int decryptCacheSize;
+    
+    public EncryptColumnItemSegment(final String name, final AlgorithmSegment encryptor) {
+        this(name, encryptor, 0);
+    }
 }
@@ -40,6 +40,15 @@ public final class ReadwriteSplittingDataSourceRuleConfiguration {
     
     private final String loadBalancerName;
     
+    private final long maxReplicationLagMilliseconds;
+    
+    private final long replicationLagProbeIntervalMilliseconds;
+    
+    public ReadwriteSplittingDataSourceRuleConfiguration(final String name, final String writeDataSourceName, final List<String> readDataSourceNames,
+                                                         final TransactionalReadQueryStrategy transactionalReadQueryStrategy, final String loadBalancerName) {
+        this(name, writeDataSourceName, readDataSourceNames, transactionalReadQueryStrategy, loadBalancerName, 0L, 0L);
+    }
+    
     public ReadwriteSplittingDataSourceRuleConfiguration(final String name, final String writeDataSourceName, final List<String> readDataSourceNames, final String loadBalancerName) {
         this(name, writeDataSourceName, readDataSourceNames, TransactionalReadQueryStrategy.DYNAMIC, loadBalancerName);
     }
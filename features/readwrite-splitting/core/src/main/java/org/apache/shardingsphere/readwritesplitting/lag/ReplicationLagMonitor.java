@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag monitor.
+ *
+ * <p>Replication lag of read data sources is probed in background at the probe interval of each readwrite-splitting data source rule and published to it.
+ * The monitor is owned by readwrite-splitting rule and shut down when the rule is closed.</p>
+ */
+@Slf4j
+public final class ReplicationLagMonitor implements AutoCloseable {
+    
+    private final Map<String, DataSource> dataSources;
+    
+    private final Map<String, Optional<ReplicationLagProber>> probers = new ConcurrentHashMap<>();
+    
+    private final ScheduledExecutorService executorService;
+    
+    public ReplicationLagMonitor(final String databaseName, final Collection<ReadwriteSplittingDataSourceRule> dataSourceRules, final Map<String, DataSource> dataSources) {
+        this.dataSources = dataSources;
+        executorService = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("ReplicationLagMonitor-" + databaseName + "-%d"));
+        for (ReadwriteSplittingDataSourceRule each : dataSourceRules) {
+            executorService.scheduleWithFixedDelay(() -> probe(each), 0L, each.getReplicationLagProbeIntervalMilliseconds(), TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private void probe(final ReadwriteSplittingDataSourceRule dataSourceRule) {
+        for (String each : dataSourceRule.getReadwriteSplittingGroup().getReadDataSources()) {
+            dataSourceRule.updateReplicationLagMilliseconds(each, probe(each).orElse(null));
+        }
+    }
+    
+    private Optional<Long> probe(final String dataSourceName) {
+        DataSource dataSource = dataSources.get(dataSourceName);
+        if (null == dataSource) {
+            return Optional.empty();
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<ReplicationLagProber> prober = probers.computeIfAbsent(dataSourceName, key -> findProber(connection));
+            return prober.isPresent() ? prober.get().probe(connection) : Optional.empty();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Probe replication lag of data source `{}` failed.", dataSourceName, ex);
+            return Optional.empty();
+        }
+    }
+    
+    private Optional<ReplicationLagProber> findProber(final Connection connection) {
+        try {
+            return DatabaseTypedSPILoader.findService(ReplicationLagProber.class, DatabaseTypeFactory.get(connection.getMetaData().getURL()));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Can not find replication lag prober.", ex);
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProber;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Replication lag prober of MySQL.
+ */
+public final class MySQLReplicationLagProber implements ReplicationLagProber {
+    
+    private static final String SHOW_REPLICA_STATUS = "SHOW REPLICA STATUS";
+    
+    private static final String SHOW_SLAVE_STATUS = "SHOW SLAVE STATUS";
+    
+    private static final String SECONDS_BEHIND_SOURCE = "Seconds_Behind_Source";
+    
+    private static final String SECONDS_BEHIND_MASTER = "Seconds_Behind_Master";
+    
+    @Override
+    public Optional<Long> probe(final Connection connection) throws SQLException {
+        try {
+            return probe(connection, SHOW_REPLICA_STATUS, SECONDS_BEHIND_SOURCE);
+        } catch (final SQLException ignored) {
+            return probe(connection, SHOW_SLAVE_STATUS, SECONDS_BEHIND_MASTER);
+        }
+    }
+    
+    private Optional<Long> probe(final Connection connection, final String sql, final String columnLabel) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            long secondsBehind = resultSet.getLong(columnLabel);
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(secondsBehind * 1000L);
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
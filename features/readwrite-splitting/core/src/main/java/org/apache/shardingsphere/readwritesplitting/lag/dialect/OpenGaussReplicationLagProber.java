@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProber;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Replication lag prober of openGauss.
+ */
+public final class OpenGaussReplicationLagProber implements ReplicationLagProber {
+    
+    private static final String REPLICATION_LAG_SQL = "SELECT CASE WHEN pg_last_xlog_receive_location() = pg_last_xlog_replay_location() THEN 0"
+            + " ELSE CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS BIGINT) END AS replication_lag";
+    
+    @Override
+    public Optional<Long> probe(final Connection connection) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_SQL)) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            long result = resultSet.getLong(1);
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(Math.max(result, 0L));
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "openGauss";
+    }
+}
@@ -53,7 +53,7 @@ public final class ReadwriteSplittingDataSourceRouter {
                 return each.route(rule);
             }
         }
-        return new StandardReadwriteSplittingDataSourceRouter().route(rule);
+        return new StandardReadwriteSplittingDataSourceRouter().route(rule, hintValueContext);
     }
     
     private Collection<QualifiedReadwriteSplittingDataSourceRouter> getQualifiedRouters(final ConnectionContext connectionContext) {
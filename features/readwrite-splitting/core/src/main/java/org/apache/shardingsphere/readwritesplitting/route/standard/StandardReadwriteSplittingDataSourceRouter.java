@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.readwritesplitting.route.standard;
 
+import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
@@ -35,13 +36,27 @@ public final class StandardReadwriteSplittingDataSourceRouter {
      * @return routed data source name
      */
     public String route(final ReadwriteSplittingDataSourceRule rule) {
-        return rule.getLoadBalancer().getTargetName(rule.getName(), getFilteredReadDataSources(rule));
+        return route(rule, new HintValueContext());
     }
     
-    private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceRule rule) {
+    /**
+     * Route to data source with hint.
+     *
+     * <p>Write data source is routed if no read data source is available after filtered.</p>
+     *
+     * @param rule Readwrite-splitting data source rule
+     * @param hintValueContext hint value context
+     * @return routed data source name
+     */
+    public String route(final ReadwriteSplittingDataSourceRule rule, final HintValueContext hintValueContext) {
+        List<String> filteredReadDataSources = getFilteredReadDataSources(rule, hintValueContext);
+        return filteredReadDataSources.isEmpty() ? rule.getWriteDataSource() : rule.getLoadBalancer().getTargetName(rule.getName(), filteredReadDataSources);
+    }
+    
+    private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceRule rule, final HintValueContext hintValueContext) {
         List<String> result = rule.getReadwriteSplittingGroup().getReadDataSources();
         for (ReadDataSourcesFilter each : ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class)) {
-            result = each.filter(rule, result);
+            result = each.filter(rule, result, hintValueContext);
         }
         return result;
     }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.readwritesplitting.route.standard.filter;
 
+import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
 
@@ -36,4 +37,16 @@ public interface ReadDataSourcesFilter {
      * @return filtered read data sources
      */
     List<String> filter(ReadwriteSplittingDataSourceRule rule, List<String> toBeFilteredReadDataSources);
+    
+    /**
+     * Filter replica data sources with hint.
+     * 
+     * @param rule readwrite-splitting data source rule
+     * @param toBeFilteredReadDataSources to be filtered read data sources
+     * @param hintValueContext hint value context
+     * @return filtered read data sources
+     */
+    default List<String> filter(ReadwriteSplittingDataSourceRule rule, List<String> toBeFilteredReadDataSources, HintValueContext hintValueContext) {
+        return filter(rule, toBeFilteredReadDataSources);
+    }
 }
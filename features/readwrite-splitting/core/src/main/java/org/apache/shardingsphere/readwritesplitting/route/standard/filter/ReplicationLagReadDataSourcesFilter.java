@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.standard.filter;
+
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Replication lag read data sources filter.
+ *
+ * <p>Max replication lag in SQL hint overrides the configured one. If replication lag is not probed for the readwrite-splitting data source,
+ * the hint can not be satisfied by any read data source and the write data source is routed.</p>
+ */
+public final class ReplicationLagReadDataSourcesFilter implements ReadDataSourcesFilter {
+    
+    @Override
+    public List<String> filter(final ReadwriteSplittingDataSourceRule rule, final List<String> toBeFilteredReadDataSources) {
+        return rule.isReplicationLagAware() ? filter(rule, toBeFilteredReadDataSources, rule.getMaxReplicationLagMilliseconds()) : toBeFilteredReadDataSources;
+    }
+    
+    @Override
+    public List<String> filter(final ReadwriteSplittingDataSourceRule rule, final List<String> toBeFilteredReadDataSources, final HintValueContext hintValueContext) {
+        Optional<Long> maxReplicationLagMilliseconds = hintValueContext.findMaxReplicationLagMilliseconds();
+        return maxReplicationLagMilliseconds.isPresent() ? filter(rule, toBeFilteredReadDataSources, maxReplicationLagMilliseconds.get()) : filter(rule, toBeFilteredReadDataSources);
+    }
+    
+    private List<String> filter(final ReadwriteSplittingDataSourceRule rule, final List<String> toBeFilteredReadDataSources, final long maxReplicationLagMilliseconds) {
+        List<String> result = new LinkedList<>(toBeFilteredReadDataSources);
+        result.removeIf(each -> rule.isReplicationLagExceeded(each, maxReplicationLagMilliseconds));
+        return result;
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.readwritesplitting.rule;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
@@ -26,6 +27,8 @@ import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSp
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Readwrite-splitting data source rule.
@@ -33,6 +36,10 @@ import java.util.HashSet;
 @Getter
 public final class ReadwriteSplittingDataSourceRule {
     
+    private static final long DEFAULT_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS = 1000L;
+    
+    private static final long UNKNOWN_REPLICATION_LAG_MILLISECONDS = -1L;
+    
     private final String name;
     
     private final TransactionalReadQueryStrategy transactionalReadQueryStrategy;
@@ -43,12 +50,23 @@ public final class ReadwriteSplittingDataSourceRule {
     
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
+    private final long maxReplicationLagMilliseconds;
+    
+    private final long replicationLagProbeIntervalMilliseconds;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Long> replicationLagMilliseconds = new ConcurrentHashMap<>();
+    
     public ReadwriteSplittingDataSourceRule(final ReadwriteSplittingDataSourceRuleConfiguration config, final TransactionalReadQueryStrategy transactionalReadQueryStrategy,
                                             final LoadBalanceAlgorithm loadBalancer) {
         name = config.getName();
         this.transactionalReadQueryStrategy = transactionalReadQueryStrategy;
         this.loadBalancer = loadBalancer;
         readwriteSplittingGroup = createStaticReadwriteSplittingGroup(config);
+        maxReplicationLagMilliseconds = config.getMaxReplicationLagMilliseconds();
+        replicationLagProbeIntervalMilliseconds = config.getReplicationLagProbeIntervalMilliseconds() > 0L
+                ? config.getReplicationLagProbeIntervalMilliseconds()
+                : DEFAULT_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS;
     }
     
     private StaticReadwriteSplittingGroup createStaticReadwriteSplittingGroup(final ReadwriteSplittingDataSourceRuleConfiguration config) {
@@ -81,4 +99,44 @@ public final class ReadwriteSplittingDataSourceRule {
     public void disableDataSource(final String dataSourceName) {
         disabledDataSourceNames.add(dataSourceName);
     }
+    
+    /**
+     * Judge whether replication lag of read data sources should be probed.
+     *
+     * @return replication lag should be probed or not
+     */
+    public boolean isReplicationLagAware() {
+        return maxReplicationLagMilliseconds > 0L;
+    }
+    
+    /**
+     * Judge whether replication lag of read data source exceeds max replication lag.
+     *
+     * <p>Read data source not probed yet is regarded as not exceeded, so reads are not routed to write data source until the first probe finished.
+     * Replication lag which can not be probed is regarded as exceeded, and so is every read data source if replication lag is not probed at all.</p>
+     *
+     * @param dataSourceName read data source name
+     * @param maxReplicationLagMilliseconds max replication lag milliseconds
+     * @return replication lag exceeds or not
+     */
+    public boolean isReplicationLagExceeded(final String dataSourceName, final long maxReplicationLagMilliseconds) {
+        if (!isReplicationLagAware()) {
+            return true;
+        }
+        Long lagMilliseconds = replicationLagMilliseconds.get(dataSourceName);
+        if (null == lagMilliseconds) {
+            return false;
+        }
+        return UNKNOWN_REPLICATION_LAG_MILLISECONDS == lagMilliseconds || lagMilliseconds > maxReplicationLagMilliseconds;
+    }
+    
+    /**
+     * Update replication lag of read data source.
+     *
+     * @param dataSourceName read data source name
+     * @param lagMilliseconds replication lag milliseconds, null if unknown
+     */
+    public void updateReplicationLagMilliseconds(final String dataSourceName, final Long lagMilliseconds) {
+        replicationLagMilliseconds.put(dataSourceName, null == lagMilliseconds ? UNKNOWN_REPLICATION_LAG_MILLISECONDS : lagMilliseconds);
+    }
 }
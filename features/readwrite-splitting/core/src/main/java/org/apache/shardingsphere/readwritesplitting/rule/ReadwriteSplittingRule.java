@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.readwritesplitting.rule;
 
 import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.algorithm.core.DataSourcesAware;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
@@ -29,12 +31,17 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.exception.rule.InvalidInlineExpressionDataSourceNameException;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagMonitor;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingDataSourceMapperRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingExportableRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStaticDataSourceRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStorageConnectorReusableRuleAttribute;
 
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,7 +51,7 @@ import java.util.stream.Collectors;
 /**
  * Readwrite-splitting rule.
  */
-public final class ReadwriteSplittingRule implements DatabaseRule {
+public final class ReadwriteSplittingRule implements DatabaseRule, AutoCloseable {
     
     @Getter
     private final ReadwriteSplittingRuleConfiguration configuration;
@@ -57,13 +64,21 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     @Getter
     private final RuleAttributes attributes;
     
+    private final ReplicationLagMonitor replicationLagMonitor;
+    
     public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final InstanceContext instanceContext) {
+        this(databaseName, ruleConfig, Collections.emptyMap(), instanceContext);
+    }
+    
+    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources, final InstanceContext instanceContext) {
         configuration = ruleConfig;
         loadBalancers = createLoadBalancers(ruleConfig);
         dataSourceRules = createDataSourceRules(ruleConfig);
+        setLoadBalancerDataSources(dataSources);
         attributes = new RuleAttributes(
                 new ReadwriteSplittingDataSourceMapperRuleAttribute(dataSourceRules.values()), new ReadwriteSplittingStaticDataSourceRuleAttribute(databaseName, dataSourceRules, instanceContext),
                 new ReadwriteSplittingExportableRuleAttribute(dataSourceRules), new ReadwriteSplittingStorageConnectorReusableRuleAttribute());
+        replicationLagMonitor = createReplicationLagMonitor(databaseName, dataSources);
     }
     
     private Map<String, LoadBalanceAlgorithm> createLoadBalancers(final ReadwriteSplittingRuleConfiguration ruleConfig) {
@@ -114,7 +129,25 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
                                                                                                   final List<String> readwriteDataSourceNames, final List<String> writeDatasourceNames,
                                                                                                   final List<List<String>> readDatasourceNames) {
         List<String> readDataSourceNames = readDatasourceNames.stream().map(each -> each.get(index)).collect(Collectors.toList());
-        return new ReadwriteSplittingDataSourceRuleConfiguration(readwriteDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames, config.getLoadBalancerName());
+        return new ReadwriteSplittingDataSourceRuleConfiguration(readwriteDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames,
+                config.getTransactionalReadQueryStrategy(), config.getLoadBalancerName(), config.getMaxReplicationLagMilliseconds(), config.getReplicationLagProbeIntervalMilliseconds());
+    }
+    
+    private void setLoadBalancerDataSources(final Map<String, DataSource> dataSources) {
+        Map<LoadBalanceAlgorithm, Map<String, DataSource>> readDataSources = new IdentityHashMap<>();
+        for (ReadwriteSplittingDataSourceRule each : dataSourceRules.values()) {
+            if (each.getLoadBalancer() instanceof DataSourcesAware) {
+                Map<String, DataSource> loadBalancerDataSources = readDataSources.computeIfAbsent(each.getLoadBalancer(), key -> new LinkedHashMap<>());
+                each.getReadwriteSplittingGroup().getReadDataSources().stream().filter(dataSources::containsKey).forEach(name -> loadBalancerDataSources.put(name, dataSources.get(name)));
+            }
+        }
+        readDataSources.forEach((key, value) -> ((DataSourcesAware) key).setDataSources(value));
+    }
+    
+    private ReplicationLagMonitor createReplicationLagMonitor(final String databaseName, final Map<String, DataSource> dataSources) {
+        Collection<ReadwriteSplittingDataSourceRule> replicationLagAwareDataSourceRules = dataSourceRules.values().stream()
+                .filter(ReadwriteSplittingDataSourceRule::isReplicationLagAware).collect(Collectors.toList());
+        return replicationLagAwareDataSourceRules.isEmpty() || dataSources.isEmpty() ? null : new ReplicationLagMonitor(databaseName, replicationLagAwareDataSourceRules, dataSources);
     }
     
     /**
@@ -135,4 +168,17 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     public Optional<ReadwriteSplittingDataSourceRule> findDataSourceRule(final String dataSourceName) {
         return Optional.ofNullable(dataSourceRules.get(dataSourceName));
     }
+    
+    @SneakyThrows(Exception.class)
+    @Override
+    public void close() {
+        if (null != replicationLagMonitor) {
+            replicationLagMonitor.close();
+        }
+        for (LoadBalanceAlgorithm each : loadBalancers.values()) {
+            if (each instanceof AutoCloseable) {
+                ((AutoCloseable) each).close();
+            }
+        }
+    }
 }
@@ -45,7 +45,12 @@ public final class ReadwriteSplittingDataSourceChangedProcessor implements RuleI
     public ReadwriteSplittingDataSourceRuleConfiguration swapRuleItemConfiguration(final AlterRuleItemEvent event, final String yamlContent) {
         YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig = YamlEngine.unmarshal(yamlContent, YamlReadwriteSplittingDataSourceRuleConfiguration.class);
         return new ReadwriteSplittingDataSourceRuleConfiguration(((AlterNamedRuleItemEvent) event).getItemName(), yamlDataSourceRuleConfig.getWriteDataSourceName(),
-                yamlDataSourceRuleConfig.getReadDataSourceNames(), getTransactionalReadQueryStrategy(yamlDataSourceRuleConfig), yamlDataSourceRuleConfig.getLoadBalancerName());
+                yamlDataSourceRuleConfig.getReadDataSourceNames(), getTransactionalReadQueryStrategy(yamlDataSourceRuleConfig), yamlDataSourceRuleConfig.getLoadBalancerName(),
+                getMilliseconds(yamlDataSourceRuleConfig.getMaxReplicationLagMilliseconds()), getMilliseconds(yamlDataSourceRuleConfig.getReplicationLagProbeIntervalMilliseconds()));
+    }
+    
+    private long getMilliseconds(final Long milliseconds) {
+        return null == milliseconds ? 0L : milliseconds;
     }
     
     private TransactionalReadQueryStrategy getTransactionalReadQueryStrategy(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
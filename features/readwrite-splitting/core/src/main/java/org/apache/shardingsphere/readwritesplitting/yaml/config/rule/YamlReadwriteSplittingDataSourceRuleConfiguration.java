@@ -37,4 +37,8 @@ public final class YamlReadwriteSplittingDataSourceRuleConfiguration implements
     private String transactionalReadQueryStrategy;
     
     private String loadBalancerName;
+    
+    private Long maxReplicationLagMilliseconds;
+    
+    private Long replicationLagProbeIntervalMilliseconds;
 }
@@ -61,6 +61,12 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper
         result.setReadDataSourceNames(dataSourceRuleConfig.getReadDataSourceNames());
         result.setTransactionalReadQueryStrategy(dataSourceRuleConfig.getTransactionalReadQueryStrategy().name());
         result.setLoadBalancerName(dataSourceRuleConfig.getLoadBalancerName());
+        if (dataSourceRuleConfig.getMaxReplicationLagMilliseconds() > 0L) {
+            result.setMaxReplicationLagMilliseconds(dataSourceRuleConfig.getMaxReplicationLagMilliseconds());
+        }
+        if (dataSourceRuleConfig.getReplicationLagProbeIntervalMilliseconds() > 0L) {
+            result.setReplicationLagProbeIntervalMilliseconds(dataSourceRuleConfig.getReplicationLagProbeIntervalMilliseconds());
+        }
         return result;
     }
     
@@ -79,7 +85,12 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper
     
     private ReadwriteSplittingDataSourceRuleConfiguration swapToObject(final String name, final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
         return new ReadwriteSplittingDataSourceRuleConfiguration(name, yamlDataSourceRuleConfig.getWriteDataSourceName(), yamlDataSourceRuleConfig.getReadDataSourceNames(),
-                getTransactionalReadQueryStrategy(yamlDataSourceRuleConfig), yamlDataSourceRuleConfig.getLoadBalancerName());
+                getTransactionalReadQueryStrategy(yamlDataSourceRuleConfig), yamlDataSourceRuleConfig.getLoadBalancerName(),
+                getMilliseconds(yamlDataSourceRuleConfig.getMaxReplicationLagMilliseconds()), getMilliseconds(yamlDataSourceRuleConfig.getReplicationLagProbeIntervalMilliseconds()));
+    }
+    
+    private long getMilliseconds(final Long milliseconds) {
+        return null == milliseconds ? 0L : milliseconds;
     }
     
     private TransactionalReadQueryStrategy getTransactionalReadQueryStrategy(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
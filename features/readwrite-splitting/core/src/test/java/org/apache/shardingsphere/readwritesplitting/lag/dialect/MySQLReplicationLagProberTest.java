@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProber;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MySQLReplicationLagProberTest {
+    
+    private final ReplicationLagProber prober = DatabaseTypedSPILoader.getService(ReplicationLagProber.class, TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+    
+    @Test
+    void assertGetService() {
+        assertThat(prober, instanceOf(MySQLReplicationLagProber.class));
+    }
+    
+    @Test
+    void assertProbeWithReplicaStatus() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(3L);
+        assertThat(prober.probe(connection), is(Optional.of(3000L)));
+    }
+    
+    @Test
+    void assertProbeWithSlaveStatus() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenThrow(SQLException.class);
+        when(connection.createStatement().executeQuery("SHOW SLAVE STATUS")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(0L);
+        assertThat(prober.probe(connection), is(Optional.of(0L)));
+    }
+    
+    @Test
+    void assertProbeWithoutReplication() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        assertFalse(prober.probe(connection).isPresent());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.standard.filter;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.random.RandomLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ReplicationLagReadDataSourcesFilterTest {
+    
+    @Test
+    void assertFilterWithoutReplicationLagAware() {
+        ReadwriteSplittingDataSourceRule rule = createDataSourceRule(0L);
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Arrays.asList("read_ds_0", "read_ds_1")), is(Arrays.asList("read_ds_0", "read_ds_1")));
+    }
+    
+    @Test
+    void assertFilterWithMaxReplicationLag() {
+        ReadwriteSplittingDataSourceRule rule = createDataSourceRule(1000L);
+        rule.updateReplicationLagMilliseconds("read_ds_0", 2000L);
+        rule.updateReplicationLagMilliseconds("read_ds_1", 500L);
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Arrays.asList("read_ds_0", "read_ds_1")), is(Collections.singletonList("read_ds_1")));
+    }
+    
+    @Test
+    void assertFilterWithUnknownReplicationLag() {
+        ReadwriteSplittingDataSourceRule rule = createDataSourceRule(1000L);
+        rule.updateReplicationLagMilliseconds("read_ds_0", 0L);
+        rule.updateReplicationLagMilliseconds("read_ds_1", 0L);
+        rule.updateReplicationLagMilliseconds("read_ds_1", null);
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Arrays.asList("read_ds_0", "read_ds_1")), is(Collections.singletonList("read_ds_0")));
+    }
+    
+    @Test
+    void assertFilterWithNotProbedReplicationLag() {
+        ReadwriteSplittingDataSourceRule rule = createDataSourceRule(1000L);
+        rule.updateReplicationLagMilliseconds("read_ds_0", 2000L);
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Arrays.asList("read_ds_0", "read_ds_1")), is(Collections.singletonList("read_ds_1")));
+    }
+    
+    @Test
+    void assertFilterWithHintMaxReplicationLagWithoutReplicationLagAware() {
+        ReadwriteSplittingDataSourceRule rule = createDataSourceRule(0L);
+        HintValueContext hintValueContext = new HintValueContext();
+        hintValueContext.setMaxReplicationLagMilliseconds(3000L);
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Arrays.asList("read_ds_0", "read_ds_1"), hintValueContext), is(Collections.emptyList()));
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Arrays.asList("read_ds_0", "read_ds_1"), new HintValueContext()), is(Arrays.asList("read_ds_0", "read_ds_1")));
+    }
+    
+    @Test
+    void assertFilterWithHintMaxReplicationLag() {
+        ReadwriteSplittingDataSourceRule rule = createDataSourceRule(1000L);
+        rule.updateReplicationLagMilliseconds("read_ds_0", 2000L);
+        rule.updateReplicationLagMilliseconds("read_ds_1", 500L);
+        HintValueContext hintValueContext = new HintValueContext();
+        hintValueContext.setMaxReplicationLagMilliseconds(3000L);
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Arrays.asList("read_ds_0", "read_ds_1"), hintValueContext), is(Arrays.asList("read_ds_0", "read_ds_1")));
+        hintValueContext.setMaxReplicationLagMilliseconds(100L);
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Arrays.asList("read_ds_0", "read_ds_1"), hintValueContext), is(Collections.emptyList()));
+    }
+    
+    private ReadwriteSplittingDataSourceRule createDataSourceRule(final long maxReplicationLagMilliseconds) {
+        ReadwriteSplittingDataSourceRuleConfiguration config = new ReadwriteSplittingDataSourceRuleConfiguration(
+                "test_pr", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), TransactionalReadQueryStrategy.DYNAMIC, null, maxReplicationLagMilliseconds, 0L);
+        return new ReadwriteSplittingDataSourceRule(config, TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.readwritesplitting.rule;
 
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.least.outstanding.DataSourceExecutionStatisticsRegistry;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDatabase;
 import org.apache.shardingsphere.infra.rule.attribute.datasource.StaticDataSourceRuleAttribute;
@@ -27,15 +28,22 @@ import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceChanged
 import org.apache.shardingsphere.mode.event.storage.StorageNodeRole;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
+import javax.sql.DataSource;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -110,4 +118,40 @@ class ReadwriteSplittingRuleTest {
         assertThat(actual.get().getReadwriteSplittingGroup().getReadDataSources(), is(Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2", "read_ds_3")));
         assertThat(actual.get().getLoadBalancer().getType(), is("RANDOM"));
     }
+    
+    @Test
+    void assertCloseWithLeastOutstandingLoadBalancer() {
+        Map<String, DataSource> dataSources = new HashMap<>(3, 1F);
+        dataSources.put("write_ds", mock(DataSource.class));
+        dataSources.put("read_ds_0", mock(DataSource.class));
+        dataSources.put("read_ds_1", mock(DataSource.class));
+        ReadwriteSplittingDataSourceRuleConfiguration config =
+                new ReadwriteSplittingDataSourceRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "least_outstanding");
+        ReadwriteSplittingRule readwriteSplittingRule = new ReadwriteSplittingRule("logic_db", new ReadwriteSplittingRuleConfiguration(Collections.singleton(config),
+                Collections.singletonMap("least_outstanding", new AlgorithmConfiguration("LEAST_OUTSTANDING", new Properties()))), dataSources, mock(InstanceContext.class));
+        assertFalse(DataSourceExecutionStatisticsRegistry.find(dataSources.get("write_ds")).isPresent());
+        assertTrue(DataSourceExecutionStatisticsRegistry.find(dataSources.get("read_ds_0")).isPresent());
+        assertTrue(DataSourceExecutionStatisticsRegistry.find(dataSources.get("read_ds_1")).isPresent());
+        readwriteSplittingRule.close();
+        assertFalse(DataSourceExecutionStatisticsRegistry.find(dataSources.get("read_ds_0")).isPresent());
+        assertFalse(DataSourceExecutionStatisticsRegistry.find(dataSources.get("read_ds_1")).isPresent());
+    }
+    
+    @Test
+    void assertCloseWithReplicationLagMonitor() {
+        Map<String, DataSource> dataSources = new HashMap<>(2, 1F);
+        dataSources.put("write_ds", mock(DataSource.class));
+        dataSources.put("read_ds", mock(DataSource.class));
+        ReadwriteSplittingDataSourceRuleConfiguration config = new ReadwriteSplittingDataSourceRuleConfiguration(
+                "readwrite", "write_ds", Collections.singletonList("read_ds"), TransactionalReadQueryStrategy.DYNAMIC, "random", 1000L, 10L);
+        ReadwriteSplittingRule readwriteSplittingRule = new ReadwriteSplittingRule("lag_monitor_db", new ReadwriteSplittingRuleConfiguration(Collections.singleton(config),
+                Collections.singletonMap("random", new AlgorithmConfiguration("RANDOM", new Properties()))), dataSources, mock(InstanceContext.class));
+        assertTrue(isReplicationLagMonitorThreadAlive("lag_monitor_db"));
+        readwriteSplittingRule.close();
+        Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(() -> !isReplicationLagMonitorThreadAlive("lag_monitor_db"));
+    }
+    
+    private boolean isReplicationLagMonitorThreadAlive(final String databaseName) {
+        return Thread.getAllStackTraces().keySet().stream().anyMatch(each -> each.isAlive() && each.getName().startsWith("ReplicationLagMonitor-" + databaseName + "-"));
+    }
 }
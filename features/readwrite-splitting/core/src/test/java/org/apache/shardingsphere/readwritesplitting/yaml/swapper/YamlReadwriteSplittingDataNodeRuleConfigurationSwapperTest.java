@@ -34,6 +34,7 @@ import java.util.Properties;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class YamlReadwriteSplittingDataNodeRuleConfigurationSwapperTest {
     
@@ -59,6 +60,15 @@ class YamlReadwriteSplittingDataNodeRuleConfigurationSwapperTest {
         assertThat(iterator.next().getKey(), is("data_sources/group_0"));
     }
     
+    @Test
+    void assertSwapToDataNodesWithReplicationLag() {
+        ReadwriteSplittingRuleConfiguration config = new ReadwriteSplittingRuleConfiguration(Collections.singleton(new ReadwriteSplittingDataSourceRuleConfiguration("group_0",
+                "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), TransactionalReadQueryStrategy.DYNAMIC, null, 1000L, 200L)), Collections.emptyMap());
+        String actual = swapper.swapToDataNodes(config).iterator().next().getValue();
+        assertTrue(actual.contains("maxReplicationLagMilliseconds: 1000"));
+        assertTrue(actual.contains("replicationLagProbeIntervalMilliseconds: 200"));
+    }
+    
     @Test
     void assertSwapToObjectEmpty() {
         Collection<YamlDataNode> config = new LinkedList<>();
@@ -73,7 +83,9 @@ class YamlReadwriteSplittingDataNodeRuleConfigurationSwapperTest {
                 + "- read_ds_0\n"
                 + "- read_ds_1\n"
                 + "transactionalReadQueryStrategy: DYNAMIC\n"
-                + "writeDataSourceName: write_ds\n"));
+                + "writeDataSourceName: write_ds\n"
+                + "maxReplicationLagMilliseconds: 1000\n"
+                + "replicationLagProbeIntervalMilliseconds: 200\n"));
         config.add(new YamlDataNode("/metadata/foo_db/rules/readwrite_splitting/load_balancers/random/versions/0", "type: random\n"));
         ReadwriteSplittingRuleConfiguration result = swapper.swapToObject(config).get();
         assertThat(result.getDataSources().size(), is(1));
@@ -82,6 +94,8 @@ class YamlReadwriteSplittingDataNodeRuleConfigurationSwapperTest {
         assertThat(result.getDataSources().iterator().next().getReadDataSourceNames().size(), is(2));
         assertThat(result.getDataSources().iterator().next().getLoadBalancerName(), is("random"));
         assertThat(result.getDataSources().iterator().next().getTransactionalReadQueryStrategy(), is(TransactionalReadQueryStrategy.DYNAMIC));
+        assertThat(result.getDataSources().iterator().next().getMaxReplicationLagMilliseconds(), is(1000L));
+        assertThat(result.getDataSources().iterator().next().getReplicationLagProbeIntervalMilliseconds(), is(200L));
         assertThat(result.getLoadBalancers().size(), is(1));
         assertThat(result.getLoadBalancers().get("random").getType(), is("random"));
         assertThat(result.getLoadBalancers().get("random").getProps().size(), is(0));
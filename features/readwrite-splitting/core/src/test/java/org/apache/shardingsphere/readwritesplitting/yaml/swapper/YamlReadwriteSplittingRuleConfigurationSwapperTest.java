@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfigurat
 import org.apache.shardingsphere.infra.algorithm.core.yaml.YamlAlgorithmConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
 import org.apache.shardingsphere.readwritesplitting.yaml.config.YamlReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.yaml.config.rule.YamlReadwriteSplittingDataSourceRuleConfiguration;
 import org.junit.jupiter.api.Test;
@@ -50,6 +51,8 @@ class YamlReadwriteSplittingRuleConfigurationSwapperTest {
         YamlReadwriteSplittingDataSourceRuleConfiguration config = actual.getDataSources().get("readwrite");
         assertThat(config.getWriteDataSourceName(), is("write_ds"));
         assertThat(actual.getDataSources().get("readwrite").getLoadBalancerName(), is("random"));
+        assertThat(config.getMaxReplicationLagMilliseconds(), is(1000L));
+        assertThat(config.getReplicationLagProbeIntervalMilliseconds(), is(200L));
     }
     
     void assertReadwriteSplittingRule(final ReadwriteSplittingRuleConfiguration actual) {
@@ -57,11 +60,13 @@ class YamlReadwriteSplittingRuleConfigurationSwapperTest {
         assertThat(config.getName(), is("t_readwrite"));
         assertThat(config.getWriteDataSourceName(), is("write_ds"));
         assertThat(config.getLoadBalancerName(), is("random"));
+        assertThat(config.getMaxReplicationLagMilliseconds(), is(1000L));
+        assertThat(config.getReplicationLagProbeIntervalMilliseconds(), is(200L));
     }
     
     private ReadwriteSplittingRuleConfiguration creatReadwriteSplittingRuleConfiguration() {
         Collection<ReadwriteSplittingDataSourceRuleConfiguration> dataSources = Collections.singleton(
-                new ReadwriteSplittingDataSourceRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "random"));
+                new ReadwriteSplittingDataSourceRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), TransactionalReadQueryStrategy.DYNAMIC, "random", 1000L, 200L));
         Map<String, AlgorithmConfiguration> loadBalancers = Collections.singletonMap("myLoadBalancer", new AlgorithmConfiguration("RANDOM", new Properties()));
         return new ReadwriteSplittingRuleConfiguration(dataSources, loadBalancers);
     }
@@ -79,6 +84,8 @@ class YamlReadwriteSplittingRuleConfigurationSwapperTest {
         dataSourceRuleConfig.setReadDataSourceNames(Arrays.asList("read_ds_0", "read_ds_1"));
         dataSourceRuleConfig.setWriteDataSourceName("write_ds");
         dataSourceRuleConfig.setLoadBalancerName("random");
+        dataSourceRuleConfig.setMaxReplicationLagMilliseconds(1000L);
+        dataSourceRuleConfig.setReplicationLagProbeIntervalMilliseconds(200L);
         YamlReadwriteSplittingRuleConfiguration result = new YamlReadwriteSplittingRuleConfiguration();
         result.getDataSources().put("t_readwrite", dataSourceRuleConfig);
         YamlAlgorithmConfiguration algorithmConfig = new YamlAlgorithmConfiguration();
@@ -38,9 +38,13 @@ public final class ReadwriteSplittingDistSQLConstants {
             + System.lineSeparator()
             + "READ_STORAGE_UNITS(%s),"
             + System.lineSeparator()
-            + "TRANSACTIONAL_READ_QUERY_STRATEGY='%s'%s"
+            + "TRANSACTIONAL_READ_QUERY_STRATEGY='%s'%s%s"
             + System.lineSeparator()
             + ")";
     
     public static final String READ_RESOURCE = "%s";
+    
+    public static final String MAX_REPLICATION_LAG_MILLISECONDS = "MAX_REPLICATION_LAG_MILLISECONDS=%s";
+    
+    public static final String REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS = "REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS=%s";
 }
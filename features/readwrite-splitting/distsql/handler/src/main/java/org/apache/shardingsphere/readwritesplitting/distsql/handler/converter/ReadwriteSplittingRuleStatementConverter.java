@@ -59,10 +59,11 @@ public final class ReadwriteSplittingRuleStatementConverter {
     
     private static ReadwriteSplittingDataSourceRuleConfiguration createDataSourceRuleConfiguration(final ReadwriteSplittingRuleSegment segment,
                                                                                                    final String loadBalancerName) {
-        return null == segment.getTransactionalReadQueryStrategy()
-                ? new ReadwriteSplittingDataSourceRuleConfiguration(segment.getName(), segment.getWriteDataSource(), new LinkedList<>(segment.getReadDataSources()), loadBalancerName)
-                : new ReadwriteSplittingDataSourceRuleConfiguration(segment.getName(), segment.getWriteDataSource(), new LinkedList<>(segment.getReadDataSources()),
-                        TransactionalReadQueryStrategy.valueOf(segment.getTransactionalReadQueryStrategy().toUpperCase()), loadBalancerName);
+        TransactionalReadQueryStrategy transactionalReadQueryStrategy = null == segment.getTransactionalReadQueryStrategy()
+                ? TransactionalReadQueryStrategy.DYNAMIC
+                : TransactionalReadQueryStrategy.valueOf(segment.getTransactionalReadQueryStrategy().toUpperCase());
+        return new ReadwriteSplittingDataSourceRuleConfiguration(segment.getName(), segment.getWriteDataSource(), new LinkedList<>(segment.getReadDataSources()),
+                transactionalReadQueryStrategy, loadBalancerName, segment.getMaxReplicationLagMilliseconds(), segment.getReplicationLagProbeIntervalMilliseconds());
     }
     
     private static AlgorithmConfiguration createLoadBalancer(final ReadwriteSplittingRuleSegment ruleSegment) {
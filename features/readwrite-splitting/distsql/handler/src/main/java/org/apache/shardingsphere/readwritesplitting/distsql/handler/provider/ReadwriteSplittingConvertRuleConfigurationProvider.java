@@ -60,8 +60,23 @@ public final class ReadwriteSplittingConvertRuleConfigurationProvider implements
         String readDataSourceNames = getReadDataSourceNames(dataSourceRuleConfig.getReadDataSourceNames());
         String transactionalReadQueryStrategy = dataSourceRuleConfig.getTransactionalReadQueryStrategy().name();
         String loadBalancerType = getLoadBalancerType(loadBalancers.get(dataSourceRuleConfig.getLoadBalancerName()));
+        String replicationLag = getReplicationLag(dataSourceRuleConfig);
         stringBuilder.append(String.format(ReadwriteSplittingDistSQLConstants.READWRITE_SPLITTING_FOR_STATIC,
-                dataSourceRuleConfig.getName(), dataSourceRuleConfig.getWriteDataSourceName(), readDataSourceNames, transactionalReadQueryStrategy, loadBalancerType));
+                dataSourceRuleConfig.getName(), dataSourceRuleConfig.getWriteDataSourceName(), readDataSourceNames, transactionalReadQueryStrategy, replicationLag, loadBalancerType));
+    }
+    
+    private String getReplicationLag(final ReadwriteSplittingDataSourceRuleConfiguration dataSourceRuleConfig) {
+        StringBuilder result = new StringBuilder();
+        if (dataSourceRuleConfig.getMaxReplicationLagMilliseconds() <= 0L) {
+            return result.toString();
+        }
+        result.append(ReadwriteSplittingDistSQLConstants.COMMA).append(System.lineSeparator())
+                .append(String.format(ReadwriteSplittingDistSQLConstants.MAX_REPLICATION_LAG_MILLISECONDS, dataSourceRuleConfig.getMaxReplicationLagMilliseconds()));
+        if (dataSourceRuleConfig.getReplicationLagProbeIntervalMilliseconds() > 0L) {
+            result.append(ReadwriteSplittingDistSQLConstants.COMMA)
+                    .append(String.format(ReadwriteSplittingDistSQLConstants.REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS, dataSourceRuleConfig.getReplicationLagProbeIntervalMilliseconds()));
+        }
+        return result.toString();
     }
     
     private String getReadDataSourceNames(final Collection<String> readDataSourceNames) {
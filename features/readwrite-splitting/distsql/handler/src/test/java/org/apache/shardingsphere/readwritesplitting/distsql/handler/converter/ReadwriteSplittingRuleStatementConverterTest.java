@@ -21,6 +21,7 @@ import org.apache.shardingsphere.distsql.segment.AlgorithmSegment;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
 import org.apache.shardingsphere.readwritesplitting.distsql.segment.ReadwriteSplittingRuleSegment;
 import org.junit.jupiter.api.Test;
 
@@ -68,6 +69,15 @@ class ReadwriteSplittingRuleStatementConverterTest {
         assertThat(actualSphereAlgorithmConfig.getProps(), is(expectedSingleReadwriteSplittingRuleSegment.getLoadBalancer().getProps()));
     }
     
+    @Test
+    void assertRuleSegmentWithReplicationLagConvertResult() {
+        ReadwriteSplittingRuleSegment ruleSegment = new ReadwriteSplittingRuleSegment("foo_rule", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "PRIMARY", null, 1000L, 500L);
+        ReadwriteSplittingDataSourceRuleConfiguration actual = ReadwriteSplittingRuleStatementConverter.convert(Collections.singleton(ruleSegment)).getDataSources().iterator().next();
+        assertThat(actual.getTransactionalReadQueryStrategy(), is(TransactionalReadQueryStrategy.PRIMARY));
+        assertThat(actual.getMaxReplicationLagMilliseconds(), is(1000L));
+        assertThat(actual.getReplicationLagProbeIntervalMilliseconds(), is(500L));
+    }
+    
     private ReadwriteSplittingRuleSegment createReadwriteSplittingRuleSegment(final String writeDataSource, final List<String> readDataSources,
                                                                               final String loadBalancerTypeName, final Properties props) {
         return new ReadwriteSplittingRuleSegment("", writeDataSource, readDataSources, new AlgorithmSegment(loadBalancerTypeName, props));
@@ -32,7 +32,7 @@ dropReadwriteSplittingRule
     ;
 
 readwriteSplittingRuleDefinition
-    : ruleName LP_ dataSourceDefinition (COMMA_ transactionalReadQueryStrategy)? (COMMA_ algorithmDefinition)? RP_
+    : ruleName LP_ dataSourceDefinition (COMMA_ transactionalReadQueryStrategy)? (COMMA_ replicationLagDefinition)? (COMMA_ algorithmDefinition)? RP_
     ;
 
 dataSourceDefinition
@@ -40,7 +40,11 @@ dataSourceDefinition
     ;
 
 writeStorageUnit
-    : WRITE_STORAGE_UNIT EQ_ writeStorageUnitName
+    : WRITE_STORAGE_UNIT EQ_ replicationLagDefinition
+    : MAX_REPLICATION_LAG_MILLISECONDS EQ_ maxReplicationLagMilliseconds (COMMA_ REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS EQ_ replicationLagProbeIntervalMilliseconds)?
+    ;
+
+writeStorageUnitName
     ;
 
 readStorageUnits
@@ -63,6 +67,14 @@ transactionalReadQueryStrategyName
     : STRING_
     ;
 
+maxReplicationLagMilliseconds
+    : INT_
+    ;
+
+replicationLagProbeIntervalMilliseconds
+    : INT_
+    ;
+
 ifExists
     : IF EXISTS
     ;
@@ -86,7 +86,11 @@ public final class ReadwriteSplittingDistSQLStatementVisitor extends ReadwriteSp
         return new ReadwriteSplittingRuleSegment(getIdentifierValue(ctx.ruleName()), getIdentifierValue(ctx.dataSourceDefinition().writeStorageUnit().writeStorageUnitName()),
                 ctx.dataSourceDefinition().readStorageUnits().readStorageUnitsNames().storageUnitName().stream().map(this::getIdentifierValue).collect(Collectors.toList()),
                 null == ctx.transactionalReadQueryStrategy() ? null : getIdentifierValue(ctx.transactionalReadQueryStrategy().transactionalReadQueryStrategyName()),
-                null == ctx.algorithmDefinition() ? null : (AlgorithmSegment) visitAlgorithmDefinition(ctx.algorithmDefinition()));
+                null == ctx.algorithmDefinition() ? null : (AlgorithmSegment) visitAlgorithmDefinition(ctx.algorithmDefinition()),
+                null == ctx.replicationLagDefinition() ? 0L : Long.parseLong(ctx.replicationLagDefinition().maxReplicationLagMilliseconds().getText()),
+                null == ctx.replicationLagDefinition() || null == ctx.replicationLagDefinition().replicationLagProbeIntervalMilliseconds()
+                        ? 0L
+                        : Long.parseLong(ctx.replicationLagDefinition().replicationLagProbeIntervalMilliseconds().getText()));
     }
     
     @Override
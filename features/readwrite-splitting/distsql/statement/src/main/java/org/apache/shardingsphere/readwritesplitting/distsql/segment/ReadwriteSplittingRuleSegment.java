@@ -41,6 +41,15 @@ public final class ReadwriteSplittingRuleSegment implements DistSQLSegment {
     
     private final AlgorithmSegment loadBalancer;
     
+    private final long maxReplicationLagMilliseconds;
+    
+    private final long replicationLagProbeIntervalMilliseconds;
+    
+    public ReadwriteSplittingRuleSegment(final String name, final String writeDataSource, final Collection<String> readDataSources,
+                                         final String transactionalReadQueryStrategy, final AlgorithmSegment loadBalancer) {
+        this(name, writeDataSource, readDataSources, transactionalReadQueryStrategy, loadBalancer, 0L, 0L);
+    }
+    
     public ReadwriteSplittingRuleSegment(final String name, final String writeDataSource, final Collection<String> readDataSources, final AlgorithmSegment loadBalancer) {
         this(name, writeDataSource, readDataSources, null, loadBalancer);
     }
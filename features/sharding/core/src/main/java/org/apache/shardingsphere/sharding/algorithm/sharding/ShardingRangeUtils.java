@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Sharding range utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingRangeUtils {
+    
+    /**
+     * Get closed lower endpoint of integral range.
+     *
+     * @param range range
+     * @return closed lower endpoint, empty if lower bound is absent or not integral
+     */
+    public static Optional<BigInteger> getClosedLowerEndpoint(final Range<? extends Comparable<?>> range) {
+        return getClosedLowerEndpoint(range, false);
+    }
+    
+    /**
+     * Get closed lower endpoint of integral range.
+     *
+     * @param range range
+     * @param numericStringAllowed whether numeric string endpoint is regarded as integral
+     * @return closed lower endpoint, empty if lower bound is absent or not integral
+     */
+    public static Optional<BigInteger> getClosedLowerEndpoint(final Range<? extends Comparable<?>> range, final boolean numericStringAllowed) {
+        if (!range.hasLowerBound()) {
+            return Optional.empty();
+        }
+        return toBigInteger(range.lowerEndpoint(), numericStringAllowed).map(optional -> BoundType.OPEN == range.lowerBoundType() ? optional.add(BigInteger.ONE) : optional);
+    }
+    
+    /**
+     * Get closed upper endpoint of integral range.
+     *
+     * @param range range
+     * @return closed upper endpoint, empty if upper bound is absent or not integral
+     */
+    public static Optional<BigInteger> getClosedUpperEndpoint(final Range<? extends Comparable<?>> range) {
+        return getClosedUpperEndpoint(range, false);
+    }
+    
+    /**
+     * Get closed upper endpoint of integral range.
+     *
+     * @param range range
+     * @param numericStringAllowed whether numeric string endpoint is regarded as integral
+     * @return closed upper endpoint, empty if upper bound is absent or not integral
+     */
+    public static Optional<BigInteger> getClosedUpperEndpoint(final Range<? extends Comparable<?>> range, final boolean numericStringAllowed) {
+        if (!range.hasUpperBound()) {
+            return Optional.empty();
+        }
+        return toBigInteger(range.upperEndpoint(), numericStringAllowed).map(optional -> BoundType.OPEN == range.upperBoundType() ? optional.subtract(BigInteger.ONE) : optional);
+    }
+    
+    /**
+     * Get target names of empty integral range.
+     *
+     * <p>Closed range whose lower endpoint is greater than upper endpoint matches no sharding value, so routing to one target is enough to respond with empty result.</p>
+     *
+     * @param availableTargetNames available target names
+     * @return target names of empty range
+     */
+    public static Collection<String> getEmptyRangeTargetNames(final Collection<String> availableTargetNames) {
+        return availableTargetNames.isEmpty() ? availableTargetNames : Collections.singleton(availableTargetNames.iterator().next());
+    }
+    
+    private static Optional<BigInteger> toBigInteger(final Comparable<?> value, final boolean numericStringAllowed) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return Optional.of(BigInteger.valueOf(((Number) value).longValue()));
+        }
+        if (value instanceof BigInteger) {
+            return Optional.of((BigInteger) value);
+        }
+        return numericStringAllowed && value instanceof String ? toBigInteger((String) value) : Optional.empty();
+    }
+    
+    private static Optional<BigInteger> toBigInteger(final String value) {
+        try {
+            return Optional.of(new BigInteger(value.trim()));
+        } catch (final NumberFormatException ignored) {
+            return Optional.empty();
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.hint;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingValue;
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
@@ -41,11 +42,11 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
     
     private static final String HINT_INLINE_VALUE_PROPERTY_NAME = "value";
     
-    private String algorithmExpression;
+    private InlineExpressionParser inlineExpressionParser;
     
     @Override
     public void init(final Properties props) {
-        algorithmExpression = getAlgorithmExpression(props);
+        inlineExpressionParser = InlineExpressionParserFactory.newInstance(getAlgorithmExpression(props));
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -63,7 +64,7 @@ public final class HintInlineShardingAlgorithm implements HintShardingAlgorithm<
         ShardingSpherePreconditions.checkNotNull(shardingValue, NullShardingValueException::new);
         Map<String, Comparable<?>> map = new LinkedHashMap<>();
         map.put(HINT_INLINE_VALUE_PROPERTY_NAME, shardingValue);
-        return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(map);
+        return inlineExpressionParser.evaluateWithArgs(map);
     }
     
     @Override
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitial
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.MismatchedComplexInlineShardingAlgorithmColumnAndValueSizeException;
@@ -54,11 +55,14 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     
     private boolean allowRangeQuery;
     
+    private InlineExpressionParser inlineExpressionParser;
+    
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
         shardingColumns = getShardingColumns(props);
         allowRangeQuery = getAllowRangeQuery(props);
+        inlineExpressionParser = InlineExpressionParserFactory.newInstance(algorithmExpression);
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -91,7 +95,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     
     private String doSharding(final Map<String, Comparable<?>> columnNameAndShardingValueMap) {
         columnNameAndShardingValueMap.forEach((key, value) -> ShardingSpherePreconditions.checkNotNull(value, NullShardingValueException::new));
-        return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(columnNameAndShardingValueMap);
+        return inlineExpressionParser.evaluateWithArgs(columnNameAndShardingValueMap);
     }
     
     private Collection<Map<String, Comparable<?>>> flatten(final Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap) {
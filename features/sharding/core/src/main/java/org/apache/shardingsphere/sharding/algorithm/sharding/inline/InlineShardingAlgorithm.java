@@ -18,19 +18,24 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Range;
 import groovy.lang.MissingMethodException;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingRangeUtils;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.MismatchedInlineShardingAlgorithmExpressionAndColumnException;
 import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
 
+import java.math.BigInteger;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -44,14 +49,24 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private static final String ALLOW_RANGE_QUERY_KEY = "allow-range-query-with-inline-sharding";
     
+    private static final String RANGE_QUERY_MAX_CARDINALITY_KEY = "range-query-max-cardinality";
+    
+    private static final int DEFAULT_RANGE_QUERY_MAX_CARDINALITY = 1024;
+    
     private String algorithmExpression;
     
     private boolean allowRangeQuery;
     
+    private int rangeQueryMaxCardinality;
+    
+    private InlineExpressionParser inlineExpressionParser;
+    
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
         allowRangeQuery = isAllowRangeQuery(props);
+        rangeQueryMaxCardinality = getRangeQueryMaxCardinality(props);
+        inlineExpressionParser = InlineExpressionParserFactory.newInstance(algorithmExpression);
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -64,15 +79,29 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         return Boolean.parseBoolean(props.getOrDefault(ALLOW_RANGE_QUERY_KEY, Boolean.FALSE.toString()).toString());
     }
     
+    private int getRangeQueryMaxCardinality(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(RANGE_QUERY_MAX_CARDINALITY_KEY, DEFAULT_RANGE_QUERY_MAX_CARDINALITY).toString());
+        ShardingSpherePreconditions.checkState(result >= 0, () -> new AlgorithmInitializationException(this, "Range query max cardinality can not be less than 0."));
+        return result;
+    }
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
         String columnName = shardingValue.getColumnName();
+        checkColumnName(columnName);
+        return evaluate(columnName, shardingValue.getValue());
+    }
+    
+    private void checkColumnName(final String columnName) {
         ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
+    }
+    
+    private String evaluate(final String columnName, final Comparable<?> shardingValue) {
         Map<String, Comparable<?>> map = new LinkedHashMap<>();
-        map.put(columnName, shardingValue.getValue());
+        map.put(columnName, shardingValue);
         try {
-            return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(map);
+            return inlineExpressionParser.evaluateWithArgs(map);
         } catch (final MissingMethodException ignored) {
             throw new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName);
         }
@@ -82,7 +111,32 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkState(allowRangeQuery,
                 () -> new UnsupportedSQLOperationException(String.format("Since the property of `%s` is false, inline sharding algorithm can not tackle with range query", ALLOW_RANGE_QUERY_KEY)));
-        return availableTargetNames;
+        Range<Comparable<?>> valueRange = shardingValue.getValueRange();
+        Optional<BigInteger> lower = ShardingRangeUtils.getClosedLowerEndpoint(valueRange);
+        Optional<BigInteger> upper = ShardingRangeUtils.getClosedUpperEndpoint(valueRange);
+        if (!lower.isPresent() || !upper.isPresent() || upper.get().subtract(lower.get()).compareTo(BigInteger.valueOf(rangeQueryMaxCardinality)) >= 0) {
+            return availableTargetNames;
+        }
+        if (lower.get().compareTo(upper.get()) > 0) {
+            return ShardingRangeUtils.getEmptyRangeTargetNames(availableTargetNames);
+        }
+        String columnName = shardingValue.getColumnName();
+        checkColumnName(columnName);
+        Collection<String> result = new LinkedHashSet<>();
+        for (BigInteger each = lower.get(); each.compareTo(upper.get()) <= 0 && result.size() < availableTargetNames.size(); each = each.add(BigInteger.ONE)) {
+            String target = evaluate(columnName, toShardingValue(each, valueRange));
+            if (availableTargetNames.contains(target)) {
+                result.add(target);
+            }
+        }
+        return result;
+    }
+    
+    private Comparable<?> toShardingValue(final BigInteger value, final Range<Comparable<?>> valueRange) {
+        if (valueRange.lowerEndpoint() instanceof Integer && valueRange.upperEndpoint() instanceof Integer) {
+            return value.intValue();
+        }
+        return valueRange.lowerEndpoint() instanceof BigInteger || valueRange.upperEndpoint() instanceof BigInteger ? value : value.longValue();
     }
     
     @Override
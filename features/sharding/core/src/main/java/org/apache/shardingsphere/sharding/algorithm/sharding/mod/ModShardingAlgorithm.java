@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingRangeUtils;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.sharding.exception.data.ShardingValueOffsetExce
 import java.math.BigInteger;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -106,22 +108,27 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
-        return containsAllTargets(shardingValue) ? availableTargetNames : getAvailableTargetNames(availableTargetNames, shardingValue);
-    }
-    
-    private boolean containsAllTargets(final RangeShardingValue<Comparable<?>> shardingValue) {
-        return !shardingValue.getValueRange().hasUpperBound() || shardingValue.getValueRange().hasLowerBound()
-                && getBigInteger(shardingValue.getValueRange().upperEndpoint()).subtract(getBigInteger(shardingValue.getValueRange().lowerEndpoint())).intValue() >= shardingCount - 1;
+        if (0 != startOffset || 0 != stopOffset) {
+            return availableTargetNames;
+        }
+        Optional<BigInteger> lower = ShardingRangeUtils.getClosedLowerEndpoint(shardingValue.getValueRange(), true);
+        Optional<BigInteger> upper = ShardingRangeUtils.getClosedUpperEndpoint(shardingValue.getValueRange(), true);
+        if (!lower.isPresent() || !upper.isPresent() || upper.get().subtract(lower.get()).compareTo(BigInteger.valueOf(shardingCount - 1L)) >= 0) {
+            return availableTargetNames;
+        }
+        if (lower.get().compareTo(upper.get()) > 0) {
+            return ShardingRangeUtils.getEmptyRangeTargetNames(availableTargetNames);
+        }
+        return getAvailableTargetNames(availableTargetNames, shardingValue, lower.get(), upper.get().subtract(lower.get()).intValue() + 1);
     }
     
-    private Collection<String> getAvailableTargetNames(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+    private Collection<String> getAvailableTargetNames(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue,
+                                                       final BigInteger lower, final int cardinality) {
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size(), 1F);
-        BigInteger lower = new BigInteger(shardingValue.getValueRange().lowerEndpoint().toString());
-        BigInteger upper = new BigInteger(shardingValue.getValueRange().upperEndpoint().toString());
-        BigInteger shardingCountBigInter = new BigInteger(String.valueOf(shardingCount));
-        for (BigInteger i = lower; i.compareTo(upper) <= 0; i = i.add(BigInteger.ONE)) {
-            String shardingResultSuffix = getShardingResultSuffix(String.valueOf(i.mod(shardingCountBigInter)));
-            ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, shardingResultSuffix, shardingValue.getDataNodeInfo()).ifPresent(result::add);
+        int remainder = lower.mod(BigInteger.valueOf(shardingCount)).intValue();
+        for (int i = 0; i < cardinality; i++) {
+            ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, getShardingResultSuffix(String.valueOf(remainder)), shardingValue.getDataNodeInfo()).ifPresent(result::add);
+            remainder = shardingCount - 1 == remainder ? 0 : remainder + 1;
         }
         return result;
     }
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
-import com.cedarsoftware.util.CaseInsensitiveSet;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNode;
@@ -27,8 +26,6 @@ import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
-import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
-import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.MismatchedShardingDataSourceRouteInfoException;
 import org.apache.shardingsphere.sharding.exception.algorithm.sharding.NoShardingDatabaseRouteInfoException;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
@@ -37,20 +34,17 @@ import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShard
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
 import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
-import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
 import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
-import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.ShardingTable;
-import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.apache.shardingsphere.sharding.rule.ShardingTableRouteStrategies;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -92,22 +86,18 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     }
     
     private Collection<DataNode> getDataNodes(final ShardingRule shardingRule, final ShardingTable shardingTable) {
-        ShardingStrategy databaseShardingStrategy = createShardingStrategy(shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable),
-                shardingRule.getShardingAlgorithms(), shardingRule.getDefaultShardingColumn());
-        ShardingStrategy tableShardingStrategy = createShardingStrategy(shardingRule.getTableShardingStrategyConfiguration(shardingTable),
-                shardingRule.getShardingAlgorithms(), shardingRule.getDefaultShardingColumn());
-        if (isRoutingByHint(shardingRule, shardingTable)) {
-            return routeByHint(shardingTable, databaseShardingStrategy, tableShardingStrategy);
+        ShardingTableRouteStrategies routeStrategies = shardingRule.getShardingTableRouteStrategies(shardingTable);
+        if (isRoutingByHint(routeStrategies)) {
+            return routeByHint(shardingTable, routeStrategies.getDatabaseShardingStrategy(), routeStrategies.getTableShardingStrategy());
         }
-        if (isRoutingByShardingConditions(shardingRule, shardingTable)) {
-            return routeByShardingConditions(shardingRule, shardingTable, databaseShardingStrategy, tableShardingStrategy);
+        if (isRoutingByShardingConditions(routeStrategies)) {
+            return routeByShardingConditions(shardingRule, shardingTable, routeStrategies);
         }
-        return routeByMixedConditions(shardingRule, shardingTable, databaseShardingStrategy, tableShardingStrategy);
+        return routeByMixedConditions(shardingRule, shardingTable, routeStrategies);
     }
     
-    private boolean isRoutingByHint(final ShardingRule shardingRule, final ShardingTable shardingTable) {
-        return shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable) instanceof HintShardingStrategyConfiguration
-                && shardingRule.getTableShardingStrategyConfiguration(shardingTable) instanceof HintShardingStrategyConfiguration;
+    private boolean isRoutingByHint(final ShardingTableRouteStrategies routeStrategies) {
+        return routeStrategies.isDatabaseShardingByHint() && routeStrategies.isTableShardingByHint();
     }
     
     private boolean isRoutingBySQLHint() {
@@ -124,68 +114,62 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
         return route0(shardingTable, databaseShardingStrategy, getDatabaseShardingValuesFromHint(), tableShardingStrategy, getTableShardingValuesFromHint());
     }
     
-    private boolean isRoutingByShardingConditions(final ShardingRule shardingRule, final ShardingTable shardingTable) {
-        return !(shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable) instanceof HintShardingStrategyConfiguration
-                || shardingRule.getTableShardingStrategyConfiguration(shardingTable) instanceof HintShardingStrategyConfiguration);
+    private boolean isRoutingByShardingConditions(final ShardingTableRouteStrategies routeStrategies) {
+        return !(routeStrategies.isDatabaseShardingByHint() || routeStrategies.isTableShardingByHint());
     }
     
-    private Collection<DataNode> routeByShardingConditions(final ShardingRule shardingRule, final ShardingTable shardingTable,
-                                                           final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+    private Collection<DataNode> routeByShardingConditions(final ShardingRule shardingRule, final ShardingTable shardingTable, final ShardingTableRouteStrategies routeStrategies) {
         return shardingConditions.getConditions().isEmpty()
-                ? route0(shardingTable, databaseShardingStrategy, Collections.emptyList(), tableShardingStrategy, Collections.emptyList())
-                : routeByShardingConditionsWithCondition(shardingRule, shardingTable, databaseShardingStrategy, tableShardingStrategy);
+                ? route0(shardingTable, routeStrategies.getDatabaseShardingStrategy(), Collections.emptyList(), routeStrategies.getTableShardingStrategy(), Collections.emptyList())
+                : routeByShardingConditionsWithCondition(shardingRule, shardingTable, routeStrategies);
     }
     
-    private Collection<DataNode> routeByShardingConditionsWithCondition(final ShardingRule shardingRule, final ShardingTable shardingTable,
-                                                                        final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+    private Collection<DataNode> routeByShardingConditionsWithCondition(final ShardingRule shardingRule, final ShardingTable shardingTable, final ShardingTableRouteStrategies routeStrategies) {
         Collection<DataNode> result = new LinkedList<>();
         for (ShardingCondition each : shardingConditions.getConditions()) {
             Collection<DataNode> dataNodes = route0(shardingTable,
-                    databaseShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, databaseShardingStrategy.getShardingColumns(), each),
-                    tableShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, tableShardingStrategy.getShardingColumns(), each));
+                    routeStrategies.getDatabaseShardingStrategy(), getShardingValuesFromShardingConditions(shardingRule, routeStrategies.getDatabaseShardingColumns(), each),
+                    routeStrategies.getTableShardingStrategy(), getShardingValuesFromShardingConditions(shardingRule, routeStrategies.getTableShardingColumns(), each));
             result.addAll(dataNodes);
             originalDataNodes.add(dataNodes);
         }
         return result;
     }
     
-    private Collection<DataNode> routeByMixedConditions(final ShardingRule shardingRule, final ShardingTable shardingTable,
-                                                        final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+    private Collection<DataNode> routeByMixedConditions(final ShardingRule shardingRule, final ShardingTable shardingTable, final ShardingTableRouteStrategies routeStrategies) {
         return shardingConditions.getConditions().isEmpty()
-                ? routeByMixedConditionsWithHint(shardingRule, shardingTable, databaseShardingStrategy, tableShardingStrategy)
-                : routeByMixedConditionsWithCondition(shardingRule, shardingTable, databaseShardingStrategy, tableShardingStrategy);
+                ? routeByMixedConditionsWithHint(shardingTable, routeStrategies)
+                : routeByMixedConditionsWithCondition(shardingRule, shardingTable, routeStrategies);
     }
     
-    private Collection<DataNode> routeByMixedConditionsWithCondition(final ShardingRule shardingRule, final ShardingTable shardingTable,
-                                                                     final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+    private Collection<DataNode> routeByMixedConditionsWithCondition(final ShardingRule shardingRule, final ShardingTable shardingTable, final ShardingTableRouteStrategies routeStrategies) {
         Collection<DataNode> result = new LinkedList<>();
         for (ShardingCondition each : shardingConditions.getConditions()) {
-            Collection<DataNode> dataNodes = route0(shardingTable, databaseShardingStrategy,
-                    getDatabaseShardingValues(shardingRule, databaseShardingStrategy, each), tableShardingStrategy, getTableShardingValues(shardingRule, tableShardingStrategy, each));
+            Collection<DataNode> dataNodes = route0(shardingTable, routeStrategies.getDatabaseShardingStrategy(), getDatabaseShardingValues(shardingRule, routeStrategies, each),
+                    routeStrategies.getTableShardingStrategy(), getTableShardingValues(shardingRule, routeStrategies, each));
             result.addAll(dataNodes);
             originalDataNodes.add(dataNodes);
         }
         return result;
     }
     
-    private Collection<DataNode> routeByMixedConditionsWithHint(final ShardingRule shardingRule, final ShardingTable shardingTable,
-                                                                final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
-        if (shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable) instanceof HintShardingStrategyConfiguration) {
-            return route0(shardingTable, databaseShardingStrategy, getDatabaseShardingValuesFromHint(), tableShardingStrategy, Collections.emptyList());
+    private Collection<DataNode> routeByMixedConditionsWithHint(final ShardingTable shardingTable, final ShardingTableRouteStrategies routeStrategies) {
+        if (routeStrategies.isDatabaseShardingByHint()) {
+            return route0(shardingTable, routeStrategies.getDatabaseShardingStrategy(), getDatabaseShardingValuesFromHint(), routeStrategies.getTableShardingStrategy(), Collections.emptyList());
         }
-        return route0(shardingTable, databaseShardingStrategy, Collections.emptyList(), tableShardingStrategy, getTableShardingValuesFromHint());
+        return route0(shardingTable, routeStrategies.getDatabaseShardingStrategy(), Collections.emptyList(), routeStrategies.getTableShardingStrategy(), getTableShardingValuesFromHint());
     }
     
-    private List<ShardingConditionValue> getDatabaseShardingValues(final ShardingRule shardingRule, final ShardingStrategy databaseShardingStrategy, final ShardingCondition shardingCondition) {
-        return isGettingShardingValuesFromHint(databaseShardingStrategy)
+    private List<ShardingConditionValue> getDatabaseShardingValues(final ShardingRule shardingRule, final ShardingTableRouteStrategies routeStrategies, final ShardingCondition shardingCondition) {
+        return isGettingShardingValuesFromHint(routeStrategies.getDatabaseShardingStrategy())
                 ? getDatabaseShardingValuesFromHint()
-                : getShardingValuesFromShardingConditions(shardingRule, databaseShardingStrategy.getShardingColumns(), shardingCondition);
+                : getShardingValuesFromShardingConditions(shardingRule, routeStrategies.getDatabaseShardingColumns(), shardingCondition);
     }
     
-    private List<ShardingConditionValue> getTableShardingValues(final ShardingRule shardingRule, final ShardingStrategy tableShardingStrategy, final ShardingCondition shardingCondition) {
-        return isGettingShardingValuesFromHint(tableShardingStrategy)
+    private List<ShardingConditionValue> getTableShardingValues(final ShardingRule shardingRule, final ShardingTableRouteStrategies routeStrategies, final ShardingCondition shardingCondition) {
+        return isGettingShardingValuesFromHint(routeStrategies.getTableShardingStrategy())
                 ? getTableShardingValuesFromHint()
-                : getShardingValuesFromShardingConditions(shardingRule, tableShardingStrategy.getShardingColumns(), shardingCondition);
+                : getShardingValuesFromShardingConditions(shardingRule, routeStrategies.getTableShardingColumns(), shardingCondition);
     }
     
     private boolean isGettingShardingValuesFromHint(final ShardingStrategy shardingStrategy) {
@@ -237,7 +221,7 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
         for (ShardingConditionValue each : shardingCondition.getValues()) {
             Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(each.getTableName());
             if ((logicTableName.equalsIgnoreCase(each.getTableName()) || bindingTableRule.isPresent() && bindingTableRule.get().hasLogicTable(logicTableName))
-                    && new CaseInsensitiveSet<>(shardingColumns).contains(each.getColumnName())) {
+                    && shardingColumns.contains(each.getColumnName())) {
                 result.add(each);
             }
         }
@@ -278,10 +262,4 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
         }
         return result;
     }
-    
-    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig, final Map<String, ShardingAlgorithm> shardingAlgorithms,
-                                                    final String defaultShardingColumn) {
-        return null == shardingStrategyConfig ? new NoneShardingStrategy()
-                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), defaultShardingColumn);
-    }
 }
@@ -20,7 +20,10 @@ package org.apache.shardingsphere.sharding.rule;
 import com.cedarsoftware.util.CaseInsensitiveMap;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.algorithm.core.DataSourcesAware;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmNotFoundOnTableException;
@@ -79,6 +82,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -86,7 +90,7 @@ import java.util.stream.Collectors;
  * Sharding rule.
  */
 @Getter
-public final class ShardingRule implements DatabaseRule {
+public final class ShardingRule implements DatabaseRule, AutoCloseable {
     
     private static final String ALGORITHM_EXPRESSION_KEY = "algorithm-expression";
     
@@ -102,6 +106,9 @@ public final class ShardingRule implements DatabaseRule {
     
     private final Map<String, ShardingTable> shardingTables = new CaseInsensitiveMap<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, ShardingTable> actualTableShardingTables;
+    
     private final Map<String, BindingTableRule> bindingTableRules = new CaseInsensitiveMap<>();
     
     private final ShardingStrategyConfiguration defaultDatabaseShardingStrategyConfig;
@@ -118,6 +125,9 @@ public final class ShardingRule implements DatabaseRule {
     
     private final RuleAttributes attributes;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<ShardingTable, ShardingTableRouteStrategies> shardingTableRouteStrategies = new ConcurrentHashMap<>();
+    
     public ShardingRule(final ShardingRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources, final InstanceContext instanceContext) {
         configuration = ruleConfig;
         this.dataSourceNames = getDataSourceNames(ruleConfig.getTables(), ruleConfig.getAutoTables(), dataSources.keySet());
@@ -127,6 +137,7 @@ public final class ShardingRule implements DatabaseRule {
         shardingTables.putAll(createShardingTables(ruleConfig.getTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
         shardingTables.putAll(createShardingAutoTables(ruleConfig.getAutoTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
         validateUniqueActualDataNodesInTableRules();
+        actualTableShardingTables = createActualTableShardingTables(shardingTables.values());
         bindingTableRules.putAll(createBindingTableRules(ruleConfig.getBindingTableGroups()));
         defaultDatabaseShardingStrategyConfig = createDefaultDatabaseShardingStrategyConfig(ruleConfig);
         defaultTableShardingStrategyConfig = createDefaultTableShardingStrategyConfig(ruleConfig);
@@ -139,11 +150,12 @@ public final class ShardingRule implements DatabaseRule {
                 ruleConfig.getBindingTableGroups(), defaultDatabaseShardingStrategyConfig, defaultTableShardingStrategyConfig, defaultShardingColumn)),
                 InvalidBindingTablesException::new);
         keyGenerators.values().stream().filter(InstanceContextAware.class::isInstance).forEach(each -> ((InstanceContextAware) each).setInstanceContext(instanceContext));
+        keyGenerators.values().stream().filter(DataSourcesAware.class::isInstance).forEach(each -> ((DataSourcesAware) each).setDataSources(dataSources));
         if (defaultKeyGenerateAlgorithm instanceof InstanceContextAware && -1 == instanceContext.getWorkerId()) {
             ((InstanceContextAware) defaultKeyGenerateAlgorithm).setInstanceContext(instanceContext);
         }
         shardingCache = null == ruleConfig.getShardingCache() ? null : new ShardingCache(ruleConfig.getShardingCache(), this);
-        attributes = new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableMapperRuleAttribute(shardingTables.values()));
+        attributes = new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables, actualTableShardingTables), new ShardingTableMapperRuleAttribute(shardingTables.values()));
     }
     
     private void validateUniqueActualDataNodesInTableRules() {
@@ -156,6 +168,16 @@ public final class ShardingRule implements DatabaseRule {
         });
     }
     
+    private Map<String, ShardingTable> createActualTableShardingTables(final Collection<ShardingTable> shardingTables) {
+        Map<String, ShardingTable> result = new CaseInsensitiveMap<>();
+        for (ShardingTable each : shardingTables) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.putIfAbsent(dataNode.getTableName(), each);
+            }
+        }
+        return result;
+    }
+    
     private ShardingStrategyConfiguration createDefaultDatabaseShardingStrategyConfig(final ShardingRuleConfiguration ruleConfig) {
         Optional.ofNullable(ruleConfig.getDefaultDatabaseShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), "default"));
         return null == ruleConfig.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : ruleConfig.getDefaultDatabaseShardingStrategy();
@@ -342,6 +364,17 @@ public final class ShardingRule implements DatabaseRule {
         return null == shardingTable.getTableShardingStrategyConfig() ? defaultTableShardingStrategyConfig : shardingTable.getTableShardingStrategyConfig();
     }
     
+    /**
+     * Get sharding table route strategies.
+     *
+     * @param shardingTable sharding table
+     * @return sharding table route strategies
+     */
+    public ShardingTableRouteStrategies getShardingTableRouteStrategies(final ShardingTable shardingTable) {
+        return shardingTableRouteStrategies.computeIfAbsent(shardingTable, key -> new ShardingTableRouteStrategies(
+                getDatabaseShardingStrategyConfiguration(key), getTableShardingStrategyConfiguration(key), shardingAlgorithms, defaultShardingColumn));
+    }
+    
     /**
      * Get audit strategy configuration.
      *
@@ -372,12 +405,7 @@ public final class ShardingRule implements DatabaseRule {
      * @return sharding table
      */
     public Optional<ShardingTable> findShardingTableByActualTable(final String actualTableName) {
-        for (ShardingTable each : shardingTables.values()) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(actualTableShardingTables.get(actualTableName));
     }
     
     /**
@@ -729,4 +757,14 @@ public final class ShardingRule implements DatabaseRule {
         BinaryOperationExpression binaryExpression = (BinaryOperationExpression) expression;
         return binaryExpression.getLeft() instanceof ColumnSegment && binaryExpression.getRight() instanceof ColumnSegment && "=".equals(binaryExpression.getOperator());
     }
+    
+    @SneakyThrows(Exception.class)
+    @Override
+    public void close() {
+        for (KeyGenerateAlgorithm each : keyGenerators.values()) {
+            if (each instanceof AutoCloseable) {
+                ((AutoCloseable) each).close();
+            }
+        }
+    }
 }
@@ -36,6 +36,7 @@ import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorith
 import org.apache.shardingsphere.sharding.exception.metadata.DataNodeGenerateException;
 import org.apache.shardingsphere.sharding.exception.metadata.DataNodesMissedWithShardingTableException;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -175,7 +176,7 @@ public final class ShardingTable {
     }
     
     private List<DataNode> generateDataNodes(final String logicTable, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
+        List<DataNode> result = new ArrayList<>(dataSourceNames.size());
         int index = 0;
         for (String each : dataSourceNames) {
             DataNode dataNode = new DataNode(each, logicTable);
@@ -189,13 +190,17 @@ public final class ShardingTable {
     }
     
     private List<DataNode> generateDataNodes(final List<String> actualDataNodes, final Collection<String> dataSourceNames) {
-        List<DataNode> result = new LinkedList<>();
+        Map<String, String> sharedDataSourceNames = new HashMap<>(dataSourceNames.size(), 1F);
+        dataSourceNames.forEach(each -> sharedDataSourceNames.put(each, each));
+        List<DataNode> result = new ArrayList<>(actualDataNodes.size());
         int index = 0;
         for (String each : actualDataNodes) {
-            DataNode dataNode = new DataNode(each);
-            if (!dataSourceNames.contains(dataNode.getDataSourceName())) {
+            DataNode parsedDataNode = new DataNode(each);
+            String dataSourceName = sharedDataSourceNames.get(parsedDataNode.getDataSourceName());
+            if (null == dataSourceName) {
                 throw new DataNodeGenerateException(each);
             }
+            DataNode dataNode = new DataNode(dataSourceName, parsedDataNode.getTableName());
             result.add(dataNode);
             dataNodeIndexMap.put(dataNode, index);
             actualDataSourceNames.add(dataNode.getDataSourceName());
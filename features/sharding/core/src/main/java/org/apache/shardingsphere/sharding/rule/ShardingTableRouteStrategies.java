@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import lombok.Getter;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Sharding table route strategies.
+ *
+ * <p>Sharding strategies and sharding columns resolved once for a sharding table, so that routing does not rebuild them for every statement.</p>
+ */
+@Getter
+public final class ShardingTableRouteStrategies {
+    
+    private final ShardingStrategy databaseShardingStrategy;
+    
+    private final ShardingStrategy tableShardingStrategy;
+    
+    private final Collection<String> databaseShardingColumns;
+    
+    private final Collection<String> tableShardingColumns;
+    
+    private final boolean databaseShardingByHint;
+    
+    private final boolean tableShardingByHint;
+    
+    public ShardingTableRouteStrategies(final ShardingStrategyConfiguration databaseShardingStrategyConfig, final ShardingStrategyConfiguration tableShardingStrategyConfig,
+                                       final Map<String, ShardingAlgorithm> shardingAlgorithms, final String defaultShardingColumn) {
+        databaseShardingStrategy = createShardingStrategy(databaseShardingStrategyConfig, shardingAlgorithms, defaultShardingColumn);
+        tableShardingStrategy = createShardingStrategy(tableShardingStrategyConfig, shardingAlgorithms, defaultShardingColumn);
+        databaseShardingColumns = new CaseInsensitiveSet<>(databaseShardingStrategy.getShardingColumns());
+        tableShardingColumns = new CaseInsensitiveSet<>(tableShardingStrategy.getShardingColumns());
+        databaseShardingByHint = databaseShardingStrategyConfig instanceof HintShardingStrategyConfiguration;
+        tableShardingByHint = tableShardingStrategyConfig instanceof HintShardingStrategyConfiguration;
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig, final Map<String, ShardingAlgorithm> shardingAlgorithms,
+                                                    final String defaultShardingColumn) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), defaultShardingColumn);
+    }
+}
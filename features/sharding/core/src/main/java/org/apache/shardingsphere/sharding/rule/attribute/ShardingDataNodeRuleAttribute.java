@@ -36,10 +36,13 @@ public final class ShardingDataNodeRuleAttribute implements DataNodeRuleAttribut
     
     private final Map<String, ShardingTable> shardingTables;
     
+    private final Map<String, ShardingTable> actualTableShardingTables;
+    
     private final Map<String, Collection<DataNode>> tableDataNodes;
     
-    public ShardingDataNodeRuleAttribute(final Map<String, ShardingTable> shardingTables) {
+    public ShardingDataNodeRuleAttribute(final Map<String, ShardingTable> shardingTables, final Map<String, ShardingTable> actualTableShardingTables) {
         this.shardingTables = shardingTables;
+        this.actualTableShardingTables = actualTableShardingTables;
         tableDataNodes = createShardingTableDataNodes(shardingTables);
     }
     
@@ -90,16 +93,7 @@ public final class ShardingDataNodeRuleAttribute implements DataNodeRuleAttribut
     
     @Override
     public Optional<String> findLogicTableByActualTable(final String actualTable) {
-        return findShardingTableByActualTable(actualTable).map(ShardingTable::getLogicTable);
-    }
-    
-    private Optional<ShardingTable> findShardingTableByActualTable(final String actualTableName) {
-        for (ShardingTable each : shardingTables.values()) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(actualTableShardingTables.get(actualTable)).map(ShardingTable::getLogicTable);
     }
     
     @Override
@@ -34,6 +34,8 @@ import org.junit.jupiter.api.Test;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -90,6 +92,35 @@ class InlineShardingAlgorithmTest {
         assertTrue(actual.containsAll(availableTargetNames));
     }
     
+    @Test
+    void assertDoShardingWithBoundedRangeShardingConditionValue() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(1001, 1002))),
+                is(new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_2"))));
+        assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.open(1000L, 1002L))),
+                is(Collections.singleton("t_order_1")));
+        assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(1L, 100L))).size(), is(4));
+    }
+    
+    @Test
+    void assertDoShardingWithEmptyRangeShardingConditionValue() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.open(1001L, 1002L))),
+                is(Collections.singleton("t_order_0")));
+        assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closedOpen(1001, 1001))),
+                is(Collections.singleton("t_order_0")));
+    }
+    
+    @Test
+    void assertDoShardingWithRangeShardingConditionValueBeyondMaxCardinality() {
+        InlineShardingAlgorithm algorithm = (InlineShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INLINE", PropertiesBuilder.build(new Property("algorithm-expression",
+                "t_order_$->{order_id % 4}"), new Property("allow-range-query-with-inline-sharding", Boolean.TRUE.toString()), new Property("range-query-max-cardinality", "2")));
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(algorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(1L, 2L))).size(), is(2));
+        assertThat(algorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(1L, 3L))), is(availableTargetNames));
+        assertThat(algorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.atLeast(1L))), is(availableTargetNames));
+    }
+    
     @Test
     void assertDoShardingWithNonExistNodes() {
         List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1");
@@ -30,6 +30,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -70,6 +72,49 @@ class ModShardingAlgorithmTest {
         assertTrue(actual.contains("t_order_2"));
     }
     
+    @Test
+    void assertRangeDoShardingWithOpenBounds() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "16")));
+        Collection<String> actual = algorithm.doSharding(createAvailableTargetNames(), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.open(14L, 18L)));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_15", "t_order_0", "t_order_1"))));
+    }
+    
+    @Test
+    void assertRangeDoShardingWithEmptyRange() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "16")));
+        Collection<String> actual = algorithm.doSharding(createAvailableTargetNames(), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.open(1L, 2L)));
+        assertThat(actual, is(Collections.singleton("t_order_8")));
+    }
+    
+    @Test
+    void assertRangeDoShardingWithNumericStringRange() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "16")));
+        Collection<String> actual = algorithm.doSharding(createAvailableTargetNames(), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed("1", "2")));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_2"))));
+    }
+    
+    @Test
+    void assertRangeDoShardingWithNonNumericStringRange() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "16")));
+        Collection<String> actual = algorithm.doSharding(createAvailableTargetNames(), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed("a", "b")));
+        assertThat(actual.size(), is(16));
+    }
+    
+    @Test
+    void assertRangeDoShardingWithoutLowerBound() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "16")));
+        Collection<String> actual = algorithm.doSharding(createAvailableTargetNames(), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.atMost(2L)));
+        assertThat(actual.size(), is(16));
+    }
+    
+    @Test
+    void assertRangeDoShardingWithOffsets() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", createZeroPaddingProperties());
+        Collection<String> actual = algorithm.doSharding(createAvailableIncludeZeroTargetNames(),
+                new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(1L, 2L)));
+        assertThat(actual.size(), is(16));
+    }
+    
     private Collection<String> createAvailableTargetNames() {
         return Arrays.asList("t_order_8", "t_order_9", "t_order_10", "t_order_11", "t_order_12", "t_order_13", "t_order_14", "t_order_15",
                 "t_order_0", "t_order_1", "t_order_2", "t_order_3", "t_order_4", "t_order_5", "t_order_6", "t_order_7");
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.sharding.exception.syntax.UnsupportedUpdatingSh
 import org.apache.shardingsphere.sharding.route.engine.validator.dml.impl.ShardingUpdateStatementValidator;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.ShardingTable;
+import org.apache.shardingsphere.sharding.rule.ShardingTableRouteStrategies;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.ColumnAssignmentSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
@@ -137,8 +138,7 @@ class ShardingUpdateStatementValidatorTest {
         StandardShardingStrategyConfiguration databaseStrategyConfig = mock(StandardShardingStrategyConfiguration.class);
         when(databaseStrategyConfig.getShardingColumn()).thenReturn("id");
         when(databaseStrategyConfig.getShardingAlgorithmName()).thenReturn("database_inline");
-        when(shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable)).thenReturn(databaseStrategyConfig);
-        when(shardingRule.getShardingAlgorithms()).thenReturn(createShardingAlgorithmMap());
+        when(shardingRule.getShardingTableRouteStrategies(shardingTable)).thenReturn(new ShardingTableRouteStrategies(databaseStrategyConfig, null, createShardingAlgorithmMap(), null));
     }
     
     private Map<String, ShardingAlgorithm> createShardingAlgorithmMap() {
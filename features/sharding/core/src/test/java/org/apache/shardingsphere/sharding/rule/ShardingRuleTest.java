@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfigurat
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmNotFoundOnTableException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.keygen.snowflake.SnowflakeKeyGenerateAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.keygen.uuid.UUIDKeyGenerateAlgorithm;
 import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
@@ -50,6 +51,7 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardS
 import org.apache.shardingsphere.sharding.exception.metadata.DuplicateSharingActualDataNodeException;
 import org.apache.shardingsphere.sharding.exception.metadata.InvalidBindingTablesException;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
@@ -79,6 +81,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -86,7 +89,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 class ShardingRuleTest {
     
@@ -195,6 +200,13 @@ class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().findShardingTableByActualTable("table_0").isPresent());
     }
     
+    @Test
+    void assertFindTableRuleByActualTableIgnoreCase() {
+        Optional<ShardingTable> actual = createMaximumShardingRule().findShardingTableByActualTable("TABLE_0");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLogicTable(), is("LOGIC_TABLE"));
+    }
+    
     @Test
     void assertNotFindTableRuleByActualTable() {
         assertFalse(createMaximumShardingRule().findShardingTableByActualTable("table_3").isPresent());
@@ -745,6 +757,24 @@ class ShardingRuleTest {
         assertThat(tableShardingStrategyConfig.getShardingAlgorithmName(), is("table_inline"));
     }
     
+    @Test
+    void assertGetShardingTableRouteStrategies() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"));
+        shardingRuleConfig.getShardingAlgorithms().put("database_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "ds_${user_id % 2}"))));
+        shardingRuleConfig.getShardingAlgorithms().put("table_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "table_${order_id % 3}"))));
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSources(), mock(InstanceContext.class));
+        ShardingTable shardingTable = actual.getShardingTable("Logic_Table");
+        ShardingTableRouteStrategies routeStrategies = actual.getShardingTableRouteStrategies(shardingTable);
+        assertThat(routeStrategies.getDatabaseShardingStrategy(), instanceOf(StandardShardingStrategy.class));
+        assertThat(routeStrategies.getTableShardingStrategy(), instanceOf(StandardShardingStrategy.class));
+        assertTrue(routeStrategies.getDatabaseShardingColumns().contains("USER_ID"));
+        assertTrue(routeStrategies.getTableShardingColumns().contains("order_id"));
+        assertFalse(routeStrategies.isDatabaseShardingByHint());
+        assertFalse(routeStrategies.isTableShardingByHint());
+        assertThat(actual.getShardingTableRouteStrategies(shardingTable), sameInstance(routeStrategies));
+    }
+    
     @Test
     void assertIsGenerateKeyColumn() {
         ShardingRule actual = createMaximumShardingRule();
@@ -809,4 +839,13 @@ class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().isSupportAutoIncrement("ds_0", "logic_table"));
         assertTrue(createMaximumShardingRule().isSupportAutoIncrement("ds_0", "sub_logic_table"));
     }
+    
+    @Test
+    void assertClose() throws Exception {
+        ShardingRule actual = createMaximumShardingRule();
+        KeyGenerateAlgorithm keyGenerateAlgorithm = mock(KeyGenerateAlgorithm.class, withSettings().extraInterfaces(AutoCloseable.class));
+        actual.getKeyGenerators().put("closeable", keyGenerateAlgorithm);
+        actual.close();
+        verify((AutoCloseable) keyGenerateAlgorithm).close();
+    }
 }
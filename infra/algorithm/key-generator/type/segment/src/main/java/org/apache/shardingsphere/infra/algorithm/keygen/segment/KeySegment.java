@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Key segment, a leased key range of [start key, end key).
+ */
+final class KeySegment {
+    
+    static final KeySegment EMPTY = new KeySegment(0L, 0L, 1D);
+    
+    private final long endKey;
+    
+    private final long prefetchKey;
+    
+    private final AtomicLong cursor;
+    
+    KeySegment(final long startKey, final long endKey, final double prefetchThreshold) {
+        this.endKey = endKey;
+        prefetchKey = startKey + (long) Math.ceil((endKey - startKey) * prefetchThreshold);
+        cursor = new AtomicLong(startKey);
+    }
+    
+    int take(final Collection<Long> keys, final int count) {
+        long current;
+        long next;
+        do {
+            current = cursor.get();
+            if (current >= endKey) {
+                return 0;
+            }
+            next = Math.min(current + count, endKey);
+        } while (!cursor.compareAndSet(current, next));
+        for (long each = current; each < next; each++) {
+            keys.add(each);
+        }
+        return (int) (next - current);
+    }
+    
+    boolean isPrefetchReached() {
+        return cursor.get() >= prefetchKey;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Key segment buffer of one sequence.
+ * 
+ * <p>Keys are taken from the current segment without touching database, the next segment is leased in background once prefetch threshold of the current one is reached,
+ * so switching segment usually only swaps the buffered one in.</p>
+ */
+@RequiredArgsConstructor
+final class KeySegmentBuffer {
+    
+    private final String sequenceName;
+    
+    private final KeySegmentLeaser leaser;
+    
+    private final Executor prefetchExecutor;
+    
+    private final KeySegmentLeaseMetrics metrics;
+    
+    private final AtomicReference<Future<KeySegment>> nextSegment = new AtomicReference<>();
+    
+    private volatile KeySegment currentSegment = KeySegment.EMPTY;
+    
+    List<Long> nextKeys(final int keyGenerateCount) throws SQLException {
+        List<Long> result = new ArrayList<>(keyGenerateCount);
+        while (result.size() < keyGenerateCount) {
+            KeySegment segment = currentSegment;
+            if (segment.take(result, keyGenerateCount - result.size()) > 0 && segment.isPrefetchReached()) {
+                prefetch();
+            }
+            if (result.size() < keyGenerateCount) {
+                switchSegment(segment);
+            }
+        }
+        metrics.recordGenerated(keyGenerateCount);
+        return result;
+    }
+    
+    private void prefetch() {
+        if (null != nextSegment.get()) {
+            return;
+        }
+        FutureTask<KeySegment> task = new FutureTask<>(() -> lease(true));
+        if (!nextSegment.compareAndSet(null, task)) {
+            return;
+        }
+        try {
+            prefetchExecutor.execute(task);
+        } catch (final RejectedExecutionException ignored) {
+            nextSegment.compareAndSet(task, null);
+        }
+    }
+    
+    private synchronized void switchSegment(final KeySegment exhaustedSegment) throws SQLException {
+        if (currentSegment != exhaustedSegment) {
+            return;
+        }
+        Future<KeySegment> prefetched = nextSegment.getAndSet(null);
+        currentSegment = null == prefetched ? lease(false) : awaitPrefetched(prefetched);
+    }
+    
+    private KeySegment awaitPrefetched(final Future<KeySegment> prefetched) throws SQLException {
+        try {
+            return prefetched.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(String.format("Interrupted while waiting prefetched key segment of `%s`.", sequenceName), ex);
+        } catch (final ExecutionException ignored) {
+            return lease(false);
+        }
+    }
+    
+    private KeySegment lease(final boolean prefetched) throws SQLException {
+        try {
+            KeySegment result = leaser.lease(sequenceName);
+            metrics.recordLeased(prefetched);
+            return result;
+        } catch (final SQLException ex) {
+            metrics.recordFailed();
+            throw ex;
+        }
+    }
+}
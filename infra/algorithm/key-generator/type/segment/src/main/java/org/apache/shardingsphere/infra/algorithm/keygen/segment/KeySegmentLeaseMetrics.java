@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Key segment lease metrics.
+ */
+public final class KeySegmentLeaseMetrics {
+    
+    private final LongAdder leasedSegments = new LongAdder();
+    
+    private final LongAdder prefetchedSegments = new LongAdder();
+    
+    private final LongAdder blockingLeases = new LongAdder();
+    
+    private final LongAdder failedLeases = new LongAdder();
+    
+    private final LongAdder generatedKeys = new LongAdder();
+    
+    void recordLeased(final boolean prefetched) {
+        leasedSegments.increment();
+        if (prefetched) {
+            prefetchedSegments.increment();
+        } else {
+            blockingLeases.increment();
+        }
+    }
+    
+    void recordFailed() {
+        failedLeases.increment();
+    }
+    
+    void recordGenerated(final int keyCount) {
+        generatedKeys.add(keyCount);
+    }
+    
+    /**
+     * Get leased segment count.
+     * 
+     * @return leased segment count
+     */
+    public long getLeasedSegmentCount() {
+        return leasedSegments.sum();
+    }
+    
+    /**
+     * Get segment count leased by background prefetch.
+     * 
+     * @return prefetched segment count
+     */
+    public long getPrefetchedSegmentCount() {
+        return prefetchedSegments.sum();
+    }
+    
+    /**
+     * Get count of leases which blocked key generation.
+     * 
+     * @return blocking lease count
+     */
+    public long getBlockingLeaseCount() {
+        return blockingLeases.sum();
+    }
+    
+    /**
+     * Get failed lease count.
+     * 
+     * @return failed lease count
+     */
+    public long getFailedLeaseCount() {
+        return failedLeases.sum();
+    }
+    
+    /**
+     * Get generated key count.
+     * 
+     * @return generated key count
+     */
+    public long getGeneratedKeyCount() {
+        return generatedKeys.sum();
+    }
+}
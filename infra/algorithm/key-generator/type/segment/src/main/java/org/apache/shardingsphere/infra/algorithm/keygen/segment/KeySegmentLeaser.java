@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+
+/**
+ * Key segment leaser.
+ * 
+ * <p>Every lease advances {@code max_id} of the sequence row by one step in a local transaction, the leased segment is {@code [max_id - step + 1, max_id + 1)}.
+ * The sequence row is inserted by the first lease, and a concurrent first lease which fails with SQL state class {@code 23} advances the inserted row instead.</p>
+ */
+final class KeySegmentLeaser {
+    
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION_SQL_STATE_CLASS = "23";
+    
+    private final DataSource dataSource;
+    
+    private final String updateSQL;
+    
+    private final String insertSQL;
+    
+    private final String selectSQL;
+    
+    private final int step;
+    
+    private final double prefetchThreshold;
+    
+    KeySegmentLeaser(final DataSource dataSource, final String tableName, final int step, final double prefetchThreshold) {
+        this.dataSource = dataSource;
+        updateSQL = String.format("UPDATE %s SET max_id = max_id + ? WHERE sequence_name = ?", tableName);
+        insertSQL = String.format("INSERT INTO %s (sequence_name, max_id) VALUES (?, ?)", tableName);
+        selectSQL = String.format("SELECT max_id FROM %s WHERE sequence_name = ?", tableName);
+        this.step = step;
+        this.prefetchThreshold = prefetchThreshold;
+    }
+    
+    KeySegment lease(final String sequenceName) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                long maxId = leaseMaxId(connection, sequenceName);
+                connection.commit();
+                return new KeySegment(maxId - step + 1L, maxId + 1L, prefetchThreshold);
+            } catch (final SQLException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+    
+    private long leaseMaxId(final Connection connection, final String sequenceName) throws SQLException {
+        if (advanceMaxId(connection, sequenceName)) {
+            return loadMaxId(connection, sequenceName);
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement(insertSQL)) {
+            preparedStatement.setString(1, sequenceName);
+            preparedStatement.setLong(2, step);
+            preparedStatement.executeUpdate();
+            return step;
+        } catch (final SQLException ex) {
+            if (!isIntegrityConstraintViolation(ex)) {
+                throw ex;
+            }
+            connection.rollback();
+            advanceMaxId(connection, sequenceName);
+            return loadMaxId(connection, sequenceName);
+        }
+    }
+    
+    private boolean isIntegrityConstraintViolation(final SQLException ex) {
+        return ex instanceof SQLIntegrityConstraintViolationException || null != ex.getSQLState() && ex.getSQLState().startsWith(INTEGRITY_CONSTRAINT_VIOLATION_SQL_STATE_CLASS);
+    }
+    
+    private boolean advanceMaxId(final Connection connection, final String sequenceName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(updateSQL)) {
+            preparedStatement.setLong(1, step);
+            preparedStatement.setString(2, sequenceName);
+            return preparedStatement.executeUpdate() > 0;
+        }
+    }
+    
+    private long loadMaxId(final Connection connection, final String sequenceName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(selectSQL)) {
+            preparedStatement.setString(1, sequenceName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new SQLException(String.format("Key segment sequence `%s` does not exist.", sequenceName));
+                }
+                return resultSet.getLong(1);
+            }
+        }
+    }
+}
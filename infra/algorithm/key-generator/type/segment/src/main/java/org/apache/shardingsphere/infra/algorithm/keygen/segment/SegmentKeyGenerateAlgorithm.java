@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.algorithm.core.DataSourcesAware;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Segment key generate algorithm.
+ * 
+ * <p>Dense and monotonically increasing keys are taken from segments leased from a sequence table of the configured storage unit.
+ * The next segment is prefetched in background when the current one is used up to the prefetch threshold, so key generation seldom touches database and never depends on clock.
+ * Every algorithm instance prefetches with its own idle-expiring thread, so a slow storage unit only delays prefetch of sequences leased from it.
+ * The thread is shut down when the algorithm is closed together with the rule owning it.</p>
+ */
+public final class SegmentKeyGenerateAlgorithm implements KeyGenerateAlgorithm, DataSourcesAware, AutoCloseable {
+    
+    private static final String STORAGE_UNIT_KEY = "storage-unit";
+    
+    private static final String TABLE_NAME_KEY = "table-name";
+    
+    private static final String SEQUENCE_NAME_KEY = "sequence-name";
+    
+    private static final String STEP_KEY = "step";
+    
+    private static final String PREFETCH_THRESHOLD_KEY = "prefetch-threshold";
+    
+    private static final String DEFAULT_TABLE_NAME = "shardingsphere_key_segment";
+    
+    private static final int DEFAULT_STEP = 10000;
+    
+    private static final double DEFAULT_PREFETCH_THRESHOLD = 0.8D;
+    
+    private final Map<String, KeySegmentBuffer> buffers = new ConcurrentHashMap<>();
+    
+    @Getter
+    private final KeySegmentLeaseMetrics metrics = new KeySegmentLeaseMetrics();
+    
+    private String storageUnit;
+    
+    private String tableName;
+    
+    private String sequenceName;
+    
+    private int step;
+    
+    private double prefetchThreshold;
+    
+    private ExecutorService prefetchExecutor;
+    
+    private volatile KeySegmentLeaser leaser;
+    
+    @Override
+    public void init(final Properties props) {
+        storageUnit = props.getProperty(STORAGE_UNIT_KEY);
+        ShardingSpherePreconditions.checkState(!Strings.isNullOrEmpty(storageUnit), () -> new AlgorithmInitializationException(this, "%s can not be null or empty.", STORAGE_UNIT_KEY));
+        tableName = props.getProperty(TABLE_NAME_KEY, DEFAULT_TABLE_NAME);
+        sequenceName = props.getProperty(SEQUENCE_NAME_KEY);
+        step = getStep(props);
+        prefetchThreshold = getPrefetchThreshold(props);
+        prefetchExecutor = new ThreadPoolExecutor(0, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat(String.format("ShardingSphere-KeySegmentPrefetch-%s-%%d", storageUnit)).build());
+    }
+    
+    private int getStep(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(STEP_KEY, DEFAULT_STEP).toString());
+        ShardingSpherePreconditions.checkState(result > 0, () -> new AlgorithmInitializationException(this, "Illegal step."));
+        return result;
+    }
+    
+    private double getPrefetchThreshold(final Properties props) {
+        double result = Double.parseDouble(props.getOrDefault(PREFETCH_THRESHOLD_KEY, DEFAULT_PREFETCH_THRESHOLD).toString());
+        ShardingSpherePreconditions.checkState(result > 0D && result <= 1D, () -> new AlgorithmInitializationException(this, "Illegal prefetch threshold."));
+        return result;
+    }
+    
+    @Override
+    public void setDataSources(final Map<String, DataSource> dataSources) {
+        DataSource dataSource = dataSources.get(storageUnit);
+        leaser = null == dataSource ? null : new KeySegmentLeaser(dataSource, tableName, step, prefetchThreshold);
+        buffers.clear();
+    }
+    
+    @Override
+    public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
+        KeySegmentLeaser segmentLeaser = leaser;
+        ShardingSpherePreconditions.checkNotNull(segmentLeaser, () -> new AlgorithmExecuteException(this, "Can not find storage unit `%s`", storageUnit));
+        String actualSequenceName = getSequenceName(context);
+        KeySegmentBuffer buffer = buffers.computeIfAbsent(actualSequenceName, key -> new KeySegmentBuffer(key, segmentLeaser, prefetchExecutor, metrics));
+        try {
+            return buffer.nextKeys(keyGenerateCount);
+        } catch (final SQLException ex) {
+            throw new AlgorithmExecuteException(this, "Can not lease key segment of `%s`, %s", actualSequenceName, ex.getMessage());
+        }
+    }
+    
+    private String getSequenceName(final AlgorithmSQLContext context) {
+        if (null != sequenceName) {
+            return sequenceName;
+        }
+        ShardingSpherePreconditions.checkState(null != context && null != context.getTableName(),
+                () -> new AlgorithmExecuteException(this, "%s is required when logic table is absent", SEQUENCE_NAME_KEY));
+        return context.getTableName().toLowerCase();
+    }
+    
+    @Override
+    public void close() {
+        if (null != prefetchExecutor) {
+            prefetchExecutor.shutdown();
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "SEGMENT";
+    }
+}
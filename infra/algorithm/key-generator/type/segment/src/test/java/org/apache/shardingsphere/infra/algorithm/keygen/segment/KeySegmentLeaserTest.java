@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KeySegmentLeaserTest {
+    
+    @Mock
+    private DataSource dataSource;
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private PreparedStatement updateStatement;
+    
+    @Mock
+    private PreparedStatement insertStatement;
+    
+    private KeySegmentLeaser leaser;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement("UPDATE t_seq SET max_id = max_id + ? WHERE sequence_name = ?")).thenReturn(updateStatement);
+        when(connection.prepareStatement("INSERT INTO t_seq (sequence_name, max_id) VALUES (?, ?)")).thenReturn(insertStatement);
+        leaser = new KeySegmentLeaser(dataSource, "t_seq", 10, 1D);
+    }
+    
+    @Test
+    void assertLeaseWithConcurrentFirstLease() throws SQLException {
+        when(updateStatement.executeUpdate()).thenReturn(0, 1);
+        when(insertStatement.executeUpdate()).thenThrow(new SQLException("Duplicate key value violates unique constraint.", "23505"));
+        PreparedStatement selectStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT max_id FROM t_seq WHERE sequence_name = ?")).thenReturn(selectStatement);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(selectStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(20L);
+        Collection<Long> actual = new ArrayList<>(10);
+        leaser.lease("foo_seq").take(actual, 10);
+        assertThat(actual, is(Arrays.asList(11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L, 20L)));
+        verify(connection).rollback();
+        verify(connection).commit();
+        verify(connection).setAutoCommit(true);
+    }
+    
+    @Test
+    void assertLeaseWithInsertFailure() throws SQLException {
+        when(updateStatement.executeUpdate()).thenReturn(0);
+        when(insertStatement.executeUpdate()).thenThrow(new SQLException("Connection reset.", "08006"));
+        assertThrows(SQLException.class, () -> leaser.lease("foo_seq"));
+        verify(connection).rollback();
+        verify(connection).setAutoCommit(true);
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.awaitility.Awaitility;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SegmentKeyGenerateAlgorithmTest {
+    
+    private final JdbcDataSource dataSource = new JdbcDataSource();
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource.setURL("jdbc:h2:mem:segment_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL");
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE shardingsphere_key_segment (sequence_name VARCHAR(128) PRIMARY KEY, max_id BIGINT NOT NULL)");
+        }
+    }
+    
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE shardingsphere_key_segment");
+        }
+    }
+    
+    @Test
+    void assertGenerateKeys() {
+        SegmentKeyGenerateAlgorithm algorithm = createAlgorithm("10", "1");
+        assertThat(algorithm.generateKeys(createContext("t_order"), 3), is(createKeys(1L, 4L)));
+        assertThat(algorithm.generateKeys(createContext("t_order"), 15), is(createKeys(4L, 19L)));
+        assertThat(algorithm.generateKeys(createContext("T_ORDER"), 2), is(createKeys(19L, 21L)));
+        assertThat(algorithm.getMetrics().getGeneratedKeyCount(), is(20L));
+    }
+    
+    @Test
+    void assertGenerateKeysWithMultipleSequences() throws SQLException {
+        SegmentKeyGenerateAlgorithm algorithm = createAlgorithm("10", "1");
+        assertThat(algorithm.generateKeys(createContext("t_order"), 2), is(createKeys(1L, 3L)));
+        assertThat(algorithm.generateKeys(createContext("t_order_item"), 2), is(createKeys(1L, 3L)));
+        assertThat(loadMaxId("t_order"), is(10L));
+        assertThat(loadMaxId("t_order_item"), is(10L));
+    }
+    
+    @Test
+    void assertGenerateKeysWithConfiguredSequenceName() throws SQLException {
+        SegmentKeyGenerateAlgorithm algorithm = createAlgorithm(new Property("sequence-name", "foo_seq"), new Property("step", "10"));
+        assertThat(algorithm.generateKeys(createContext("t_order"), 2), is(createKeys(1L, 3L)));
+        assertThat(algorithm.generateKeys(createContext("t_order_item"), 2), is(createKeys(3L, 5L)));
+        assertThat(loadMaxId("foo_seq"), is(10L));
+    }
+    
+    @Test
+    void assertGenerateKeysWithLeasedSequenceFromAnotherInstance() {
+        createAlgorithm("10", "1").generateKeys(createContext("t_order"), 1);
+        assertThat(createAlgorithm("10", "1").generateKeys(createContext("t_order"), 2), is(createKeys(11L, 13L)));
+    }
+    
+    @Test
+    void assertPrefetchNextSegment() {
+        SegmentKeyGenerateAlgorithm algorithm = createAlgorithm("10", "0.5");
+        assertThat(algorithm.generateKeys(createContext("t_order"), 5), is(createKeys(1L, 6L)));
+        Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(() -> 1L == algorithm.getMetrics().getPrefetchedSegmentCount());
+        assertThat(algorithm.generateKeys(createContext("t_order"), 9), is(createKeys(6L, 15L)));
+        assertThat(algorithm.getMetrics().getBlockingLeaseCount(), is(1L));
+        assertThat(algorithm.getMetrics().getLeasedSegmentCount(), is(2L));
+    }
+    
+    @Test
+    void assertGenerateKeysAfterClose() {
+        SegmentKeyGenerateAlgorithm algorithm = createAlgorithm("10", "0.5");
+        algorithm.close();
+        assertThat(algorithm.generateKeys(createContext("t_order"), 15), is(createKeys(1L, 16L)));
+        assertThat(algorithm.getMetrics().getPrefetchedSegmentCount(), is(0L));
+        assertThat(algorithm.getMetrics().getBlockingLeaseCount(), is(2L));
+    }
+    
+    @Test
+    void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        SegmentKeyGenerateAlgorithm algorithm = createAlgorithm("100", "0.8");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Collection<Future<Collection<Long>>> futures = new ArrayList<>(64);
+        for (int i = 0; i < 64; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(createContext("t_order"), 50)));
+        }
+        Set<Long> actual = new HashSet<>(3200, 1F);
+        for (Future<Collection<Long>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(3200));
+        assertThat(algorithm.getMetrics().getFailedLeaseCount(), is(0L));
+    }
+    
+    @Test
+    void assertGenerateKeysWithConcurrentFirstLease() throws ExecutionException, InterruptedException, SQLException {
+        int instanceCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(instanceCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        Collection<Future<Collection<Long>>> futures = new ArrayList<>(instanceCount);
+        for (int i = 0; i < instanceCount; i++) {
+            SegmentKeyGenerateAlgorithm algorithm = createAlgorithm("10", "1");
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                return algorithm.generateKeys(createContext("t_order"), 10);
+            }));
+        }
+        startLatch.countDown();
+        Set<Long> actual = new HashSet<>(instanceCount * 10, 1F);
+        for (Future<Collection<Long>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual, is(LongStream.rangeClosed(1L, instanceCount * 10L).boxed().collect(Collectors.toSet())));
+        assertThat(loadMaxId("t_order"), is(instanceCount * 10L));
+    }
+    
+    @Test
+    void assertGenerateKeysWithoutStorageUnit() {
+        SegmentKeyGenerateAlgorithm algorithm = createAlgorithm();
+        algorithm.setDataSources(Collections.singletonMap("bar_ds", dataSource));
+        assertThrows(AlgorithmExecuteException.class, () -> algorithm.generateKeys(createContext("t_order"), 1));
+    }
+    
+    @Test
+    void assertGenerateKeysWithoutSequenceTable() throws SQLException {
+        tearDown();
+        try {
+            assertThrows(AlgorithmExecuteException.class, () -> createAlgorithm("10", "1").generateKeys(createContext("t_order"), 1));
+        } finally {
+            setUp();
+        }
+    }
+    
+    @Test
+    void assertInitWithoutStorageUnit() {
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", new Properties()));
+    }
+    
+    @Test
+    void assertInitWithIllegalStep() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("storage-unit", "foo_ds"), new Property("step", "0"))));
+    }
+    
+    @Test
+    void assertInitWithIllegalPrefetchThreshold() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("storage-unit", "foo_ds"), new Property("prefetch-threshold", "1.5"))));
+    }
+    
+    private SegmentKeyGenerateAlgorithm createAlgorithm(final String step, final String prefetchThreshold) {
+        return createAlgorithm(new Property("step", step), new Property("prefetch-threshold", prefetchThreshold));
+    }
+    
+    private SegmentKeyGenerateAlgorithm createAlgorithm(final Property... props) {
+        Properties algorithmProps = PropertiesBuilder.build(props);
+        algorithmProps.setProperty("storage-unit", "foo_ds");
+        SegmentKeyGenerateAlgorithm result = (SegmentKeyGenerateAlgorithm) TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", algorithmProps);
+        result.setDataSources(Collections.singletonMap("foo_ds", dataSource));
+        return result;
+    }
+    
+    private AlgorithmSQLContext createContext(final String tableName) {
+        return new AlgorithmSQLContext("foo_db", "foo_db", tableName, "order_id");
+    }
+    
+    private List<Long> createKeys(final long startKey, final long endKey) {
+        return LongStream.range(startKey, endKey).boxed().collect(Collectors.toList());
+    }
+    
+    private long loadMaxId(final String sequenceName) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(String.format("SELECT max_id FROM shardingsphere_key_segment WHERE sequence_name = '%s'", sequenceName))) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
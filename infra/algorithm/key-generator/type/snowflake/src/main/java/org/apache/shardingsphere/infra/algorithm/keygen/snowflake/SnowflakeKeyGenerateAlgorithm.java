@@ -31,7 +31,6 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -47,6 +46,8 @@ import java.util.concurrent.atomic.AtomicReference;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>The last timestamp and sequence are packed into one long, every call reserves a contiguous sequence range of it with a single CAS.</p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceContextAware {
     
@@ -56,6 +57,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLIS_KEY = "max-tolerate-time-difference-milliseconds";
     
+    private static final String MAX_BORROW_TIME_MILLIS_KEY = "max-borrow-time-milliseconds";
+    
     private static final long SEQUENCE_BITS = 12L;
     
     private static final long WORKER_ID_BITS = 10L;
@@ -70,6 +73,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLIS = 10;
     
+    private static final int MAX_BORROW_TIME_MILLIS = 0;
+    
     private static final int DEFAULT_WORKER_ID = 0;
     
     @Setter
@@ -79,9 +84,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
     
-    private final AtomicLong sequence = new AtomicLong();
-    
-    private final AtomicLong lastMillis = new AtomicLong();
+    private final AtomicLong lastMillisAndSequence = new AtomicLong();
     
     private Properties props;
     
@@ -89,6 +92,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private int maxTolerateTimeDifferenceMillis;
     
+    private int maxBorrowTimeMillis;
+    
     static {
         EPOCH = LocalDateTime.of(2016, 11, 1, 0, 0, 0).toInstant(ZoneId.systemDefault().getRules().getOffset(Instant.now())).toEpochMilli();
     }
@@ -98,6 +103,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         this.props = props;
         maxVibrationOffset = getMaxVibrationOffset(props);
         maxTolerateTimeDifferenceMillis = getMaxTolerateTimeDifferenceMillis(props);
+        maxBorrowTimeMillis = getMaxBorrowTimeMillis(props);
     }
     
     private int getMaxVibrationOffset(final Properties props) {
@@ -112,6 +118,12 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return result;
     }
     
+    private int getMaxBorrowTimeMillis(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(MAX_BORROW_TIME_MILLIS_KEY, MAX_BORROW_TIME_MILLIS).toString());
+        ShardingSpherePreconditions.checkState(result >= 0, () -> new AlgorithmInitializationException(this, "Illegal max borrow time milliseconds."));
+        return result;
+    }
+    
     @Override
     public void setInstanceContext(final InstanceContext instanceContext) {
         this.instanceContext.set(instanceContext);
@@ -122,55 +134,66 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     @Override
     public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
-        Collection<Long> result = new LinkedList<>();
-        for (int index = 0; index < keyGenerateCount; index++) {
-            result.add(generateKey());
+        long[] result = new long[keyGenerateCount];
+        long workerIdBits = (long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS;
+        int generatedCount = 0;
+        while (generatedCount < keyGenerateCount) {
+            generatedCount += reserveKeys(result, generatedCount, workerIdBits);
         }
-        return result;
+        return new ImmutableLongList(result);
     }
     
-    private synchronized Long generateKey() {
+    private int reserveKeys(final long[] keys, final int offset, final long workerIdBits) {
+        long current = lastMillisAndSequence.get();
+        long lastMillis = current >>> SEQUENCE_BITS;
+        long lastSequence = current & SEQUENCE_MASK;
         long currentMillis = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMillis)) {
-            currentMillis = timeService.getCurrentMillis();
+        long aheadMillis = lastMillis - currentMillis;
+        if (aheadMillis > maxBorrowTimeMillis) {
+            waitTolerateTimeDifference(lastMillis, currentMillis, aheadMillis - maxBorrowTimeMillis);
+            return 0;
         }
-        if (lastMillis.get() == currentMillis) {
-            sequence.set(sequence.incrementAndGet() & SEQUENCE_MASK);
-            if (0L == sequence.get()) {
-                currentMillis = waitUntilNextTime(currentMillis);
-            }
+        int lastSequenceOffset = sequenceOffset.get();
+        long millis;
+        long firstSequence;
+        if (aheadMillis < 0L) {
+            millis = currentMillis;
+            firstSequence = lastSequenceOffset >= maxVibrationOffset ? 0L : lastSequenceOffset + 1L;
+        } else if (lastSequence < SEQUENCE_MASK) {
+            millis = lastMillis;
+            firstSequence = lastSequence + 1L;
+        } else if (aheadMillis + 1L <= maxBorrowTimeMillis) {
+            millis = lastMillis + 1L;
+            firstSequence = 0L;
         } else {
-            vibrateSequenceOffset();
-            sequence.set(sequenceOffset.get());
+            waitUntilNextTime(aheadMillis + 1L - maxBorrowTimeMillis);
+            return 0;
+        }
+        int result = (int) Math.min(keys.length - offset, SEQUENCE_MASK - firstSequence + 1L);
+        long lastReservedSequence = firstSequence + result - 1L;
+        if (!lastMillisAndSequence.compareAndSet(current, millis << SEQUENCE_BITS | lastReservedSequence)) {
+            return 0;
+        }
+        if (aheadMillis < 0L) {
+            sequenceOffset.compareAndSet(lastSequenceOffset, (int) firstSequence);
         }
-        lastMillis.set(currentMillis);
-        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence.get();
+        long timestampBits = (millis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS;
+        for (int i = 0; i < result; i++) {
+            keys[offset + i] = timestampBits | workerIdBits | (firstSequence + i);
+        }
+        return result;
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMillis) {
-        if (lastMillis.get() <= currentMillis) {
-            return false;
-        }
-        long timeDifferenceMillis = lastMillis.get() - currentMillis;
+    private void waitTolerateTimeDifference(final long lastMillis, final long currentMillis, final long timeDifferenceMillis) {
         ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
-                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis.get(), currentMillis));
+                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis, currentMillis));
         Thread.sleep(timeDifferenceMillis);
-        return true;
-    }
-    
-    private long waitUntilNextTime(final long lastTime) {
-        long result = timeService.getCurrentMillis();
-        while (result <= lastTime) {
-            result = timeService.getCurrentMillis();
-        }
-        return result;
     }
     
-    private void vibrateSequenceOffset() {
-        if (!sequenceOffset.compareAndSet(maxVibrationOffset, 0)) {
-            sequenceOffset.incrementAndGet();
-        }
+    @SneakyThrows(InterruptedException.class)
+    private void waitUntilNextTime(final long waitMillis) {
+        Thread.sleep(waitMillis);
     }
     
     private int getWorkerId() {
@@ -96,7 +96,7 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof InstanceContextAware) {
             ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
         }
-        List<Comparable<?>> expected = Arrays.asList(0L, 4194305L, 4194306L, 8388608L, 8388609L, 12582913L, 12582914L, 16777216L, 16777217L, 20971521L);
+        List<Comparable<?>> expected = Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
         assertThat(actual, is(expected));
@@ -150,8 +150,8 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof InstanceContextAware) {
             ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis() + 2);
-        List<Comparable<?>> expected = Arrays.asList(4194304L, 8388609L, 8388610L, 12582912L, 12582913L, 16777217L, 16777218L, 20971520L, 20971521L, 25165825L);
+        setLastMillisAndSequence(algorithm, timeService.getCurrentMillis() + 2, 0L);
+        List<Comparable<?>> expected = Arrays.asList(8388609L, 8388610L, 8388611L, 8388612L, 8388613L, 8388614L, 8388615L, 8388616L, 8388617L, 8388618L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
         assertThat(actual, is(expected));
@@ -165,7 +165,7 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof InstanceContextAware) {
             ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis() + 2);
+        setLastMillisAndSequence(algorithm, timeService.getCurrentMillis() + 2, 0L);
         assertThrows(AlgorithmExecuteException.class, () -> batchGenerate(algorithm));
     }
     
@@ -181,22 +181,39 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof InstanceContextAware) {
             ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis());
-        setSequence(algorithm, (1 << DEFAULT_SEQUENCE_BITS) - 1L);
-        List<Comparable<?>> expected = Arrays.asList(4194304L, 4194305L, 4194306L, 8388608L, 8388609L, 8388610L, 12582913L, 12582914L, 12582915L, 16777216L);
+        setLastMillisAndSequence(algorithm, timeService.getCurrentMillis(), (1 << DEFAULT_SEQUENCE_BITS) - 1L);
+        List<Comparable<?>> expected = Arrays.asList(4194304L, 4194305L, 4194306L, 4194307L, 4194308L, 4194309L, 4194310L, 4194311L, 4194312L, 4194313L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
         assertThat(actual, is(expected));
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
-    private void setLastMillis(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillis"), algorithm, new AtomicLong(value.longValue()));
+    @Test
+    void assertGenerateKeyBeyondMaxSequencePerMilliSecondWithBorrowTime() {
+        TimeService timeService = new FixedTimeService(Integer.MAX_VALUE);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("max-borrow-time-milliseconds", "2")));
+        if (algorithm instanceof InstanceContextAware) {
+            ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
+        }
+        setLastMillisAndSequence(algorithm, timeService.getCurrentMillis(), (1 << DEFAULT_SEQUENCE_BITS) - 2L);
+        List<Comparable<?>> expected = Arrays.asList(4095L, 4194304L, 4194305L, 4194306L, 4194307L);
+        List<Comparable<?>> actual = new ArrayList<>(5);
+        actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 5));
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertGenerateKeysMoreThanMaxSequencePerMilliSecond() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        int keyGenerateCount = 10000;
+        assertThat(new HashSet<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), keyGenerateCount)).size(), is(keyGenerateCount));
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setSequence(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence"), algorithm, new AtomicLong(value.longValue()));
+    private void setLastMillisAndSequence(final KeyGenerateAlgorithm algorithm, final long lastMillis, final long sequence) {
+        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillisAndSequence"), algorithm, new AtomicLong(lastMillis << DEFAULT_SEQUENCE_BITS | sequence));
     }
     
     @Test
@@ -235,6 +252,13 @@ class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(((Properties) Plugins.getMemberAccessor().get(algorithm.getClass().getDeclaredField("props"), algorithm)).getProperty("max-tolerate-time-difference-milliseconds"), is("1"));
     }
     
+    @Test
+    void assertMaxBorrowTimeMillisecondsWhenNegative() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("max-borrow-time-milliseconds", "-1")))
+                        .generateKeys(mock(AlgorithmSQLContext.class), 1));
+    }
+    
     @Test
     void assertMaxTolerateTimeDifferenceMillisecondsWhenNegative() {
         assertThrows(AlgorithmInitializationException.class,
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.outstanding;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Execution statistics of data source.
+ */
+public final class DataSourceExecutionStatistics {
+    
+    private static final double DECAY_FACTOR = 0.2D;
+    
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+    
+    private final AtomicLong latencyEWMABits = new AtomicLong(Double.doubleToLongBits(0D));
+    
+    /**
+     * Start request.
+     */
+    public void startRequest() {
+        outstandingRequests.incrementAndGet();
+    }
+    
+    /**
+     * Finish request.
+     */
+    public void finishRequest() {
+        outstandingRequests.decrementAndGet();
+    }
+    
+    /**
+     * Record latency of request.
+     *
+     * @param latencyNanos latency in nanoseconds, includes execution and result fetch
+     */
+    public void recordLatency(final long latencyNanos) {
+        long current;
+        long updated;
+        do {
+            current = latencyEWMABits.get();
+            double ewma = Double.longBitsToDouble(current);
+            updated = Double.doubleToLongBits(0D == ewma ? latencyNanos : ewma + DECAY_FACTOR * (latencyNanos - ewma));
+        } while (!latencyEWMABits.compareAndSet(current, updated));
+    }
+    
+    /**
+     * Get outstanding requests.
+     *
+     * @return outstanding requests
+     */
+    public int getOutstandingRequests() {
+        return outstandingRequests.get();
+    }
+    
+    /**
+     * Get exponentially weighted moving average of latency.
+     *
+     * @return latency EWMA in nanoseconds, 0 if no request finished
+     */
+    public double getLatencyEWMA() {
+        return Double.longBitsToDouble(latencyEWMABits.get());
+    }
+    
+    /**
+     * Get score, the lower the better.
+     *
+     * @return score
+     */
+    public double getScore() {
+        return (Math.max(outstandingRequests.get(), 0) + 1) * Math.max(getLatencyEWMA(), 1D);
+    }
+}
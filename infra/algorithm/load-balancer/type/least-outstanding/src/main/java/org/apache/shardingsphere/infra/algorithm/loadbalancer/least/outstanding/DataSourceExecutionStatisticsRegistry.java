@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.outstanding;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data source execution statistics registry.
+ *
+ * <p>Statistics are keyed by data source instance of storage unit, so storage units with same name in different databases do not share statistics.
+ * Statistics are registered by load balance algorithms which use them and dropped when the last of them is closed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceExecutionStatisticsRegistry {
+    
+    private static final Map<DataSource, RegisteredStatistics> STATISTICS = new ConcurrentHashMap<>();
+    
+    /**
+     * Register execution statistics of data source.
+     *
+     * @param dataSource data source of storage unit
+     * @return execution statistics
+     */
+    public static DataSourceExecutionStatistics register(final DataSource dataSource) {
+        return STATISTICS.compute(dataSource, (key, value) -> null == value ? new RegisteredStatistics(new DataSourceExecutionStatistics(), 1) : value.retain()).statistics;
+    }
+    
+    /**
+     * Unregister execution statistics of data source.
+     *
+     * @param dataSource data source of storage unit
+     */
+    public static void unregister(final DataSource dataSource) {
+        STATISTICS.computeIfPresent(dataSource, (key, value) -> value.release());
+    }
+    
+    /**
+     * Find execution statistics of data source.
+     *
+     * @param dataSource data source of storage unit
+     * @return execution statistics, empty if no load balance algorithm uses the data source
+     */
+    public static Optional<DataSourceExecutionStatistics> find(final DataSource dataSource) {
+        RegisteredStatistics result = STATISTICS.get(dataSource);
+        return null == result ? Optional.empty() : Optional.of(result.statistics);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class RegisteredStatistics {
+        
+        private final DataSourceExecutionStatistics statistics;
+        
+        private final int referenceCount;
+        
+        private RegisteredStatistics retain() {
+            return new RegisteredStatistics(statistics, referenceCount + 1);
+        }
+        
+        private RegisteredStatistics release() {
+            return 1 == referenceCount ? null : new RegisteredStatistics(statistics, referenceCount - 1);
+        }
+    }
+}
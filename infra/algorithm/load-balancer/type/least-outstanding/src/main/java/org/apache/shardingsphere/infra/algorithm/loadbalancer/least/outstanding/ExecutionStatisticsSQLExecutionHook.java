@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.outstanding;
+
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * SQL execution hook to collect execution statistics of data sources for load balance.
+ *
+ * <p>Only data sources registered by least outstanding load balance algorithms are collected, others are skipped.</p>
+ */
+public final class ExecutionStatisticsSQLExecutionHook implements SQLExecutionHook {
+    
+    private DataSourceExecutionStatistics statistics;
+    
+    private long startTimeNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+    }
+    
+    @Override
+    public void start(final DataSource dataSource, final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        statistics = DataSourceExecutionStatisticsRegistry.find(dataSource).orElse(null);
+        if (null == statistics) {
+            return;
+        }
+        statistics.startRequest();
+        startTimeNanos = System.nanoTime();
+    }
+    
+    @Override
+    public void finishSuccess() {
+        if (null != statistics) {
+            statistics.finishRequest();
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        if (null == statistics) {
+            return;
+        }
+        statistics.finishRequest();
+        finishFetch();
+    }
+    
+    @Override
+    public void finishFetch() {
+        if (null == statistics) {
+            return;
+        }
+        statistics.recordLatency(System.nanoTime() - startTimeNanos);
+        statistics = null;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.outstanding;
+
+import org.apache.shardingsphere.infra.algorithm.core.DataSourcesAware;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Least outstanding load balance algorithm.
+ *
+ * <p>Target is scored by its outstanding requests and EWMA of execution latency.
+ * Two targets are sampled randomly and the one with lower score is chosen, which avoids herding on one target and keeps selection constant time.</p>
+ */
+public final class LeastOutstandingLoadBalanceAlgorithm implements LoadBalanceAlgorithm, DataSourcesAware, AutoCloseable {
+    
+    private final Map<String, DataSource> dataSources = new ConcurrentHashMap<>();
+    
+    private final Map<String, DataSourceExecutionStatistics> statistics = new ConcurrentHashMap<>();
+    
+    @Override
+    public void setDataSources(final Map<String, DataSource> dataSources) {
+        for (Entry<String, DataSource> entry : dataSources.entrySet()) {
+            statistics.put(entry.getKey(), DataSourceExecutionStatisticsRegistry.register(entry.getValue()));
+            DataSource previous = this.dataSources.put(entry.getKey(), entry.getValue());
+            if (null != previous) {
+                DataSourceExecutionStatisticsRegistry.unregister(previous);
+            }
+        }
+    }
+    
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        int size = availableTargetNames.size();
+        if (1 == size) {
+            return availableTargetNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String firstTargetName = availableTargetNames.get(firstIndex);
+        String secondTargetName = availableTargetNames.get(secondIndex);
+        return getScore(firstTargetName) <= getScore(secondTargetName) ? firstTargetName : secondTargetName;
+    }
+    
+    private double getScore(final String targetName) {
+        DataSourceExecutionStatistics result = statistics.get(targetName);
+        return null == result ? 0D : result.getScore();
+    }
+    
+    @Override
+    public void close() {
+        dataSources.values().forEach(DataSourceExecutionStatisticsRegistry::unregister);
+        dataSources.clear();
+        statistics.clear();
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_OUTSTANDING";
+    }
+}
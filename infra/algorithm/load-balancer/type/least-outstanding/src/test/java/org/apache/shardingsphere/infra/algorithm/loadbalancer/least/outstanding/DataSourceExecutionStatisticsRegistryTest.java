@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.outstanding;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class DataSourceExecutionStatisticsRegistryTest {
+    
+    @Test
+    void assertFindWithoutRegister() {
+        assertFalse(DataSourceExecutionStatisticsRegistry.find(mock(DataSource.class)).isPresent());
+    }
+    
+    @Test
+    void assertRegisterWithDifferentDataSources() {
+        DataSource dataSource0 = mock(DataSource.class);
+        DataSource dataSource1 = mock(DataSource.class);
+        DataSourceExecutionStatistics actual = DataSourceExecutionStatisticsRegistry.register(dataSource0);
+        actual.startRequest();
+        assertThat(DataSourceExecutionStatisticsRegistry.register(dataSource1).getOutstandingRequests(), is(0));
+        DataSourceExecutionStatisticsRegistry.unregister(dataSource0);
+        DataSourceExecutionStatisticsRegistry.unregister(dataSource1);
+    }
+    
+    @Test
+    void assertUnregisterWithReferenceCount() {
+        DataSource dataSource = mock(DataSource.class);
+        DataSourceExecutionStatistics expected = DataSourceExecutionStatisticsRegistry.register(dataSource);
+        assertThat(DataSourceExecutionStatisticsRegistry.register(dataSource), sameInstance(expected));
+        DataSourceExecutionStatisticsRegistry.unregister(dataSource);
+        assertTrue(DataSourceExecutionStatisticsRegistry.find(dataSource).isPresent());
+        DataSourceExecutionStatisticsRegistry.unregister(dataSource);
+        assertFalse(DataSourceExecutionStatisticsRegistry.find(dataSource).isPresent());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.outstanding;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ExecutionStatisticsSQLExecutionHookTest {
+    
+    @Test
+    void assertExecuteWithUnregisteredDataSource() {
+        DataSource dataSource = mock(DataSource.class);
+        ExecutionStatisticsSQLExecutionHook hook = new ExecutionStatisticsSQLExecutionHook();
+        hook.start(dataSource, "ds", "SELECT 1", Collections.emptyList(), null, true);
+        hook.finishSuccess();
+        hook.finishFetch();
+        assertFalse(DataSourceExecutionStatisticsRegistry.find(dataSource).isPresent());
+    }
+    
+    @Test
+    void assertExecuteWithRegisteredDataSource() {
+        DataSource dataSource = mock(DataSource.class);
+        DataSourceExecutionStatistics statistics = DataSourceExecutionStatisticsRegistry.register(dataSource);
+        ExecutionStatisticsSQLExecutionHook hook = new ExecutionStatisticsSQLExecutionHook();
+        hook.start(dataSource, "ds", "SELECT 1", Collections.emptyList(), null, true);
+        assertThat(statistics.getOutstandingRequests(), is(1));
+        hook.finishSuccess();
+        assertThat(statistics.getOutstandingRequests(), is(0));
+        assertThat(statistics.getLatencyEWMA(), is(0D));
+        hook.finishFetch();
+        assertTrue(statistics.getLatencyEWMA() > 0D);
+        DataSourceExecutionStatisticsRegistry.unregister(dataSource);
+    }
+    
+    @Test
+    void assertExecuteFailureWithRegisteredDataSource() {
+        DataSource dataSource = mock(DataSource.class);
+        DataSourceExecutionStatistics statistics = DataSourceExecutionStatisticsRegistry.register(dataSource);
+        ExecutionStatisticsSQLExecutionHook hook = new ExecutionStatisticsSQLExecutionHook();
+        hook.start(dataSource, "ds", "SELECT 1", Collections.emptyList(), null, true);
+        hook.finishFailure(new Exception(""));
+        assertThat(statistics.getOutstandingRequests(), is(0));
+        assertTrue(statistics.getLatencyEWMA() > 0D);
+        DataSourceExecutionStatisticsRegistry.unregister(dataSource);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.outstanding;
+
+import org.apache.shardingsphere.infra.algorithm.core.DataSourcesAware;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class LeastOutstandingLoadBalanceAlgorithmTest {
+    
+    @Test
+    void assertGetTargetNameWithOneTarget() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_OUTSTANDING", new Properties());
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Collections.singletonList("single_ds")), is("single_ds"));
+    }
+    
+    @Test
+    void assertGetTargetNameWithLessOutstandingRequests() {
+        DataSource busyDataSource = mock(DataSource.class);
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(busyDataSource, mock(DataSource.class));
+        DataSourceExecutionStatistics busyStatistics = DataSourceExecutionStatisticsRegistry.find(busyDataSource).orElseThrow(IllegalStateException::new);
+        busyStatistics.startRequest();
+        busyStatistics.startRequest();
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("read_ds_0", "read_ds_1")), is("read_ds_1"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameWithLowerLatency() {
+        DataSource slowDataSource = mock(DataSource.class);
+        DataSource fastDataSource = mock(DataSource.class);
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(slowDataSource, fastDataSource);
+        DataSourceExecutionStatisticsRegistry.find(slowDataSource).orElseThrow(IllegalStateException::new).recordLatency(1000000L);
+        DataSourceExecutionStatisticsRegistry.find(fastDataSource).orElseThrow(IllegalStateException::new).recordLatency(1000L);
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("read_ds_0", "read_ds_1")), is("read_ds_1"));
+        }
+    }
+    
+    @Test
+    void assertClose() {
+        DataSource dataSource0 = mock(DataSource.class);
+        DataSource dataSource1 = mock(DataSource.class);
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(dataSource0, dataSource1);
+        assertTrue(DataSourceExecutionStatisticsRegistry.find(dataSource0).isPresent());
+        ((LeastOutstandingLoadBalanceAlgorithm) loadBalanceAlgorithm).close();
+        assertFalse(DataSourceExecutionStatisticsRegistry.find(dataSource0).isPresent());
+        assertFalse(DataSourceExecutionStatisticsRegistry.find(dataSource1).isPresent());
+    }
+    
+    @Test
+    void assertRecordLatencyUpdatesLatencyEWMA() {
+        DataSourceExecutionStatistics statistics = new DataSourceExecutionStatistics();
+        statistics.startRequest();
+        statistics.finishRequest();
+        statistics.recordLatency(100L);
+        assertThat(statistics.getLatencyEWMA(), is(100D));
+        statistics.startRequest();
+        statistics.finishRequest();
+        statistics.recordLatency(200L);
+        assertThat(statistics.getLatencyEWMA(), is(120D));
+        assertThat(statistics.getOutstandingRequests(), is(0));
+    }
+    
+    private LoadBalanceAlgorithm createLoadBalanceAlgorithm(final DataSource dataSource0, final DataSource dataSource1) {
+        LoadBalanceAlgorithm result = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_OUTSTANDING", new Properties());
+        Map<String, DataSource> dataSources = new LinkedHashMap<>(2, 1F);
+        dataSources.put("read_ds_0", dataSource0);
+        dataSources.put("read_ds_1", dataSource1);
+        ((DataSourcesAware) result).setDataSources(dataSources);
+        return result;
+    }
+}
@@ -64,6 +64,31 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Local directory of table meta data snapshots, snapshot is disabled if empty.
+     */
+    METADATA_SNAPSHOT_DIRECTORY("metadata-snapshot-directory", "", String.class, true),
+    
+    /**
+     * Max actual table size of each batch when loading table meta data.
+     */
+    METADATA_LOAD_TABLE_BATCH_SIZE("metadata-load-table-batch-size", String.valueOf(500), int.class, false),
+    
+    /**
+     * Max concurrent tasks of each storage unit when loading table meta data.
+     */
+    METADATA_LOAD_MAX_CONCURRENCY_PER_STORAGE_UNIT("metadata-load-max-concurrency-per-storage-unit", String.valueOf(4), int.class, false),
+    
+    /**
+     * Federation scan prefetch size for each shard. Less than or equal to 0 means no prefetch.
+     */
+    FEDERATION_SCAN_PREFETCH_SIZE("federation-scan-prefetch-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether enable SQL federation execution plan cache, literals compared with columns are parameterized to share cached plans.
+     */
+    FEDERATION_EXECUTION_PLAN_CACHE_ENABLED("federation-execution-plan-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -80,6 +105,13 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Max size of idle prepared statements cached per Proxy connection in transaction for ShardingSphere-Proxy.
+     * Cached prepared statements are reused across commands in transaction and closed when the transaction releases backend connections.
+     * The default value is 0, which means prepared statements are closed after execution.
+     */
+    PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE("proxy-backend-prepared-statement-cache-size", String.valueOf(0), int.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
@@ -120,6 +152,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_SSL_CIPHER("proxy-frontend-ssl-cipher", "", String.class, true),
     
+    /**
+     * Proxy frontend compressed protocol enabled.
+     */
+    PROXY_FRONTEND_COMPRESSION_ENABLED("proxy-frontend-compression-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Minimum bytes of outbound data to be compressed for proxy frontend compressed protocol.
+     */
+    PROXY_FRONTEND_COMPRESSION_THRESHOLD("proxy-frontend-compression-threshold", String.valueOf(50), int.class, false),
+    
+    /**
+     * Whether to normalize literals of text protocol DML to parameters, so that parsed statements can be cached by SQL shape.
+     */
+    PROXY_TEXT_PROTOCOL_LITERAL_NORMALIZATION_ENABLED("proxy-text-protocol-literal-normalization-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Agent plugins enabled.
      */
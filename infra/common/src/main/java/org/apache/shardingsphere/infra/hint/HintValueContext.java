@@ -52,6 +52,8 @@ public final class HintValueContext {
     
     private boolean shadow;
     
+    private long maxReplicationLagMilliseconds = -1L;
+    
     /**
      * Find hint data source name.
      *
@@ -61,6 +63,15 @@ public final class HintValueContext {
         return dataSourceName.isEmpty() ? Optional.empty() : Optional.of(dataSourceName);
     }
     
+    /**
+     * Find hint max replication lag milliseconds.
+     *
+     * @return max replication lag milliseconds
+     */
+    public Optional<Long> findMaxReplicationLagMilliseconds() {
+        return maxReplicationLagMilliseconds < 0L ? Optional.empty() : Optional.of(maxReplicationLagMilliseconds);
+    }
+    
     /**
      * Judge contains hint sharding databases value or not.
      *
@@ -66,7 +66,12 @@ public enum SQLHintPropertiesKey implements TypedPropertyKey {
     /**
      * Whether to use shadow or not.
      */
-    SHADOW_KEY("SHADOW", "shadow", String.valueOf(Boolean.FALSE), boolean.class);
+    SHADOW_KEY("SHADOW", "shadow", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Hint max replication lag milliseconds of read data sources.
+     */
+    MAX_REPLICATION_LAG_MILLISECONDS_KEY("MAX_REPLICATION_LAG_MILLISECONDS", "maxReplicationLagMilliseconds", "", long.class);
     
     private final String key;
     
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.hint;
 
 import com.google.common.base.Splitter;
+import com.google.common.primitives.Longs;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -78,6 +79,12 @@ public final class SQLHintUtils {
         if (containsPropertyKey(hintProps, SQLHintPropertiesKey.SHADOW_KEY)) {
             result.setShadow(Boolean.parseBoolean(getProperty(hintProps, SQLHintPropertiesKey.SHADOW_KEY)));
         }
+        if (containsPropertyKey(hintProps, SQLHintPropertiesKey.MAX_REPLICATION_LAG_MILLISECONDS_KEY)) {
+            Long maxReplicationLagMilliseconds = Longs.tryParse(getPropertyValue(hintProps, SQLHintPropertiesKey.MAX_REPLICATION_LAG_MILLISECONDS_KEY));
+            if (null != maxReplicationLagMilliseconds) {
+                result.setMaxReplicationLagMilliseconds(maxReplicationLagMilliseconds);
+            }
+        }
         for (Entry<Object, Object> entry : hintProps.entrySet()) {
             Comparable<?> value = entry.getValue() instanceof Comparable ? (Comparable<?>) entry.getValue() : Objects.toString(entry.getValue());
             if (containsPropertyKey(Objects.toString(entry.getKey()), SQLHintPropertiesKey.SHARDING_DATABASE_VALUE_KEY)) {
@@ -153,6 +160,10 @@ public final class SQLHintUtils {
         return null == result ? hintProps.getProperty(sqlHintPropsKey.getAlias()) : result;
     }
     
+    private static String getPropertyValue(final Properties hintProps, final SQLHintPropertiesKey sqlHintPropsKey) {
+        return Objects.toString(hintProps.containsKey(sqlHintPropsKey.getKey()) ? hintProps.get(sqlHintPropsKey.getKey()) : hintProps.get(sqlHintPropsKey.getAlias()));
+    }
+    
     private static Collection<String> getSplitterSQLHintValue(final String property) {
         return property.isEmpty() ? Collections.emptySet() : new HashSet<>(Splitter.on(SQLHintUtils.SQL_HINT_VALUE_COLLECTION_SPLIT).omitEmptyStrings().trimResults().splitToList(property));
     }
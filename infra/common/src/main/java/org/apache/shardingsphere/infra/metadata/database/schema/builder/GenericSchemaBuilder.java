@@ -95,7 +95,10 @@ public final class GenericSchemaBuilder {
     private static Map<String, SchemaMetaData> loadSchemas(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) throws SQLException {
         boolean checkMetaDataEnable = material.getProps().getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED);
         Collection<MetaDataLoaderMaterial> materials = SchemaMetaDataUtils.getMetaDataLoaderMaterials(tableNames, material, checkMetaDataEnable);
-        return materials.isEmpty() ? Collections.emptyMap() : MetaDataLoader.load(materials);
+        return materials.isEmpty()
+                ? Collections.emptyMap()
+                : MetaDataLoader.load(materials, material.getProps().getValue(ConfigurationPropertyKey.METADATA_LOAD_TABLE_BATCH_SIZE),
+                        material.getProps().getValue(ConfigurationPropertyKey.METADATA_LOAD_MAX_CONCURRENCY_PER_STORAGE_UNIT));
     }
     
     private static Map<String, SchemaMetaData> translate(final Map<String, SchemaMetaData> schemaMetaDataMap, final GenericSchemaBuilderMaterial material) {
@@ -43,6 +43,11 @@ class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
         assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_DIRECTORY), is("/tmp/snapshot"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_LOAD_TABLE_BATCH_SIZE), is(100));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_LOAD_MAX_CONCURRENCY_PER_STORAGE_UNIT), is(2));
+        assertThat(actual.getValue(ConfigurationPropertyKey.FEDERATION_SCAN_PREFETCH_SIZE), is(20));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.FEDERATION_EXECUTION_PLAN_CACHE_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL")));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(20));
@@ -61,6 +66,11 @@ class ConfigurationPropertiesTest {
                 new Property(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString()),
+                new Property(ConfigurationPropertyKey.METADATA_SNAPSHOT_DIRECTORY.getKey(), "/tmp/snapshot"),
+                new Property(ConfigurationPropertyKey.METADATA_LOAD_TABLE_BATCH_SIZE.getKey(), "100"),
+                new Property(ConfigurationPropertyKey.METADATA_LOAD_MAX_CONCURRENCY_PER_STORAGE_UNIT.getKey(), "2"),
+                new Property(ConfigurationPropertyKey.FEDERATION_SCAN_PREFETCH_SIZE.getKey(), "20"),
+                new Property(ConfigurationPropertyKey.FEDERATION_EXECUTION_PLAN_CACHE_ENABLED.getKey(), Boolean.TRUE.toString()),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE.getKey(), "PostgreSQL"),
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE.getKey(), "20"),
@@ -80,6 +90,11 @@ class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
         assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_DIRECTORY), is(""));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_LOAD_TABLE_BATCH_SIZE), is(500));
+        assertThat(actual.getValue(ConfigurationPropertyKey.METADATA_LOAD_MAX_CONCURRENCY_PER_STORAGE_UNIT), is(4));
+        assertThat(actual.getValue(ConfigurationPropertyKey.FEDERATION_SCAN_PREFETCH_SIZE), is(0));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.FEDERATION_EXECUTION_PLAN_CACHE_ENABLED));
         assertNull(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_FETCH_SIZE), is(-1));
@@ -22,9 +22,11 @@ import org.junit.jupiter.api.Test;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SQLHintUtilsTest {
@@ -35,6 +37,18 @@ class SQLHintUtilsTest {
         assertTrue(actual.isWriteRouteOnly());
     }
     
+    @Test
+    void assertSQLHintMaxReplicationLagMilliseconds() {
+        HintValueContext actual = SQLHintUtils.extractHint("/* SHARDINGSPHERE_HINT: MAX_REPLICATION_LAG_MILLISECONDS=500 */");
+        assertThat(actual.findMaxReplicationLagMilliseconds(), is(Optional.of(500L)));
+    }
+    
+    @Test
+    void assertSQLHintWithInvalidMaxReplicationLagMilliseconds() {
+        HintValueContext actual = SQLHintUtils.extractHint("/* SHARDINGSPHERE_HINT: MAX_REPLICATION_LAG_MILLISECONDS=a */");
+        assertFalse(actual.findMaxReplicationLagMilliseconds().isPresent());
+    }
+    
     @Test
     void assertSQLHintSkipSQLRewrite() {
         HintValueContext actual = SQLHintUtils.extractHint("/* SHARDINGSPHERE_HINT: SKIP_SQL_REWRITE=true */");
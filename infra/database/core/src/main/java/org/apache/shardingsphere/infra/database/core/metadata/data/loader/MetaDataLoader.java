@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.database.core.metadata.data.loader;
 
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -27,19 +29,25 @@ import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMe
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
 
+import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Meta data loader.
@@ -54,19 +62,33 @@ public final class MetaDataLoader {
     /**
      * Load meta data.
      *
+     * <p>Actual tables of each material are loaded in batches, and batches of the same storage unit are loaded by limited concurrent tasks.</p>
+     *
      * @param materials meta data loader materials
+     * @param tableBatchSize max actual table size of each batch
+     * @param maxConcurrencyPerStorageUnit max concurrent loading tasks of each storage unit
      * @return meta data map
      * @throws SQLException SQL exception
      */
-    public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
-        Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
-        Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
-        for (MetaDataLoaderMaterial each : materials) {
-            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+    public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials, final int tableBatchSize, final int maxConcurrencyPerStorageUnit) throws SQLException {
+        Preconditions.checkArgument(tableBatchSize > 0, "Table batch size must be positive.");
+        Preconditions.checkArgument(maxConcurrencyPerStorageUnit > 0, "Max concurrency per storage unit must be positive.");
+        List<MetaDataLoaderMaterial> batches = splitBatches(materials, tableBatchSize);
+        AtomicReferenceArray<Collection<SchemaMetaData>> loadedSchemaMetaData = new AtomicReferenceArray<>(batches.size());
+        Collection<Future<?>> futures = new LinkedList<>();
+        for (Queue<Integer> each : groupBatchIndexesByDataSource(batches).values()) {
+            int concurrency = Math.min(maxConcurrencyPerStorageUnit, each.size());
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(EXECUTOR_SERVICE.submit(() -> {
+                    loadBatches(batches, each, loadedSchemaMetaData);
+                    return null;
+                }));
+            }
         }
+        Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
         try {
-            for (Future<Collection<SchemaMetaData>> each : futures) {
-                merge(result, each.get());
+            for (Future<?> each : futures) {
+                each.get();
             }
         } catch (final InterruptedException ex) {
             Thread.currentThread().interrupt();
@@ -76,9 +98,44 @@ public final class MetaDataLoader {
             }
             throw new UnknownSQLException(ex).toSQLException();
         }
+        for (int i = 0; i < loadedSchemaMetaData.length(); i++) {
+            if (null != loadedSchemaMetaData.get(i)) {
+                merge(result, loadedSchemaMetaData.get(i));
+            }
+        }
+        return result;
+    }
+    
+    private static List<MetaDataLoaderMaterial> splitBatches(final Collection<MetaDataLoaderMaterial> materials, final int tableBatchSize) {
+        List<MetaDataLoaderMaterial> result = new ArrayList<>(materials.size());
+        for (MetaDataLoaderMaterial each : materials) {
+            if (each.getActualTableNames().size() <= tableBatchSize) {
+                result.add(each);
+                continue;
+            }
+            for (List<String> actualTableNames : Lists.partition(new ArrayList<>(each.getActualTableNames()), tableBatchSize)) {
+                result.add(new MetaDataLoaderMaterial(actualTableNames, each.getDataSource(), each.getStorageType(), each.getDefaultSchemaName()));
+            }
+        }
         return result;
     }
     
+    private static Map<DataSource, Queue<Integer>> groupBatchIndexesByDataSource(final List<MetaDataLoaderMaterial> batches) {
+        Map<DataSource, Queue<Integer>> result = new LinkedHashMap<>();
+        for (int i = 0; i < batches.size(); i++) {
+            result.computeIfAbsent(batches.get(i).getDataSource(), key -> new ConcurrentLinkedQueue<>()).add(i);
+        }
+        return result;
+    }
+    
+    private static void loadBatches(final List<MetaDataLoaderMaterial> batches, final Queue<Integer> batchIndexes,
+                                    final AtomicReferenceArray<Collection<SchemaMetaData>> loadedSchemaMetaData) throws SQLException {
+        Integer batchIndex;
+        while (null != (batchIndex = batchIndexes.poll())) {
+            loadedSchemaMetaData.set(batchIndex, load(batches.get(batchIndex)));
+        }
+    }
+    
     private static Collection<SchemaMetaData> load(final MetaDataLoaderMaterial material) throws SQLException {
         Optional<DialectMetaDataLoader> dialectLoader = DatabaseTypedSPILoader.findService(DialectMetaDataLoader.class, material.getStorageType());
         if (dialectLoader.isPresent()) {
@@ -92,10 +149,9 @@ public final class MetaDataLoader {
     }
     
     private static Collection<SchemaMetaData> loadByDefault(final MetaDataLoaderMaterial material) throws SQLException {
-        Collection<TableMetaData> tableMetaData = new LinkedList<>();
-        for (String each : material.getActualTableNames()) {
-            TableMetaDataLoader.load(material.getDataSource(), each, material.getStorageType()).ifPresent(tableMetaData::add);
-        }
+        Collection<TableMetaData> tableMetaData = material.getActualTableNames().isEmpty()
+                ? new LinkedList<>()
+                : TableMetaDataLoader.load(material.getDataSource(), material.getActualTableNames(), material.getStorageType());
         return Collections.singletonList(new SchemaMetaData(material.getDefaultSchemaName(), tableMetaData));
     }
     
@@ -29,7 +29,9 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.Optional;
 
 /**
@@ -50,14 +52,39 @@ public final class TableMetaDataLoader {
     public static Optional<TableMetaData> load(final DataSource dataSource, final String tableNamePattern, final DatabaseType databaseType) throws SQLException {
         DialectDatabaseMetaData dialectDatabaseMetaData = new DatabaseTypeRegistry(databaseType).getDialectDatabaseMetaData();
         try (MetaDataLoaderConnection connection = new MetaDataLoaderConnection(databaseType, dataSource.getConnection())) {
-            String formattedTableNamePattern = dialectDatabaseMetaData.formatTableNamePattern(tableNamePattern);
-            return isTableExist(connection, formattedTableNamePattern)
-                    ? Optional.of(new TableMetaData(tableNamePattern, ColumnMetaDataLoader.load(
-                            connection, formattedTableNamePattern, databaseType), IndexMetaDataLoader.load(connection, formattedTableNamePattern), Collections.emptyList()))
-                    : Optional.empty();
+            return load(connection, tableNamePattern, dialectDatabaseMetaData, databaseType);
         }
     }
     
+    /**
+     * Load table meta data with one connection.
+     *
+     * @param dataSource data source
+     * @param tableNamePatterns table name patterns
+     * @param databaseType database type
+     * @return table meta data
+     * @throws SQLException SQL exception
+     */
+    public static Collection<TableMetaData> load(final DataSource dataSource, final Collection<String> tableNamePatterns, final DatabaseType databaseType) throws SQLException {
+        DialectDatabaseMetaData dialectDatabaseMetaData = new DatabaseTypeRegistry(databaseType).getDialectDatabaseMetaData();
+        Collection<TableMetaData> result = new LinkedList<>();
+        try (MetaDataLoaderConnection connection = new MetaDataLoaderConnection(databaseType, dataSource.getConnection())) {
+            for (String each : tableNamePatterns) {
+                load(connection, each, dialectDatabaseMetaData, databaseType).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+    
+    private static Optional<TableMetaData> load(final Connection connection, final String tableNamePattern,
+                                                final DialectDatabaseMetaData dialectDatabaseMetaData, final DatabaseType databaseType) throws SQLException {
+        String formattedTableNamePattern = dialectDatabaseMetaData.formatTableNamePattern(tableNamePattern);
+        return isTableExist(connection, formattedTableNamePattern)
+                ? Optional.of(new TableMetaData(tableNamePattern, ColumnMetaDataLoader.load(
+                        connection, formattedTableNamePattern, databaseType), IndexMetaDataLoader.load(connection, formattedTableNamePattern), Collections.emptyList()))
+                : Optional.empty();
+    }
+    
     private static boolean isTableExist(final Connection connection, final String tableNamePattern) throws SQLException {
         try (ResultSet resultSet = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(), tableNamePattern, null)) {
             return resultSet.next();
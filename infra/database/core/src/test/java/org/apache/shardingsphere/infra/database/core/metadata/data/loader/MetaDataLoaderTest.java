@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.core.metadata.data.loader;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MetaDataLoaderTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "BRANCH");
+    
+    @Mock
+    private DataSource dataSource;
+    
+    @Test
+    void assertLoadWithTableBatches() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+        MetaDataLoaderMaterial material = new MetaDataLoaderMaterial(Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3", "t_order_4"), dataSource, databaseType, "foo_schema");
+        Map<String, SchemaMetaData> actual = MetaDataLoader.load(Collections.singleton(material), 2, 1);
+        verify(dataSource, times(3)).getConnection();
+        assertThat(actual.get("foo_schema").getTables().stream().map(TableMetaData::getName).collect(Collectors.toList()),
+                is(Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3", "t_order_4")));
+    }
+    
+    @Test
+    void assertLoadWithMaxConcurrencyPerStorageUnit() throws SQLException {
+        AtomicInteger currentConcurrency = new AtomicInteger();
+        AtomicInteger maxConcurrency = new AtomicInteger();
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            maxConcurrency.accumulateAndGet(currentConcurrency.incrementAndGet(), Math::max);
+            Thread.sleep(50L);
+            return connection;
+        });
+        doAnswer(invocation -> currentConcurrency.decrementAndGet()).when(connection).close();
+        MetaDataLoaderMaterial material = new MetaDataLoaderMaterial(
+                Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3", "t_order_4", "t_order_5"), dataSource, databaseType, "foo_schema");
+        Map<String, SchemaMetaData> actual = MetaDataLoader.load(Collections.singleton(material), 1, 2);
+        verify(dataSource, times(6)).getConnection();
+        assertThat(maxConcurrency.get(), lessThanOrEqualTo(2));
+        assertThat(actual.get("foo_schema").getTables().size(), is(6));
+    }
+    
+    @Test
+    void assertLoadWithInvalidTableBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> MetaDataLoader.load(Collections.emptyList(), 0, 1));
+    }
+    
+    @Test
+    void assertLoadWithInvalidMaxConcurrencyPerStorageUnit() {
+        assertThrows(IllegalArgumentException.class, () -> MetaDataLoader.load(Collections.emptyList(), 1, 0));
+    }
+}
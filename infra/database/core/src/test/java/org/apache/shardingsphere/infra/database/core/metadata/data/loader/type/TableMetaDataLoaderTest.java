@@ -39,6 +39,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -111,7 +112,7 @@ class TableMetaDataLoaderTest {
     
     @Test
     void assertLoadWithExistedTable() throws SQLException {
-        Map<String, SchemaMetaData> actual = MetaDataLoader.load(Collections.singleton(new MetaDataLoaderMaterial(Collections.singleton(TEST_TABLE), dataSource, databaseType, "sharding_db")));
+        Map<String, SchemaMetaData> actual = MetaDataLoader.load(Collections.singleton(new MetaDataLoaderMaterial(Collections.singleton(TEST_TABLE), dataSource, databaseType, "sharding_db")), 500, 4);
         TableMetaData tableMetaData = actual.get("sharding_db").getTables().iterator().next();
         Collection<ColumnMetaData> columns = tableMetaData.getColumns();
         assertThat(columns.size(), is(2));
@@ -133,9 +134,17 @@ class TableMetaDataLoaderTest {
     
     @Test
     void assertLoadWithNotExistedTable() throws SQLException {
-        Map<String, SchemaMetaData> actual = MetaDataLoader.load(Collections.singleton(new MetaDataLoaderMaterial(Collections.singleton(NOT_EXISTED_TABLE), dataSource, databaseType, "sharding_db")));
+        Map<String, SchemaMetaData> actual = MetaDataLoader.load(
+                Collections.singleton(new MetaDataLoaderMaterial(Collections.singleton(NOT_EXISTED_TABLE), dataSource, databaseType, "sharding_db")), 500, 4);
         assertFalse(actual.isEmpty());
         assertTrue(actual.containsKey("sharding_db"));
         assertTrue(actual.get("sharding_db").getTables().isEmpty());
     }
+    
+    @Test
+    void assertLoadWithTableNamePatterns() throws SQLException {
+        Collection<TableMetaData> actual = TableMetaDataLoader.load(dataSource, Arrays.asList(TEST_TABLE, NOT_EXISTED_TABLE), databaseType);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getName(), is(TEST_TABLE));
+    }
 }
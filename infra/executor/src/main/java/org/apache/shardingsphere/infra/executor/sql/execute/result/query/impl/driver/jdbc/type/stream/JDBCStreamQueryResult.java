@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.executor.exception.UnsupportedDataTypeConversionException;
 import org.apache.shardingsphere.infra.executor.exception.UnsupportedStreamCharsetConversionException;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
@@ -44,6 +45,9 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     @Getter
     private final ResultSet resultSet;
     
+    @Setter
+    private Runnable fetchFinishedListener;
+    
     public JDBCStreamQueryResult(final ResultSet resultSet) throws SQLException {
         super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
         this.resultSet = resultSet;
@@ -51,7 +55,20 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        boolean result = resultSet.next();
+        if (!result) {
+            fireFetchFinished();
+        }
+        return result;
+    }
+    
+    private void fireFetchFinished() {
+        if (null == fetchFinishedListener) {
+            return;
+        }
+        Runnable listener = fetchFinishedListener;
+        fetchFinishedListener = null;
+        listener.run();
     }
     
     @Override
@@ -148,6 +165,7 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Override
     public void close() throws SQLException {
+        fireFetchFinished();
         resultSet.close();
     }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.sql.hook;
 import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 
+import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.List;
 
@@ -37,6 +38,13 @@ public final class SPISQLExecutionHook implements SQLExecutionHook {
         }
     }
     
+    @Override
+    public void start(final DataSource dataSource, final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        for (SQLExecutionHook each : sqlExecutionHooks) {
+            each.start(dataSource, dataSourceName, sql, params, connectionProps, isTrunkThread);
+        }
+    }
+    
     @Override
     public void finishSuccess() {
         for (SQLExecutionHook each : sqlExecutionHooks) {
@@ -50,4 +58,11 @@ public final class SPISQLExecutionHook implements SQLExecutionHook {
             each.finishFailure(cause);
         }
     }
+    
+    @Override
+    public void finishFetch() {
+        for (SQLExecutionHook each : sqlExecutionHooks) {
+            each.finishFetch();
+        }
+    }
 }
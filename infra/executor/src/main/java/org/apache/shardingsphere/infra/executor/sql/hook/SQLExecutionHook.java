@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.sql.hook;
 
 import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
 
+import javax.sql.DataSource;
 import java.util.List;
 
 /**
@@ -37,6 +38,20 @@ public interface SQLExecutionHook {
      */
     void start(String dataSourceName, String sql, List<Object> params, ConnectionProperties connectionProps, boolean isTrunkThread);
     
+    /**
+     * Handle when SQL execution started on data source of storage unit.
+     *
+     * @param dataSource data source of storage unit
+     * @param dataSourceName data source name
+     * @param sql SQL
+     * @param params SQL parameters
+     * @param connectionProps connection properties
+     * @param isTrunkThread is execution in trunk thread
+     */
+    default void start(DataSource dataSource, String dataSourceName, String sql, List<Object> params, ConnectionProperties connectionProps, boolean isTrunkThread) {
+        start(dataSourceName, sql, params, connectionProps, isTrunkThread);
+    }
+    
     /**
      * Handle when SQL execution finished success.
      */
@@ -48,4 +63,12 @@ public interface SQLExecutionHook {
      * @param cause failure cause
      */
     void finishFailure(Exception cause);
+    
+    /**
+     * Handle when result of SQL execution fetched completely.
+     * 
+     * <p>Called after {@link #finishSuccess()}, stream query result is fetched completely when it is exhausted or closed.</p>
+     */
+    default void finishFetch() {
+    }
 }
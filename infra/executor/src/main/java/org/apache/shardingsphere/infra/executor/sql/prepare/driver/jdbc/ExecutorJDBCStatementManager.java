@@ -20,10 +20,33 @@ package org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.ExecutorStatementManager;
 
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Executor JDBC statement manager.
  */
 public interface ExecutorJDBCStatementManager extends ExecutorStatementManager<Connection, Statement, StatementOption> {
+    
+    /**
+     * Release storage resource after execution.
+     *
+     * @param statement statement to be released
+     * @return whether statement is kept by statement manager, statement should be closed by caller if not kept
+     * @throws SQLException SQL exception
+     */
+    default boolean releaseStorageResource(final Statement statement) throws SQLException {
+        return false;
+    }
+    
+    /**
+     * Close storage resources kept by statement manager, should be called before connections closed.
+     *
+     * @return SQL exceptions when close storage resources
+     */
+    default Collection<SQLException> closeStorageResources() {
+        return Collections.emptyList();
+    }
 }
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.hook.fixture.SQLExecutionHookFixture;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -35,6 +37,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
@@ -45,7 +48,9 @@ import java.util.concurrent.ThreadLocalRandom;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -63,6 +68,44 @@ class JDBCExecutorCallbackTest {
         units = Collections.singletonList(
                 new JDBCExecutionUnit(new ExecutionUnit("ds", new SQLUnit("SELECT now()", Collections.emptyList())), ConnectionMode.CONNECTION_STRICTLY, preparedStatement));
         SQLExecutorExceptionHandler.setExceptionThrown(true);
+        SQLExecutionHookFixture.clearActions();
+    }
+    
+    @Test
+    void assertExecuteFinishesFetchAfterSuccess() throws SQLException {
+        Object result = new Object();
+        JDBCExecutorCallback<Object> callback = createCallback(result);
+        assertThat(callback.execute(units, true, ""), is(Collections.singletonList(result)));
+        assertTrue(SQLExecutionHookFixture.containsAction("finishSuccess"));
+        assertTrue(SQLExecutionHookFixture.containsAction("finishFetch"));
+    }
+    
+    @Test
+    void assertExecuteFinishesFetchWhenStreamQueryResultExhausted() throws SQLException {
+        JDBCStreamQueryResult result = new JDBCStreamQueryResult(mock(ResultSet.class, RETURNS_DEEP_STUBS));
+        JDBCExecutorCallback<Object> callback = createCallback(result);
+        assertThat(callback.execute(units, true, ""), is(Collections.singletonList(result)));
+        assertTrue(SQLExecutionHookFixture.containsAction("finishSuccess"));
+        assertFalse(SQLExecutionHookFixture.containsAction("finishFetch"));
+        assertFalse(result.next());
+        assertTrue(SQLExecutionHookFixture.containsAction("finishFetch"));
+    }
+    
+    private JDBCExecutorCallback<Object> createCallback(final Object executeResult) {
+        ResourceMetaData resourceMetaData = mock(ResourceMetaData.class, RETURNS_DEEP_STUBS);
+        when(resourceMetaData.getStorageUnits().get("ds").getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        return new JDBCExecutorCallback<Object>(TypedSPILoader.getService(DatabaseType.class, "MySQL"), resourceMetaData, mock(SelectStatement.class), true) {
+            
+            @Override
+            protected Object executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode, final DatabaseType storageType) {
+                return executeResult;
+            }
+            
+            @Override
+            protected Optional<Object> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
+                return Optional.empty();
+            }
+        };
     }
     
     @Test
@@ -37,6 +37,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -49,6 +50,28 @@ class JDBCStreamQueryResultTest {
         assertFalse(queryResult.next());
     }
     
+    @Test
+    void assertFetchFinishedListenerFiredOnceWhenExhausted() throws SQLException {
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(getResultSet());
+        Runnable listener = mock(Runnable.class);
+        queryResult.setFetchFinishedListener(listener);
+        assertTrue(queryResult.next());
+        verify(listener, never()).run();
+        assertFalse(queryResult.next());
+        queryResult.close();
+        verify(listener).run();
+    }
+    
+    @Test
+    void assertFetchFinishedListenerFiredWhenClosedBeforeExhausted() throws SQLException {
+        JDBCStreamQueryResult queryResult = new JDBCStreamQueryResult(getResultSet());
+        Runnable listener = mock(Runnable.class);
+        queryResult.setFetchFinishedListener(listener);
+        assertTrue(queryResult.next());
+        queryResult.close();
+        verify(listener).run();
+    }
+    
     @Test
     void assertGetValueByBoolean() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
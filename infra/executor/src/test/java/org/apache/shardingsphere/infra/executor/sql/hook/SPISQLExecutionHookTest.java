@@ -21,9 +21,11 @@ import org.apache.shardingsphere.infra.executor.sql.hook.fixture.SQLExecutionHoo
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javax.sql.DataSource;
 import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
 class SPISQLExecutionHookTest {
     
@@ -41,6 +43,12 @@ class SPISQLExecutionHookTest {
         assertTrue(SQLExecutionHookFixture.containsAction("start"));
     }
     
+    @Test
+    void assertStartWithDataSource() {
+        spiSQLExecutionHook.start(mock(DataSource.class), "ds", "SELECT 1", Collections.emptyList(), null, true);
+        assertTrue(SQLExecutionHookFixture.containsAction("start"));
+    }
+    
     @Test
     void assertFinishSuccess() {
         spiSQLExecutionHook.finishSuccess();
@@ -52,4 +60,10 @@ class SPISQLExecutionHookTest {
         spiSQLExecutionHook.finishFailure(null);
         assertTrue(SQLExecutionHookFixture.containsAction("finishFailure"));
     }
+    
+    @Test
+    void assertFinishFetch() {
+        spiSQLExecutionHook.finishFetch();
+        assertTrue(SQLExecutionHookFixture.containsAction("finishFetch"));
+    }
 }
@@ -43,6 +43,11 @@ public final class SQLExecutionHookFixture implements SQLExecutionHook {
         ACTIONS.add("finishFailure");
     }
     
+    @Override
+    public void finishFetch() {
+        ACTIONS.add("finishFetch");
+    }
+    
     /**
      * Contains action or not.
      * 
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ */
+@RequiredArgsConstructor
+final class CompiledInlineExpression {
+    
+    private final List<InlineExpressionNode> segments;
+    
+    /**
+     * Evaluate with arguments.
+     *
+     * @param args arguments
+     * @return evaluated result, empty if type of arguments is not supported by compiled inline expression
+     */
+    Optional<String> evaluate(final Map<String, Comparable<?>> args) {
+        StringBuilder result = new StringBuilder();
+        for (InlineExpressionNode each : segments) {
+            Object value = each.evaluate(args);
+            if (null == value) {
+                return Optional.empty();
+            }
+            result.append(value);
+        }
+        return Optional.of(result.toString());
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Inline expression compiler.
+ *
+ * <p>Placeholders which only use arguments, integer literals, {@code + - * %}, {@code hashCode()}, {@code toString()}, {@code abs()}, {@code intdiv()}, {@code substring()} and {@code Math.abs()}
+ * are compiled to nodes evaluating integer, long and string arguments as Groovy does. Other arguments are left to Groovy closure at evaluation.</p>
+ */
+@RequiredArgsConstructor
+final class InlineExpressionCompiler {
+    
+    private static final Collection<String> RESERVED_IDENTIFIERS = new HashSet<>(Arrays.asList(
+            "it", "this", "super", "owner", "delegate", "null", "true", "false", "new", "in", "as", "def", "var", "class", "instanceof"));
+    
+    private final String inlineExpression;
+    
+    private int position;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled inline expression, empty if inline expression is not supported by compiler
+     */
+    static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        return Optional.ofNullable(new InlineExpressionCompiler(inlineExpression).compile());
+    }
+    
+    private CompiledInlineExpression compile() {
+        List<InlineExpressionNode> segments = new LinkedList<>();
+        StringBuilder literal = new StringBuilder();
+        while (position < inlineExpression.length()) {
+            char current = inlineExpression.charAt(position);
+            if ('\\' == current || '"' == current || '\r' == current || '\n' == current) {
+                return null;
+            }
+            if ('$' != current) {
+                literal.append(current);
+                position++;
+                continue;
+            }
+            if (position + 1 == inlineExpression.length() || '{' != inlineExpression.charAt(position + 1)) {
+                return null;
+            }
+            position += 2;
+            addLiteralSegment(segments, literal);
+            InlineExpressionNode placeholder = parseAdditive();
+            if (null == placeholder || !skipIfCurrentChar('}')) {
+                return null;
+            }
+            segments.add(placeholder);
+        }
+        addLiteralSegment(segments, literal);
+        return new CompiledInlineExpression(segments);
+    }
+    
+    private void addLiteralSegment(final List<InlineExpressionNode> segments, final StringBuilder literal) {
+        if (0 == literal.length()) {
+            return;
+        }
+        String text = literal.toString();
+        segments.add(args -> text);
+        literal.setLength(0);
+    }
+    
+    private InlineExpressionNode parseAdditive() {
+        InlineExpressionNode result = parseMultiplicative();
+        while (null != result) {
+            char operator = currentChar();
+            if ('+' != operator && '-' != operator || operator == nextChar()) {
+                return result;
+            }
+            position++;
+            InlineExpressionNode left = result;
+            InlineExpressionNode right = parseMultiplicative();
+            if (null == right) {
+                return null;
+            }
+            result = '+' == operator ? args -> plus(left.evaluate(args), right.evaluate(args)) : args -> calculate(left.evaluate(args), right.evaluate(args), (x, y) -> x - y, (x, y) -> x - y);
+        }
+        return null;
+    }
+    
+    private InlineExpressionNode parseMultiplicative() {
+        InlineExpressionNode result = parseUnary();
+        while (null != result) {
+            char operator = currentChar();
+            if ('*' != operator && '%' != operator || operator == nextChar()) {
+                return result;
+            }
+            position++;
+            InlineExpressionNode left = result;
+            InlineExpressionNode right = parseUnary();
+            if (null == right) {
+                return null;
+            }
+            result = '*' == operator
+                    ? args -> calculate(left.evaluate(args), right.evaluate(args), (x, y) -> x * y, (x, y) -> x * y)
+                    : args -> calculate(left.evaluate(args), right.evaluate(args), (x, y) -> x % y, (x, y) -> x % y);
+        }
+        return null;
+    }
+    
+    private InlineExpressionNode parseUnary() {
+        if ('-' != currentChar()) {
+            return parsePostfix();
+        }
+        if ('-' == nextChar()) {
+            return null;
+        }
+        position++;
+        InlineExpressionNode operand = parseUnary();
+        return null == operand ? null : args -> negate(operand.evaluate(args));
+    }
+    
+    private InlineExpressionNode parsePostfix() {
+        InlineExpressionNode result = parsePrimary();
+        while (null != result && skipIfCurrentChar('.')) {
+            String methodName = parseIdentifier();
+            List<InlineExpressionNode> arguments = null == methodName ? null : parseArguments();
+            if (null == arguments) {
+                return null;
+            }
+            result = createMethodNode(result, methodName, arguments);
+        }
+        return result;
+    }
+    
+    private InlineExpressionNode createMethodNode(final InlineExpressionNode target, final String methodName, final List<InlineExpressionNode> arguments) {
+        if ("hashCode".equals(methodName) && arguments.isEmpty()) {
+            return args -> hashCode(target.evaluate(args));
+        }
+        if ("toString".equals(methodName) && arguments.isEmpty()) {
+            return args -> toString(target.evaluate(args));
+        }
+        if ("abs".equals(methodName) && arguments.isEmpty()) {
+            return args -> abs(target.evaluate(args));
+        }
+        if ("intdiv".equals(methodName) && 1 == arguments.size()) {
+            return args -> calculate(target.evaluate(args), arguments.get(0).evaluate(args), (x, y) -> x / y, (x, y) -> x / y);
+        }
+        if ("substring".equals(methodName) && 1 == arguments.size()) {
+            return args -> substring(target.evaluate(args), arguments.get(0).evaluate(args));
+        }
+        if ("substring".equals(methodName) && 2 == arguments.size()) {
+            return args -> substring(target.evaluate(args), arguments.get(0).evaluate(args), arguments.get(1).evaluate(args));
+        }
+        return null;
+    }
+    
+    private List<InlineExpressionNode> parseArguments() {
+        if (!skipIfCurrentChar('(')) {
+            return null;
+        }
+        List<InlineExpressionNode> result = new LinkedList<>();
+        if (skipIfCurrentChar(')')) {
+            return result;
+        }
+        do {
+            InlineExpressionNode argument = parseAdditive();
+            if (null == argument) {
+                return null;
+            }
+            result.add(argument);
+        } while (skipIfCurrentChar(','));
+        return skipIfCurrentChar(')') ? result : null;
+    }
+    
+    private InlineExpressionNode parsePrimary() {
+        char current = currentChar();
+        if ('(' == current) {
+            position++;
+            InlineExpressionNode result = parseAdditive();
+            return null != result && skipIfCurrentChar(')') ? result : null;
+        }
+        if (current >= '0' && current <= '9') {
+            return parseNumber();
+        }
+        String identifier = parseIdentifier();
+        if (null == identifier || RESERVED_IDENTIFIERS.contains(identifier) || '(' == currentChar()) {
+            return null;
+        }
+        if ("Math".equals(identifier)) {
+            return parseMathAbs();
+        }
+        return args -> normalize(args.get(identifier));
+    }
+    
+    private InlineExpressionNode parseNumber() {
+        int startIndex = position;
+        while (position < inlineExpression.length() && Character.isDigit(inlineExpression.charAt(position))) {
+            position++;
+        }
+        String text = inlineExpression.substring(startIndex, position);
+        if (text.length() > 1 && '0' == text.charAt(0) || position < inlineExpression.length() && isLiteralSuffix(inlineExpression.charAt(position))) {
+            return null;
+        }
+        Object value = parseNumberValue(text);
+        return null == value ? null : args -> value;
+    }
+    
+    private Object parseNumberValue(final String text) {
+        try {
+            long result = Long.parseLong(text);
+            return result <= Integer.MAX_VALUE ? (Object) (int) result : (Object) result;
+        } catch (final NumberFormatException ignored) {
+            return null;
+        }
+    }
+    
+    private boolean isLiteralSuffix(final char literalChar) {
+        return '.' == literalChar || '_' == literalChar || Character.isLetterOrDigit(literalChar);
+    }
+    
+    private InlineExpressionNode parseMathAbs() {
+        if (!skipIfCurrentChar('.') || !"abs".equals(parseIdentifier())) {
+            return null;
+        }
+        List<InlineExpressionNode> arguments = parseArguments();
+        if (null == arguments || 1 != arguments.size()) {
+            return null;
+        }
+        InlineExpressionNode argument = arguments.get(0);
+        return args -> abs(argument.evaluate(args));
+    }
+    
+    private String parseIdentifier() {
+        skipWhitespace();
+        int startIndex = position;
+        while (position < inlineExpression.length() && isIdentifierChar(inlineExpression.charAt(position), position == startIndex)) {
+            position++;
+        }
+        return startIndex == position ? null : inlineExpression.substring(startIndex, position);
+    }
+    
+    private boolean isIdentifierChar(final char identifierChar, final boolean isFirstChar) {
+        if (identifierChar >= 'a' && identifierChar <= 'z' || identifierChar >= 'A' && identifierChar <= 'Z' || '_' == identifierChar) {
+            return true;
+        }
+        return !isFirstChar && identifierChar >= '0' && identifierChar <= '9';
+    }
+    
+    private boolean skipIfCurrentChar(final char expectedChar) {
+        if (expectedChar == currentChar()) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private char currentChar() {
+        skipWhitespace();
+        return position < inlineExpression.length() ? inlineExpression.charAt(position) : 0;
+    }
+    
+    private char nextChar() {
+        return position + 1 < inlineExpression.length() ? inlineExpression.charAt(position + 1) : 0;
+    }
+    
+    private void skipWhitespace() {
+        while (position < inlineExpression.length() && Character.isWhitespace(inlineExpression.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private static Object normalize(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof String ? value : null;
+    }
+    
+    private static Object plus(final Object left, final Object right) {
+        if (null == left || null == right) {
+            return null;
+        }
+        return left instanceof String || right instanceof String ? left.toString() + right : calculate(left, right, Integer::sum, Long::sum);
+    }
+    
+    private static Object calculate(final Object left, final Object right, final IntBinaryOperator intOperator, final LongBinaryOperator longOperator) {
+        if (!(left instanceof Number) || !(right instanceof Number)) {
+            return null;
+        }
+        if (left instanceof Long || right instanceof Long) {
+            return longOperator.applyAsLong(((Number) left).longValue(), ((Number) right).longValue());
+        }
+        return intOperator.applyAsInt((Integer) left, (Integer) right);
+    }
+    
+    private static Object negate(final Object value) {
+        if (value instanceof Integer) {
+            return -(Integer) value;
+        }
+        return value instanceof Long ? (Object) (-(Long) value) : null;
+    }
+    
+    private static Object abs(final Object value) {
+        if (value instanceof Integer) {
+            return Math.abs((Integer) value);
+        }
+        return value instanceof Long ? (Object) Math.abs((Long) value) : null;
+    }
+    
+    private static Object hashCode(final Object value) {
+        return null == value ? null : value.hashCode();
+    }
+    
+    private static Object toString(final Object value) {
+        return null == value ? null : value.toString();
+    }
+    
+    private static Object substring(final Object value, final Object beginIndex) {
+        return value instanceof String && beginIndex instanceof Integer ? ((String) value).substring((Integer) beginIndex) : null;
+    }
+    
+    private static Object substring(final Object value, final Object beginIndex, final Object endIndex) {
+        if (!(value instanceof String) || !(beginIndex instanceof Integer) || !(endIndex instanceof Integer)) {
+            return null;
+        }
+        return ((String) value).substring((Integer) beginIndex, (Integer) endIndex);
+    }
+}
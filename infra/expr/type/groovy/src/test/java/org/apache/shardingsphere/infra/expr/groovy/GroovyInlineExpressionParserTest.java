@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -142,6 +143,27 @@ class GroovyInlineExpressionParserTest {
                 new PropertiesBuilder.Property(InlineExpressionParser.INLINE_EXPRESSION_KEY, "${1+2}"))).evaluateWithArgs(new LinkedHashMap<>()), is("3"));
     }
     
+    @Test
+    void assertEvaluateWithArgsForCompiledExpression() {
+        InlineExpressionParser parser = TypedSPILoader.getService(InlineExpressionParser.class, "GROOVY", PropertiesBuilder.build(
+                new PropertiesBuilder.Property(InlineExpressionParser.INLINE_EXPRESSION_KEY, "t_order_$->{Math.abs(order_id.hashCode()) % 4}")));
+        assertThat(parser.evaluateWithArgs(Collections.singletonMap("order_id", -7L)), is("t_order_2"));
+    }
+    
+    @Test
+    void assertEvaluateWithArgsForNotCompiledArgumentType() {
+        InlineExpressionParser parser = TypedSPILoader.getService(InlineExpressionParser.class, "GROOVY", PropertiesBuilder.build(
+                new PropertiesBuilder.Property(InlineExpressionParser.INLINE_EXPRESSION_KEY, "t_order_${order_id % 2}")));
+        assertThat(parser.evaluateWithArgs(Collections.singletonMap("order_id", new BigDecimal("3"))), is("t_order_1"));
+    }
+    
+    @Test
+    void assertEvaluateWithArgsForNotCompiledExpression() {
+        InlineExpressionParser parser = TypedSPILoader.getService(InlineExpressionParser.class, "GROOVY", PropertiesBuilder.build(
+                new PropertiesBuilder.Property(InlineExpressionParser.INLINE_EXPRESSION_KEY, "t_order_${order_id.intdiv(2) % 2 == 0 ? 'a' : 'b'}")));
+        assertThat(parser.evaluateWithArgs(Collections.singletonMap("order_id", 4)), is("t_order_a"));
+    }
+    
     @Test
     @SneakyThrows({ExecutionException.class, InterruptedException.class})
     void assertThreadSafety() {
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InlineExpressionCompilerTest {
+    
+    @Test
+    void assertEvaluateArithmetic() {
+        assertThat(evaluate("t_order_${order_id % 2}", "order_id", 5), is("t_order_1"));
+        assertThat(evaluate("t_order_${-order_id % 4}", "order_id", 5), is("t_order_-1"));
+        assertThat(evaluate("t_order_${order_id * 3 - 1}", "order_id", 5L), is("t_order_14"));
+        assertThat(evaluate("t_order_${(order_id + 1).intdiv(2)}", "order_id", 5), is("t_order_3"));
+        assertThat(evaluate("t_order_${2147483648 % 7}", "order_id", 5), is("t_order_2"));
+    }
+    
+    @Test
+    void assertEvaluateMethods() {
+        assertThat(evaluate("ds_${Math.abs(user_id.hashCode()) % 4}", "user_id", "foo"), is("ds_" + Math.abs("foo".hashCode()) % 4));
+        assertThat(evaluate("ds_${user_id.hashCode().abs() % 4}", "user_id", -6), is("ds_2"));
+        assertThat(evaluate("t_${name.substring(0, 2)}_${name.substring(3)}", "name", "abcdef"), is("t_ab_def"));
+        assertThat(evaluate("t_${name.toString() + 1}", "name", 5), is("t_51"));
+    }
+    
+    @Test
+    void assertEvaluateWithNotSupportedArgumentType() {
+        Optional<CompiledInlineExpression> compiledInlineExpression = InlineExpressionCompiler.compile("t_order_${order_id % 2}");
+        assertTrue(compiledInlineExpression.isPresent());
+        assertFalse(compiledInlineExpression.get().evaluate(createArgs("order_id", 1.5D)).isPresent());
+        assertFalse(compiledInlineExpression.get().evaluate(createArgs("user_id", 1)).isPresent());
+    }
+    
+    @Test
+    void assertCompileNotSupportedExpression() {
+        assertFalse(InlineExpressionCompiler.compile("t_order_${0..1}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id / 2}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_$order_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id--1}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${foo(order_id)}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${010}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${'a'}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${it}").isPresent());
+    }
+    
+    private String evaluate(final String inlineExpression, final String argumentName, final Comparable<?> argumentValue) {
+        Optional<CompiledInlineExpression> compiledInlineExpression = InlineExpressionCompiler.compile(inlineExpression);
+        assertTrue(compiledInlineExpression.isPresent());
+        Optional<String> result = compiledInlineExpression.get().evaluate(createArgs(argumentName, argumentValue));
+        assertTrue(result.isPresent());
+        return result.get();
+    }
+    
+    private Map<String, Comparable<?>> createArgs(final String argumentName, final Comparable<?> argumentValue) {
+        Map<String, Comparable<?>> result = new HashMap<>(1, 1F);
+        result.put(argumentName, argumentValue);
+        return result;
+    }
+}
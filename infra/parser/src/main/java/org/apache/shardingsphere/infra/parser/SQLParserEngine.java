@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.infra.parser;
 
+import org.apache.shardingsphere.infra.parser.sql.NormalizedSQL;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL parser engine.
  */
@@ -32,4 +35,12 @@ public interface SQLParserEngine {
      * @return SQL statement
      */
     SQLStatement parse(String sql, boolean useCache);
+    
+    /**
+     * Parse literal normalized SQL to SQL statement.
+     *
+     * @param normalizedSQL literal normalized SQL
+     * @return SQL statement of shape SQL, empty if literal normalized SQL is not supported
+     */
+    Optional<SQLStatement> parseNormalized(NormalizedSQL normalizedSQL);
 }
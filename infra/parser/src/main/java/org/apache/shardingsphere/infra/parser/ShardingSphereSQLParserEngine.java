@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.parser;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.distsql.parser.engine.api.DistSQLStatementParserEngine;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.NormalizedSQL;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
@@ -27,6 +28,8 @@ import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtils;
 
+import java.util.Optional;
+
 /**
  * ShardingSphere SQL parser engine.
  */
@@ -59,4 +62,9 @@ public final class ShardingSphereSQLParserEngine implements SQLParserEngine {
             }
         }
     }
+    
+    @Override
+    public Optional<SQLStatement> parseNormalized(final NormalizedSQL normalizedSQL) {
+        return sqlStatementParserEngine.parseNormalized(normalizedSQL);
+    }
 }
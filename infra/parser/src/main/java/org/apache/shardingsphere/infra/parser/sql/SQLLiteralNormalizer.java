@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL literal normalizer.
+ *
+ * <p>Literals in value positions of DML are replaced with parameter markers, so that SQLs which only differ in inlined values share one shape SQL.
+ * Literals in projections (including functions and parentheses of projections), after prefixes and in unknown positions are kept as they are,
+ * and SQLs with comments of {@code #}, backslashes, semicolons or parameter markers are not normalized.</p>
+ */
+public final class SQLLiteralNormalizer {
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE", "REPLACE"));
+    
+    private static final Collection<String> VALUE_PREFIX_TOKENS = new HashSet<>(Arrays.asList("=", "<>", "!=", "<", ">", "<=", ">=", "LIKE", "BETWEEN"));
+    
+    private static final Collection<String> VALUE_ROW_PREFIX_TOKENS = new HashSet<>(Arrays.asList("VALUES", "VALUE", "ROW", ","));
+    
+    private static final String OPERATOR_CHARS = "<>=!:-@|&~^";
+    
+    private static final String UNSUPPORTED_CHARS = "#;?";
+    
+    private final String sql;
+    
+    private final StringBuilder shape;
+    
+    private final List<Object> parameters = new ArrayList<>();
+    
+    private final Deque<Scope> scopes = new LinkedList<>();
+    
+    private String previousToken;
+    
+    private boolean betweenPending;
+    
+    private boolean betweenAnd;
+    
+    private boolean limitPending;
+    
+    public SQLLiteralNormalizer(final String sql) {
+        this.sql = sql;
+        shape = new StringBuilder(sql.length());
+    }
+    
+    /**
+     * Normalize literals of SQL.
+     *
+     * @return normalized SQL, empty if SQL is not normalizable or contains no literal to be normalized
+     */
+    public Optional<NormalizedSQL> normalize() {
+        if (sql.indexOf('\\') >= 0) {
+            return Optional.empty();
+        }
+        scopes.push(new Scope(false, false));
+        int index = 0;
+        while (index < sql.length()) {
+            index = normalizeNext(index);
+            if (index < 0) {
+                return Optional.empty();
+            }
+        }
+        return parameters.isEmpty() || 1 != scopes.size() ? Optional.empty() : Optional.of(new NormalizedSQL(shape.toString(), parameters));
+    }
+    
+    private int normalizeNext(final int index) {
+        char current = sql.charAt(index);
+        if (Character.isWhitespace(current)) {
+            shape.append(current);
+            return index + 1;
+        }
+        if (isCommentStart(index)) {
+            return appendComment(index);
+        }
+        if (UNSUPPORTED_CHARS.indexOf(current) >= 0 || null == previousToken && !isWordStart(current)) {
+            return -1;
+        }
+        if ('\'' == current) {
+            return normalizeStringLiteral(index);
+        }
+        if ('"' == current || '`' == current) {
+            return appendQuotedIdentifier(index, current);
+        }
+        if (Character.isDigit(current)) {
+            return normalizeNumberLiteral(index);
+        }
+        if (isWordStart(current)) {
+            return appendWord(index);
+        }
+        return appendSymbol(index, current);
+    }
+    
+    private boolean isCommentStart(final int index) {
+        if (index + 1 >= sql.length()) {
+            return false;
+        }
+        char current = sql.charAt(index);
+        char next = sql.charAt(index + 1);
+        return '/' == current && '*' == next || '-' == current && '-' == next && (index + 2 == sql.length() || Character.isWhitespace(sql.charAt(index + 2)));
+    }
+    
+    private int appendComment(final int index) {
+        boolean blockComment = '*' == sql.charAt(index + 1);
+        int end = blockComment ? sql.indexOf("*/", index + 2) : sql.indexOf('\n', index);
+        if (blockComment && end < 0) {
+            return -1;
+        }
+        int result = end < 0 ? sql.length() : end + (blockComment ? 2 : 1);
+        shape.append(sql, index, result);
+        return result;
+    }
+    
+    private int normalizeStringLiteral(final int index) {
+        int end = findQuoteEnd(index, '\'');
+        if (end < 0) {
+            return -1;
+        }
+        boolean prefixed = index > 0 && isWordPart(sql.charAt(index - 1));
+        if (!prefixed && isValuePosition()) {
+            shape.append('?');
+            parameters.add(sql.substring(index + 1, end).replace("''", "'"));
+        } else {
+            shape.append(sql, index, end + 1);
+        }
+        previousToken = "'";
+        return end + 1;
+    }
+    
+    private int appendQuotedIdentifier(final int index, final char quote) {
+        int end = findQuoteEnd(index, quote);
+        if (end < 0) {
+            return -1;
+        }
+        shape.append(sql, index, end + 1);
+        previousToken = String.valueOf(quote);
+        return end + 1;
+    }
+    
+    private int findQuoteEnd(final int index, final char quote) {
+        int result = sql.indexOf(quote, index + 1);
+        while (result >= 0 && result + 1 < sql.length() && quote == sql.charAt(result + 1)) {
+            result = sql.indexOf(quote, result + 2);
+        }
+        return result;
+    }
+    
+    private int normalizeNumberLiteral(final int index) {
+        int result = skipDigits(index);
+        if (result + 1 < sql.length() && '.' == sql.charAt(result) && Character.isDigit(sql.charAt(result + 1))) {
+            result = skipDigits(result + 1);
+        }
+        boolean standalone = (0 == index || !isWordPart(sql.charAt(index - 1)) && '.' != sql.charAt(index - 1))
+                && (result == sql.length() || !isWordPart(sql.charAt(result)) && '.' != sql.charAt(result));
+        if (standalone && isValuePosition()) {
+            shape.append('?');
+            parameters.add(new NumberLiteralValue(sql.substring(index, result)).getValue());
+        } else {
+            shape.append(sql, index, result);
+        }
+        previousToken = "0";
+        return result;
+    }
+    
+    private int skipDigits(final int index) {
+        int result = index;
+        while (result < sql.length() && Character.isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int appendWord(final int index) {
+        int result = index + 1;
+        while (result < sql.length() && isWordPart(sql.charAt(result))) {
+            result++;
+        }
+        shape.append(sql, index, result);
+        String word = sql.substring(index, result).toUpperCase();
+        if (null == previousToken && !DML_KEYWORDS.contains(word)) {
+            return -1;
+        }
+        acceptKeyword(word);
+        previousToken = word;
+        return result;
+    }
+    
+    private void acceptKeyword(final String word) {
+        Scope scope = scopes.peek();
+        switch (word) {
+            case "SELECT":
+                scope.projection = true;
+                scope.valueList = false;
+                break;
+            case "FROM":
+                scope.projection = false;
+                break;
+            case "VALUES":
+            case "VALUE":
+                scope.valueRows = true;
+                break;
+            case "BETWEEN":
+                betweenPending = true;
+                break;
+            case "AND":
+                betweenAnd = betweenPending;
+                betweenPending = false;
+                break;
+            default:
+                break;
+        }
+        if (!"VALUES".equals(word) && !"VALUE".equals(word) && !"ROW".equals(word)) {
+            scope.valueRows = false;
+        }
+        limitPending = "LIMIT".equals(word) || "OFFSET".equals(word);
+    }
+    
+    private int appendSymbol(final int index, final char current) {
+        if ('(' == current) {
+            Scope scope = scopes.peek();
+            boolean valueList = "IN".equals(previousToken) || scope.valueRows && VALUE_ROW_PREFIX_TOKENS.contains(previousToken);
+            scopes.push(new Scope(valueList, scope.projection));
+        } else if (')' == current) {
+            if (1 == scopes.size()) {
+                return -1;
+            }
+            scopes.pop();
+            limitPending = false;
+        }
+        int result = index + 1;
+        if (OPERATOR_CHARS.indexOf(current) >= 0) {
+            while (result < sql.length() && OPERATOR_CHARS.indexOf(sql.charAt(result)) >= 0 && !isCommentStart(result)) {
+                result++;
+            }
+        }
+        shape.append(sql, index, result);
+        if (!",".equals(sql.substring(index, result)) || !"0".equals(previousToken)) {
+            limitPending = false;
+        }
+        previousToken = sql.substring(index, result);
+        return result;
+    }
+    
+    private boolean isValuePosition() {
+        Scope scope = scopes.peek();
+        if (scope.projection) {
+            return false;
+        }
+        if (VALUE_PREFIX_TOKENS.contains(previousToken) || limitPending) {
+            return true;
+        }
+        if ("AND".equals(previousToken)) {
+            return betweenAnd;
+        }
+        return scope.valueList && ("(".equals(previousToken) || ",".equals(previousToken));
+    }
+    
+    private boolean isWordStart(final char ch) {
+        return Character.isLetter(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private boolean isWordPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private static final class Scope {
+        
+        private boolean valueList;
+        
+        private boolean valueRows;
+        
+        private boolean projection;
+        
+        Scope(final boolean valueList, final boolean projection) {
+            this.valueList = valueList;
+            this.projection = projection;
+        }
+    }
+}
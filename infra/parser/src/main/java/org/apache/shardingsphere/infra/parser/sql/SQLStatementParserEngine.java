@@ -19,11 +19,15 @@ package org.apache.shardingsphere.infra.parser.sql;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.Getter;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL statement parser engine.
  */
@@ -56,4 +60,22 @@ public final class SQLStatementParserEngine {
     public SQLStatement parse(final String sql, final boolean useCache) {
         return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
     }
+    
+    /**
+     * Parse literal normalized SQL to SQL statement.
+     *
+     * <p>SQL statements are cached by the shape SQL, so SQLs which only differ in normalized literals share one parsed statement.</p>
+     *
+     * @param normalizedSQL literal normalized SQL
+     * @return SQL statement of shape SQL, empty if shape SQL can not be parsed to a statement with parameters of all normalized literals
+     */
+    public Optional<SQLStatement> parseNormalized(final NormalizedSQL normalizedSQL) {
+        SQLStatement result;
+        try {
+            result = sqlStatementCache.get(normalizedSQL.getSql());
+        } catch (final SQLParsingException | ParseCancellationException ignored) {
+            return Optional.empty();
+        }
+        return result.getParameterCount() == normalizedSQL.getParameters().size() ? Optional.of(result) : Optional.empty();
+    }
 }
@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.spi.DialectSQLStatementFastParser;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL statement parser executor.
  */
@@ -32,9 +36,12 @@ public final class SQLStatementParserExecutor {
     
     private final SQLStatementVisitorEngine visitorEngine;
     
+    private final DialectSQLStatementFastParser fastParser;
+    
     public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption) {
         parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
         visitorEngine = new SQLStatementVisitorEngine(databaseType);
+        fastParser = DatabaseTypedSPILoader.findService(DialectSQLStatementFastParser.class, databaseType).orElse(null);
     }
     
     /**
@@ -44,6 +51,12 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
+        if (null != fastParser) {
+            Optional<SQLStatement> result = fastParser.parse(sql);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         return visitorEngine.visit(parserEngine.parse(sql, false));
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLLiteralNormalizerTest {
+    
+    @Test
+    void assertNormalizeSelect() {
+        String sql = "SELECT id, 'foo' FROM t_order WHERE user_id = 10 AND status IN ('a', 'it''s') AND price BETWEEN 1.5 AND 20 LIMIT 5, 10";
+        Optional<NormalizedSQL> actual = new SQLLiteralNormalizer(sql).normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT id, 'foo' FROM t_order WHERE user_id = ? AND status IN (?, ?) AND price BETWEEN ? AND ? LIMIT ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "a", "it's", new BigDecimal("1.5"), 20, 5, 10)));
+    }
+    
+    @Test
+    void assertNormalizeSelectWithFunctionsInProjection() {
+        String sql = "SELECT IF(status = 'a', 1, 0), (order_id IN (1, 2)), (SELECT MAX(item_id) FROM t_order_item WHERE price > 5) FROM t_order WHERE user_id = 10";
+        Optional<NormalizedSQL> actual = new SQLLiteralNormalizer(sql).normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT IF(status = 'a', 1, 0), (order_id IN (1, 2)), (SELECT MAX(item_id) FROM t_order_item WHERE price > ?) FROM t_order WHERE user_id = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(5, 10)));
+    }
+    
+    @Test
+    void assertNormalizeInsertWithMultipleValues() {
+        Optional<NormalizedSQL> actual = new SQLLiteralNormalizer("INSERT INTO t_order (order_id, user_id) VALUES (1, 'foo'), (2, NOW()) ON DUPLICATE KEY UPDATE user_id = 3").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, user_id) VALUES (?, ?), (?, NOW()) ON DUPLICATE KEY UPDATE user_id = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, "foo", 2, 3)));
+    }
+    
+    @Test
+    void assertNormalizeUpdateWithComment() {
+        Optional<NormalizedSQL> actual = new SQLLiteralNormalizer("/* SHARDINGSPHERE_HINT: WRITE_ROUTE_ONLY=true */ UPDATE t_order SET status = 'done' WHERE order_id = 1 -- id = 2").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("/* SHARDINGSPHERE_HINT: WRITE_ROUTE_ONLY=true */ UPDATE t_order SET status = ? WHERE order_id = ? -- id = 2"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList("done", 1)));
+    }
+    
+    @Test
+    void assertNormalizeWithoutLiteralsInUnknownPositions() {
+        String sql = "SELECT 1 FROM t_order WHERE id = -1 AND t1.c->'$.a' = _utf8mb4'x' AND d > DATE '2020-01-01' AND e = 0x1F AND f = 2 ORDER BY 1";
+        Optional<NormalizedSQL> actual = new SQLLiteralNormalizer(sql).normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is(sql.replace("f = 2", "f = ?")));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(2)));
+    }
+    
+    @Test
+    void assertNormalizeNotDML() {
+        assertFalse(new SQLLiteralNormalizer("SET autocommit = 1").normalize().isPresent());
+    }
+    
+    @Test
+    void assertNormalizeWithoutLiterals() {
+        assertFalse(new SQLLiteralNormalizer("SELECT * FROM t_order WHERE order_id = user_id").normalize().isPresent());
+    }
+    
+    @Test
+    void assertNormalizeWithUnsupportedCharacters() {
+        assertFalse(new SQLLiteralNormalizer("SELECT * FROM t_order WHERE status = 'a\\'b'").normalize().isPresent());
+        assertFalse(new SQLLiteralNormalizer("SELECT * FROM t_order WHERE order_id = ?").normalize().isPresent());
+        assertFalse(new SQLLiteralNormalizer("UPDATE t_order SET status = 'a' WHERE order_id = 1; UPDATE t_order SET status = 'b' WHERE order_id = 2").normalize().isPresent());
+        assertFalse(new SQLLiteralNormalizer("SELECT * FROM t_order WHERE order_id = 1 # comment").normalize().isPresent());
+    }
+}
@@ -27,6 +27,9 @@ import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorato
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlan;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlanCache;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.SQLRewriteTemplate;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
@@ -71,19 +74,34 @@ public final class SQLRewriteEntry {
     public SQLRewriteResult rewrite(final QueryContext queryContext, final RouteContext routeContext, final ConnectionContext connectionContext) {
         SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(queryContext, routeContext, connectionContext);
         SQLTranslatorRule rule = globalRuleMetaData.getSingleRule(SQLTranslatorRule.class);
-        return routeContext.getRouteUnits().isEmpty()
-                ? new GenericSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(sqlRewriteContext, queryContext)
-                : new RouteSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(sqlRewriteContext, routeContext, queryContext);
+        if (routeContext.getRouteUnits().isEmpty()) {
+            sqlRewriteContext.generateSQLTokens();
+            return new GenericSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(sqlRewriteContext, queryContext);
+        }
+        SQLRewriteTemplate template = getSQLRewriteTemplate(queryContext, routeContext, sqlRewriteContext);
+        return new RouteSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(sqlRewriteContext, template, routeContext, queryContext);
     }
     
     private SQLRewriteContext createSQLRewriteContext(final QueryContext queryContext, final RouteContext routeContext, final ConnectionContext connectionContext) {
         HintValueContext hintValueContext = queryContext.getHintValueContext();
         SQLRewriteContext result = new SQLRewriteContext(database, queryContext.getSqlStatementContext(), queryContext.getSql(), queryContext.getParameters(), connectionContext, hintValueContext);
         decorate(decorators, result, routeContext, hintValueContext);
-        result.generateSQLTokens();
         return result;
     }
     
+    private SQLRewriteTemplate getSQLRewriteTemplate(final QueryContext queryContext, final RouteContext routeContext, final SQLRewriteContext sqlRewriteContext) {
+        if (!queryContext.isUseCache() || !sqlRewriteContext.isSQLTokensReusable()) {
+            return compileSQLRewriteTemplate(sqlRewriteContext);
+        }
+        SQLRewritePlan plan = SQLRewritePlanCache.getPlan(queryContext.getSqlStatementContext(), database);
+        return plan.getSQLRewriteTemplate(routeContext.getRouteUnits(), () -> compileSQLRewriteTemplate(sqlRewriteContext));
+    }
+    
+    private SQLRewriteTemplate compileSQLRewriteTemplate(final SQLRewriteContext sqlRewriteContext) {
+        sqlRewriteContext.generateSQLTokens();
+        return new SQLRewriteTemplate(sqlRewriteContext);
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void decorate(final Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators, final SQLRewriteContext sqlRewriteContext,
                           final RouteContext routeContext, final HintValueContext hintValueContext) {
@@ -19,8 +19,10 @@ package org.apache.shardingsphere.infra.rewrite.context;
 
 import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
@@ -31,10 +33,13 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.generator.SQLTokenGener
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.builder.DefaultTokenGeneratorBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.NumberLiteralPaginationValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.PaginationValueSegment;
 
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL rewrite context.
@@ -90,6 +95,29 @@ public final class SQLRewriteContext {
         this.sqlTokenGenerators.addAll(sqlTokenGenerators);
     }
     
+    /**
+     * Judge whether SQL tokens can be reused for the same route units.
+     *
+     * <p>Revised pagination tokens are calculated with the actual offset and row count, so they can not be reused once any of them is not a number literal.</p>
+     *
+     * @return whether SQL tokens can be reused
+     */
+    public boolean isSQLTokensReusable() {
+        return !(sqlStatementContext instanceof InsertStatementContext) && !containsParameterizedPagination() && sqlTokenGenerators.isReusable();
+    }
+    
+    private boolean containsParameterizedPagination() {
+        if (!(sqlStatementContext instanceof SelectStatementContext)) {
+            return false;
+        }
+        PaginationContext paginationContext = ((SelectStatementContext) sqlStatementContext).getPaginationContext();
+        return !isNumberLiteral(paginationContext.getOffsetSegment()) || !isNumberLiteral(paginationContext.getRowCountSegment());
+    }
+    
+    private boolean isNumberLiteral(final Optional<PaginationValueSegment> paginationValueSegment) {
+        return paginationValueSegment.map(NumberLiteralPaginationValueSegment.class::isInstance).orElse(true);
+    }
+    
     /**
      * Generate SQL tokens.
      */
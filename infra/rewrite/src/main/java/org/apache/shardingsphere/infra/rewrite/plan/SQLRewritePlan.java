@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.SQLRewriteTemplate;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * SQL rewrite plan of a server prepared statement.
+ *
+ * <p>SQL rewrite templates are kept per route outcome, because route aware SQL tokens differ between the sets of route units the statement is routed to.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class SQLRewritePlan {
+    
+    private static final int MAX_ROUTE_OUTCOME_COUNT = 64;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final ShardingSphereDatabase database;
+    
+    private final Map<Collection<RouteUnit>, SQLRewriteTemplate> templates = new ConcurrentHashMap<>();
+    
+    /**
+     * Get SQL rewrite template of route units.
+     *
+     * @param routeUnits route units
+     * @param templateSupplier supplier to compile SQL rewrite template if absent
+     * @return SQL rewrite template
+     */
+    public SQLRewriteTemplate getSQLRewriteTemplate(final Collection<RouteUnit> routeUnits, final Supplier<SQLRewriteTemplate> templateSupplier) {
+        SQLRewriteTemplate result = templates.get(routeUnits);
+        if (null != result) {
+            return result;
+        }
+        synchronized (templates) {
+            if (templates.size() < MAX_ROUTE_OUTCOME_COUNT) {
+                return templates.computeIfAbsent(new HashSet<>(routeUnits), unused -> templateSupplier.get());
+            }
+        }
+        return templateSupplier.get();
+    }
+}
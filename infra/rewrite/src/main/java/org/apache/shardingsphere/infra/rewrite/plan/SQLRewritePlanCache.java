@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+
+/**
+ * SQL rewrite plan cache.
+ *
+ * <p>Plans are bound to the identity of SQL statement context, which is kept by a server prepared statement for its lifetime,
+ * and are dropped once the statement is closed or the database metadata is refreshed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLRewritePlanCache {
+    
+    private static final Cache<SQLStatementContext, SQLRewritePlan> PLANS = Caffeine.newBuilder().weakKeys().build();
+    
+    /**
+     * Get SQL rewrite plan.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param database database
+     * @return SQL rewrite plan
+     */
+    public static SQLRewritePlan getPlan(final SQLStatementContext sqlStatementContext, final ShardingSphereDatabase database) {
+        SQLRewritePlan result = PLANS.get(sqlStatementContext, unused -> new SQLRewritePlan(database));
+        if (database != result.getDatabase()) {
+            result = new SQLRewritePlan(database);
+            PLANS.put(sqlStatementContext, result);
+        }
+        return result;
+    }
+}
@@ -18,69 +18,64 @@
 package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.SQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
-import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.SubstitutableColumnNameToken;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
-import java.util.Collections;
-
 /**
  * Abstract SQL builder.
  */
 @RequiredArgsConstructor
 public abstract class AbstractSQLBuilder implements SQLBuilder {
     
-    private final SQLRewriteContext context;
+    private final SQLRewriteTemplate template;
     
     private final RouteUnit routeUnit;
     
     @Override
     public final String toSQL() {
-        if (context.getSqlTokens().isEmpty()) {
-            return context.getSql();
+        SQLToken[] sqlTokens = template.getSqlTokens();
+        if (0 == sqlTokens.length) {
+            return template.getSql();
         }
-        Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
-            if (each instanceof ComposableSQLToken) {
-                result.append(getComposableSQLTokenText((ComposableSQLToken) each));
-            } else if (each instanceof SubstitutableColumnNameToken) {
-                result.append(((SubstitutableColumnNameToken) each).toString(routeUnit));
-            } else {
-                result.append(getSQLTokenText(each));
-            }
-            result.append(getConjunctionText(each));
+        String[] sqlTokenTexts = new String[sqlTokens.length];
+        int length = template.getFragmentsLength();
+        for (int i = 0; i < sqlTokens.length; i++) {
+            sqlTokenTexts[i] = getSQLTokenSlotText(i, sqlTokens[i]);
+            length += sqlTokenTexts[i].length();
+        }
+        String sql = template.getSql();
+        int[] fragmentStartIndexes = template.getFragmentStartIndexes();
+        int[] fragmentStopIndexes = template.getFragmentStopIndexes();
+        StringBuilder result = new StringBuilder(length);
+        result.append(sql, 0, sqlTokens[0].getStartIndex());
+        for (int i = 0; i < sqlTokens.length; i++) {
+            result.append(sqlTokenTexts[i]).append(sql, fragmentStartIndexes[i], fragmentStopIndexes[i]);
         }
         return result.toString();
     }
     
+    private String getSQLTokenSlotText(final int sqlTokenIndex, final SQLToken sqlToken) {
+        if (sqlToken instanceof ComposableSQLToken) {
+            return getComposableSQLTokenText((ComposableSQLToken) sqlToken);
+        }
+        if (sqlToken instanceof SubstitutableColumnNameToken) {
+            return ((SubstitutableColumnNameToken) sqlToken).toString(routeUnit);
+        }
+        return sqlToken instanceof RouteUnitAware ? getSQLTokenText(sqlToken) : template.getSharedSQLTokenText(sqlTokenIndex);
+    }
+    
     protected abstract String getSQLTokenText(SQLToken sqlToken);
     
     private String getComposableSQLTokenText(final ComposableSQLToken composableSQLToken) {
         StringBuilder result = new StringBuilder();
         for (SQLToken each : composableSQLToken.getSqlTokens()) {
             result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+            result.append(template.getSql(), template.getFragmentStartIndex(each), template.getFragmentStopIndex(template.findSQLTokenIndex(each)));
         }
         return result.toString();
     }
-    
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
-        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, context.getSql().length());
-    }
-    
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
-    }
 }
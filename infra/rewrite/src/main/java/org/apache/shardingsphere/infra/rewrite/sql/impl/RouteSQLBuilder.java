@@ -30,7 +30,11 @@ public final class RouteSQLBuilder extends AbstractSQLBuilder {
     private final RouteUnit routeUnit;
     
     public RouteSQLBuilder(final SQLRewriteContext context, final RouteUnit routeUnit) {
-        super(context, routeUnit);
+        this(new SQLRewriteTemplate(context), routeUnit);
+    }
+    
+    public RouteSQLBuilder(final SQLRewriteTemplate template, final RouteUnit routeUnit) {
+        super(template, routeUnit);
         this.routeUnit = routeUnit;
     }
     
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.SubstitutableColumnNameToken;
+
+import java.util.Arrays;
+
+/**
+ * SQL rewrite template.
+ *
+ * <p>The original SQL is compiled once into ordered SQL token slots and the literal fragments between them, so that every route unit is rendered in one linear pass.
+ * Texts of SQL tokens which do not depend on route unit are rendered once while compiling, so the template can be shared by concurrent executions.</p>
+ */
+@Getter(AccessLevel.PACKAGE)
+public final class SQLRewriteTemplate {
+    
+    private final String sql;
+    
+    private final SQLToken[] sqlTokens;
+    
+    private final int[] fragmentStartIndexes;
+    
+    private final int[] fragmentStopIndexes;
+    
+    private final int fragmentsLength;
+    
+    @Getter(AccessLevel.NONE)
+    private final String[] sharedSQLTokenTexts;
+    
+    public SQLRewriteTemplate(final SQLRewriteContext context) {
+        sql = context.getSql();
+        sqlTokens = context.getSqlTokens().toArray(new SQLToken[0]);
+        Arrays.sort(sqlTokens);
+        fragmentStartIndexes = new int[sqlTokens.length];
+        fragmentStopIndexes = new int[sqlTokens.length];
+        sharedSQLTokenTexts = new String[sqlTokens.length];
+        int totalFragmentsLength = 0 == sqlTokens.length ? 0 : Math.max(sqlTokens[0].getStartIndex(), 0);
+        for (int i = 0; i < sqlTokens.length; i++) {
+            fragmentStartIndexes[i] = getFragmentStartIndex(sqlTokens[i]);
+            fragmentStopIndexes[i] = getFragmentStopIndex(i);
+            totalFragmentsLength += Math.max(fragmentStopIndexes[i] - fragmentStartIndexes[i], 0);
+            sharedSQLTokenTexts[i] = isSharedSQLToken(sqlTokens[i]) ? sqlTokens[i].toString() : null;
+        }
+        fragmentsLength = totalFragmentsLength;
+    }
+    
+    private boolean isSharedSQLToken(final SQLToken sqlToken) {
+        return !(sqlToken instanceof ComposableSQLToken) && !(sqlToken instanceof SubstitutableColumnNameToken) && !(sqlToken instanceof RouteUnitAware);
+    }
+    
+    int getFragmentStartIndex(final SQLToken sqlToken) {
+        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(startIndex, sql.length());
+    }
+    
+    int getFragmentStopIndex(final int sqlTokenIndex) {
+        return sqlTokens.length - 1 == sqlTokenIndex ? sql.length() : sqlTokens[sqlTokenIndex + 1].getStartIndex();
+    }
+    
+    int findSQLTokenIndex(final SQLToken sqlToken) {
+        for (int i = 0; i < sqlTokens.length; i++) {
+            if (sqlTokens[i].equals(sqlToken)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    String getSharedSQLTokenText(final int sqlTokenIndex) {
+        return sharedSQLTokenTexts[sqlTokenIndex];
+    }
+}
@@ -47,6 +47,20 @@ public final class SQLTokenGenerators {
         generators.addAll(sqlTokenGenerators);
     }
     
+    /**
+     * Judge whether generated SQL tokens can be reused for other parameters and connections.
+     *
+     * @return whether generated SQL tokens can be reused
+     */
+    public boolean isReusable() {
+        for (SQLTokenGenerator each : generators) {
+            if (each instanceof ParametersAware || each instanceof ConnectionContextAware) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     /**
      * Generate SQL tokens.
      *
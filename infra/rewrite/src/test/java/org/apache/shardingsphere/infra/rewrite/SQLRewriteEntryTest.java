@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.infra.rewrite;
 
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.context.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -29,12 +31,16 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.rewrite.fixture.RewriteRuleFixture;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.ParameterMarkerLimitValueSegment;
 import org.apache.shardingsphere.sqltranslator.context.SQLTranslatorContext;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
@@ -43,6 +49,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -96,6 +103,42 @@ class SQLRewriteEntryTest {
         assertThat(sqlRewriteResult.getSqlRewriteUnits().size(), is(2));
     }
     
+    @Test
+    void assertRewriteWithCachedPlanForNewOffset() {
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, TypedSPILoader.getService(DatabaseType.class, "H2"), mockResourceMetaData(),
+                new RuleMetaData(Collections.singleton(new RewriteRuleFixture())), Collections.singletonMap("test", mock(ShardingSphereSchema.class)));
+        SQLTranslatorRule sqlTranslatorRule = mock(SQLTranslatorRule.class);
+        when(sqlTranslatorRule.translate(any(), any(), any(), any(), any(), any())).thenAnswer(invocation -> new SQLTranslatorContext(invocation.getArgument(0), invocation.getArgument(1)));
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, new RuleMetaData(Collections.singleton(sqlTranslatorRule)), new ConfigurationProperties(new Properties()));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_1"), Collections.singletonList(new RouteMapper("t_order", "t_order_1"))));
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        assertRewriteWithPagination(sqlRewriteEntry, createPaginationQueryContext(sqlStatementContext, 0), routeContext, "SELECT * FROM t_order LIMIT ?, 10");
+        assertRewriteWithPagination(sqlRewriteEntry, createPaginationQueryContext(sqlStatementContext, 20), routeContext, "SELECT * FROM t_order LIMIT ?, 30");
+    }
+    
+    private QueryContext createPaginationQueryContext(final SelectStatementContext sqlStatementContext, final int offset) {
+        List<Object> params = Collections.singletonList(offset);
+        when(sqlStatementContext.getPaginationContext()).thenReturn(new PaginationContext(new ParameterMarkerLimitValueSegment(28, 28, 0), new NumberLiteralLimitValueSegment(31, 32, 10L), params));
+        QueryContext result = mock(QueryContext.class);
+        when(result.getSql()).thenReturn("SELECT * FROM t_order LIMIT ?, 10");
+        when(result.getParameters()).thenReturn(params);
+        when(result.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        when(result.getHintValueContext()).thenReturn(new HintValueContext());
+        when(result.isUseCache()).thenReturn(true);
+        return result;
+    }
+    
+    private void assertRewriteWithPagination(final SQLRewriteEntry sqlRewriteEntry, final QueryContext queryContext, final RouteContext routeContext, final String expectedSQL) {
+        RouteSQLRewriteResult sqlRewriteResult = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite(queryContext, routeContext, mock(ConnectionContext.class));
+        assertThat(sqlRewriteResult.getSqlRewriteUnits().size(), is(2));
+        for (SQLRewriteUnit each : sqlRewriteResult.getSqlRewriteUnits().values()) {
+            assertThat(each.getSql(), is(expectedSQL));
+            assertThat(each.getParameters(), is(queryContext.getParameters()));
+        }
+    }
+    
     private ResourceMetaData mockResourceMetaData() {
         Map<String, StorageUnit> storageUnits = new LinkedHashMap<>(2, 1F);
         StorageUnit storageUnit1 = mock(StorageUnit.class);
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.fixture;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.OptionalSQLTokenGenerator;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.PaginationValueSegment;
+
+public final class RowCountTokenGeneratorFixture implements OptionalSQLTokenGenerator<SelectStatementContext> {
+    
+    @Override
+    public boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).getPaginationContext().getRowCountSegment().isPresent();
+    }
+    
+    @Override
+    public RowCountTokenFixture generateSQLToken(final SelectStatementContext sqlStatementContext) {
+        PaginationContext paginationContext = sqlStatementContext.getPaginationContext();
+        PaginationValueSegment rowCountSegment = paginationContext.getRowCountSegment().get();
+        return new RowCountTokenFixture(rowCountSegment.getStartIndex(), rowCountSegment.getStopIndex(), paginationContext.getActualOffset() + paginationContext.getActualRowCount().orElse(0L));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SQLRewritePlanCacheTest {
+    
+    @Test
+    void assertGetPlanWithSameSQLStatementContext() {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        assertThat(SQLRewritePlanCache.getPlan(sqlStatementContext, database), sameInstance(SQLRewritePlanCache.getPlan(sqlStatementContext, database)));
+    }
+    
+    @Test
+    void assertGetPlanWithDifferentSQLStatementContexts() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        assertThat(SQLRewritePlanCache.getPlan(mock(SQLStatementContext.class), database), not(sameInstance(SQLRewritePlanCache.getPlan(mock(SQLStatementContext.class), database))));
+    }
+    
+    @Test
+    void assertGetPlanAfterDatabaseRefreshed() {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class);
+        SQLRewritePlan expired = SQLRewritePlanCache.getPlan(sqlStatementContext, mock(ShardingSphereDatabase.class));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        SQLRewritePlan actual = SQLRewritePlanCache.getPlan(sqlStatementContext, database);
+        assertThat(actual, not(sameInstance(expired)));
+        assertThat(SQLRewritePlanCache.getPlan(sqlStatementContext, database), sameInstance(actual));
+    }
+}
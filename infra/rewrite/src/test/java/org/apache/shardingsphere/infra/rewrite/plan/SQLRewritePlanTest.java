@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.SQLRewriteTemplate;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SQLRewritePlanTest {
+    
+    @Test
+    void assertGetSQLRewriteTemplateWithSameRouteUnits() {
+        SQLRewritePlan plan = new SQLRewritePlan(mock(ShardingSphereDatabase.class));
+        SQLRewriteTemplate expected = mock(SQLRewriteTemplate.class);
+        assertThat(plan.getSQLRewriteTemplate(createRouteUnits("ds_0", "t_order_0"), () -> expected), is(expected));
+        assertThat(plan.getSQLRewriteTemplate(createRouteUnits("ds_0", "t_order_0"), () -> mock(SQLRewriteTemplate.class)), sameInstance(expected));
+    }
+    
+    @Test
+    void assertGetSQLRewriteTemplateWithDifferentRouteUnits() {
+        SQLRewritePlan plan = new SQLRewritePlan(mock(ShardingSphereDatabase.class));
+        SQLRewriteTemplate expected = mock(SQLRewriteTemplate.class);
+        plan.getSQLRewriteTemplate(createRouteUnits("ds_0", "t_order_0"), () -> expected);
+        assertThat(plan.getSQLRewriteTemplate(createRouteUnits("ds_1", "t_order_1"), () -> mock(SQLRewriteTemplate.class)), not(sameInstance(expected)));
+    }
+    
+    @Test
+    void assertGetSQLRewriteTemplateBeyondMaxRouteOutcomeCount() {
+        SQLRewritePlan plan = new SQLRewritePlan(mock(ShardingSphereDatabase.class));
+        for (int i = 0; i < 64; i++) {
+            plan.getSQLRewriteTemplate(createRouteUnits("ds_0", "t_order_" + i), () -> mock(SQLRewriteTemplate.class));
+        }
+        SQLRewriteTemplate notCached = mock(SQLRewriteTemplate.class);
+        assertThat(plan.getSQLRewriteTemplate(createRouteUnits("ds_0", "t_order_64"), () -> notCached), is(notCached));
+        assertThat(plan.getSQLRewriteTemplate(createRouteUnits("ds_0", "t_order_64"), () -> mock(SQLRewriteTemplate.class)), not(sameInstance(notCached)));
+    }
+    
+    private Collection<RouteUnit> createRouteUnits(final String dataSourceName, final String actualTableName) {
+        Collection<RouteUnit> result = new LinkedHashSet<>();
+        result.add(new RouteUnit(new RouteMapper("foo_ds", dataSourceName), Collections.singletonList(new RouteMapper("t_order", actualTableName))));
+        return result;
+    }
+}
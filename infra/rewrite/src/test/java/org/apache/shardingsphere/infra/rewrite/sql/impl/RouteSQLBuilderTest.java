@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -49,7 +50,21 @@ class RouteSQLBuilderTest {
         assertThat(new RouteSQLBuilder(context, createRouteUnit()).toSQL(), is("SELECT * FROM tbl_0 WHERE id=?"));
     }
     
+    @Test
+    void assertToSQLWithSharedTemplate() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE tbl.id=?");
+        when(context.getSqlTokens()).thenReturn(Arrays.asList(new SQLTokenFixture(24, 26), new RouteUnitAwareSQLTokenFixture(14, 16)));
+        SQLRewriteTemplate template = new SQLRewriteTemplate(context);
+        assertThat(new RouteSQLBuilder(template, createRouteUnit("tbl_0")).toSQL(), is("SELECT * FROM tbl_0 WHERE XXX.id=?"));
+        assertThat(new RouteSQLBuilder(template, createRouteUnit("tbl_1")).toSQL(), is("SELECT * FROM tbl_1 WHERE XXX.id=?"));
+    }
+    
     private RouteUnit createRouteUnit() {
-        return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        return createRouteUnit("tbl_0");
+    }
+    
+    private RouteUnit createRouteUnit(final String actualTableName) {
+        return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", actualTableName)));
     }
 }
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.infra.rewrite.sql.token.generator;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.ConnectionContextAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.ParametersAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.junit.jupiter.api.Test;
 
@@ -29,10 +31,13 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 class SQLTokenGeneratorsTest {
     
@@ -63,4 +68,25 @@ class SQLTokenGeneratorsTest {
         assertThat(actualSQLTokens.size(), is(2));
         assertThat(actualSQLTokens, is(expectedTokens));
     }
+    
+    @Test
+    void assertIsReusable() {
+        SQLTokenGenerators generators = new SQLTokenGenerators();
+        generators.addAll(Collections.singleton(mock(OptionalSQLTokenGenerator.class)));
+        assertTrue(generators.isReusable());
+    }
+    
+    @Test
+    void assertIsNotReusableWithParametersAwareGenerator() {
+        SQLTokenGenerators generators = new SQLTokenGenerators();
+        generators.addAll(Collections.singleton(mock(OptionalSQLTokenGenerator.class, withSettings().extraInterfaces(ParametersAware.class))));
+        assertFalse(generators.isReusable());
+    }
+    
+    @Test
+    void assertIsNotReusableWithConnectionContextAwareGenerator() {
+        SQLTokenGenerators generators = new SQLTokenGenerators();
+        generators.addAll(Collections.singleton(mock(CollectionSQLTokenGenerator.class, withSettings().extraInterfaces(ConnectionContextAware.class))));
+        assertFalse(generators.isReusable());
+    }
 }
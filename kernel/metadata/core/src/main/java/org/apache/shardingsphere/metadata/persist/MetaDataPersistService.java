@@ -19,6 +19,8 @@ package org.apache.shardingsphere.metadata.persist;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.rule.decorator.RuleConfigurationDecorator;
 import org.apache.shardingsphere.infra.datasource.pool.config.DataSourceConfiguration;
@@ -33,6 +35,7 @@ import org.apache.shardingsphere.metadata.persist.service.config.database.rule.D
 import org.apache.shardingsphere.metadata.persist.service.config.global.GlobalRulePersistService;
 import org.apache.shardingsphere.metadata.persist.service.config.global.PropertiesPersistService;
 import org.apache.shardingsphere.metadata.persist.service.database.DatabaseMetaDataPersistService;
+import org.apache.shardingsphere.metadata.persist.service.schema.snapshot.TableMetaDataSnapshotLocalCache;
 import org.apache.shardingsphere.metadata.persist.service.version.MetaDataVersionPersistService;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
@@ -71,11 +74,16 @@ public final class MetaDataPersistService implements MetaDataBasedPersistService
     private final ShardingSphereDataPersistService shardingSphereDataPersistService;
     
     public MetaDataPersistService(final PersistRepository repository) {
+        this(repository, new ConfigurationProperties(new Properties()));
+    }
+    
+    public MetaDataPersistService(final PersistRepository repository, final ConfigurationProperties props) {
         this.repository = repository;
         metaDataVersionPersistService = new MetaDataVersionPersistService(repository);
         dataSourceUnitService = new DataSourceUnitPersistService(repository);
         dataSourceNodeService = new DataSourceNodePersistService(repository);
-        databaseMetaDataService = new DatabaseMetaDataPersistService(repository, metaDataVersionPersistService);
+        databaseMetaDataService = new DatabaseMetaDataPersistService(repository, metaDataVersionPersistService,
+                new TableMetaDataSnapshotLocalCache(props.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_DIRECTORY)));
         databaseRulePersistService = new DatabaseRulePersistService(repository);
         globalRuleService = new GlobalRulePersistService(repository);
         propsService = new PropertiesPersistService(repository);
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNode;
 import org.apache.shardingsphere.metadata.persist.service.schema.TableMetaDataPersistService;
 import org.apache.shardingsphere.metadata.persist.service.schema.ViewMetaDataPersistService;
+import org.apache.shardingsphere.metadata.persist.service.schema.snapshot.TableMetaDataSnapshotLocalCache;
 import org.apache.shardingsphere.metadata.persist.service.version.MetaDataVersionPersistService;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
@@ -46,8 +47,13 @@ public final class DatabaseMetaDataPersistService implements DatabaseMetaDataBas
     private final MetaDataVersionPersistService metaDataVersionPersistService;
     
     public DatabaseMetaDataPersistService(final PersistRepository repository, final MetaDataVersionPersistService metaDataVersionPersistService) {
+        this(repository, metaDataVersionPersistService, new TableMetaDataSnapshotLocalCache(null));
+    }
+    
+    public DatabaseMetaDataPersistService(final PersistRepository repository, final MetaDataVersionPersistService metaDataVersionPersistService,
+                                          final TableMetaDataSnapshotLocalCache snapshotLocalCache) {
         this.repository = repository;
-        this.tableMetaDataPersistService = new TableMetaDataPersistService(repository);
+        this.tableMetaDataPersistService = new TableMetaDataPersistService(repository, snapshotLocalCache);
         this.viewMetaDataPersistService = new ViewMetaDataPersistService(repository);
         this.metaDataVersionPersistService = metaDataVersionPersistService;
     }
@@ -25,6 +25,8 @@ import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
 import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
 import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNode;
+import org.apache.shardingsphere.metadata.persist.service.schema.snapshot.TableMetaDataSnapshot;
+import org.apache.shardingsphere.metadata.persist.service.schema.snapshot.TableMetaDataSnapshotLocalCache;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
 import java.util.Collection;
@@ -34,6 +36,7 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 /**
  * Table meta data persist service.
@@ -45,66 +48,121 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
     
     private final PersistRepository repository;
     
+    private final TableMetaDataSnapshotLocalCache snapshotLocalCache;
+    
     @Override
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
-        for (Entry<String, ShardingSphereTable> entry : tables.entrySet()) {
-            String tableName = entry.getKey().toLowerCase();
-            List<String> versions = repository.getChildrenKeys(DatabaseMetaDataNode.getTableVersionsNode(databaseName, schemaName, tableName));
-            repository.persist(DatabaseMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName, versions.isEmpty()
-                    ? DEFAULT_VERSION
-                    : String.valueOf(Integer.parseInt(versions.get(0)) + 1)), YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(entry.getValue())));
-            if (Strings.isNullOrEmpty(repository.getDirectly(DatabaseMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName)))) {
-                repository.persist(DatabaseMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName), DEFAULT_VERSION);
-            }
-        }
+        persistTables(databaseName, schemaName, tables);
     }
     
     @Override
     public Collection<MetaDataVersion> persistSchemaMetaData(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
+        return persistTables(databaseName, schemaName, tables);
+    }
+    
+    private Collection<MetaDataVersion> persistTables(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
+        Map<String, ShardingSphereTable> lowerCaseTables = new LinkedHashMap<>(tables.size(), 1F);
+        tables.forEach((key, value) -> lowerCaseTables.put(key.toLowerCase(), value));
+        Map<String, List<String>> versions = repository.batchGetChildrenKeys(
+                lowerCaseTables.keySet().stream().map(each -> DatabaseMetaDataNode.getTableVersionsNode(databaseName, schemaName, each)).collect(Collectors.toList()));
+        Map<String, String> activeVersions = getActiveVersions(databaseName, schemaName, lowerCaseTables.keySet());
         Collection<MetaDataVersion> result = new LinkedList<>();
-        for (Entry<String, ShardingSphereTable> entry : tables.entrySet()) {
-            String tableName = entry.getKey().toLowerCase();
-            List<String> versions = repository.getChildrenKeys(DatabaseMetaDataNode.getTableVersionsNode(databaseName, schemaName, tableName));
-            String nextActiveVersion = versions.isEmpty() ? DEFAULT_VERSION : String.valueOf(Integer.parseInt(versions.get(0)) + 1);
-            repository.persist(DatabaseMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName, nextActiveVersion),
+        Map<String, String> tableVersionNodes = new LinkedHashMap<>(lowerCaseTables.size(), 1F);
+        Map<String, String> missingActiveVersionNodes = new LinkedHashMap<>(lowerCaseTables.size(), 1F);
+        for (Entry<String, ShardingSphereTable> entry : lowerCaseTables.entrySet()) {
+            String tableName = entry.getKey();
+            List<String> tableVersions = versions.get(DatabaseMetaDataNode.getTableVersionsNode(databaseName, schemaName, tableName));
+            String nextActiveVersion = null == tableVersions || tableVersions.isEmpty() ? DEFAULT_VERSION : String.valueOf(Integer.parseInt(tableVersions.get(0)) + 1);
+            tableVersionNodes.put(DatabaseMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName, nextActiveVersion),
                     YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(entry.getValue())));
-            if (Strings.isNullOrEmpty(getActiveVersion(databaseName, schemaName, tableName))) {
-                repository.persist(DatabaseMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName), DEFAULT_VERSION);
+            String activeVersion = activeVersions.get(tableName);
+            if (Strings.isNullOrEmpty(activeVersion)) {
+                missingActiveVersionNodes.put(DatabaseMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName), DEFAULT_VERSION);
+                activeVersion = DEFAULT_VERSION;
             }
-            result.add(new MetaDataVersion(DatabaseMetaDataNode.getTableNode(databaseName, schemaName, tableName), getActiveVersion(databaseName, schemaName, tableName), nextActiveVersion));
+            result.add(new MetaDataVersion(DatabaseMetaDataNode.getTableNode(databaseName, schemaName, tableName), activeVersion, nextActiveVersion));
+        }
+        repository.batchPersist(tableVersionNodes);
+        if (!missingActiveVersionNodes.isEmpty()) {
+            repository.batchPersist(missingActiveVersionNodes);
         }
         return result;
     }
     
-    private String getActiveVersion(final String databaseName, final String schemaName, final String tableName) {
-        return repository.getDirectly(DatabaseMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName));
+    private Map<String, String> getActiveVersions(final String databaseName, final String schemaName, final Collection<String> tableNames) {
+        Map<String, String> activeVersions = repository.batchGetDirectly(
+                tableNames.stream().map(each -> DatabaseMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each)).collect(Collectors.toList()));
+        Map<String, String> result = new LinkedHashMap<>(tableNames.size(), 1F);
+        for (String each : tableNames) {
+            result.put(each, activeVersions.get(DatabaseMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each)));
+        }
+        return result;
     }
     
     @Override
     public Map<String, ShardingSphereTable> load(final String databaseName, final String schemaName) {
         Collection<String> tableNames = repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName));
-        return tableNames.isEmpty() ? Collections.emptyMap() : getTableMetaDataByTableNames(databaseName, schemaName, tableNames);
+        if (tableNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, TableMetaDataSnapshot> cachedSnapshots = snapshotLocalCache.load(databaseName, schemaName);
+        Map<String, TableMetaDataSnapshot> loadedSnapshots = loadTableMetaDataSnapshots(databaseName, schemaName, tableNames, cachedSnapshots);
+        if (isSnapshotChanged(cachedSnapshots, loadedSnapshots)) {
+            snapshotLocalCache.save(databaseName, schemaName, loadedSnapshots);
+        }
+        return getTables(loadedSnapshots);
     }
     
     @Override
     public Map<String, ShardingSphereTable> load(final String databaseName, final String schemaName, final String tableName) {
-        return getTableMetaDataByTableNames(databaseName, schemaName, Collections.singletonList(tableName));
+        return getTables(loadTableMetaDataSnapshots(databaseName, schemaName, Collections.singletonList(tableName), Collections.emptyMap()));
     }
     
-    private Map<String, ShardingSphereTable> getTableMetaDataByTableNames(final String databaseName, final String schemaName, final Collection<String> tableNames) {
-        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tableNames.size(), 1F);
-        tableNames.forEach(each -> {
-            String table = repository.getDirectly(DatabaseMetaDataNode.getTableVersionNode(databaseName, schemaName, each,
-                    repository.getDirectly(DatabaseMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, each))));
+    private Map<String, TableMetaDataSnapshot> loadTableMetaDataSnapshots(final String databaseName, final String schemaName, final Collection<String> tableNames,
+                                                                          final Map<String, TableMetaDataSnapshot> cachedSnapshots) {
+        Map<String, String> activeVersions = getActiveVersions(databaseName, schemaName, tableNames);
+        Map<String, String> tableVersionNodes = new LinkedHashMap<>(tableNames.size(), 1F);
+        for (String each : tableNames) {
+            TableMetaDataSnapshot cachedSnapshot = cachedSnapshots.get(each.toLowerCase());
+            if (null == cachedSnapshot || !cachedSnapshot.matches(activeVersions.get(each))) {
+                tableVersionNodes.put(each, DatabaseMetaDataNode.getTableVersionNode(databaseName, schemaName, each, activeVersions.get(each)));
+            }
+        }
+        Map<String, String> tables = tableVersionNodes.isEmpty() ? Collections.emptyMap() : repository.batchGetDirectly(tableVersionNodes.values());
+        Map<String, TableMetaDataSnapshot> result = new LinkedHashMap<>(tableNames.size(), 1F);
+        for (String each : tableNames) {
+            String tableName = each.toLowerCase();
+            if (!tableVersionNodes.containsKey(each)) {
+                result.put(tableName, cachedSnapshots.get(tableName));
+                continue;
+            }
+            String table = tables.get(tableVersionNodes.get(each));
             if (!Strings.isNullOrEmpty(table)) {
-                result.put(each.toLowerCase(), new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(table, YamlShardingSphereTable.class)));
+                result.put(tableName, new TableMetaDataSnapshot(activeVersions.get(each), new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(table, YamlShardingSphereTable.class))));
             }
-        });
+        }
+        return result;
+    }
+    
+    private Map<String, ShardingSphereTable> getTables(final Map<String, TableMetaDataSnapshot> snapshots) {
+        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(snapshots.size(), 1F);
+        snapshots.forEach((key, value) -> result.put(key, value.getTable()));
         return result;
     }
     
+    private boolean isSnapshotChanged(final Map<String, TableMetaDataSnapshot> cachedSnapshots, final Map<String, TableMetaDataSnapshot> loadedSnapshots) {
+        if (!snapshotLocalCache.isEnabled()) {
+            return false;
+        }
+        if (cachedSnapshots.size() != loadedSnapshots.size()) {
+            return true;
+        }
+        return loadedSnapshots.entrySet().stream().anyMatch(each -> each.getValue() != cachedSnapshots.get(each.getKey()));
+    }
+    
     @Override
     public void delete(final String databaseName, final String schemaName, final String tableName) {
         repository.delete(DatabaseMetaDataNode.getTableNode(databaseName, schemaName, tableName.toLowerCase()));
+        snapshotLocalCache.evict(databaseName, schemaName, tableName.toLowerCase());
     }
 }
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.schema.snapshot;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Table meta data snapshot codec.
+ *
+ * <p>Tables of a schema are encoded into one compressed binary snapshot, which avoids YAML parsing when the snapshot is loaded.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableMetaDataSnapshotCodec {
+    
+    private static final int MAGIC_NUMBER = 0x53534d44;
+    
+    private static final int FORMAT_VERSION = 2;
+    
+    /**
+     * Encode table meta data snapshots.
+     *
+     * @param snapshots table meta data snapshots, key is table name
+     * @return encoded bytes
+     * @throws IOException IO exception
+     */
+    public static byte[] encode(final Map<String, TableMetaDataSnapshot> snapshots) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(result)) {
+            output.writeInt(MAGIC_NUMBER);
+            output.writeInt(FORMAT_VERSION);
+            try (DataOutputStream compressedOutput = new DataOutputStream(new GZIPOutputStream(output))) {
+                compressedOutput.writeInt(snapshots.size());
+                for (Entry<String, TableMetaDataSnapshot> entry : snapshots.entrySet()) {
+                    compressedOutput.writeUTF(entry.getKey());
+                    compressedOutput.writeUTF(entry.getValue().getVersion());
+                    writeTable(compressedOutput, entry.getValue().getTable());
+                }
+            }
+        }
+        return result.toByteArray();
+    }
+    
+    private static void writeTable(final DataOutputStream output, final ShardingSphereTable table) throws IOException {
+        output.writeUTF(table.getName());
+        output.writeBoolean(null != table.getType());
+        if (null != table.getType()) {
+            output.writeUTF(table.getType().name());
+        }
+        output.writeInt(table.getColumnValues().size());
+        for (ShardingSphereColumn each : table.getColumnValues()) {
+            output.writeUTF(each.getName());
+            output.writeInt(each.getDataType());
+            output.writeBoolean(each.isPrimaryKey());
+            output.writeBoolean(each.isGenerated());
+            output.writeBoolean(each.isCaseSensitive());
+            output.writeBoolean(each.isVisible());
+            output.writeBoolean(each.isUnsigned());
+            output.writeBoolean(each.isNullable());
+        }
+        output.writeInt(table.getIndexValues().size());
+        for (ShardingSphereIndex each : table.getIndexValues()) {
+            output.writeUTF(each.getName());
+            output.writeBoolean(each.isUnique());
+            output.writeInt(each.getColumns().size());
+            for (String column : each.getColumns()) {
+                output.writeUTF(column);
+            }
+        }
+        output.writeInt(table.getConstraintValues().size());
+        for (ShardingSphereConstraint each : table.getConstraintValues()) {
+            output.writeUTF(each.getName());
+            output.writeBoolean(null != each.getReferencedTableName());
+            if (null != each.getReferencedTableName()) {
+                output.writeUTF(each.getReferencedTableName());
+            }
+        }
+    }
+    
+    /**
+     * Decode table meta data snapshots.
+     *
+     * @param bytes encoded bytes
+     * @return table meta data snapshots, key is table name
+     * @throws IOException IO exception
+     */
+    public static Map<String, TableMetaDataSnapshot> decode(final byte[] bytes) throws IOException {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (MAGIC_NUMBER != input.readInt() || FORMAT_VERSION != input.readInt()) {
+                throw new IOException("Unsupported table meta data snapshot format.");
+            }
+            try (DataInputStream compressedInput = new DataInputStream(new GZIPInputStream(input))) {
+                int tableCount = compressedInput.readInt();
+                Map<String, TableMetaDataSnapshot> result = new LinkedHashMap<>(tableCount, 1F);
+                for (int i = 0; i < tableCount; i++) {
+                    String tableName = compressedInput.readUTF();
+                    String version = compressedInput.readUTF();
+                    result.put(tableName, new TableMetaDataSnapshot(version, readTable(compressedInput)));
+                }
+                return result;
+            }
+        }
+    }
+    
+    private static ShardingSphereTable readTable(final DataInputStream input) throws IOException {
+        String name = input.readUTF();
+        TableType type = input.readBoolean() ? TableType.valueOf(input.readUTF()) : null;
+        int columnCount = input.readInt();
+        Collection<ShardingSphereColumn> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            columns.add(new ShardingSphereColumn(input.readUTF(), input.readInt(),
+                    input.readBoolean(), input.readBoolean(), input.readBoolean(), input.readBoolean(), input.readBoolean(), input.readBoolean()));
+        }
+        int indexCount = input.readInt();
+        Collection<ShardingSphereIndex> indexes = new ArrayList<>(indexCount);
+        for (int i = 0; i < indexCount; i++) {
+            ShardingSphereIndex index = new ShardingSphereIndex(input.readUTF());
+            index.setUnique(input.readBoolean());
+            int indexColumnCount = input.readInt();
+            for (int j = 0; j < indexColumnCount; j++) {
+                index.getColumns().add(input.readUTF());
+            }
+            indexes.add(index);
+        }
+        int constraintCount = input.readInt();
+        Collection<ShardingSphereConstraint> constraints = new ArrayList<>(constraintCount);
+        for (int i = 0; i < constraintCount; i++) {
+            String constraintName = input.readUTF();
+            constraints.add(new ShardingSphereConstraint(constraintName, input.readBoolean() ? input.readUTF() : null));
+        }
+        return new ShardingSphereTable(name, columns, indexes, constraints, type);
+    }
+}
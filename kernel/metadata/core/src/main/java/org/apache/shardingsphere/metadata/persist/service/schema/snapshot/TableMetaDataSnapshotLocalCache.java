@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.schema.snapshot;
+
+import com.google.common.base.Strings;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Local cache of table meta data snapshot.
+ *
+ * <p>Snapshots are stored on local disk of compute node, one file for each schema, to warm start without parsing persisted table meta data again.
+ * The cache is enabled by system property {@code shardingsphere.metadata.snapshot.dir}.</p>
+ */
+@Slf4j
+public final class TableMetaDataSnapshotLocalCache {
+    
+    private static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+    
+    private final Path directory;
+    
+    public TableMetaDataSnapshotLocalCache(final String directory) {
+        this.directory = Strings.isNullOrEmpty(directory) ? null : Paths.get(directory);
+    }
+    
+    /**
+     * Judge whether local cache is enabled.
+     *
+     * @return enabled or not
+     */
+    public boolean isEnabled() {
+        return null != directory;
+    }
+    
+    /**
+     * Load table meta data snapshots.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return table meta data snapshots, key is table name
+     */
+    public Map<String, TableMetaDataSnapshot> load(final String databaseName, final String schemaName) {
+        if (!isEnabled()) {
+            return Collections.emptyMap();
+        }
+        Path snapshotFile = getSnapshotFile(databaseName, schemaName);
+        if (!Files.isRegularFile(snapshotFile)) {
+            return Collections.emptyMap();
+        }
+        try {
+            return TableMetaDataSnapshotCodec.decode(Files.readAllBytes(snapshotFile));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Load table meta data snapshot `{}` failed, it will be rebuilt.", snapshotFile, ex);
+            return Collections.emptyMap();
+        }
+    }
+    
+    /**
+     * Save table meta data snapshots.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param snapshots table meta data snapshots, key is table name
+     */
+    public void save(final String databaseName, final String schemaName, final Map<String, TableMetaDataSnapshot> snapshots) {
+        if (!isEnabled()) {
+            return;
+        }
+        Path snapshotFile = getSnapshotFile(databaseName, schemaName);
+        try {
+            Files.createDirectories(snapshotFile.getParent());
+            Path tempFile = Files.createTempFile(snapshotFile.getParent(), schemaName, SNAPSHOT_FILE_SUFFIX);
+            try {
+                Files.write(tempFile, TableMetaDataSnapshotCodec.encode(snapshots));
+                Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (final IOException ex) {
+            log.warn("Save table meta data snapshot `{}` failed.", snapshotFile, ex);
+        }
+    }
+    
+    /**
+     * Evict table meta data snapshot.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableName table name
+     */
+    public void evict(final String databaseName, final String schemaName, final String tableName) {
+        Map<String, TableMetaDataSnapshot> snapshots = load(databaseName, schemaName);
+        if (snapshots.containsKey(tableName)) {
+            Map<String, TableMetaDataSnapshot> remainingSnapshots = new LinkedHashMap<>(snapshots);
+            remainingSnapshots.remove(tableName);
+            save(databaseName, schemaName, remainingSnapshots);
+        }
+    }
+    
+    private Path getSnapshotFile(final String databaseName, final String schemaName) {
+        return directory.resolve(databaseName).resolve(schemaName + SNAPSHOT_FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.schema;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.version.MetaDataVersion;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
+import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNode;
+import org.apache.shardingsphere.metadata.persist.service.schema.snapshot.TableMetaDataSnapshot;
+import org.apache.shardingsphere.metadata.persist.service.schema.snapshot.TableMetaDataSnapshotLocalCache;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TableMetaDataPersistServiceTest {
+    
+    private static final String VERSIONS_NODE = DatabaseMetaDataNode.getTableVersionsNode("foo_db", "foo_schema", "foo_tbl");
+    
+    private static final String ACTIVE_VERSION_NODE = DatabaseMetaDataNode.getTableActiveVersionNode("foo_db", "foo_schema", "foo_tbl");
+    
+    @Mock
+    private PersistRepository repository;
+    
+    private TableMetaDataPersistService persistService;
+    
+    @BeforeEach
+    void setUp() {
+        persistService = new TableMetaDataPersistService(repository, new TableMetaDataSnapshotLocalCache(null));
+    }
+    
+    @Test
+    void assertPersistSchemaMetaDataWithoutActiveVersion() {
+        when(repository.batchGetChildrenKeys(Collections.singletonList(VERSIONS_NODE))).thenReturn(Collections.singletonMap(VERSIONS_NODE, Collections.emptyList()));
+        when(repository.batchGetDirectly(Collections.singletonList(ACTIVE_VERSION_NODE))).thenReturn(Collections.singletonMap(ACTIVE_VERSION_NODE, null));
+        Collection<MetaDataVersion> actual = persistService.persistSchemaMetaData("foo_db", "foo_schema", Collections.singletonMap("FOO_TBL", createTable()));
+        assertThat(actual.size(), is(1));
+        MetaDataVersion metaDataVersion = actual.iterator().next();
+        assertThat(metaDataVersion.getKey(), is(DatabaseMetaDataNode.getTableNode("foo_db", "foo_schema", "foo_tbl")));
+        assertThat(metaDataVersion.getCurrentActiveVersion(), is("0"));
+        assertThat(metaDataVersion.getNextActiveVersion(), is("0"));
+        verify(repository).batchPersist(Collections.singletonMap(DatabaseMetaDataNode.getTableVersionNode("foo_db", "foo_schema", "foo_tbl", "0"), marshal(createTable())));
+        verify(repository).batchPersist(Collections.singletonMap(ACTIVE_VERSION_NODE, "0"));
+        verify(repository, times(1)).batchGetDirectly(anyCollection());
+    }
+    
+    @Test
+    void assertPersistSchemaMetaDataWithActiveVersion() {
+        when(repository.batchGetChildrenKeys(Collections.singletonList(VERSIONS_NODE))).thenReturn(Collections.singletonMap(VERSIONS_NODE, Arrays.asList("1", "0")));
+        when(repository.batchGetDirectly(Collections.singletonList(ACTIVE_VERSION_NODE))).thenReturn(Collections.singletonMap(ACTIVE_VERSION_NODE, "1"));
+        Collection<MetaDataVersion> actual = persistService.persistSchemaMetaData("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", createTable()));
+        MetaDataVersion metaDataVersion = actual.iterator().next();
+        assertThat(metaDataVersion.getCurrentActiveVersion(), is("1"));
+        assertThat(metaDataVersion.getNextActiveVersion(), is("2"));
+        verify(repository, times(1)).batchPersist(any());
+        verify(repository, times(1)).batchGetDirectly(anyCollection());
+    }
+    
+    @Test
+    void assertLoad() {
+        String versionNode = DatabaseMetaDataNode.getTableVersionNode("foo_db", "foo_schema", "foo_tbl", "1");
+        when(repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataTablesPath("foo_db", "foo_schema"))).thenReturn(Collections.singletonList("foo_tbl"));
+        when(repository.batchGetDirectly(argThat(keys -> keys.contains(ACTIVE_VERSION_NODE)))).thenReturn(Collections.singletonMap(ACTIVE_VERSION_NODE, "1"));
+        when(repository.batchGetDirectly(argThat(keys -> keys.contains(versionNode)))).thenReturn(Collections.singletonMap(versionNode, marshal(createTable())));
+        Map<String, ShardingSphereTable> actual = persistService.load("foo_db", "foo_schema");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("foo_tbl").getName(), is("foo_tbl"));
+        assertTrue(actual.get("foo_tbl").containsColumn("id"));
+    }
+    
+    @Test
+    void assertLoadWithFreshSnapshotLocalCache(@TempDir final Path directory) {
+        String versionNode = DatabaseMetaDataNode.getTableVersionNode("foo_db", "foo_schema", "foo_tbl", "1");
+        when(repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataTablesPath("foo_db", "foo_schema"))).thenReturn(Collections.singletonList("foo_tbl"));
+        when(repository.batchGetDirectly(argThat(keys -> keys.contains(ACTIVE_VERSION_NODE)))).thenReturn(Collections.singletonMap(ACTIVE_VERSION_NODE, "1"));
+        when(repository.batchGetDirectly(argThat(keys -> keys.contains(versionNode)))).thenReturn(Collections.singletonMap(versionNode, marshal(createTable())));
+        assertTrue(new TableMetaDataPersistService(repository, new TableMetaDataSnapshotLocalCache(directory.toString())).load("foo_db", "foo_schema").containsKey("foo_tbl"));
+        Map<String, ShardingSphereTable> actual = new TableMetaDataPersistService(repository, new TableMetaDataSnapshotLocalCache(directory.toString())).load("foo_db", "foo_schema");
+        assertThat(actual.size(), is(1));
+        assertTrue(actual.get("foo_tbl").containsColumn("id"));
+        verify(repository, times(1)).batchGetDirectly(argThat(keys -> keys.contains(versionNode)));
+    }
+    
+    @Test
+    void assertLoadWithStaleSnapshotLocalCache(@TempDir final Path directory) {
+        TableMetaDataSnapshotLocalCache snapshotLocalCache = new TableMetaDataSnapshotLocalCache(directory.toString());
+        snapshotLocalCache.save("foo_db", "foo_schema", Collections.singletonMap("foo_tbl",
+                new TableMetaDataSnapshot("0", new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()))));
+        String versionNode = DatabaseMetaDataNode.getTableVersionNode("foo_db", "foo_schema", "foo_tbl", "1");
+        when(repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataTablesPath("foo_db", "foo_schema"))).thenReturn(Collections.singletonList("foo_tbl"));
+        when(repository.batchGetDirectly(argThat(keys -> keys.contains(ACTIVE_VERSION_NODE)))).thenReturn(Collections.singletonMap(ACTIVE_VERSION_NODE, "1"));
+        when(repository.batchGetDirectly(argThat(keys -> keys.contains(versionNode)))).thenReturn(Collections.singletonMap(versionNode, marshal(createTable())));
+        Map<String, ShardingSphereTable> actual = new TableMetaDataPersistService(repository, snapshotLocalCache).load("foo_db", "foo_schema");
+        assertTrue(actual.get("foo_tbl").containsColumn("id"));
+        assertThat(snapshotLocalCache.load("foo_db", "foo_schema").get("foo_tbl").getVersion(), is("1"));
+    }
+    
+    @Test
+    void assertLoadWithoutTables() {
+        when(repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataTablesPath("foo_db", "foo_schema"))).thenReturn(Collections.emptyList());
+        assertTrue(persistService.load("foo_db", "foo_schema").isEmpty());
+    }
+    
+    @Test
+    void assertDelete() {
+        persistService.delete("foo_db", "foo_schema", "FOO_TBL");
+        verify(repository).delete(DatabaseMetaDataNode.getTableNode("foo_db", "foo_schema", "foo_tbl"));
+    }
+    
+    @Test
+    void assertDeleteWithSnapshotLocalCache(@TempDir final Path directory) {
+        TableMetaDataSnapshotLocalCache snapshotLocalCache = new TableMetaDataSnapshotLocalCache(directory.toString());
+        snapshotLocalCache.save("foo_db", "foo_schema", Collections.singletonMap("foo_tbl", new TableMetaDataSnapshot("0", createTable())));
+        new TableMetaDataPersistService(repository, snapshotLocalCache).delete("foo_db", "foo_schema", "FOO_TBL");
+        assertTrue(snapshotLocalCache.load("foo_db", "foo_schema").isEmpty());
+    }
+    
+    private ShardingSphereTable createTable() {
+        return new ShardingSphereTable("foo_tbl", Collections.singletonList(new ShardingSphereColumn("id", Types.INTEGER, true, false, false, true, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+    }
+    
+    private String marshal(final ShardingSphereTable table) {
+        return YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(table));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.schema.snapshot;
+
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableMetaDataSnapshotCodecTest {
+    
+    @Test
+    void assertEncodeAndDecode() throws IOException {
+        ShardingSphereTable table = createTable();
+        Map<String, TableMetaDataSnapshot> actual = TableMetaDataSnapshotCodec.decode(
+                TableMetaDataSnapshotCodec.encode(Collections.singletonMap("t_order", new TableMetaDataSnapshot("1", table))));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("t_order").getTable(), is(table));
+        assertTrue(actual.get("t_order").matches("1"));
+        assertFalse(actual.get("t_order").matches("0"));
+    }
+    
+    private ShardingSphereTable createTable() {
+        ShardingSphereIndex index = new ShardingSphereIndex("idx_user_id");
+        index.getColumns().add("user_id");
+        index.setUnique(true);
+        return new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", Types.BIGINT, true, true, false, true, true, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, true)), Collections.singleton(index),
+                Arrays.asList(new ShardingSphereConstraint("fk_user_id", "t_user"), new ShardingSphereConstraint("ck_status", null)), TableType.TABLE);
+    }
+    
+    @Test
+    void assertDecodeWithUnsupportedFormat() {
+        assertThrows(IOException.class, () -> TableMetaDataSnapshotCodec.decode(new byte[]{0, 0, 0, 0, 0, 0, 0, 1}));
+    }
+}
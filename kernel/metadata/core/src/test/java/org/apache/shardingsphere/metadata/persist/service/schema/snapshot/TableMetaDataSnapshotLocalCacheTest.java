@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.schema.snapshot;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableMetaDataSnapshotLocalCacheTest {
+    
+    @Test
+    void assertSaveAndLoad(@TempDir final Path directory) {
+        TableMetaDataSnapshotLocalCache cache = new TableMetaDataSnapshotLocalCache(directory.toString());
+        ShardingSphereTable table = new ShardingSphereTable("t_order",
+                Collections.singleton(new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList());
+        cache.save("foo_db", "foo_schema", Collections.singletonMap("t_order", new TableMetaDataSnapshot("0", table)));
+        Map<String, TableMetaDataSnapshot> actual = cache.load("foo_db", "foo_schema");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("t_order").getTable(), is(table));
+        assertTrue(cache.load("foo_db", "bar_schema").isEmpty());
+    }
+    
+    @Test
+    void assertEvict(@TempDir final Path directory) {
+        TableMetaDataSnapshotLocalCache cache = new TableMetaDataSnapshotLocalCache(directory.toString());
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        cache.save("foo_db", "foo_schema", Collections.singletonMap("t_order", new TableMetaDataSnapshot("0", table)));
+        cache.evict("foo_db", "foo_schema", "t_order");
+        assertTrue(cache.load("foo_db", "foo_schema").isEmpty());
+    }
+    
+    @Test
+    void assertLoadWithCorruptedSnapshot(@TempDir final Path directory) throws IOException {
+        Files.createDirectories(directory.resolve("foo_db"));
+        Files.write(directory.resolve("foo_db").resolve("foo_schema.snapshot"), new byte[]{1, 2, 3});
+        assertTrue(new TableMetaDataSnapshotLocalCache(directory.toString()).load("foo_db", "foo_schema").isEmpty());
+    }
+    
+    @Test
+    void assertLoadWhenDisabled() {
+        TableMetaDataSnapshotLocalCache cache = new TableMetaDataSnapshotLocalCache("");
+        assertFalse(cache.isEnabled());
+        assertTrue(cache.load("foo_db", "foo_schema").isEmpty());
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sqlfederation.engine;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
@@ -25,11 +26,14 @@ import org.apache.calcite.linq4j.Enumerator;
 import org.apache.calcite.runtime.Bindable;
 import org.apache.calcite.schema.Schema;
 import org.apache.calcite.schema.Table;
+import org.apache.calcite.sql.SqlNode;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
@@ -53,9 +57,11 @@ import org.apache.shardingsphere.sqlfederation.optimizer.SQLFederationCompilerEn
 import org.apache.shardingsphere.sqlfederation.optimizer.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.OptimizerPlannerContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.converter.SQLNodeConverterEngine;
 import org.apache.shardingsphere.sqlfederation.optimizer.exception.syntax.SQLFederationUnsupportedSQLException;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.ExecutionPlanCacheKey;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.ExecutionPlanLiteralParameterizer;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
 import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
@@ -64,6 +70,7 @@ import org.apache.shardingsphere.sqlfederation.spi.SQLFederationDecider;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -71,6 +78,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
 
 /**
  * SQL federation engine.
@@ -100,6 +108,9 @@ public final class SQLFederationEngine implements AutoCloseable {
     
     private ResultSet resultSet;
     
+    @Getter(AccessLevel.NONE)
+    private ExecutorServiceManager prefetchExecutorServiceManager;
+    
     public SQLFederationEngine(final String databaseName, final String schemaName, final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics, final JDBCExecutor jdbcExecutor) {
         deciders = OrderedSPILoader.getServices(SQLFederationDecider.class, metaData.getDatabase(databaseName).getRuleMetaData().getRules());
         this.databaseName = databaseName;
@@ -165,8 +176,12 @@ public final class SQLFederationEngine implements AutoCloseable {
         try {
             String databaseName = federationContext.getQueryContext().getDatabaseNameFromSQLStatement().orElse(this.databaseName);
             String schemaName = federationContext.getQueryContext().getSchemaNameFromSQLStatement().orElse(this.schemaName);
-            SQLFederationExecutionPlan executionPlan = compileQuery(prepareEngine, callback, federationContext, databaseName, schemaName);
-            resultSet = executePlan(federationContext, executionPlan, databaseName, schemaName);
+            boolean useCache = metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.FEDERATION_EXECUTION_PLAN_CACHE_ENABLED);
+            ExecutionPlanLiteralParameterizer literalParameterizer = new ExecutionPlanLiteralParameterizer(federationContext.getQueryContext().getParameters().size());
+            SQLFederationExecutionPlan executionPlan = compileQuery(prepareEngine, callback, federationContext, databaseName, schemaName, useCache, literalParameterizer);
+            List<Object> params = new ArrayList<>(federationContext.getQueryContext().getParameters());
+            params.addAll(literalParameterizer.getLiteralValues());
+            resultSet = executePlan(federationContext, executionPlan, databaseName, schemaName, params);
             return resultSet;
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
@@ -177,7 +192,7 @@ public final class SQLFederationEngine implements AutoCloseable {
     
     private SQLFederationExecutionPlan compileQuery(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
                                                     final JDBCExecutorCallback<? extends ExecuteResult> callback, final SQLFederationContext federationContext, final String databaseName,
-                                                    final String schemaName) {
+                                                    final String schemaName, final boolean useCache, final ExecutionPlanLiteralParameterizer literalParameterizer) {
         SQLStatementContext sqlStatementContext = federationContext.getQueryContext().getSqlStatementContext();
         ShardingSpherePreconditions.checkState(sqlStatementContext instanceof SelectStatementContext, () -> new IllegalArgumentException("SQL statement context must be select statement context."));
         OptimizerPlannerContext plannerContext = sqlFederationRule.getOptimizerContext().getPlannerContext(databaseName);
@@ -186,15 +201,16 @@ public final class SQLFederationEngine implements AutoCloseable {
         SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(plannerContext.getConverter(schemaName));
         SQLFederationCompilerEngine compilerEngine = new SQLFederationCompilerEngine(databaseName, schemaName, sqlFederationRule.getConfiguration().getExecutionPlanCache());
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        // TODO open useCache flag when ShardingSphereTable contains version
-        return compilerEngine.compile(buildCacheKey(federationContext, selectStatementContext, sqlStatementCompiler, databaseName, schemaName), false);
+        ExecutionPlanCacheKey cacheKey = buildCacheKey(federationContext, selectStatementContext, sqlStatementCompiler, databaseName, schemaName, useCache ? literalParameterizer : null);
+        return compilerEngine.compile(cacheKey, useCache);
     }
     
     @SuppressWarnings("unchecked")
-    private ResultSet executePlan(final SQLFederationContext federationContext, final SQLFederationExecutionPlan executionPlan, final String databaseName, final String schemaName) {
+    private ResultSet executePlan(final SQLFederationContext federationContext, final SQLFederationExecutionPlan executionPlan, final String databaseName, final String schemaName,
+                                  final List<Object> parameters) {
         try {
             Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) executionPlan.getPhysicalPlan(), EnumerableRel.Prefer.ARRAY);
-            Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters());
+            Map<String, Object> params = createParameters(parameters);
             OptimizerPlannerContext plannerContext = sqlFederationRule.getOptimizerContext().getPlannerContext(databaseName);
             Enumerator<Object> enumerator = executablePlan.bind(new SQLFederationBindContext(plannerContext.getValidator(schemaName), plannerContext.getConverter(schemaName), params)).enumerator();
             ShardingSphereSchema schema = federationContext.getMetaData().getDatabase(databaseName).getSchema(schemaName);
@@ -207,11 +223,14 @@ public final class SQLFederationEngine implements AutoCloseable {
     }
     
     private ExecutionPlanCacheKey buildCacheKey(final SQLFederationContext federationContext, final SelectStatementContext selectStatementContext,
-                                                final SQLStatementCompiler sqlStatementCompiler, final String databaseName, final String schemaName) {
+                                                final SQLStatementCompiler sqlStatementCompiler, final String databaseName, final String schemaName,
+                                                final ExecutionPlanLiteralParameterizer literalParameterizer) {
         ShardingSphereSchema schema = federationContext.getMetaData().getDatabase(databaseName).getSchema(schemaName);
-        ExecutionPlanCacheKey result =
-                new ExecutionPlanCacheKey(federationContext.getQueryContext().getSql(), selectStatementContext.getSqlStatement(), selectStatementContext.getDatabaseType().getType(),
-                        sqlStatementCompiler);
+        SqlNode sqlNode = SQLNodeConverterEngine.convert(selectStatementContext.getSqlStatement());
+        if (null != literalParameterizer) {
+            literalParameterizer.parameterize(sqlNode);
+        }
+        ExecutionPlanCacheKey result = new ExecutionPlanCacheKey(sqlNode.toString(), sqlNode, selectStatementContext.getDatabaseType().getType(), sqlStatementCompiler);
         for (String each : selectStatementContext.getTablesContext().getTableNames()) {
             ShardingSphereTable table = schema.getTable(each);
             ShardingSpherePreconditions.checkState(null != table, () -> new NoSuchTableException(each));
@@ -228,8 +247,8 @@ public final class SQLFederationEngine implements AutoCloseable {
             return;
         }
         SQLFederationExecutorContext executorContext = new SQLFederationExecutorContext(databaseName, schemaName, metaData.getProps());
-        EnumerableScanExecutor scanExecutor =
-                new EnumerableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, executorContext, federationContext, metaData.getGlobalRuleMetaData(), statistics);
+        EnumerableScanExecutor scanExecutor = new EnumerableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, executorContext, federationContext,
+                metaData.getGlobalRuleMetaData(), statistics, getPrefetchExecutorService());
         // TODO register only the required tables
         for (ShardingSphereTable each : metaData.getDatabase(databaseName).getSchema(schemaName).getTables().values()) {
             Table table = sqlFederationSchema.getTable(each.getName());
@@ -239,6 +258,16 @@ public final class SQLFederationEngine implements AutoCloseable {
         }
     }
     
+    private ExecutorService getPrefetchExecutorService() {
+        if (metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.FEDERATION_SCAN_PREFETCH_SIZE) <= 0) {
+            return null;
+        }
+        if (null == prefetchExecutorServiceManager) {
+            prefetchExecutorServiceManager = new ExecutorServiceManager(0, "SQL-Federation-Scan-Prefetch-%d");
+        }
+        return prefetchExecutorServiceManager.getExecutorService();
+    }
+    
     private Map<String, Object> createParameters(final List<Object> params) {
         Map<String, Object> result = new HashMap<>(params.size(), 1F);
         int index = 0;
@@ -250,8 +279,15 @@ public final class SQLFederationEngine implements AutoCloseable {
     
     @Override
     public void close() throws SQLException {
-        if (null != resultSet) {
-            resultSet.close();
+        try {
+            if (null != resultSet) {
+                resultSet.close();
+            }
+        } finally {
+            if (null != prefetchExecutorServiceManager) {
+                prefetchExecutorServiceManager.close();
+                prefetchExecutorServiceManager = null;
+            }
         }
     }
 }
@@ -24,6 +24,7 @@ import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.metadata.database.system.SystemDatabase;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -40,6 +41,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
@@ -63,6 +65,7 @@ import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationCon
 import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationExecutorContext;
 import org.apache.shardingsphere.sqlfederation.executor.enumerator.JDBCRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.enumerator.MemoryRowEnumerator;
+import org.apache.shardingsphere.sqlfederation.executor.result.PrefetchQueryResult;
 import org.apache.shardingsphere.sqlfederation.executor.utils.StatisticsAssembleUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.EmptyRowEnumerator;
@@ -79,6 +82,7 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 /**
@@ -103,6 +107,8 @@ public final class EnumerableScanExecutor implements ScanExecutor {
     
     private final ShardingSphereStatistics statistics;
     
+    private final ExecutorService prefetchExecutorService;
+    
     private final ProcessEngine processEngine = new ProcessEngine();
     
     @Override
@@ -137,15 +143,24 @@ public final class EnumerableScanExecutor implements ScanExecutor {
                 ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(federationContext.getProcessId()).isInterrupted(),
                         SQLExecutionInterruptedException::new);
                 processEngine.executeSQL(executionGroupContext, federationContext.getQueryContext());
-                List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
+                int prefetchSize = executorContext.getProps().getValue(ConfigurationPropertyKey.FEDERATION_SCAN_PREFETCH_SIZE);
+                List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream()
+                        .map(each -> prefetchQueryResult((QueryResult) each, prefetchSize)).collect(Collectors.toList());
                 MergeEngine mergeEngine = new MergeEngine(database, executorContext.getProps(), new ConnectionContext());
                 MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
                 Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-                return new JDBCRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+                return new JDBCRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), queryResults, statements);
             }
         };
     }
     
+    private QueryResult prefetchQueryResult(final QueryResult queryResult, final int prefetchSize) {
+        if (prefetchSize <= 0 || null == prefetchExecutorService || !(queryResult instanceof JDBCStreamQueryResult)) {
+            return queryResult;
+        }
+        return new PrefetchQueryResult(queryResult, prefetchSize, prefetchExecutorService);
+    }
+    
     private void computeConnectionOffsets(final ExecutionContext context) {
         for (ExecutionUnit each : context.getExecutionUnits()) {
             if (executorContext.getConnectionOffsets().containsKey(each.getDataSourceName())) {
@@ -208,19 +223,19 @@ public final class EnumerableScanExecutor implements ScanExecutor {
         String sql = sqlString.getSql().replace(System.lineSeparator(), " ");
         SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType,
                 optimizerContext.getSqlParserRule().getSqlStatementCache(), optimizerContext.getSqlParserRule().getParseTreeCache()).parse(sql, useCache);
-        List<Object> params = getParameters(sqlString.getParamIndexes());
+        List<Object> params = getParameters(sqlString);
         HintValueContext hintValueContext = new HintValueContext();
         SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, executorContext.getDatabaseName(), hintValueContext).bind(sqlStatement, params);
         return new QueryContext(sqlStatementContext, sql, params, hintValueContext, useCache);
     }
     
-    private List<Object> getParameters(final int[] paramIndexes) {
-        if (null == paramIndexes) {
+    private List<Object> getParameters(final ScanExecutorContext scanContext) {
+        if (null == scanContext.getParamIndexes()) {
             return Collections.emptyList();
         }
         List<Object> result = new ArrayList<>();
-        for (int each : paramIndexes) {
-            result.add(federationContext.getQueryContext().getParameters().get(each));
+        for (int each : scanContext.getParamIndexes()) {
+            result.add(scanContext.getRoot().get("?" + each));
         }
         return result;
     }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sqlfederation.executor.enumerator;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
@@ -38,6 +39,8 @@ public final class JDBCRowEnumerator implements Enumerator<Object> {
     
     private final QueryResultMetaData metaData;
     
+    private final Collection<QueryResult> queryResults;
+    
     private final Collection<Statement> statements;
     
     private Object currentRow;
@@ -75,6 +78,7 @@ public final class JDBCRowEnumerator implements Enumerator<Object> {
     
     @Override
     public void close() {
+        closeQueryResults();
         try {
             for (Statement each : statements) {
                 each.close();
@@ -84,4 +88,11 @@ public final class JDBCRowEnumerator implements Enumerator<Object> {
             throw new SQLWrapperException(ex);
         }
     }
+    
+    @SneakyThrows(Exception.class)
+    private void closeQueryResults() {
+        for (QueryResult each : queryResults) {
+            each.close();
+        }
+    }
 }
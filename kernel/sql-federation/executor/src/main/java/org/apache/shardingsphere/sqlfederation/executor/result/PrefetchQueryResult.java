@@ -0,0 +1,321 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.result;
+
+import org.apache.shardingsphere.infra.executor.exception.SQLExecutionInterruptedException;
+import org.apache.shardingsphere.infra.executor.exception.UnsupportedDataTypeConversionException;
+import org.apache.shardingsphere.infra.executor.exception.UnsupportedStreamCharsetConversionException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.util.ResultSetUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Prefetch query result.
+ *
+ * <p>Rows of the delegated query result are read ahead by a background task into a bounded queue, so that network waits of the shard overlap with row consumption.
+ * Values are read with the Java type matching the JDBC column type, large objects are materialized before the cursor moves on, and values are converted on access.</p>
+ */
+public final class PrefetchQueryResult implements QueryResult {
+    
+    private static final List<Object> END_OF_ROWS = new ArrayList<>(0);
+    
+    private static final LocalDate EPOCH_DATE = LocalDate.of(1970, 1, 1);
+    
+    private final QueryResult delegate;
+    
+    private final BlockingQueue<List<Object>> rows;
+    
+    private final Future<?> prefetchFuture;
+    
+    private volatile boolean closed;
+    
+    private volatile Exception prefetchException;
+    
+    private List<Object> currentRow;
+    
+    private boolean finished;
+    
+    private boolean wasNull;
+    
+    public PrefetchQueryResult(final QueryResult delegate, final int prefetchSize, final ExecutorService executorService) {
+        this.delegate = delegate;
+        rows = new ArrayBlockingQueue<>(prefetchSize);
+        prefetchFuture = executorService.submit(this::prefetch);
+    }
+    
+    private void prefetch() {
+        try {
+            Class<?>[] valueTypes = getValueTypes(delegate.getMetaData());
+            while (!closed && delegate.next()) {
+                List<Object> row = new ArrayList<>(valueTypes.length);
+                for (int columnIndex = 1; columnIndex <= valueTypes.length; columnIndex++) {
+                    Object value = delegate.getValue(columnIndex, valueTypes[columnIndex - 1]);
+                    row.add(delegate.wasNull() ? null : value);
+                }
+                rows.put(row);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            prefetchException = ex;
+        }
+        finishPrefetch();
+    }
+    
+    private Class<?>[] getValueTypes(final QueryResultMetaData metaData) throws SQLException {
+        Class<?>[] result = new Class<?>[metaData.getColumnCount()];
+        for (int columnIndex = 1; columnIndex <= result.length; columnIndex++) {
+            result[columnIndex - 1] = getValueType(metaData.getColumnType(columnIndex));
+        }
+        return result;
+    }
+    
+    private Class<?> getValueType(final int columnType) {
+        switch (columnType) {
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return BigDecimal.class;
+            case Types.DATE:
+                return Date.class;
+            case Types.TIME:
+                return Time.class;
+            case Types.TIMESTAMP:
+                return Timestamp.class;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return byte[].class;
+            case Types.CLOB:
+            case Types.NCLOB:
+            case Types.LONGVARCHAR:
+            case Types.LONGNVARCHAR:
+                return String.class;
+            default:
+                return Object.class;
+        }
+    }
+    
+    private void finishPrefetch() {
+        if (closed) {
+            return;
+        }
+        try {
+            rows.put(END_OF_ROWS);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (finished) {
+            return false;
+        }
+        List<Object> row = takeRow();
+        if (END_OF_ROWS == row) {
+            finished = true;
+            currentRow = null;
+            throwPrefetchExceptionIfNecessary();
+            return false;
+        }
+        currentRow = row;
+        return true;
+    }
+    
+    private List<Object> takeRow() throws SQLException {
+        try {
+            return rows.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLExecutionInterruptedException().toSQLException();
+        }
+    }
+    
+    private void throwPrefetchExceptionIfNecessary() throws SQLException {
+        if (null == prefetchException) {
+            return;
+        }
+        if (prefetchException instanceof SQLException) {
+            throw (SQLException) prefetchException;
+        }
+        if (prefetchException instanceof InterruptedException) {
+            throw new SQLExecutionInterruptedException().toSQLException();
+        }
+        throw new SQLException(prefetchException);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Object result = currentRow.get(columnIndex - 1);
+        wasNull = null == result;
+        return Object.class == type ? result : ResultSetUtils.convertValue(result, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        Object value = currentRow.get(columnIndex - 1);
+        wasNull = null == value;
+        if (null == value) {
+            return null;
+        }
+        ZoneId zoneId = null == calendar ? ZoneId.systemDefault() : calendar.getTimeZone().toZoneId();
+        if (Date.class == type) {
+            return new Date(toLocalDateTime(value, type, calendar).toLocalDate().atStartOfDay(zoneId).toInstant().toEpochMilli());
+        }
+        if (Time.class == type) {
+            LocalTime localTime = toLocalDateTime(value, type, calendar).toLocalTime();
+            return new Time(localTime.atDate(EPOCH_DATE).atZone(zoneId).toInstant().toEpochMilli());
+        }
+        if (Timestamp.class == type) {
+            LocalDateTime localDateTime = toLocalDateTime(value, type, calendar);
+            Timestamp result = new Timestamp(localDateTime.atZone(zoneId).toInstant().toEpochMilli());
+            result.setNanos(localDateTime.getNano());
+            return result;
+        }
+        throw new UnsupportedDataTypeConversionException(type, calendar).toSQLException();
+    }
+    
+    private LocalDateTime toLocalDateTime(final Object value, final Class<?> type, final Calendar calendar) throws SQLException {
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        if (value instanceof Date) {
+            return ((Date) value).toLocalDate().atStartOfDay();
+        }
+        if (value instanceof Time) {
+            return ((Time) value).toLocalTime().atDate(EPOCH_DATE);
+        }
+        if (value instanceof java.util.Date) {
+            return LocalDateTime.ofInstant(((java.util.Date) value).toInstant(), ZoneId.systemDefault());
+        }
+        if (value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        }
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay();
+        }
+        if (value instanceof LocalTime) {
+            return ((LocalTime) value).atDate(EPOCH_DATE);
+        }
+        throw new UnsupportedDataTypeConversionException(type, calendar).toSQLException();
+    }
+    
+    @SuppressWarnings("deprecation")
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        Object value = currentRow.get(columnIndex - 1);
+        wasNull = null == value;
+        if (null == value) {
+            return null;
+        }
+        switch (type) {
+            case "Ascii":
+                return value instanceof Clob ? ((Clob) value).getAsciiStream() : new ByteArrayInputStream(getBytes(value, StandardCharsets.US_ASCII));
+            case "Unicode":
+                return new ByteArrayInputStream(getBytes(value, StandardCharsets.UTF_16BE));
+            case "Binary":
+                return value instanceof Blob ? ((Blob) value).getBinaryStream() : new ByteArrayInputStream(getBytes(value, StandardCharsets.UTF_8));
+            default:
+                throw new UnsupportedStreamCharsetConversionException(type).toSQLException();
+        }
+    }
+    
+    private byte[] getBytes(final Object value, final Charset charset) throws SQLException {
+        if (value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        if (value instanceof Blob) {
+            return ((Blob) value).getBytes(1L, (int) ((Blob) value).length());
+        }
+        if (value instanceof Clob) {
+            return ((Clob) value).getSubString(1L, (int) ((Clob) value).length()).getBytes(charset);
+        }
+        return value.toString().getBytes(charset);
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        Object value = currentRow.get(columnIndex - 1);
+        wasNull = null == value;
+        if (null == value) {
+            return null;
+        }
+        if (value instanceof Clob) {
+            return ((Clob) value).getCharacterStream();
+        }
+        return value instanceof byte[] || value instanceof Blob
+                ? new InputStreamReader(new ByteArrayInputStream(getBytes(value, StandardCharsets.UTF_8)), StandardCharsets.UTF_8)
+                : new StringReader(value.toString());
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public QueryResultMetaData getMetaData() {
+        return delegate.getMetaData();
+    }
+    
+    @Override
+    public void close() throws Exception {
+        closed = true;
+        rows.clear();
+        awaitPrefetchFinished();
+        delegate.close();
+    }
+    
+    private void awaitPrefetchFinished() {
+        try {
+            prefetchFuture.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ignored) {
+        }
+    }
+}
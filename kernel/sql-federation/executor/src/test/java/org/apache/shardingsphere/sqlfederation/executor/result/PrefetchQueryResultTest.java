@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.result;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrefetchQueryResultTest {
+    
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    void assertNext() throws Exception {
+        QueryResult delegate = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(delegate.getMetaData().getColumnCount()).thenReturn(2);
+        when(delegate.next()).thenReturn(true, true, true, false);
+        when(delegate.getValue(1, Object.class)).thenReturn(1, 2, 3);
+        when(delegate.getValue(2, Object.class)).thenReturn("foo", null, "bar");
+        when(delegate.wasNull()).thenReturn(false, false, false, true, false, false);
+        PrefetchQueryResult actual = new PrefetchQueryResult(delegate, 1, executorService);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertThat(actual.getValue(2, Object.class), is("foo"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        assertNull(actual.getValue(2, Object.class));
+        assertTrue(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is("bar"));
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        actual.close();
+        verify(delegate).close();
+    }
+    
+    @Test
+    void assertNextWithPrefetchFailure() throws Exception {
+        QueryResult delegate = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(delegate.getMetaData().getColumnCount()).thenReturn(1);
+        when(delegate.next()).thenThrow(new SQLException("prefetch failure"));
+        PrefetchQueryResult actual = new PrefetchQueryResult(delegate, 1, executorService);
+        assertThrows(SQLException.class, actual::next);
+        actual.close();
+    }
+    
+    @Test
+    void assertCloseBeforeConsumed() throws Exception {
+        QueryResult delegate = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(delegate.getMetaData().getColumnCount()).thenReturn(1);
+        when(delegate.next()).thenReturn(true);
+        when(delegate.getValue(1, Object.class)).thenReturn(1);
+        PrefetchQueryResult actual = new PrefetchQueryResult(delegate, 1, executorService);
+        assertTrue(actual.next());
+        actual.close();
+        verify(delegate).close();
+    }
+    
+    @Test
+    void assertGetValueWithColumnType() throws Exception {
+        QueryResult delegate = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(delegate.getMetaData().getColumnCount()).thenReturn(2);
+        when(delegate.getMetaData().getColumnType(1)).thenReturn(Types.DECIMAL);
+        when(delegate.getMetaData().getColumnType(2)).thenReturn(Types.BLOB);
+        when(delegate.next()).thenReturn(true, false);
+        when(delegate.getValue(1, BigDecimal.class)).thenReturn(new BigDecimal("10.50"));
+        when(delegate.getValue(2, byte[].class)).thenReturn(new byte[]{1, 2});
+        PrefetchQueryResult actual = new PrefetchQueryResult(delegate, 1, executorService);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal("10.50")));
+        assertThat(actual.getValue(1, long.class), is(10L));
+        assertThat(actual.getValue(2, byte[].class), is(new byte[]{1, 2}));
+        actual.close();
+    }
+    
+    @Test
+    void assertGetCalendarValue() throws Exception {
+        QueryResult delegate = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(delegate.getMetaData().getColumnCount()).thenReturn(1);
+        when(delegate.getMetaData().getColumnType(1)).thenReturn(Types.TIMESTAMP);
+        when(delegate.next()).thenReturn(true, false);
+        Timestamp timestamp = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123456789));
+        when(delegate.getValue(1, Timestamp.class)).thenReturn(timestamp);
+        PrefetchQueryResult actual = new PrefetchQueryResult(delegate, 1, executorService);
+        assertTrue(actual.next());
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        Timestamp actualTimestamp = (Timestamp) actual.getCalendarValue(1, Timestamp.class, calendar);
+        assertThat(actualTimestamp.toInstant(), is(Instant.parse("2024-01-01T12:00:00.123456789Z")));
+        assertThat(actual.getCalendarValue(1, Date.class, calendar), is(new Date(Instant.parse("2024-01-01T00:00:00Z").toEpochMilli())));
+        assertThrows(SQLException.class, () -> actual.getCalendarValue(1, String.class, calendar));
+        actual.close();
+    }
+    
+    @Test
+    void assertGetInputStream() throws Exception {
+        QueryResult delegate = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(delegate.getMetaData().getColumnCount()).thenReturn(2);
+        when(delegate.getMetaData().getColumnType(2)).thenReturn(Types.VARBINARY);
+        when(delegate.next()).thenReturn(true, false);
+        when(delegate.getValue(1, Object.class)).thenReturn("foo");
+        when(delegate.getValue(2, byte[].class)).thenReturn(new byte[]{1, 2});
+        PrefetchQueryResult actual = new PrefetchQueryResult(delegate, 1, executorService);
+        assertTrue(actual.next());
+        assertThat(readAll(actual.getInputStream(1, "Ascii")), is("foo".getBytes(StandardCharsets.US_ASCII)));
+        assertThat(readAll(actual.getInputStream(2, "Binary")), is(new byte[]{1, 2}));
+        assertThrows(SQLException.class, () -> actual.getInputStream(1, "Unknown"));
+        char[] chars = new char[3];
+        assertThat(actual.getCharacterStream(1).read(chars), is(3));
+        assertThat(new String(chars), is("foo"));
+        actual.close();
+    }
+    
+    private byte[] readAll(final InputStream inputStream) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buffer = new byte[16];
+        int length;
+        while (-1 != (length = inputStream.read(buffer))) {
+            result.write(buffer, 0, length);
+        }
+        return result.toByteArray();
+    }
+}
@@ -35,8 +35,9 @@ import org.apache.calcite.rel.rel2sql.RelToSqlConverter;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.sql.SqlDialect;
 import org.apache.calcite.sql.util.SqlString;
-import org.apache.shardingsphere.sqlfederation.optimizer.sql.SQLDialectFactory;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.DynamicParamCastRelShuttle;
+import org.apache.shardingsphere.sqlfederation.optimizer.sql.SQLDialectFactory;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -92,7 +93,7 @@ public final class EnumerableScan extends TableScan implements EnumerableRel {
     
     private SqlString createSQLString(final RelNode scanContext, final String databaseType) {
         SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
-        return new RelToSqlConverter(sqlDialect).visitRoot(scanContext).asStatement().toSqlString(sqlDialect);
+        return new RelToSqlConverter(sqlDialect).visitRoot(DynamicParamCastRelShuttle.remove(scanContext)).asStatement().toSqlString(sqlDialect);
     }
     
     private int[] getParamIndexes(final Collection<Integer> dynamicParameters) {
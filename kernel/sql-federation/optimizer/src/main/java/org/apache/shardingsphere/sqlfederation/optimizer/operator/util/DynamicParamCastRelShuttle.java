@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.rel.RelHomogeneousShuttle;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+
+/**
+ * Dynamic param cast rel shuttle.
+ * 
+ * <p>Removes casts which do not change the type of the dynamic param they wrap, so literals parameterized for execution plan cache
+ * are pushed down as plain parameter markers and still take part in routing conditions.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DynamicParamCastRelShuttle extends RelHomogeneousShuttle {
+    
+    private final RexShuttle rexShuttle = new RexShuttle() {
+        
+        @Override
+        public RexNode visitCall(final RexCall call) {
+            if (isDynamicParamCast(call)) {
+                return call.getOperands().get(0);
+            }
+            return super.visitCall(call);
+        }
+    };
+    
+    @Override
+    public RelNode visit(final RelNode other) {
+        return super.visit(other).accept(rexShuttle);
+    }
+    
+    private static boolean isDynamicParamCast(final RexCall call) {
+        if (SqlKind.CAST != call.getKind() || !(call.getOperands().get(0) instanceof RexDynamicParam)) {
+            return false;
+        }
+        return SqlTypeUtil.equalSansNullability(call.getType(), call.getOperands().get(0).getType());
+    }
+    
+    /**
+     * Remove dynamic param casts.
+     *
+     * @param relNode rel node
+     * @return removed rel node
+     */
+    public static RelNode remove(final RelNode relNode) {
+        return relNode.accept(new DynamicParamCastRelShuttle());
+    }
+}
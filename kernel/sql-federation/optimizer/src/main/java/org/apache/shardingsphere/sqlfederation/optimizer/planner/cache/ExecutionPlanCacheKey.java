@@ -20,7 +20,7 @@ package org.apache.shardingsphere.sqlfederation.optimizer.planner.cache;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.calcite.sql.SqlNode;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
 
 import java.util.LinkedHashMap;
@@ -31,13 +31,12 @@ import java.util.Map;
  */
 @RequiredArgsConstructor
 @Getter
-@EqualsAndHashCode(of = {"sql", "tableMetaDataVersions"})
+@EqualsAndHashCode(of = {"parameterizedSQL", "sqlStatementCompiler", "tableMetaDataVersions"})
 public final class ExecutionPlanCacheKey {
     
-    // TODO replace sql with parameterized sql
-    private final String sql;
+    private final String parameterizedSQL;
     
-    private final SQLStatement sqlStatement;
+    private final SqlNode sqlNode;
     
     private final String databaseType;
     
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.sql.SqlBasicTypeNameSpec;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlCharStringLiteral;
+import org.apache.calcite.sql.SqlDataTypeSpec;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.sql.SqlNumericLiteral;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.parser.SqlParserPos;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.sql.util.SqlBasicVisitor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Literal parameterizer for execution plan cache.
+ * 
+ * <p>Replaces literals which are compared with columns by dynamic parameters, so that statements differing only in those literals share one execution plan.
+ * Each parameter is cast to the type of the replaced literal, exact integers to BIGINT, other exact numerics to DECIMAL with the literal's precision and scale
+ * and character strings to VARCHAR, so the validator coerces it against the compared column the same way it coerces the literal.</p>
+ */
+@RequiredArgsConstructor
+public final class ExecutionPlanLiteralParameterizer extends SqlBasicVisitor<Void> {
+    
+    private static final Collection<SqlKind> PARAMETERIZABLE_KINDS = EnumSet.of(
+            SqlKind.EQUALS, SqlKind.NOT_EQUALS, SqlKind.LESS_THAN, SqlKind.LESS_THAN_OR_EQUAL, SqlKind.GREATER_THAN, SqlKind.GREATER_THAN_OR_EQUAL, SqlKind.IN, SqlKind.NOT_IN);
+    
+    private final int parameterCount;
+    
+    @Getter
+    private final List<Object> literalValues = new ArrayList<>();
+    
+    /**
+     * Parameterize SQL node.
+     * 
+     * @param sqlNode SQL node to be parameterized in place
+     * @return parameterized SQL node
+     */
+    public SqlNode parameterize(final SqlNode sqlNode) {
+        sqlNode.accept(this);
+        return sqlNode;
+    }
+    
+    @Override
+    public Void visit(final SqlCall call) {
+        if (PARAMETERIZABLE_KINDS.contains(call.getKind()) && 2 == call.operandCount()) {
+            parameterizeOperands(call);
+        }
+        return super.visit(call);
+    }
+    
+    private void parameterizeOperands(final SqlCall call) {
+        SqlNode left = call.operand(0);
+        SqlNode right = call.operand(1);
+        if (left instanceof SqlIdentifier && right instanceof SqlNodeList) {
+            parameterizeList((SqlNodeList) right);
+        } else if (left instanceof SqlIdentifier && isParameterizable(right)) {
+            call.setOperand(1, createDynamicParam(right));
+        } else if (right instanceof SqlIdentifier && isParameterizable(left)) {
+            call.setOperand(0, createDynamicParam(left));
+        }
+    }
+    
+    private void parameterizeList(final SqlNodeList sqlNodeList) {
+        for (int i = 0; i < sqlNodeList.size(); i++) {
+            if (isParameterizable(sqlNodeList.get(i))) {
+                sqlNodeList.set(i, createDynamicParam(sqlNodeList.get(i)));
+            }
+        }
+    }
+    
+    private boolean isParameterizable(final SqlNode sqlNode) {
+        return sqlNode instanceof SqlNumericLiteral && ((SqlNumericLiteral) sqlNode).isExact() || sqlNode instanceof SqlCharStringLiteral;
+    }
+    
+    private SqlNode createDynamicParam(final SqlNode literal) {
+        SqlBasicTypeNameSpec typeNameSpec;
+        if (literal instanceof SqlNumericLiteral) {
+            BigDecimal value = ((SqlNumericLiteral) literal).getValueAs(BigDecimal.class);
+            if (isBigInt(value)) {
+                typeNameSpec = new SqlBasicTypeNameSpec(SqlTypeName.BIGINT, SqlParserPos.ZERO);
+                literalValues.add(value.longValueExact());
+            } else {
+                typeNameSpec = new SqlBasicTypeNameSpec(SqlTypeName.DECIMAL, Math.max(value.precision(), value.scale()), value.scale(), SqlParserPos.ZERO);
+                literalValues.add(value);
+            }
+        } else {
+            typeNameSpec = new SqlBasicTypeNameSpec(SqlTypeName.VARCHAR, SqlParserPos.ZERO);
+            literalValues.add(((SqlCharStringLiteral) literal).getValueAs(String.class));
+        }
+        SqlDynamicParam dynamicParam = new SqlDynamicParam(parameterCount + literalValues.size() - 1, SqlParserPos.ZERO);
+        return SqlStdOperatorTable.CAST.createCall(SqlParserPos.ZERO, dynamicParam, new SqlDataTypeSpec(typeNameSpec, SqlParserPos.ZERO));
+    }
+    
+    private boolean isBigInt(final BigDecimal value) {
+        return 0 == value.scale() && value.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) >= 0 && value.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0;
+    }
+}
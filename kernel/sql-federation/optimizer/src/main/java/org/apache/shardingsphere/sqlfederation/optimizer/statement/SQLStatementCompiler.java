@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.statement;
 
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.adapter.enumerable.EnumerableConvention;
 import org.apache.calcite.plan.RelOptPlanner;
@@ -38,6 +39,7 @@ import java.util.Objects;
  * SQL statement compiler.
  */
 @RequiredArgsConstructor
+@EqualsAndHashCode
 public final class SQLStatementCompiler {
     
     private final SqlToRelConverter converter;
@@ -50,8 +52,18 @@ public final class SQLStatementCompiler {
      * @return sql federation execution plan
      */
     public SQLFederationExecutionPlan compile(final SQLStatement sqlStatement, final String databaseType) {
+        return compile(SQLNodeConverterEngine.convert(sqlStatement), databaseType);
+    }
+    
+    /**
+     * Compile sql node to execution plan.
+     *
+     * @param sqlNode SQL node
+     * @param databaseType database type
+     * @return sql federation execution plan
+     */
+    public SQLFederationExecutionPlan compile(final SqlNode sqlNode, final String databaseType) {
         RelMetadataQueryBase.THREAD_PROVIDERS.set(JaninoRelMetadataProvider.DEFAULT);
-        SqlNode sqlNode = SQLNodeConverterEngine.convert(sqlStatement);
         RelNode logicalPlan = converter.convertQuery(sqlNode, true, true).rel;
         RelDataType resultColumnType = Objects.requireNonNull(converter.validator).getValidatedNodeType(sqlNode);
         RelNode replacePlan = LogicalScanRelShuttle.replace(logicalPlan, databaseType);
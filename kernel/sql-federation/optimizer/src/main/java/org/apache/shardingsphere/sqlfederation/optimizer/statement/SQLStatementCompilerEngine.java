@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sqlfederation.optimizer.statement;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sqlfederation.optimizer.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.ExecutionPlanCacheBuilder;
@@ -42,6 +43,15 @@ public final class SQLStatementCompilerEngine {
      * @return SQL federation execution plan
      */
     public SQLFederationExecutionPlan compile(final ExecutionPlanCacheKey cacheKey, final boolean useCache) {
-        return useCache ? executionPlanCache.get(cacheKey) : cacheKey.getSqlStatementCompiler().compile(cacheKey.getSqlStatement(), cacheKey.getDatabaseType());
+        return useCache ? executionPlanCache.get(cacheKey) : cacheKey.getSqlStatementCompiler().compile(cacheKey.getSqlNode(), cacheKey.getDatabaseType());
+    }
+    
+    /**
+     * Get execution plan cache stats.
+     *
+     * @return execution plan cache stats, including hit and miss count
+     */
+    public CacheStats getExecutionPlanCacheStats() {
+        return executionPlanCache.stats();
     }
 }
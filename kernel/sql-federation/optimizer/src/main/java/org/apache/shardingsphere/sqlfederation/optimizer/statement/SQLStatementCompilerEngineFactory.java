@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.statement;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
@@ -48,4 +49,17 @@ public final class SQLStatementCompilerEngineFactory {
         }
         return result;
     }
+    
+    /**
+     * Get execution plan cache stats of all SQL statement compiler engines.
+     *
+     * @return execution plan cache stats, including hit and miss count
+     */
+    public static CacheStats getExecutionPlanCacheStats() {
+        CacheStats result = CacheStats.empty();
+        for (SQLStatementCompilerEngine each : COMPILER_ENGINES.values()) {
+            result = result.plus(each.getExecutionPlanCacheStats());
+        }
+        return result;
+    }
 }
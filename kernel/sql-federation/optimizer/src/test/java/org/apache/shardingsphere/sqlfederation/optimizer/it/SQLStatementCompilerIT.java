@@ -25,6 +25,7 @@ import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.prepare.CalciteCatalogReader;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.sql.SqlNode;
 import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -35,10 +36,13 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sqlfederation.optimizer.converter.SQLNodeConverterEngine;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.ExecutionPlanLiteralParameterizer;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -55,6 +59,7 @@ import java.util.Properties;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
 
@@ -249,6 +254,41 @@ class SQLStatementCompilerIT {
         assertThat(actual, is(testcase.getAssertion().getExpectedResult()));
     }
     
+    @Test
+    void assertCompileWithParameterizedDateLiteral() {
+        assertParameterizedCompile("SELECT * FROM t_order WHERE creation_date = '2017-08-08'", "SELECT * FROM t_order WHERE creation_date = '2018-01-01'");
+    }
+    
+    @Test
+    void assertCompileWithParameterizedDecimalLiteral() {
+        assertParameterizedCompile("SELECT * FROM t_product WHERE price > 3120.5", "SELECT * FROM t_product WHERE price > 200.5");
+    }
+    
+    @Test
+    void assertCompileWithParameterizedBigIntLiteral() {
+        assertParameterizedCompile("SELECT * FROM t_order WHERE order_id > 10000000000", "SELECT * FROM t_order WHERE order_id > 1000");
+    }
+    
+    @Test
+    void assertCompileWithParameterizedShardingKeyLiteral() {
+        String actual = sqlStatementCompiler.compile(parameterize("SELECT * FROM t_order WHERE order_id = 1"), "MySQL").getPhysicalPlan().explain();
+        SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, "MySQL")).parse("SELECT * FROM t_order WHERE order_id = ?", false);
+        assertThat(actual, is(sqlStatementCompiler.compile(sqlStatement, "MySQL").getPhysicalPlan().explain()));
+        assertThat(actual.replaceAll(System.lineSeparator(), " "), containsString("sql=[SELECT * FROM `federate_jdbc`.`t_order` WHERE `order_id` = ?], dynamicParameters=[[0]]"));
+    }
+    
+    private void assertParameterizedCompile(final String sql, final String sqlWithOtherLiteral) {
+        SqlNode sqlNode = parameterize(sql);
+        assertThat(parameterize(sqlWithOtherLiteral).toString(), is(sqlNode.toString()));
+        String actual = sqlStatementCompiler.compile(sqlNode, "MySQL").getPhysicalPlan().explain();
+        assertThat(sqlStatementCompiler.compile(parameterize(sqlWithOtherLiteral), "MySQL").getPhysicalPlan().explain(), is(actual));
+    }
+    
+    private SqlNode parameterize(final String sql) {
+        SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, "MySQL")).parse(sql, false);
+        return new ExecutionPlanLiteralParameterizer(0).parameterize(SQLNodeConverterEngine.convert(sqlStatement));
+    }
+    
     private static class TestCaseArgumentsProvider implements ArgumentsProvider {
         
         @SneakyThrows(IOException.class)
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.cache;
+
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.parser.SqlParseException;
+import org.apache.calcite.sql.parser.SqlParser;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutionPlanLiteralParameterizerTest {
+    
+    @Test
+    void assertParameterize() throws SqlParseException {
+        ExecutionPlanLiteralParameterizer parameterizer = new ExecutionPlanLiteralParameterizer(1);
+        SqlNode actual = parameterizer.parameterize(parse("SELECT * FROM t_order WHERE user_id = ? AND order_id > 10 AND status IN ('OK', 'FAIL') AND 1.5 <= amount LIMIT 5"));
+        assertThat(parameterizer.getLiteralValues(), is(Arrays.asList(10L, "OK", "FAIL", new BigDecimal("1.5"))));
+        assertTrue(actual.toString().contains("CAST(? AS BIGINT)"));
+        assertTrue(actual.toString().contains("CAST(? AS VARCHAR)"));
+        assertTrue(actual.toString().contains("CAST(? AS DECIMAL(2, 1))"));
+        assertTrue(actual.toString().contains("FETCH NEXT 5 ROWS ONLY"));
+    }
+    
+    @Test
+    void assertParameterizeWithDifferentLiterals() throws SqlParseException {
+        String expected = new ExecutionPlanLiteralParameterizer(0).parameterize(parse("SELECT * FROM t_order WHERE order_id = 1 AND status = 'OK'")).toString();
+        ExecutionPlanLiteralParameterizer parameterizer = new ExecutionPlanLiteralParameterizer(0);
+        assertThat(parameterizer.parameterize(parse("SELECT * FROM t_order WHERE order_id = 10000000000 AND status = 'FAIL'")).toString(), is(expected));
+        assertThat(parameterizer.getLiteralValues(), is(Arrays.asList(10000000000L, "FAIL")));
+    }
+    
+    @Test
+    void assertParameterizeWithDifferentDecimalScales() throws SqlParseException {
+        String expected = new ExecutionPlanLiteralParameterizer(0).parameterize(parse("SELECT * FROM t_product WHERE price > 1.5")).toString();
+        assertThat(new ExecutionPlanLiteralParameterizer(0).parameterize(parse("SELECT * FROM t_product WHERE price > 2.5")).toString(), is(expected));
+        assertThat(new ExecutionPlanLiteralParameterizer(0).parameterize(parse("SELECT * FROM t_product WHERE price > 1.25")).toString(), not(expected));
+    }
+    
+    @Test
+    void assertParameterizeWithDateString() throws SqlParseException {
+        ExecutionPlanLiteralParameterizer parameterizer = new ExecutionPlanLiteralParameterizer(0);
+        SqlNode actual = parameterizer.parameterize(parse("SELECT * FROM t_order WHERE creation_date = '2017-08-08'"));
+        assertThat(parameterizer.getLiteralValues(), is(Collections.singletonList("2017-08-08")));
+        assertTrue(actual.toString().contains("CAST(? AS VARCHAR)"));
+    }
+    
+    @Test
+    void assertParameterizeWithoutColumnComparison() throws SqlParseException {
+        ExecutionPlanLiteralParameterizer parameterizer = new ExecutionPlanLiteralParameterizer(0);
+        parameterizer.parameterize(parse("SELECT 1 + 1 FROM t_order WHERE order_id + 1 = 2"));
+        assertTrue(parameterizer.getLiteralValues().isEmpty());
+    }
+    
+    private SqlNode parse(final String sql) throws SqlParseException {
+        return SqlParser.create(sql).parseQuery();
+    }
+}
@@ -19,7 +19,11 @@ package org.apache.shardingsphere.mode.spi;
 
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Persist repository.
@@ -39,6 +43,20 @@ public interface PersistRepository extends TypedSPI {
      */
     String getDirectly(String key);
     
+    /**
+     * Get values from registry center directly in batch.
+     *
+     * @param keys keys
+     * @return map of key and value, value is null if key does not exist
+     */
+    default Map<String, String> batchGetDirectly(final Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            result.put(each, getDirectly(each));
+        }
+        return result;
+    }
+    
     /**
      * Get names of sub-node.
      *
@@ -47,6 +65,20 @@ public interface PersistRepository extends TypedSPI {
      */
     List<String> getChildrenKeys(String key);
     
+    /**
+     * Get names of sub-node in batch.
+     *
+     * @param keys keys of data
+     * @return map of key and sub-node names
+     */
+    default Map<String, List<String>> batchGetChildrenKeys(final Collection<String> keys) {
+        Map<String, List<String>> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (String each : keys) {
+            result.put(each, getChildrenKeys(each));
+        }
+        return result;
+    }
+    
     /**
      * Judge node is exist or not.
      *
@@ -63,6 +95,17 @@ public interface PersistRepository extends TypedSPI {
      */
     void persist(String key, String value);
     
+    /**
+     * Persist data in batch.
+     *
+     * @param keyValues map of key and value of data
+     */
+    default void batchPersist(final Map<String, String> keyValues) {
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            persist(entry.getKey(), entry.getValue());
+        }
+    }
+    
     /**
      * Update data.
      *
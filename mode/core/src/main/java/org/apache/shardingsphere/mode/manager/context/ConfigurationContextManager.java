@@ -49,6 +49,7 @@ import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -202,12 +203,16 @@ public final class ConfigurationContextManager {
     }
     
     private void refreshMetadata(final String databaseName, final ShardingSphereDatabase database, final Collection<ShardingSphereRule> rules) throws SQLException {
+        Collection<ShardingSphereRule> staleRules = Collections.newSetFromMap(new IdentityHashMap<>());
+        staleRules.addAll(database.getRuleMetaData().getRules());
+        staleRules.addAll(rules);
         database.getRuleMetaData().getRules().clear();
         database.getRuleMetaData().getRules().addAll(rules);
         MetaDataContexts reloadMetaDataContexts = createMetaDataContextsByAlterRule(databaseName, database.getRuleMetaData().getConfigurations());
         alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.get().getMetaData().getDatabase(databaseName));
         metaDataContexts.set(reloadMetaDataContexts);
         metaDataContexts.get().getMetaData().getDatabase(databaseName).getSchemas().putAll(newShardingSphereSchemas(metaDataContexts.get().getMetaData().getDatabase(databaseName)));
+        closeRules(staleRules);
     }
     
     private MetaDataContexts createMetaDataContextsByAlterRule(final String databaseName, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
@@ -264,9 +269,13 @@ public final class ConfigurationContextManager {
         return result;
     }
     
-    @SneakyThrows(Exception.class)
     private void closeStaleRules(final String databaseName) {
-        for (ShardingSphereRule each : metaDataContexts.get().getMetaData().getDatabase(databaseName).getRuleMetaData().getRules()) {
+        closeRules(metaDataContexts.get().getMetaData().getDatabase(databaseName).getRuleMetaData().getRules());
+    }
+    
+    @SneakyThrows(Exception.class)
+    private void closeRules(final Collection<ShardingSphereRule> rules) {
+        for (ShardingSphereRule each : rules) {
             if (each instanceof AutoCloseable) {
                 ((AutoCloseable) each).close();
             }
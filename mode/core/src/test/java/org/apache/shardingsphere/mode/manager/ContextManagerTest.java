@@ -20,6 +20,7 @@ package org.apache.shardingsphere.mode.manager;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.config.rule.scope.DatabaseRuleConfiguration;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
@@ -59,6 +60,7 @@ import java.sql.Types;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -79,6 +81,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 class ContextManagerTest {
     
@@ -263,6 +266,42 @@ class ContextManagerTest {
         assertThat(contextManager.getMetaDataContexts().getMetaData().getDatabase("foo_db").getRuleMetaData().getConfigurations().size(), is(1));
     }
     
+    @Test
+    void assertAlterRuleConfigurationClosesReplacedRule() throws Exception {
+        ShardingSphereRule replacedRule = mock(ShardingSphereRule.class, withSettings().extraInterfaces(AutoCloseable.class));
+        when(replacedRule.getConfiguration()).thenReturn(new ModeRuleConfigurationFixture());
+        when(replacedRule.getAttributes()).thenReturn(new RuleAttributes());
+        ShardingSphereDatabase database = createDatabaseWithRule(replacedRule);
+        when(metaDataContexts.getMetaData().getDatabase("foo_db")).thenReturn(database);
+        when(metaDataContexts.getMetaData().getGlobalRuleMetaData()).thenReturn(new RuleMetaData(Collections.emptyList()));
+        when(metaDataContexts.getPersistService()).thenReturn(mock(MetaDataPersistService.class, RETURNS_DEEP_STUBS));
+        contextManager.getConfigurationContextManager().alterRuleConfiguration("foo_db", new ModeRuleConfigurationFixture());
+        verify((AutoCloseable) replacedRule).close();
+    }
+    
+    @Test
+    void assertDropRuleConfigurationClosesDroppedRule() throws Exception {
+        ShardingSphereRule droppedRule = mock(ShardingSphereRule.class, withSettings().extraInterfaces(AutoCloseable.class));
+        DatabaseRuleConfiguration ruleConfig = mock(DatabaseRuleConfiguration.class);
+        when(ruleConfig.isEmpty()).thenReturn(true);
+        when(droppedRule.getConfiguration()).thenReturn(ruleConfig);
+        when(droppedRule.getAttributes()).thenReturn(new RuleAttributes());
+        ShardingSphereDatabase database = createDatabaseWithRule(droppedRule);
+        when(metaDataContexts.getMetaData().getDatabase("foo_db")).thenReturn(database);
+        when(metaDataContexts.getMetaData().getGlobalRuleMetaData()).thenReturn(new RuleMetaData(Collections.emptyList()));
+        when(metaDataContexts.getPersistService()).thenReturn(mock(MetaDataPersistService.class, RETURNS_DEEP_STUBS));
+        contextManager.getConfigurationContextManager().dropRuleConfiguration("foo_db", ruleConfig);
+        verify((AutoCloseable) droppedRule).close();
+    }
+    
+    private ShardingSphereDatabase createDatabaseWithRule(final ShardingSphereRule rule) {
+        ResourceMetaData resourceMetaData = mock(ResourceMetaData.class, RETURNS_DEEP_STUBS);
+        when(resourceMetaData.getDataSources()).thenReturn(StorageNodeAggregator.aggregateDataSources(Collections.singletonMap("foo_ds", new MockedDataSource())));
+        when(resourceMetaData.getStorageUnits()).thenReturn(Collections.emptyMap());
+        return new ShardingSphereDatabase("foo_db", TypedSPILoader.getService(DatabaseType.class, "FIXTURE"), resourceMetaData,
+                new RuleMetaData(new LinkedList<>(Collections.singleton(rule))), Collections.emptyMap());
+    }
+    
     private ResourceMetaData createOriginalResource() {
         Map<String, DataSource> originalDataSources = new LinkedHashMap<>(2, 1F);
         originalDataSources.put("ds_1", new MockedDataSource());
@@ -24,6 +24,7 @@ import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.GetResponse;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.OptionsUtil;
@@ -45,11 +46,18 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -94,6 +102,49 @@ public final class EtcdRepository implements ClusterPersistRepository {
         return keyValues.stream().map(each -> getSubNodeKeyName(prefix, each.getKey().toString(StandardCharsets.UTF_8))).distinct().collect(Collectors.toList());
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public Map<String, String> batchGetDirectly(final Collection<String> keys) {
+        Map<String, CompletableFuture<GetResponse>> responses = new LinkedHashMap<>(keys.size(), 1F);
+        Semaphore inFlightRequests = createInFlightRequests();
+        for (String each : keys) {
+            responses.put(each, send(inFlightRequests, () -> client.getKVClient().get(ByteSequence.from(each, StandardCharsets.UTF_8))));
+        }
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (Entry<String, CompletableFuture<GetResponse>> entry : responses.entrySet()) {
+            List<KeyValue> keyValues = entry.getValue().get().getKvs();
+            result.put(entry.getKey(), keyValues.isEmpty() ? null : keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public Map<String, List<String>> batchGetChildrenKeys(final Collection<String> keys) {
+        GetOption getOption = GetOption.newBuilder().isPrefix(true).withSortField(GetOption.SortTarget.KEY).withSortOrder(GetOption.SortOrder.ASCEND).build();
+        Map<String, CompletableFuture<GetResponse>> responses = new LinkedHashMap<>(keys.size(), 1F);
+        Semaphore inFlightRequests = createInFlightRequests();
+        for (String each : keys) {
+            responses.put(each, send(inFlightRequests, () -> client.getKVClient().get(ByteSequence.from(each + PATH_SEPARATOR, StandardCharsets.UTF_8), getOption)));
+        }
+        Map<String, List<String>> result = new LinkedHashMap<>(keys.size(), 1F);
+        for (Entry<String, CompletableFuture<GetResponse>> entry : responses.entrySet()) {
+            String prefix = entry.getKey() + PATH_SEPARATOR;
+            result.put(entry.getKey(), entry.getValue().get().getKvs().stream()
+                    .map(each -> getSubNodeKeyName(prefix, each.getKey().toString(StandardCharsets.UTF_8))).distinct().collect(Collectors.toList()));
+        }
+        return result;
+    }
+    
+    private Semaphore createInFlightRequests() {
+        return new Semaphore(etcdProps.<Integer>getValue(EtcdPropertyKey.MAX_IN_FLIGHT_REQUESTS));
+    }
+    
+    private <T> CompletableFuture<T> send(final Semaphore inFlightRequests, final Supplier<CompletableFuture<T>> request) throws InterruptedException {
+        inFlightRequests.acquire();
+        return request.get().whenComplete((response, ex) -> inFlightRequests.release());
+    }
+    
     @Override
     public boolean isExisted(final String key) {
         return false;
@@ -111,6 +162,24 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        for (String each : keyValues.keySet()) {
+            buildParentPath(each);
+        }
+        Collection<CompletableFuture<?>> responses = new ArrayList<>(keyValues.size());
+        Semaphore inFlightRequests = createInFlightRequests();
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            ByteSequence key = ByteSequence.from(entry.getKey(), StandardCharsets.UTF_8);
+            ByteSequence value = ByteSequence.from(entry.getValue(), StandardCharsets.UTF_8);
+            responses.add(send(inFlightRequests, () -> client.getKVClient().put(key, value)));
+        }
+        for (CompletableFuture<?> each : responses) {
+            each.get();
+        }
+    }
+    
     @Override
     public void update(final String key, final String value) {
         // TODO
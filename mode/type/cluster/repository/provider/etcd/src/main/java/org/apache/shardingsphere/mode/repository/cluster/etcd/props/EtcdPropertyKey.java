@@ -36,7 +36,12 @@ public enum EtcdPropertyKey implements TypedPropertyKey {
     /**
      * Time out to connection.
      */
-    CONNECTION_TIMEOUT_SECONDS("connectionTimeout", "30", long.class);
+    CONNECTION_TIMEOUT_SECONDS("connectionTimeout", "30", long.class),
+    
+    /**
+     * Max in-flight async requests of one batch operation.
+     */
+    MAX_IN_FLIGHT_REQUESTS("maxInFlightRequests", "128", int.class);
     
     private final String key;
     
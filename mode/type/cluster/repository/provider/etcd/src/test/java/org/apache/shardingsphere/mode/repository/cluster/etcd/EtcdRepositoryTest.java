@@ -35,6 +35,9 @@ import io.etcd.jetcd.watch.WatchResponse;
 import io.grpc.stub.StreamObserver;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.mode.repository.cluster.etcd.props.EtcdProperties;
+import org.apache.shardingsphere.mode.repository.cluster.etcd.props.EtcdPropertyKey;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,21 +50,29 @@ import org.mockito.quality.Strictness;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -216,6 +227,66 @@ class EtcdRepositoryTest {
         verify(kv).put(any(ByteSequence.class), any(ByteSequence.class));
     }
     
+    @Test
+    void assertBatchGetDirectly() {
+        GetResponse fooResponse = mockGetResponse(createKeyValue("/key/foo", "foo_value"));
+        GetResponse barResponse = mockGetResponse();
+        when(kv.get(ByteSequence.from("/key/foo", StandardCharsets.UTF_8))).thenReturn(CompletableFuture.completedFuture(fooResponse));
+        when(kv.get(ByteSequence.from("/key/bar", StandardCharsets.UTF_8))).thenReturn(CompletableFuture.completedFuture(barResponse));
+        Map<String, String> actual = repository.batchGetDirectly(Arrays.asList("/key/foo", "/key/bar"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("/key/foo"), is("foo_value"));
+        assertNull(actual.get("/key/bar"));
+    }
+    
+    @Test
+    void assertBatchGetChildrenKeys() {
+        GetResponse response = mockGetResponse(createKeyValue("/key/foo/1", ""), createKeyValue("/key/foo/0", ""), createKeyValue("/key/foo/0/child", ""));
+        when(kv.get(any(ByteSequence.class), any(GetOption.class))).thenReturn(CompletableFuture.completedFuture(response));
+        Map<String, List<String>> actual = repository.batchGetChildrenKeys(Collections.singletonList("/key/foo"));
+        assertThat(actual.get("/key/foo"), is(Arrays.asList("1", "0")));
+    }
+    
+    @Test
+    void assertBatchPersist() {
+        when(kv.put(any(ByteSequence.class), any(ByteSequence.class))).thenReturn(CompletableFuture.completedFuture(null));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("key1", "value1");
+        keyValues.put("key2", "value2");
+        repository.batchPersist(keyValues);
+        verify(kv).put(ByteSequence.from("key1", StandardCharsets.UTF_8), ByteSequence.from("value1", StandardCharsets.UTF_8));
+        verify(kv).put(ByteSequence.from("key2", StandardCharsets.UTF_8), ByteSequence.from("value2", StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    void assertBatchGetDirectlyWithMaxInFlightRequests() throws ReflectiveOperationException, ExecutionException, InterruptedException, TimeoutException {
+        Plugins.getMemberAccessor().set(repository.getClass().getDeclaredField("etcdProps"), repository,
+                new EtcdProperties(PropertiesBuilder.build(new Property(EtcdPropertyKey.MAX_IN_FLIGHT_REQUESTS.getKey(), "1"))));
+        CompletableFuture<GetResponse> fooFuture = new CompletableFuture<>();
+        CompletableFuture<GetResponse> barFuture = new CompletableFuture<>();
+        ByteSequence fooKey = ByteSequence.from("/key/foo", StandardCharsets.UTF_8);
+        ByteSequence barKey = ByteSequence.from("/key/bar", StandardCharsets.UTF_8);
+        when(kv.get(fooKey)).thenReturn(fooFuture);
+        when(kv.get(barKey)).thenReturn(barFuture);
+        CompletableFuture<Map<String, String>> actual = CompletableFuture.supplyAsync(() -> repository.batchGetDirectly(Arrays.asList("/key/foo", "/key/bar")));
+        verify(kv, timeout(1000L)).get(fooKey);
+        verify(kv, after(100L).never()).get(barKey);
+        fooFuture.complete(mockGetResponse(createKeyValue("/key/foo", "foo_value")));
+        verify(kv, timeout(1000L)).get(barKey);
+        barFuture.complete(mockGetResponse(createKeyValue("/key/bar", "bar_value")));
+        assertThat(actual.get(1L, TimeUnit.SECONDS).get("/key/bar"), is("bar_value"));
+    }
+    
+    private GetResponse mockGetResponse(final KeyValue... keyValues) {
+        GetResponse result = mock(GetResponse.class);
+        when(result.getKvs()).thenReturn(Arrays.asList(keyValues));
+        return result;
+    }
+    
+    private KeyValue createKeyValue(final String key, final String value) {
+        return new KeyValue(io.etcd.jetcd.api.KeyValue.newBuilder().setKey(ByteString.copyFromUtf8(key)).setValue(ByteString.copyFromUtf8(value)).build(), ByteSequence.EMPTY);
+    }
+    
     @Test
     void assertClose() {
         repository.close();
@@ -23,6 +23,8 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
+import org.apache.curator.framework.api.CuratorEvent;
 import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.api.transaction.TransactionOp;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
@@ -46,18 +48,25 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.listener.Sess
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.KeeperException.Code;
 import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.ArrayList;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -71,12 +80,15 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
     
     private CuratorFramework client;
     
+    private int maxInFlightRequests;
+    
     @Getter
     private DistributedLockHolder distributedLockHolder;
     
     @Override
     public void init(final ClusterPersistRepositoryConfiguration config) {
         ZookeeperProperties zookeeperProps = new ZookeeperProperties(config.getProps());
+        maxInFlightRequests = zookeeperProps.getValue(ZookeeperPropertyKey.MAX_IN_FLIGHT_REQUESTS);
         client = buildCuratorClient(config, zookeeperProps);
         distributedLockHolder = new DistributedLockHolder(getType(), client, zookeeperProps);
         initCuratorClient(zookeeperProps);
@@ -146,6 +158,33 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         }
     }
     
+    @Override
+    public Map<String, List<String>> batchGetChildrenKeys(final Collection<String> keys) {
+        try {
+            Map<String, CompletableFuture<CuratorEvent>> events = new LinkedHashMap<>(keys.size(), 1F);
+            Semaphore inFlightRequests = new Semaphore(maxInFlightRequests);
+            for (String each : keys) {
+                CompletableFuture<CuratorEvent> event = new CompletableFuture<>();
+                inFlightRequests.acquire();
+                client.getChildren().inBackground(createBackgroundCallback(event, inFlightRequests)).forPath(each);
+                events.put(each, event);
+            }
+            Map<String, List<String>> result = new LinkedHashMap<>(keys.size(), 1F);
+            for (Entry<String, CompletableFuture<CuratorEvent>> entry : events.entrySet()) {
+                CuratorEvent event = awaitEvent(entry.getValue());
+                List<String> childrenKeys = null == event.getChildren() ? new ArrayList<>() : new ArrayList<>(event.getChildren());
+                childrenKeys.sort(Comparator.reverseOrder());
+                result.put(entry.getKey(), childrenKeys);
+            }
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+            return Collections.emptyMap();
+        }
+    }
+    
     @Override
     public void persist(final String key, final String value) {
         try {
@@ -161,6 +200,28 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         }
     }
     
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        try {
+            Collection<CompletableFuture<CuratorEvent>> events = new ArrayList<>(keyValues.size());
+            Semaphore inFlightRequests = new Semaphore(maxInFlightRequests);
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                CompletableFuture<CuratorEvent> event = new CompletableFuture<>();
+                inFlightRequests.acquire();
+                client.create().orSetData().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).inBackground(createBackgroundCallback(event, inFlightRequests))
+                        .forPath(entry.getKey(), entry.getValue().getBytes(StandardCharsets.UTF_8));
+                events.add(event);
+            }
+            for (CompletableFuture<CuratorEvent> each : events) {
+                awaitEvent(each);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
     @Override
     public void update(final String key, final String value) {
         try {
@@ -184,6 +245,46 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         }
     }
     
+    @Override
+    public Map<String, String> batchGetDirectly(final Collection<String> keys) {
+        try {
+            Map<String, CompletableFuture<CuratorEvent>> events = new LinkedHashMap<>(keys.size(), 1F);
+            Semaphore inFlightRequests = new Semaphore(maxInFlightRequests);
+            for (String each : keys) {
+                CompletableFuture<CuratorEvent> event = new CompletableFuture<>();
+                inFlightRequests.acquire();
+                client.getData().inBackground(createBackgroundCallback(event, inFlightRequests)).forPath(each);
+                events.put(each, event);
+            }
+            Map<String, String> result = new LinkedHashMap<>(keys.size(), 1F);
+            for (Entry<String, CompletableFuture<CuratorEvent>> entry : events.entrySet()) {
+                CuratorEvent event = awaitEvent(entry.getValue());
+                result.put(entry.getKey(), null == event.getData() ? null : new String(event.getData(), StandardCharsets.UTF_8));
+            }
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+            return Collections.emptyMap();
+        }
+    }
+    
+    private BackgroundCallback createBackgroundCallback(final CompletableFuture<CuratorEvent> event, final Semaphore inFlightRequests) {
+        return (framework, curatorEvent) -> {
+            inFlightRequests.release();
+            event.complete(curatorEvent);
+        };
+    }
+    
+    private CuratorEvent awaitEvent(final CompletableFuture<CuratorEvent> event) throws Exception {
+        CuratorEvent result = event.get();
+        if (Code.OK.intValue() != result.getResultCode() && Code.NONODE.intValue() != result.getResultCode()) {
+            throw KeeperException.create(Code.get(result.getResultCode()), result.getPath());
+        }
+        return result;
+    }
+    
     @Override
     public boolean isExisted(final String key) {
         try {
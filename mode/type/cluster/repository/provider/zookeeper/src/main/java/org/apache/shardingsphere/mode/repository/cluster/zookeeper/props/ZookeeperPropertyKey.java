@@ -48,6 +48,11 @@ public enum ZookeeperPropertyKey implements TypedPropertyKey {
      */
     OPERATION_TIMEOUT_MILLISECONDS("operationTimeoutMilliseconds", String.valueOf(500), int.class),
     
+    /**
+     * Max in-flight background requests of one batch operation.
+     */
+    MAX_IN_FLIGHT_REQUESTS("maxInFlightRequests", String.valueOf(128), int.class),
+    
     /**
      * ZooKeeper client connection authorization schema name.
      */
@@ -22,11 +22,16 @@ import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
+import org.apache.curator.framework.api.CuratorEvent;
 import org.apache.curator.framework.api.DeleteBuilder;
+import org.apache.curator.framework.api.ErrorListenerPathAndBytesable;
+import org.apache.curator.framework.api.ErrorListenerPathable;
 import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
+import org.apache.curator.framework.api.GetDataBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
@@ -37,6 +42,7 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.Zookeep
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.Code;
 import org.apache.zookeeper.data.Stat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -50,18 +56,27 @@ import org.mockito.quality.Strictness;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -93,6 +108,9 @@ class ZookeeperRepositoryTest {
     @Mock
     private GetChildrenBuilder getChildrenBuilder;
     
+    @Mock
+    private GetDataBuilder getDataBuilder;
+    
     @Mock
     private ProtectACLCreateModeStatPathAndBytesable<String> protect;
     
@@ -181,6 +199,102 @@ class ZookeeperRepositoryTest {
         assertThat(childrenKeys.size(), is(2));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertBatchGetChildrenKeys() throws Exception {
+        BackgroundCallback[] callback = new BackgroundCallback[1];
+        ErrorListenerPathable<List<String>> pathable = mock(ErrorListenerPathable.class);
+        when(getChildrenBuilder.inBackground(any(BackgroundCallback.class))).thenAnswer(invocation -> {
+            callback[0] = invocation.getArgument(0);
+            return pathable;
+        });
+        doAnswer(invocation -> {
+            CuratorEvent event = mock(CuratorEvent.class);
+            when(event.getResultCode()).thenReturn(Code.OK.intValue());
+            when(event.getChildren()).thenReturn(Arrays.asList("1", "2"));
+            callback[0].processResult(client, event);
+            return null;
+        }).when(pathable).forPath("/test/children/keys");
+        Map<String, List<String>> actual = REPOSITORY.batchGetChildrenKeys(Collections.singletonList("/test/children/keys"));
+        assertThat(actual.get("/test/children/keys"), is(Arrays.asList("2", "1")));
+    }
+    
+    @Test
+    void assertBatchGetDirectly() throws Exception {
+        BackgroundCallback[] callback = new BackgroundCallback[1];
+        ErrorListenerPathable<byte[]> pathable = mock(ErrorListenerPathable.class);
+        when(client.getData()).thenReturn(getDataBuilder);
+        when(getDataBuilder.inBackground(any(BackgroundCallback.class))).thenAnswer(invocation -> {
+            callback[0] = invocation.getArgument(0);
+            return pathable;
+        });
+        doAnswer(invocation -> {
+            callback[0].processResult(client, mockCuratorEvent(Code.OK, "foo_value"));
+            return null;
+        }).when(pathable).forPath("/test/foo");
+        doAnswer(invocation -> {
+            callback[0].processResult(client, mockCuratorEvent(Code.NONODE, null));
+            return null;
+        }).when(pathable).forPath("/test/bar");
+        Map<String, String> actual = REPOSITORY.batchGetDirectly(Arrays.asList("/test/foo", "/test/bar"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("/test/foo"), is("foo_value"));
+        assertNull(actual.get("/test/bar"));
+    }
+    
+    @Test
+    void assertBatchGetDirectlyWithMaxInFlightRequests() throws Exception {
+        REPOSITORY.init(new ClusterPersistRepositoryConfiguration(REPOSITORY.getType(), "governance", SERVER_LISTS,
+                PropertiesBuilder.build(new Property(ZookeeperPropertyKey.MAX_IN_FLIGHT_REQUESTS.getKey(), "1"))));
+        BlockingQueue<BackgroundCallback> callbacks = new LinkedBlockingQueue<>();
+        ErrorListenerPathable<byte[]> pathable = mock(ErrorListenerPathable.class);
+        when(client.getData()).thenReturn(getDataBuilder);
+        when(getDataBuilder.inBackground(any(BackgroundCallback.class))).thenAnswer(invocation -> {
+            callbacks.add(invocation.getArgument(0));
+            return pathable;
+        });
+        CuratorEvent fooEvent = mockCuratorEvent(Code.OK, "foo_value");
+        CuratorEvent barEvent = mockCuratorEvent(Code.OK, "bar_value");
+        CompletableFuture<Map<String, String>> actual = CompletableFuture.supplyAsync(() -> REPOSITORY.batchGetDirectly(Arrays.asList("/test/foo", "/test/bar")));
+        BackgroundCallback fooCallback = callbacks.poll(1L, TimeUnit.SECONDS);
+        assertNotNull(fooCallback);
+        assertNull(callbacks.poll(100L, TimeUnit.MILLISECONDS));
+        fooCallback.processResult(client, fooEvent);
+        BackgroundCallback barCallback = callbacks.poll(1L, TimeUnit.SECONDS);
+        assertNotNull(barCallback);
+        barCallback.processResult(client, barEvent);
+        assertThat(actual.get(1L, TimeUnit.SECONDS).get("/test/bar"), is("bar_value"));
+    }
+    
+    @Test
+    void assertBatchPersist() throws Exception {
+        CreateBuilder batchCreateBuilder = mock(CreateBuilder.class, RETURNS_DEEP_STUBS);
+        when(client.create()).thenReturn(batchCreateBuilder);
+        BackgroundCallback[] callback = new BackgroundCallback[1];
+        ErrorListenerPathAndBytesable<String> pathAndBytesable = mock(ErrorListenerPathAndBytesable.class);
+        when(batchCreateBuilder.orSetData().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).inBackground(any(BackgroundCallback.class))).thenAnswer(invocation -> {
+            callback[0] = invocation.getArgument(0);
+            return pathAndBytesable;
+        });
+        doAnswer(invocation -> {
+            callback[0].processResult(client, mockCuratorEvent(Code.OK, null));
+            return null;
+        }).when(pathAndBytesable).forPath(anyString(), any(byte[].class));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/test/foo", "foo_value");
+        keyValues.put("/test/bar", "bar_value");
+        REPOSITORY.batchPersist(keyValues);
+        verify(pathAndBytesable).forPath("/test/foo", "foo_value".getBytes(StandardCharsets.UTF_8));
+        verify(pathAndBytesable).forPath("/test/bar", "bar_value".getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private CuratorEvent mockCuratorEvent(final Code resultCode, final String data) {
+        CuratorEvent result = mock(CuratorEvent.class);
+        when(result.getResultCode()).thenReturn(resultCode.intValue());
+        when(result.getData()).thenReturn(null == data ? null : data.getBytes(StandardCharsets.UTF_8));
+        return result;
+    }
+    
     @Test
     void assertBuildCuratorClientWithCustomConfig() {
         Properties props = PropertiesBuilder.build(
@@ -0,0 +1,403 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser;
+
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.IntervalSet;
+import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.ParameterMarkerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.StringLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Simple DML statement parser for MySQL.
+ *
+ * <p>Segments are created with the same indexes, values and parameter marker indexes as MySQL statement visitor, null is returned once a token is out of the supported shapes.</p>
+ */
+@RequiredArgsConstructor
+final class MySQLSimpleDMLStatementParser {
+    
+    private final CharStream charStream;
+    
+    private final List<? extends Token> tokens;
+    
+    private final IntervalSet identifierTokenTypes;
+    
+    private final Collection<ParameterMarkerSegment> parameterMarkerSegments = new LinkedList<>();
+    
+    private int position;
+    
+    /**
+     * Parse SQL statement.
+     *
+     * @return parsed SQL statement, null if SQL is not supported
+     */
+    SQLStatement parse() {
+        SQLStatement result;
+        switch (currentType()) {
+            case MySQLStatementParser.SELECT:
+                result = parseSelect();
+                break;
+            case MySQLStatementParser.INSERT:
+                result = parseInsert();
+                break;
+            case MySQLStatementParser.UPDATE:
+                result = parseUpdate();
+                break;
+            case MySQLStatementParser.DELETE:
+                result = parseDelete();
+                break;
+            default:
+                return null;
+        }
+        if (isCurrentType(MySQLStatementParser.SEMI_)) {
+            position++;
+        }
+        return position == tokens.size() ? result : null;
+    }
+    
+    private MySQLSelectStatement parseSelect() {
+        position++;
+        ProjectionsSegment projections = parseProjections();
+        if (null == projections || !isCurrentType(MySQLStatementParser.FROM)) {
+            return null;
+        }
+        position++;
+        SimpleTableSegment table = parseTableName();
+        if (null == table) {
+            return null;
+        }
+        WhereSegment where = null;
+        if (isCurrentType(MySQLStatementParser.WHERE)) {
+            where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+        }
+        MySQLSelectStatement result = new MySQLSelectStatement();
+        result.setProjections(projections);
+        result.setFrom(table);
+        if (null != where) {
+            result.setWhere(where);
+        }
+        result.addParameterMarkerSegments(parameterMarkerSegments);
+        return result;
+    }
+    
+    private ProjectionsSegment parseProjections() {
+        if (isCurrentType(MySQLStatementParser.ASTERISK_)) {
+            Token asterisk = tokens.get(position++);
+            ProjectionsSegment result = new ProjectionsSegment(asterisk.getStartIndex(), asterisk.getStopIndex());
+            result.getProjections().add(new ShorthandProjectionSegment(asterisk.getStartIndex(), asterisk.getStopIndex()));
+            return result;
+        }
+        List<ColumnSegment> columns = parseColumns();
+        if (null == columns) {
+            return null;
+        }
+        ProjectionsSegment result = new ProjectionsSegment(columns.get(0).getStartIndex(), columns.get(columns.size() - 1).getStopIndex());
+        for (ColumnSegment each : columns) {
+            result.getProjections().add(new ColumnProjectionSegment(each));
+        }
+        return result;
+    }
+    
+    private MySQLInsertStatement parseInsert() {
+        position++;
+        if (!isCurrentType(MySQLStatementParser.INTO)) {
+            return null;
+        }
+        position++;
+        SimpleTableSegment table = parseTableName();
+        if (null == table) {
+            return null;
+        }
+        InsertColumnsSegment insertColumns = parseInsertColumns();
+        if (null == insertColumns || !isCurrentType(MySQLStatementParser.VALUES) && !isCurrentType(MySQLStatementParser.VALUE)) {
+            return null;
+        }
+        position++;
+        Collection<InsertValuesSegment> values = new LinkedList<>();
+        do {
+            InsertValuesSegment insertValues = parseInsertValues();
+            if (null == insertValues) {
+                return null;
+            }
+            values.add(insertValues);
+        } while (skipIfCurrentType(MySQLStatementParser.COMMA_));
+        MySQLInsertStatement result = new MySQLInsertStatement();
+        result.setInsertColumns(insertColumns);
+        result.getValues().addAll(values);
+        result.setTable(table);
+        result.addParameterMarkerSegments(parameterMarkerSegments);
+        return result;
+    }
+    
+    private InsertColumnsSegment parseInsertColumns() {
+        if (isCurrentType(MySQLStatementParser.VALUES) || isCurrentType(MySQLStatementParser.VALUE)) {
+            int valuesStartIndex = tokens.get(position).getStartIndex();
+            return new InsertColumnsSegment(valuesStartIndex - 1, valuesStartIndex - 1, Collections.emptyList());
+        }
+        if (!isCurrentType(MySQLStatementParser.LP_)) {
+            return null;
+        }
+        Token leftParen = tokens.get(position++);
+        List<ColumnSegment> columns = parseColumns();
+        if (null == columns || !isCurrentType(MySQLStatementParser.RP_)) {
+            return null;
+        }
+        return new InsertColumnsSegment(leftParen.getStartIndex(), tokens.get(position++).getStopIndex(), columns);
+    }
+    
+    private InsertValuesSegment parseInsertValues() {
+        if (!isCurrentType(MySQLStatementParser.LP_)) {
+            return null;
+        }
+        Token leftParen = tokens.get(position++);
+        List<ExpressionSegment> values = new LinkedList<>();
+        do {
+            ExpressionSegment value = parseValue();
+            if (null == value) {
+                return null;
+            }
+            values.add(value);
+        } while (skipIfCurrentType(MySQLStatementParser.COMMA_));
+        if (!isCurrentType(MySQLStatementParser.RP_)) {
+            return null;
+        }
+        return new InsertValuesSegment(leftParen.getStartIndex(), tokens.get(position++).getStopIndex(), values);
+    }
+    
+    private MySQLUpdateStatement parseUpdate() {
+        position++;
+        SimpleTableSegment table = parseTableName();
+        if (null == table) {
+            return null;
+        }
+        SetAssignmentSegment setAssignment = parseSetAssignment();
+        if (null == setAssignment) {
+            return null;
+        }
+        WhereSegment where = null;
+        if (isCurrentType(MySQLStatementParser.WHERE)) {
+            where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+        }
+        MySQLUpdateStatement result = new MySQLUpdateStatement();
+        result.setTable(table);
+        result.setSetAssignment(setAssignment);
+        if (null != where) {
+            result.setWhere(where);
+        }
+        result.addParameterMarkerSegments(parameterMarkerSegments);
+        return result;
+    }
+    
+    private SetAssignmentSegment parseSetAssignment() {
+        if (!isCurrentType(MySQLStatementParser.SET)) {
+            return null;
+        }
+        Token set = tokens.get(position++);
+        Collection<ColumnAssignmentSegment> assignments = new LinkedList<>();
+        ColumnAssignmentSegment assignment;
+        do {
+            assignment = parseAssignment();
+            if (null == assignment) {
+                return null;
+            }
+            assignments.add(assignment);
+        } while (skipIfCurrentType(MySQLStatementParser.COMMA_));
+        return new SetAssignmentSegment(set.getStartIndex(), assignment.getStopIndex(), assignments);
+    }
+    
+    private ColumnAssignmentSegment parseAssignment() {
+        ColumnSegment column = parseColumn();
+        if (null == column || !skipIfCurrentType(MySQLStatementParser.EQ_)) {
+            return null;
+        }
+        ExpressionSegment value = parseValue();
+        if (null == value) {
+            return null;
+        }
+        List<ColumnSegment> columns = new LinkedList<>();
+        columns.add(column);
+        return new ColumnAssignmentSegment(column.getStartIndex(), value.getStopIndex(), columns, value);
+    }
+    
+    private MySQLDeleteStatement parseDelete() {
+        position++;
+        if (!skipIfCurrentType(MySQLStatementParser.FROM)) {
+            return null;
+        }
+        SimpleTableSegment table = parseTableName();
+        if (null == table) {
+            return null;
+        }
+        WhereSegment where = null;
+        if (isCurrentType(MySQLStatementParser.WHERE)) {
+            where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+        }
+        MySQLDeleteStatement result = new MySQLDeleteStatement();
+        result.setTable(table);
+        if (null != where) {
+            result.setWhere(where);
+        }
+        result.addParameterMarkerSegments(parameterMarkerSegments);
+        return result;
+    }
+    
+    private WhereSegment parseWhere() {
+        Token where = tokens.get(position++);
+        ExpressionSegment expression = parseComparison();
+        if (null == expression) {
+            return null;
+        }
+        while (isCurrentType(MySQLStatementParser.AND) || isCurrentType(MySQLStatementParser.AND_)) {
+            String operator = tokens.get(position++).getText();
+            ExpressionSegment right = parseComparison();
+            if (null == right) {
+                return null;
+            }
+            expression = new BinaryOperationExpression(expression.getStartIndex(), right.getStopIndex(), expression, right, operator, getText(expression.getStartIndex(), right.getStopIndex()));
+        }
+        return new WhereSegment(where.getStartIndex(), expression.getStopIndex(), expression);
+    }
+    
+    private BinaryOperationExpression parseComparison() {
+        ColumnSegment column = parseColumn();
+        if (null == column || !isComparisonOperator(currentType())) {
+            return null;
+        }
+        String operator = tokens.get(position++).getText();
+        ExpressionSegment value = parseValue();
+        if (null == value) {
+            return null;
+        }
+        return new BinaryOperationExpression(column.getStartIndex(), value.getStopIndex(), column, value, operator, getText(column.getStartIndex(), value.getStopIndex()));
+    }
+    
+    private boolean isComparisonOperator(final int tokenType) {
+        return MySQLStatementParser.EQ_ == tokenType || MySQLStatementParser.NEQ_ == tokenType || MySQLStatementParser.GT_ == tokenType
+                || MySQLStatementParser.GTE_ == tokenType || MySQLStatementParser.LT_ == tokenType || MySQLStatementParser.LTE_ == tokenType;
+    }
+    
+    private ExpressionSegment parseValue() {
+        int tokenType = currentType();
+        if (MySQLStatementParser.QUESTION_ != tokenType && MySQLStatementParser.NUMBER_ != tokenType && MySQLStatementParser.SINGLE_QUOTED_TEXT != tokenType) {
+            return null;
+        }
+        Token token = tokens.get(position++);
+        switch (tokenType) {
+            case MySQLStatementParser.QUESTION_:
+                ParameterMarkerExpressionSegment result = new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parameterMarkerSegments.size(), ParameterMarkerType.QUESTION);
+                parameterMarkerSegments.add(result);
+                return result;
+            case MySQLStatementParser.NUMBER_:
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new NumberLiteralValue(token.getText()).getValue());
+            default:
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new StringLiteralValue(token.getText()).getValue());
+        }
+    }
+    
+    private List<ColumnSegment> parseColumns() {
+        List<ColumnSegment> result = new LinkedList<>();
+        do {
+            ColumnSegment column = parseColumn();
+            if (null == column) {
+                return null;
+            }
+            result.add(column);
+        } while (skipIfCurrentType(MySQLStatementParser.COMMA_));
+        return result;
+    }
+    
+    private ColumnSegment parseColumn() {
+        if (!isIdentifier()) {
+            return null;
+        }
+        Token token = tokens.get(position++);
+        return new ColumnSegment(token.getStartIndex(), token.getStopIndex(), new IdentifierValue(token.getText()));
+    }
+    
+    private SimpleTableSegment parseTableName() {
+        if (!isIdentifier()) {
+            return null;
+        }
+        Token token = tokens.get(position++);
+        return new SimpleTableSegment(new TableNameSegment(token.getStartIndex(), token.getStopIndex(), new IdentifierValue(token.getText())));
+    }
+    
+    private boolean isIdentifier() {
+        return identifierTokenTypes.contains(currentType());
+    }
+    
+    private boolean skipIfCurrentType(final int tokenType) {
+        if (isCurrentType(tokenType)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean isCurrentType(final int tokenType) {
+        return tokenType == currentType();
+    }
+    
+    private int currentType() {
+        return position < tokens.size() ? tokens.get(position).getType() : Token.EOF;
+    }
+    
+    private String getText(final int startIndex, final int stopIndex) {
+        return charStream.getText(Interval.of(startIndex, stopIndex));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CodePointBuffer;
+import org.antlr.v4.runtime.CodePointCharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.IntervalSet;
+import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser;
+import org.apache.shardingsphere.sql.parser.spi.DialectSQLStatementFastParser;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.nio.CharBuffer;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL statement fast parser for MySQL.
+ *
+ * <p>Single table select, insert, update and delete with column list, values and conjunctive comparison conditions are parsed from tokens of MySQL lexer directly,
+ * SQL with comments, functions, expressions, aliases, owners, subqueries or other clauses is left to ANTLR parser.</p>
+ */
+public final class MySQLStatementFastParser implements DialectSQLStatementFastParser {
+    
+    private static final IntervalSet IDENTIFIER_TOKEN_TYPES = createIdentifierTokenTypes();
+    
+    private static IntervalSet createIdentifierTokenTypes() {
+        IntervalSet result = new IntervalSet(getFirstTokenTypes(MySQLStatementParser.RULE_identifier));
+        for (int each : new int[]{MySQLStatementParser.RULE_literals, MySQLStatementParser.RULE_specialFunction, MySQLStatementParser.RULE_intervalExpression,
+                MySQLStatementParser.RULE_caseExpression, MySQLStatementParser.RULE_matchExpression, MySQLStatementParser.RULE_variable}) {
+            result = result.subtract(getFirstTokenTypes(each));
+        }
+        for (int each : new int[]{MySQLStatementParser.DOUBLE_QUOTED_TEXT, MySQLStatementParser.LOW_PRIORITY, MySQLStatementParser.HIGH_PRIORITY,
+                MySQLStatementParser.DELAYED, MySQLStatementParser.QUICK, MySQLStatementParser.IGNORE}) {
+            result.remove(each);
+        }
+        result.setReadonly(true);
+        return result;
+    }
+    
+    private static IntervalSet getFirstTokenTypes(final int ruleIndex) {
+        return MySQLStatementParser._ATN.nextTokens(MySQLStatementParser._ATN.ruleToStartState[ruleIndex]);
+    }
+    
+    @Override
+    public Optional<SQLStatement> parse(final String sql) {
+        CharStream charStream = CodePointCharStream.fromBuffer(CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray())));
+        MySQLLexer lexer = new MySQLLexer(charStream);
+        lexer.removeErrorListeners();
+        List<? extends Token> tokens = lexer.getAllTokens();
+        return isSupportedTokens(charStream, tokens) ? Optional.ofNullable(new MySQLSimpleDMLStatementParser(charStream, tokens, IDENTIFIER_TOKEN_TYPES).parse()) : Optional.empty();
+    }
+    
+    private boolean isSupportedTokens(final CharStream charStream, final List<? extends Token> tokens) {
+        if (tokens.isEmpty()) {
+            return false;
+        }
+        int nextStartIndex = 0;
+        for (Token each : tokens) {
+            if (Token.DEFAULT_CHANNEL != each.getChannel() || !isWhitespace(charStream, nextStartIndex, each.getStartIndex() - 1)) {
+                return false;
+            }
+            nextStartIndex = each.getStopIndex() + 1;
+        }
+        return isWhitespace(charStream, nextStartIndex, charStream.size() - 1);
+    }
+    
+    private boolean isWhitespace(final CharStream charStream, final int startIndex, final int stopIndex) {
+        if (startIndex > stopIndex) {
+            return true;
+        }
+        for (char each : charStream.getText(Interval.of(startIndex, stopIndex)).toCharArray()) {
+            if (' ' != each && '\t' != each && '\r' != each && '\n' != each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
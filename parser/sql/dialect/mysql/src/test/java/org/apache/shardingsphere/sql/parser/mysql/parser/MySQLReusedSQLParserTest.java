@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MySQLReusedSQLParserTest {
+    
+    private final SQLParserExecutor sqlParserExecutor = new SQLParserExecutor(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+    
+    @Test
+    void assertParseSequentially() {
+        String firstSQL = "SELECT order_id FROM t_order WHERE user_id = ?";
+        String secondSQL = "INSERT INTO t_order_item (item_id, order_id) VALUES (1, 2), (3, 4)";
+        ParseASTNode firstActual = sqlParserExecutor.parse(firstSQL);
+        ParseASTNode secondActual = sqlParserExecutor.parse(secondSQL);
+        assertThat(firstActual.getRootNode().toStringTree(), is(getExpectedTree(firstSQL)));
+        assertThat(secondActual.getRootNode().toStringTree(), is(getExpectedTree(secondSQL)));
+    }
+    
+    @Test
+    void assertParseAfterFailedParse() {
+        assertThrows(SQLParsingException.class, () -> sqlParserExecutor.parse("SELECT FROM WHERE"));
+        String sql = "UPDATE t_order SET status = 'finished' WHERE order_id IN (SELECT order_id FROM t_order_item)";
+        assertThat(sqlParserExecutor.parse(sql).getRootNode().toStringTree(), is(getExpectedTree(sql)));
+    }
+    
+    @Test
+    void assertParseWithHiddenTokensAfterReuse() {
+        ParseASTNode actual = sqlParserExecutor.parse("SELECT /* first */ 1");
+        sqlParserExecutor.parse("SELECT /* second */ 2");
+        assertThat(actual.getHiddenTokens().stream().anyMatch(each -> "/* first */".equals(each.getText())), is(true));
+    }
+    
+    private String getExpectedTree(final String sql) {
+        return ((ParseASTNode) SQLParserFactory.newInstance(sql, MySQLLexer.class, MySQLParser.class).parse()).getRootNode().toStringTree();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser;
+
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLStatementFastParserTest {
+    
+    private final MySQLStatementFastParser fastParser = new MySQLStatementFastParser();
+    
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+            "SELECT * FROM t_order WHERE order_id = ?",
+            "select order_id, user_id, status from t_order where order_id = 1 and user_id <> 'a''b' AND status != ?",
+            "SELECT `order_id` FROM `t_order` WHERE `user_id` >= 10.5 && order_id < ? and user_id <= 3 and status > 'x';",
+            "SELECT name FROM t_user",
+            "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, 'init'), (2, 10, ?)",
+            "insert into t_order values (1, 'a')",
+            "UPDATE t_order SET status = ?, user_id = 10 WHERE order_id = ? AND user_id = ?",
+            "update t_order set status='done'",
+            "DELETE FROM t_order WHERE order_id = ?",
+            "delete from t_order"})
+    void assertParseSameAsVisitor(final String sql) {
+        Optional<SQLStatement> actual = fastParser.parse(sql);
+        assertTrue(actual.isPresent());
+        SQLStatement expected = new SQLStatementVisitorEngine("MySQL").visit(new SQLParserEngine("MySQL", new CacheOption(1, 1L)).parse(sql, false));
+        assertSameObject(actual.get(), expected, "statement");
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+            "SELECT * FROM t_order /* comment */ WHERE order_id = ?",
+            "SELECT o.order_id FROM t_order o WHERE order_id = ?",
+            "SELECT count(*) FROM t_order",
+            "SELECT * FROM t_order WHERE order_id = ? OR user_id = ?",
+            "SELECT * FROM t_order WHERE order_id IN (1, 2)",
+            "SELECT * FROM t_order WHERE order_id = -1",
+            "SELECT * FROM t_order WHERE order_id = ? LIMIT 1",
+            "INSERT INTO t_order SET order_id = 1",
+            "INSERT INTO t_order (order_id) VALUES (1 + 1)",
+            "UPDATE t_order SET status = status + 1 WHERE order_id = ?",
+            "DELETE FROM t_order WHERE order_id = ?; DELETE FROM t_order",
+            "SHOW TABLES",
+            "SELECT * FROM t_order WHERE order_id = \"1\""})
+    void assertParseUnsupportedSQL(final String sql) {
+        assertFalse(fastParser.parse(sql).isPresent());
+    }
+    
+    @Test
+    void assertGetDatabaseType() {
+        assertThat(fastParser.getDatabaseType(), is("MySQL"));
+    }
+    
+    private void assertSameObject(final Object actual, final Object expected, final String path) {
+        if (null == expected || null == actual) {
+            assertThat(path, actual, is(expected));
+            return;
+        }
+        assertThat(path, actual.getClass().getName(), is(expected.getClass().getName()));
+        if (expected instanceof Collection) {
+            assertThat(path, ((Collection<?>) actual).size(), is(((Collection<?>) expected).size()));
+            Iterator<?> actualIterator = ((Collection<?>) actual).iterator();
+            int index = 0;
+            for (Object each : (Collection<?>) expected) {
+                assertSameObject(actualIterator.next(), each, path + "[" + index++ + "]");
+            }
+            return;
+        }
+        if (!expected.getClass().getName().startsWith("org.apache.shardingsphere.") || expected.getClass().isEnum()) {
+            assertThat(path, actual, is(expected));
+            return;
+        }
+        for (Class<?> type = expected.getClass(); Object.class != type; type = type.getSuperclass()) {
+            for (Field each : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(each.getModifiers())) {
+                    assertSameField(actual, expected, each, path);
+                }
+            }
+        }
+    }
+    
+    private void assertSameField(final Object actual, final Object expected, final Field field, final String path) {
+        field.setAccessible(true);
+        try {
+            assertSameObject(field.get(actual), field.get(expected), path + "." + field.getName());
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
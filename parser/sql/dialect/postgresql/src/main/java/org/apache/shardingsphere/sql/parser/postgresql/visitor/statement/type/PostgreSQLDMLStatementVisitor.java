@@ -17,13 +17,19 @@
 
 package org.apache.shardingsphere.sql.parser.postgresql.visitor.statement.type;
 
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
 import org.apache.shardingsphere.sql.parser.api.ASTNode;
 import org.apache.shardingsphere.sql.parser.api.visitor.statement.type.DMLStatementVisitor;
+import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CallArgumentContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CallContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CheckpointContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyContext;
+import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyOptionContext;
+import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyOptionListContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyWithTableBinaryContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyWithTableOrQueryBinaryCsvContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyWithTableOrQueryContext;
@@ -51,6 +57,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.StringJoiner;
 
 /**
  * DML statement visitor for PostgreSQL.
@@ -108,6 +115,80 @@ public final class PostgreSQLDMLStatementVisitor extends PostgreSQLStatementVisi
         if (null != ctx.preparableStmt()) {
             result.setPrepareStatementQuerySegment(extractPrepareStatementQuerySegmentFromPreparableStmt(ctx.preparableStmt()));
         }
+        result.setStdin(null != ctx.STDIN());
+        result.setStdout(null != ctx.STDOUT());
+        if (null != ctx.copyOptionList()) {
+            setCopyOptions(ctx.copyOptionList(), result);
+        }
+        return result;
+    }
+    
+    private void setCopyOptions(final CopyOptionListContext ctx, final PostgreSQLCopyStatement copyStatement) {
+        for (CopyOptionContext each : ctx.copyOption()) {
+            String optionName = each.getStart().getText();
+            copyStatement.getOptions().put(optionName.toLowerCase(), each.getText().substring(optionName.length()));
+        }
+    }
+    
+    private void setLegacyCopyOptions(final ParserRuleContext ctx, final PostgreSQLCopyStatement copyStatement) {
+        int index = 0;
+        while (index < ctx.getChildCount()) {
+            index = setLegacyCopyOption(ctx, index, copyStatement) + 1;
+        }
+    }
+    
+    private int setLegacyCopyOption(final ParserRuleContext ctx, final int index, final PostgreSQLCopyStatement copyStatement) {
+        if (!(ctx.getChild(index) instanceof TerminalNode)) {
+            return index;
+        }
+        String keyword = ctx.getChild(index).getText().toUpperCase();
+        switch (keyword) {
+            case "BINARY":
+            case "CSV":
+                copyStatement.getOptions().put("format", keyword.toLowerCase());
+                return index;
+            case "HEADER":
+                copyStatement.getOptions().put("header", "");
+                return index;
+            case "DELIMITER":
+            case "DELIMITERS":
+            case "NULL":
+            case "QUOTE":
+            case "ESCAPE":
+                int result = findStringLiteralIndex(ctx, index);
+                copyStatement.getOptions().put("DELIMITERS".equals(keyword) ? "delimiter" : keyword.toLowerCase(), ctx.getChild(result).getText());
+                return result;
+            case "FORCE":
+                return setLegacyForceCopyOption(ctx, index + 1, copyStatement);
+            default:
+                return index;
+        }
+    }
+    
+    private int findStringLiteralIndex(final ParserRuleContext ctx, final int keywordIndex) {
+        int result = keywordIndex + 1;
+        while (!(ctx.getChild(result) instanceof TerminalNode) || PostgreSQLStatementParser.STRING_ != ((TerminalNode) ctx.getChild(result)).getSymbol().getType()) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int setLegacyForceCopyOption(final ParserRuleContext ctx, final int index, final PostgreSQLCopyStatement copyStatement) {
+        boolean forceNotNull = "NOT".equalsIgnoreCase(ctx.getChild(index).getText());
+        String optionName = forceNotNull ? "force_not_null" : "force_quote";
+        int result = forceNotNull ? index + 2 : index + 1;
+        ParseTree firstColumn = ctx.getChild(result);
+        if ("*".equals(firstColumn.getText())) {
+            copyStatement.getOptions().put(optionName, "*");
+            return result;
+        }
+        StringJoiner columns = new StringJoiner(",", "(", ")");
+        columns.add(firstColumn.getText());
+        while (result + 2 < ctx.getChildCount() && ",".equals(ctx.getChild(result + 1).getText())) {
+            result += 2;
+            columns.add(ctx.getChild(result).getText());
+        }
+        copyStatement.getOptions().put(optionName, columns.toString());
         return result;
     }
     
@@ -137,6 +218,9 @@ public final class PostgreSQLDMLStatementVisitor extends PostgreSQLStatementVisi
         if (null != ctx.preparableStmt()) {
             result.setPrepareStatementQuerySegment(extractPrepareStatementQuerySegmentFromPreparableStmt(ctx.preparableStmt()));
         }
+        result.setStdin(null != ctx.STDIN());
+        result.setStdout(null != ctx.STDOUT());
+        setLegacyCopyOptions(ctx, result);
         return result;
     }
     
@@ -146,6 +230,9 @@ public final class PostgreSQLDMLStatementVisitor extends PostgreSQLStatementVisi
         if (null != ctx.qualifiedName()) {
             result.setTableSegment((SimpleTableSegment) visit(ctx.qualifiedName()));
         }
+        result.setStdin(null != ctx.STDIN());
+        result.setStdout(null != ctx.STDOUT());
+        setLegacyCopyOptions(ctx, result);
         return result;
     }
     
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.sql.parser.core;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
@@ -29,10 +31,15 @@ import org.antlr.v4.runtime.ConsoleErrorListener;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 
+import java.lang.reflect.Constructor;
 import java.nio.CharBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SQL parser factory.
@@ -40,6 +47,10 @@ import java.nio.CharBuffer;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserFactory {
     
+    private static final Map<Class<?>, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
+    
+    private static final ThreadLocal<Map<Class<? extends SQLParser>, ReusableSQLParser>> REUSABLE_SQL_PARSERS = ThreadLocal.withInitial(HashMap::new);
+    
     /**
      * Create new instance of SQL parser.
      * 
@@ -49,26 +60,97 @@ public final class SQLParserFactory {
      * @return created instance
      */
     public static SQLParser newInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
-        return createSQLParser(createTokenStream(sql, lexerClass), parserClass);
+        return createSQLParser(new CommonTokenStream(createLexer(getSQLCharStream(sql), lexerClass)), parserClass);
+    }
+    
+    /**
+     * Get SQL parser of current thread.
+     *
+     * <p>Lexer and parser of current thread are reset to parse the SQL instead of being created again.
+     * The returned SQL parser must be used before the next invocation with the same parser class on current thread.</p>
+     *
+     * @param sql SQL
+     * @param lexerClass lexer class
+     * @param parserClass parser class
+     * @return SQL parser of current thread
+     */
+    public static SQLParser getThreadLocalInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
+        Map<Class<? extends SQLParser>, ReusableSQLParser> reusableSQLParsers = REUSABLE_SQL_PARSERS.get();
+        ReusableSQLParser reusableSQLParser = reusableSQLParsers.get(parserClass);
+        if (null == reusableSQLParser || lexerClass != reusableSQLParser.getLexer().getClass()) {
+            Lexer lexer = createLexer(getSQLCharStream(sql), lexerClass);
+            SQLParser result = createSQLParser(new CommonTokenStream(lexer), parserClass);
+            reusableSQLParsers.put(parserClass, new ReusableSQLParser(lexer, result));
+            return result;
+        }
+        return reusableSQLParser.reset(getSQLCharStream(sql));
+    }
+    
+    /**
+     * Release SQL parser of current thread.
+     *
+     * <p>Lexer and parser of current thread are reset to an empty SQL, so that the char stream and token stream of the last parsed SQL are not kept alive by current thread.</p>
+     *
+     * @param parserClass parser class
+     */
+    public static void releaseThreadLocalInstance(final Class<? extends SQLParser> parserClass) {
+        ReusableSQLParser reusableSQLParser = REUSABLE_SQL_PARSERS.get().get(parserClass);
+        if (null != reusableSQLParser) {
+            reusableSQLParser.release();
+        }
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
     private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
-        SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
+        SQLParser result = (SQLParser) getConstructor(parserClass, TokenStream.class).newInstance(tokenStream);
         ((Parser) result).setErrorHandler(new BailErrorStrategy());
         ((Parser) result).removeErrorListener(ConsoleErrorListener.INSTANCE);
         return result;
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private static TokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
-        Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
-        lexer.removeErrorListener(ConsoleErrorListener.INSTANCE);
-        return new CommonTokenStream(lexer);
+    private static Lexer createLexer(final CharStream charStream, final Class<? extends SQLLexer> lexerClass) {
+        Lexer result = (Lexer) getConstructor(lexerClass, CharStream.class).newInstance(charStream);
+        result.removeErrorListener(ConsoleErrorListener.INSTANCE);
+        return result;
+    }
+    
+    @SneakyThrows(NoSuchMethodException.class)
+    private static Constructor<?> getConstructor(final Class<?> clazz, final Class<?> parameterType) {
+        Constructor<?> result = CONSTRUCTORS.get(clazz);
+        if (null == result) {
+            result = clazz.getConstructor(parameterType);
+            CONSTRUCTORS.put(clazz, result);
+        }
+        return result;
     }
     
     private static CharStream getSQLCharStream(final String sql) {
         CodePointBuffer buffer = CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray()));
         return CodePointCharStream.fromBuffer(buffer);
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ReusableSQLParser {
+        
+        private final Lexer lexer;
+        
+        private final SQLParser parser;
+        
+        private SQLParser reset(final CharStream charStream) {
+            lexer.setInputStream(charStream);
+            ((Parser) parser).setTokenStream(new CommonTokenStream(lexer));
+            ((Parser) parser).removeErrorListeners();
+            return parser;
+        }
+        
+        private void release() {
+            reset(getSQLCharStream(""));
+            ParserATNSimulator interpreter = ((Parser) parser).getInterpreter();
+            if (null != interpreter) {
+                ((Parser) parser).setInterpreter(new ParserATNSimulator((Parser) parser, interpreter.atn, interpreter.decisionToDFA, interpreter.getSharedContextCache()));
+            }
+        }
+    }
 }
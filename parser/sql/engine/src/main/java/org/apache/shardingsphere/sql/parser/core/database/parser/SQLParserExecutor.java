@@ -38,6 +38,8 @@ public final class SQLParserExecutor {
     
     private final DatabaseType databaseType;
     
+    private volatile DialectSQLParserFacade sqlParserFacade;
+    
     /**
      * Parse SQL.
      * 
@@ -54,8 +56,16 @@ public final class SQLParserExecutor {
     }
     
     private ParseASTNode twoPhaseParse(final String sql) {
-        DialectSQLParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
-        SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+        DialectSQLParserFacade dialectSQLParserFacade = getSQLParserFacade();
+        SQLParser sqlParser = SQLParserFactory.getThreadLocalInstance(sql, dialectSQLParserFacade.getLexerClass(), dialectSQLParserFacade.getParserClass());
+        try {
+            return twoPhaseParse(sql, sqlParser);
+        } finally {
+            SQLParserFactory.releaseThreadLocalInstance(dialectSQLParserFacade.getParserClass());
+        }
+    }
+    
+    private ParseASTNode twoPhaseParse(final String sql, final SQLParser sqlParser) {
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
@@ -71,4 +81,11 @@ public final class SQLParserExecutor {
             }
         }
     }
+    
+    private DialectSQLParserFacade getSQLParserFacade() {
+        if (null == sqlParserFacade) {
+            sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
+        }
+        return sqlParserFacade;
+    }
 }
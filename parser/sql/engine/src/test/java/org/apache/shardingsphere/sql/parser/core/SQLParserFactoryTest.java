@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.sql.parser.core;
 
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.fixture.LexerFixture;
@@ -26,6 +28,9 @@ import org.junit.jupiter.api.Test;
 import static org.mockito.Mockito.mock;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 
 class SQLParserFactoryTest {
     
@@ -38,4 +43,30 @@ class SQLParserFactoryTest {
         SQLParser result = SQLParserFactory.newInstance(SQL, sqlLexer.getClass(), sqlParser.getClass());
         assertThat(result, instanceOf(ParserFixture.class));
     }
+    
+    @Test
+    void assertNewInstanceNotReused() {
+        assertThat(SQLParserFactory.newInstance(SQL, LexerFixture.class, ParserFixture.class), not(sameInstance(SQLParserFactory.newInstance(SQL, LexerFixture.class, ParserFixture.class))));
+    }
+    
+    @Test
+    void assertGetThreadLocalInstance() {
+        assertThat(SQLParserFactory.getThreadLocalInstance(SQL, LexerFixture.class, ParserFixture.class), instanceOf(ParserFixture.class));
+    }
+    
+    @Test
+    void assertGetThreadLocalInstanceReused() {
+        SQLParser expected = SQLParserFactory.getThreadLocalInstance(SQL, LexerFixture.class, ParserFixture.class);
+        SQLParser actual = SQLParserFactory.getThreadLocalInstance("SELECT 1", LexerFixture.class, ParserFixture.class);
+        assertThat(actual, sameInstance(expected));
+        assertThat(((Lexer) ((Parser) actual).getTokenStream().getTokenSource()).getInputStream().toString(), is("SELECT 1"));
+    }
+    
+    @Test
+    void assertReleaseThreadLocalInstance() {
+        SQLParser sqlParser = SQLParserFactory.getThreadLocalInstance(SQL, LexerFixture.class, ParserFixture.class);
+        SQLParserFactory.releaseThreadLocalInstance(ParserFixture.class);
+        assertThat(((Lexer) ((Parser) sqlParser).getTokenStream().getTokenSource()).getInputStream().size(), is(0));
+        assertThat(SQLParserFactory.getThreadLocalInstance(SQL, LexerFixture.class, ParserFixture.class), sameInstance(sqlParser));
+    }
 }
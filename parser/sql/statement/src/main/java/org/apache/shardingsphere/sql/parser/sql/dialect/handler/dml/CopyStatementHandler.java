@@ -28,6 +28,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -61,4 +62,17 @@ public final class CopyStatementHandler implements SQLStatementHandler {
         }
         return Collections.emptyList();
     }
+    
+    /**
+     * Get copy options.
+     *
+     * @param copyStatement copy statement
+     * @return copy options
+     */
+    public static Map<String, String> getOptions(final CopyStatement copyStatement) {
+        if (copyStatement instanceof PostgreSQLStatement) {
+            return ((PostgreSQLCopyStatement) copyStatement).getOptions();
+        }
+        return Collections.emptyMap();
+    }
 }
@@ -25,7 +25,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.CopyStateme
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.PostgreSQLStatement;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -39,6 +41,12 @@ public final class PostgreSQLCopyStatement extends CopyStatement implements Post
     
     private PrepareStatementQuerySegment prepareStatementQuerySegment;
     
+    private boolean stdin;
+    
+    private boolean stdout;
+    
+    private final Map<String, String> options = new LinkedHashMap<>();
+    
     /**
      * Get prepare statement query segment.
      *
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -77,4 +78,16 @@ class CopyStatementHandlerTest {
     void assertGetColumnsForOpenGauss() {
         assertTrue(CopyStatementHandler.getColumns(new OpenGaussCopyStatement()).isEmpty());
     }
+    
+    @Test
+    void assertGetOptionsForPostgreSQL() {
+        PostgreSQLCopyStatement copyStatement = new PostgreSQLCopyStatement();
+        copyStatement.getOptions().put("format", "csv");
+        assertThat(CopyStatementHandler.getOptions(copyStatement), is(Collections.singletonMap("format", "csv")));
+    }
+    
+    @Test
+    void assertGetOptionsForOpenGauss() {
+        assertTrue(CopyStatementHandler.getOptions(new OpenGaussCopyStatement()).isEmpty());
+    }
 }
@@ -41,6 +41,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.dr
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
@@ -402,8 +403,12 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private Collection<SQLException> closeStatements() {
         Collection<SQLException> result = new LinkedList<>();
+        ExecutorJDBCStatementManager statementManager = databaseConnectionManager.getConnectionSession().getStatementManager();
         for (Statement each : cachedStatements) {
             try {
+                if (statementManager.releaseStorageResource(each)) {
+                    continue;
+                }
                 each.cancel();
                 each.close();
             } catch (final SQLException ex) {
@@ -305,6 +305,7 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
      */
     public Collection<SQLException> closeConnections(final boolean forceRollback) {
         Collection<SQLException> result = new LinkedList<>();
+        result.addAll(connectionSession.getStatementManager().closeStorageResources());
         synchronized (cachedConnections) {
             resetSessionVariablesIfNecessary(cachedConnections.values(), result);
             for (Connection each : cachedConnections.values()) {
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Backend prepared statement cache.
+ *
+ * <p>Prepared statements released after execution are kept idle per backend connection and rewritten SQL in least recently used order,
+ * so that repeated statements skip the prepare round trip to the database. Evicted statements are closed.</p>
+ */
+public final class BackendPreparedStatementCache {
+    
+    private final Map<BackendPreparedStatementKey, PreparedStatement> idleStatements = new LinkedHashMap<>(16, 0.75F, true);
+    
+    private final Map<Statement, BackendPreparedStatementKey> leasedStatements = new IdentityHashMap<>();
+    
+    /**
+     * Poll idle prepared statement and lease it.
+     *
+     * @param key backend prepared statement key
+     * @return idle prepared statement
+     */
+    public synchronized Optional<PreparedStatement> poll(final BackendPreparedStatementKey key) {
+        PreparedStatement result = idleStatements.remove(key);
+        if (null == result) {
+            BackendPreparedStatementCacheStatistics.recordMiss();
+            return Optional.empty();
+        }
+        BackendPreparedStatementCacheStatistics.recordHit();
+        leasedStatements.put(result, key);
+        return Optional.of(result);
+    }
+    
+    /**
+     * Lease new created prepared statement.
+     *
+     * @param key backend prepared statement key
+     * @param statement prepared statement
+     */
+    public synchronized void lease(final BackendPreparedStatementKey key, final PreparedStatement statement) {
+        leasedStatements.put(statement, key);
+    }
+    
+    /**
+     * Release leased statement to be idle.
+     *
+     * @param statement statement to be released
+     * @param maxIdleSize max size of idle prepared statements
+     * @return whether statement is kept by cache
+     * @throws SQLException SQL exception
+     */
+    public synchronized boolean release(final Statement statement, final int maxIdleSize) throws SQLException {
+        BackendPreparedStatementKey key = leasedStatements.remove(statement);
+        if (null == key || maxIdleSize <= 0 || statement.isClosed() || idleStatements.containsKey(key)) {
+            return false;
+        }
+        idleStatements.put(key, (PreparedStatement) statement);
+        Iterator<Entry<BackendPreparedStatementKey, PreparedStatement>> iterator = idleStatements.entrySet().iterator();
+        while (idleStatements.size() > maxIdleSize) {
+            Statement evicted = iterator.next().getValue();
+            iterator.remove();
+            BackendPreparedStatementCacheStatistics.recordEviction();
+            evicted.close();
+        }
+        return true;
+    }
+    
+    /**
+     * Close idle prepared statements and forget leased statements.
+     *
+     * @return SQL exceptions when close idle prepared statements
+     */
+    public synchronized Collection<SQLException> clear() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (PreparedStatement each : idleStatements.values()) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        idleStatements.clear();
+        leasedStatements.clear();
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of backend prepared statement cache.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BackendPreparedStatementCacheStatistics {
+    
+    private static final LongAdder HIT_COUNT = new LongAdder();
+    
+    private static final LongAdder MISS_COUNT = new LongAdder();
+    
+    private static final LongAdder EVICTION_COUNT = new LongAdder();
+    
+    /**
+     * Record hit.
+     */
+    public static void recordHit() {
+        HIT_COUNT.increment();
+    }
+    
+    /**
+     * Record miss.
+     */
+    public static void recordMiss() {
+        MISS_COUNT.increment();
+    }
+    
+    /**
+     * Record eviction.
+     */
+    public static void recordEviction() {
+        EVICTION_COUNT.increment();
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public static long getHitCount() {
+        return HIT_COUNT.sum();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public static long getMissCount() {
+        return MISS_COUNT.sum();
+    }
+    
+    /**
+     * Get eviction count.
+     *
+     * @return eviction count
+     */
+    public static long getEvictionCount() {
+        return EVICTION_COUNT.sum();
+    }
+}
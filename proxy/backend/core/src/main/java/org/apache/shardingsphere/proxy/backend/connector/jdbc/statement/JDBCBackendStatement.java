@@ -17,28 +17,41 @@
 
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * JDBC backend statement.
+ *
+ * <p>Prepared statements are reused across commands only inside transaction which holds backend connections,
+ * because backend connections and the prepared statements on them are closed after each command out of transaction.</p>
  */
+@RequiredArgsConstructor
 public final class JDBCBackendStatement implements ExecutorJDBCStatementManager {
     
+    private final TransactionStatus transactionStatus;
+    
+    private final BackendPreparedStatementCache preparedStatementCache = new BackendPreparedStatementCache();
+    
     @Override
     public Statement createStorageResource(final Connection connection, final ConnectionMode connectionMode, final StatementOption option, final DatabaseType databaseType) throws SQLException {
         Statement result = connection.createStatement();
@@ -53,9 +66,9 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
                                            final DatabaseType databaseType) throws SQLException {
         String sql = executionUnit.getSqlUnit().getSql();
         List<Object> params = executionUnit.getSqlUnit().getParameters();
-        PreparedStatement result = option.isReturnGeneratedKeys()
-                ? connection.prepareStatement(executionUnit.getSqlUnit().getSql(), Statement.RETURN_GENERATED_KEYS)
-                : connection.prepareStatement(sql);
+        PreparedStatement result = isPreparedStatementCacheEnabled()
+                ? leasePreparedStatement(new BackendPreparedStatementKey(connection, sql, option.isReturnGeneratedKeys(), connectionMode), connection, sql, option)
+                : prepareStatement(connection, sql, option);
         Iterator<Object> paramIterator = params.iterator();
         int index = 0;
         while (paramIterator.hasNext()) {
@@ -73,6 +86,39 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
         return result;
     }
     
+    @Override
+    public boolean releaseStorageResource(final Statement statement) throws SQLException {
+        return statement instanceof PreparedStatement && preparedStatementCache.release(statement, getPreparedStatementCacheSize());
+    }
+    
+    @Override
+    public Collection<SQLException> closeStorageResources() {
+        return preparedStatementCache.clear();
+    }
+    
+    private boolean isPreparedStatementCacheEnabled() {
+        return transactionStatus.isInConnectionHeldTransaction() && getPreparedStatementCacheSize() > 0;
+    }
+    
+    private PreparedStatement leasePreparedStatement(final BackendPreparedStatementKey key, final Connection connection, final String sql, final StatementOption option) throws SQLException {
+        Optional<PreparedStatement> idleStatement = preparedStatementCache.poll(key);
+        if (idleStatement.isPresent()) {
+            idleStatement.get().clearParameters();
+            return idleStatement.get();
+        }
+        PreparedStatement result = prepareStatement(connection, sql, option);
+        preparedStatementCache.lease(key, result);
+        return result;
+    }
+    
+    private PreparedStatement prepareStatement(final Connection connection, final String sql, final StatementOption option) throws SQLException {
+        return option.isReturnGeneratedKeys() ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+    }
+    
+    private int getPreparedStatementCacheSize() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE);
+    }
+    
     private void setFetchSize(final Statement statement, final DatabaseType databaseType) throws SQLException {
         Optional<StatementMemoryStrictlyFetchSizeSetter> fetchSizeSetter = DatabaseTypedSPILoader.findService(StatementMemoryStrictlyFetchSizeSetter.class, databaseType);
         if (fetchSizeSetter.isPresent()) {
@@ -21,6 +21,7 @@ import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.NormalizedSQL;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
@@ -28,6 +29,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.EmptyStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtils;
 
+import java.util.Optional;
+
 /**
  * Proxy SQL com query parser.
  */
@@ -50,6 +53,19 @@ public final class ProxySQLComQueryParser {
         return rule.getSQLParserEngine(getProtocolType(databaseType, connectionSession)).parse(sql, false);
     }
     
+    /**
+     * Parse literal normalized SQL.
+     *
+     * @param normalizedSQL literal normalized SQL
+     * @param databaseType database type
+     * @param connectionSession connection session
+     * @return SQL statement of shape SQL
+     */
+    public static Optional<SQLStatement> parseNormalized(final NormalizedSQL normalizedSQL, final DatabaseType databaseType, final ConnectionSession connectionSession) {
+        SQLParserRule rule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        return rule.getSQLParserEngine(getProtocolType(databaseType, connectionSession)).parseNormalized(normalizedSQL);
+    }
+    
     private static DatabaseType getProtocolType(final DatabaseType defaultDatabaseType, final ConnectionSession connectionSession) {
         String databaseName = connectionSession.getDatabaseName();
         return Strings.isNullOrEmpty(databaseName) || !ProxyContext.getInstance().databaseExists(databaseName)
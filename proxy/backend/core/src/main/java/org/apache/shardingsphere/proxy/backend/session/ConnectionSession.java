@@ -24,7 +24,7 @@ import lombok.Setter;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
-import org.apache.shardingsphere.infra.executor.sql.prepare.driver.ExecutorStatementManager;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
@@ -62,8 +62,7 @@ public final class ConnectionSession {
     
     private final ProxyDatabaseConnectionManager databaseConnectionManager;
     
-    @SuppressWarnings("rawtypes")
-    private final ExecutorStatementManager statementManager;
+    private final ExecutorJDBCStatementManager statementManager;
     
     private final ServerPreparedStatementRegistry serverPreparedStatementRegistry = new ServerPreparedStatementRegistry();
     
@@ -80,7 +79,7 @@ public final class ConnectionSession {
         transactionStatus = new TransactionStatus(initialTransactionType);
         this.attributeMap = attributeMap;
         databaseConnectionManager = new ProxyDatabaseConnectionManager(this);
-        statementManager = new JDBCBackendStatement();
+        statementManager = new JDBCBackendStatement(transactionStatus);
         connectionContext = new ConnectionContext(databaseConnectionManager::getUsedDataSourceNames);
     }
     
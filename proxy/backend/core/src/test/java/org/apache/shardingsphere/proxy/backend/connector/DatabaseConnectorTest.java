@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
@@ -88,6 +89,7 @@ import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -231,6 +233,24 @@ class DatabaseConnectorTest {
         assertTrue(cachedStatements.isEmpty());
     }
     
+    @Test
+    void assertCloseWithStatementReleased() throws SQLException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        ExecutorJDBCStatementManager statementManager = mock(ExecutorJDBCStatementManager.class);
+        when(statementManager.releaseStorageResource(statement)).thenReturn(true);
+        when(databaseConnectionManager.getConnectionSession().getStatementManager()).thenReturn(statementManager);
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(new QueryContext(sqlStatementContext, "schemaName", Collections.emptyList(), new HintValueContext()),
+                databaseConnectionManager, false);
+        Collection<Statement> cachedStatements = getField(engine, "cachedStatements");
+        cachedStatements.add(statement);
+        engine.close();
+        verify(statementManager).releaseStorageResource(statement);
+        verify(statement, never()).cancel();
+        verify(statement, never()).close();
+        assertTrue(cachedStatements.isEmpty());
+    }
+    
     @Test
     void assertCloseResultSetsWithExceptionThrown() throws SQLException {
         SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
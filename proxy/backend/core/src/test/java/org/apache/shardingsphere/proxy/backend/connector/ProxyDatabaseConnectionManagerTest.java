@@ -19,7 +19,13 @@ package org.apache.shardingsphere.proxy.backend.connector;
 
 import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionPostProcessor;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
@@ -32,6 +38,8 @@ import org.apache.shardingsphere.proxy.backend.session.RequiredSessionVariableRe
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.shardingsphere.transaction.api.TransactionType;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -46,6 +54,7 @@ import org.mockito.quality.Strictness;
 
 import java.lang.reflect.Field;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
@@ -95,8 +104,9 @@ class ProxyDatabaseConnectionManagerTest {
         when(connectionSession.getDatabaseName()).thenReturn(String.format(SCHEMA_PATTERN, 0));
         databaseConnectionManager = new ProxyDatabaseConnectionManager(connectionSession);
         when(connectionSession.getDatabaseConnectionManager()).thenReturn(databaseConnectionManager);
-        when(connectionSession.getTransactionStatus()).thenReturn(new TransactionStatus(TransactionType.LOCAL));
-        JDBCBackendStatement backendStatement = new JDBCBackendStatement();
+        TransactionStatus transactionStatus = new TransactionStatus(TransactionType.LOCAL);
+        when(connectionSession.getTransactionStatus()).thenReturn(transactionStatus);
+        JDBCBackendStatement backendStatement = new JDBCBackendStatement(transactionStatus);
         when(connectionSession.getStatementManager()).thenReturn(backendStatement);
         when(connectionSession.getRequiredSessionVariableRecorder()).thenReturn(new RequiredSessionVariableRecorder());
     }
@@ -203,6 +213,25 @@ class ProxyDatabaseConnectionManagerTest {
         assertTrue(databaseConnectionManager.closeConnections(false).contains(sqlException));
     }
     
+    @Test
+    void assertCloseConnectionsWithCachedPreparedStatements() throws SQLException {
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE.getKey(), "1"))));
+        connectionSession.getTransactionStatus().setInTransaction(true);
+        Connection connection = prepareCachedConnections();
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        ExecutorJDBCStatementManager statementManager = connectionSession.getStatementManager();
+        Statement statement = statementManager.createStorageResource(
+                new ExecutionUnit("foo_ds", new SQLUnit("SELECT 1", Collections.emptyList())), connection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false), null);
+        assertTrue(statementManager.releaseStorageResource(statement));
+        verify(preparedStatement, never()).close();
+        connectionSession.getTransactionStatus().setInTransaction(false);
+        assertTrue(databaseConnectionManager.closeConnections(false).isEmpty());
+        verify(preparedStatement).close();
+        verify(connection).close();
+    }
+    
     @Test
     void assertCreateStorageResourceCorrectlyWhenConnectionModeMemoryStrictly() throws SQLException {
         Connection connection = mock(Connection.class);
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BackendPreparedStatementCacheTest {
+    
+    private final Connection connection = mock(Connection.class);
+    
+    @Test
+    void assertPollAfterRelease() throws SQLException {
+        long hitCount = BackendPreparedStatementCacheStatistics.getHitCount();
+        long missCount = BackendPreparedStatementCacheStatistics.getMissCount();
+        BackendPreparedStatementCache cache = new BackendPreparedStatementCache();
+        BackendPreparedStatementKey key = createKey("SELECT 1");
+        assertFalse(cache.poll(key).isPresent());
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.lease(key, statement);
+        assertTrue(cache.release(statement, 1));
+        Optional<PreparedStatement> actual = cache.poll(createKey("SELECT 1"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(statement));
+        assertFalse(cache.poll(key).isPresent());
+        assertThat(BackendPreparedStatementCacheStatistics.getHitCount() - hitCount, is(1L));
+        assertThat(BackendPreparedStatementCacheStatistics.getMissCount() - missCount, is(2L));
+    }
+    
+    @Test
+    void assertPollWithDifferentConnectionMode() throws SQLException {
+        BackendPreparedStatementCache cache = new BackendPreparedStatementCache();
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.lease(createKey("SELECT 1"), statement);
+        cache.release(statement, 1);
+        assertFalse(cache.poll(new BackendPreparedStatementKey(connection, "SELECT 1", false, ConnectionMode.MEMORY_STRICTLY)).isPresent());
+    }
+    
+    @Test
+    void assertReleaseNotLeasedStatement() throws SQLException {
+        assertFalse(new BackendPreparedStatementCache().release(mock(Statement.class), 1));
+    }
+    
+    @Test
+    void assertReleaseWithCacheDisabled() throws SQLException {
+        BackendPreparedStatementCache cache = new BackendPreparedStatementCache();
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.lease(createKey("SELECT 1"), statement);
+        assertFalse(cache.release(statement, 0));
+    }
+    
+    @Test
+    void assertReleaseClosedStatement() throws SQLException {
+        BackendPreparedStatementCache cache = new BackendPreparedStatementCache();
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.isClosed()).thenReturn(true);
+        cache.lease(createKey("SELECT 1"), statement);
+        assertFalse(cache.release(statement, 1));
+    }
+    
+    @Test
+    void assertReleaseDuplicatedStatement() throws SQLException {
+        BackendPreparedStatementCache cache = new BackendPreparedStatementCache();
+        PreparedStatement statement = mock(PreparedStatement.class);
+        PreparedStatement duplicatedStatement = mock(PreparedStatement.class);
+        cache.lease(createKey("SELECT 1"), statement);
+        cache.lease(createKey("SELECT 1"), duplicatedStatement);
+        assertTrue(cache.release(statement, 2));
+        assertFalse(cache.release(duplicatedStatement, 2));
+    }
+    
+    @Test
+    void assertReleaseWithEviction() throws SQLException {
+        long evictionCount = BackendPreparedStatementCacheStatistics.getEvictionCount();
+        BackendPreparedStatementCache cache = new BackendPreparedStatementCache();
+        PreparedStatement evictedStatement = mock(PreparedStatement.class);
+        cache.lease(createKey("SELECT 1"), evictedStatement);
+        cache.release(evictedStatement, 1);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.lease(createKey("SELECT 2"), statement);
+        assertTrue(cache.release(statement, 1));
+        verify(evictedStatement).close();
+        verify(statement, never()).close();
+        assertThat(BackendPreparedStatementCacheStatistics.getEvictionCount() - evictionCount, is(1L));
+        assertFalse(cache.poll(createKey("SELECT 1")).isPresent());
+        assertTrue(cache.poll(createKey("SELECT 2")).isPresent());
+    }
+    
+    @Test
+    void assertClear() throws SQLException {
+        BackendPreparedStatementCache cache = new BackendPreparedStatementCache();
+        PreparedStatement idleStatement = mock(PreparedStatement.class);
+        cache.lease(createKey("SELECT 1"), idleStatement);
+        cache.release(idleStatement, 1);
+        PreparedStatement leasedStatement = mock(PreparedStatement.class);
+        cache.lease(createKey("SELECT 2"), leasedStatement);
+        assertTrue(cache.clear().isEmpty());
+        verify(idleStatement).close();
+        verify(leasedStatement, never()).close();
+        assertFalse(cache.poll(createKey("SELECT 1")).isPresent());
+        assertFalse(cache.release(leasedStatement, 1));
+    }
+    
+    private BackendPreparedStatementKey createKey(final String sql) {
+        return new BackendPreparedStatementKey(connection, sql, false, ConnectionMode.CONNECTION_STRICTLY);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.apache.shardingsphere.transaction.api.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+class JDBCBackendStatementTest {
+    
+    private final TransactionStatus transactionStatus = new TransactionStatus(TransactionType.LOCAL);
+    
+    private final Connection connection = mock(Connection.class);
+    
+    @BeforeEach
+    void setUp() {
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE.getKey(), "1"))));
+    }
+    
+    @Test
+    void assertCreateStorageResourceReusedAcrossCommandsInTransaction() throws SQLException {
+        transactionStatus.setInTransaction(true);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT ?")).thenReturn(preparedStatement);
+        JDBCBackendStatement backendStatement = new JDBCBackendStatement(transactionStatus);
+        Statement actual = createStorageResource(backendStatement, 1);
+        assertThat(actual, is(preparedStatement));
+        assertTrue(backendStatement.releaseStorageResource(actual));
+        assertThat(createStorageResource(backendStatement, 2), is(preparedStatement));
+        verify(connection).prepareStatement("SELECT ?");
+        verify(preparedStatement).clearParameters();
+        verify(preparedStatement).setObject(1, 2);
+        verify(preparedStatement, never()).close();
+    }
+    
+    @Test
+    void assertCreateStorageResourceNotReusedOutOfTransaction() throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT ?")).thenReturn(preparedStatement);
+        JDBCBackendStatement backendStatement = new JDBCBackendStatement(transactionStatus);
+        assertFalse(backendStatement.releaseStorageResource(createStorageResource(backendStatement, 1)));
+        assertFalse(backendStatement.releaseStorageResource(createStorageResource(backendStatement, 2)));
+        verify(connection, times(2)).prepareStatement("SELECT ?");
+        verify(preparedStatement, never()).clearParameters();
+    }
+    
+    @Test
+    void assertReleaseStorageResourceWithStatement() throws SQLException {
+        transactionStatus.setInTransaction(true);
+        assertFalse(new JDBCBackendStatement(transactionStatus).releaseStorageResource(mock(Statement.class)));
+    }
+    
+    @Test
+    void assertCloseStorageResources() throws SQLException {
+        transactionStatus.setInTransaction(true);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT ?")).thenReturn(preparedStatement);
+        JDBCBackendStatement backendStatement = new JDBCBackendStatement(transactionStatus);
+        assertTrue(backendStatement.releaseStorageResource(createStorageResource(backendStatement, 1)));
+        assertTrue(backendStatement.closeStorageResources().isEmpty());
+        verify(preparedStatement).close();
+        createStorageResource(backendStatement, 2);
+        verify(connection, times(2)).prepareStatement("SELECT ?");
+    }
+    
+    private Statement createStorageResource(final JDBCBackendStatement backendStatement, final Object param) throws SQLException {
+        ExecutionUnit executionUnit = new ExecutionUnit("foo_ds", new SQLUnit("SELECT ?", Collections.singletonList(param)));
+        return backendStatement.createStorageResource(executionUnit, connection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(false), null);
+    }
+}
@@ -24,7 +24,9 @@ import io.netty.channel.epoll.EpollDomainSocketChannel;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.authority.checker.AuthorityChecker;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressionCodec;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
@@ -38,6 +40,8 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandsha
 import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.database.UnknownDatabaseException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.AccessDeniedException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.DatabaseAccessDeniedException;
@@ -74,6 +78,10 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     
     private AuthenticationResult currentAuthResult;
     
+    private boolean compressionEnabled;
+    
+    private boolean clientCompress;
+    
     @Override
     public int handshake(final ChannelHandlerContext context) {
         int result = ConnectionIdGenerator.getInstance().nextId();
@@ -82,7 +90,8 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         if (sslEnabled) {
             context.pipeline().addFirst(MySQLSSLRequestHandler.class.getSimpleName(), new MySQLSSLRequestHandler());
         }
-        context.writeAndFlush(new MySQLHandshakePacket(result, sslEnabled, authPluginData));
+        compressionEnabled = getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_COMPRESSION_ENABLED);
+        context.writeAndFlush(new MySQLHandshakePacket(result, sslEnabled, compressionEnabled, authPluginData));
         MySQLStatementIdGenerator.getInstance().registerConnection(result);
         return result;
     }
@@ -106,6 +115,9 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
             throw new DatabaseAccessDeniedException(currentAuthResult.getUsername(), grantee.getHostname(), currentAuthResult.getDatabase());
         }
         writeOKPacket(context);
+        if (clientCompress) {
+            enableCompression(context);
+        }
         return AuthenticationResultBuilder.finished(grantee.getUsername(), grantee.getHostname(), currentAuthResult.getDatabase());
     }
     
@@ -120,6 +132,7 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
             throw new HandshakeException();
         }
         authResponse = handshakeResponsePacket.getAuthResponse();
+        clientCompress = compressionEnabled && 0 != (handshakeResponsePacket.getCapabilityFlags() & MySQLCapabilityFlag.CLIENT_COMPRESS.getValue());
         setMultiStatementsOption(context, handshakeResponsePacket);
         setCharacterSet(context, handshakeResponsePacket);
         String database = handshakeResponsePacket.getDatabase();
@@ -177,4 +190,13 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     private void writeOKPacket(final ChannelHandlerContext context) {
         context.writeAndFlush(new MySQLOKPacket(MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue()));
     }
+    
+    private void enableCompression(final ChannelHandlerContext context) {
+        int threshold = getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_COMPRESSION_THRESHOLD);
+        context.pipeline().addBefore(context.pipeline().context(PacketCodec.class).name(), MySQLCompressionCodec.class.getSimpleName(), new MySQLCompressionCodec(threshold));
+    }
+    
+    private ConfigurationProperties getProps() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+    }
 }
@@ -19,12 +19,11 @@ package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.exec
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
-import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLNewParametersBoundFlag;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowEncoder;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -36,7 +35,6 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
@@ -67,6 +65,10 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     @Getter
     private ResponseType responseType;
     
+    private int[] rowJDBCTypes;
+    
+    private MySQLBinaryResultSetRowEncoder rowEncoder;
+    
     @Override
     public Collection<DatabasePacket> execute() throws SQLException {
         MySQLServerPreparedStatement preparedStatement = updateAndGetPreparedStatement();
@@ -110,16 +112,31 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
-        QueryResponseRow queryResponseRow = proxyBackendHandler.getRowData();
-        return new MySQLBinaryResultSetRowPacket(createBinaryRow(queryResponseRow));
+        List<QueryResponseCell> cells = proxyBackendHandler.getRowData().getCells();
+        Object[] values = new Object[cells.size()];
+        boolean isSameRowJDBCTypes = null != rowJDBCTypes && rowJDBCTypes.length == values.length;
+        int index = 0;
+        for (QueryResponseCell each : cells) {
+            values[index] = each.getData();
+            isSameRowJDBCTypes = isSameRowJDBCTypes && rowJDBCTypes[index] == each.getJdbcType();
+            index++;
+        }
+        if (!isSameRowJDBCTypes) {
+            rowEncoder = createRowEncoder(cells);
+        }
+        return new MySQLBinaryResultSetRowPacket(rowEncoder, values);
     }
     
-    private BinaryRow createBinaryRow(final QueryResponseRow queryResponseRow) {
-        List<BinaryCell> result = new ArrayList<>(queryResponseRow.getCells().size());
-        for (QueryResponseCell each : queryResponseRow.getCells()) {
-            result.add(new BinaryCell(MySQLBinaryColumnType.valueOfJDBCType(each.getJdbcType()), each.getData()));
+    private MySQLBinaryResultSetRowEncoder createRowEncoder(final List<QueryResponseCell> cells) {
+        int[] jdbcTypes = new int[cells.size()];
+        List<MySQLBinaryColumnType> columnTypes = new ArrayList<>(cells.size());
+        for (QueryResponseCell each : cells) {
+            jdbcTypes[columnTypes.size()] = each.getJdbcType();
+            columnTypes.add(MySQLBinaryColumnType.valueOfJDBCType(each.getJdbcType()));
         }
-        return new BinaryRow(result);
+        MySQLBinaryResultSetRowEncoder result = new MySQLBinaryResultSetRowEncoder(columnTypes);
+        rowJDBCTypes = jdbcTypes;
+        return result;
     }
     
     @Override
@@ -24,8 +24,12 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.MySQLCom
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.NormalizedSQL;
+import org.apache.shardingsphere.infra.parser.sql.SQLLiteralNormalizer;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.handler.ProxySQLComQueryParser;
@@ -43,6 +47,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateState
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * COM_QUERY command packet executor for MySQL.
@@ -61,10 +66,27 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
         this.connectionSession = connectionSession;
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        proxyBackendHandler = createProxyBackendHandler(packet, databaseType, connectionSession);
+        characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
+    }
+    
+    private ProxyBackendHandler createProxyBackendHandler(final MySQLComQueryPacket packet, final DatabaseType databaseType, final ConnectionSession connectionSession) throws SQLException {
+        Optional<NormalizedSQL> normalizedSQL = isLiteralNormalizationEnabled() ? new SQLLiteralNormalizer(packet.getSQL()).normalize() : Optional.empty();
+        if (normalizedSQL.isPresent()) {
+            Optional<SQLStatement> sqlStatement = ProxySQLComQueryParser.parseNormalized(normalizedSQL.get(), databaseType, connectionSession);
+            if (sqlStatement.isPresent()) {
+                return ProxyBackendHandlerFactory.newInstance(databaseType, normalizedSQL.get().getSql(), normalizedSQL.get().getParameters(), sqlStatement.get(), connectionSession,
+                        packet.getHintValueContext());
+            }
+        }
         SQLStatement sqlStatement = ProxySQLComQueryParser.parse(packet.getSQL(), databaseType, connectionSession);
-        proxyBackendHandler = areMultiStatements(connectionSession, sqlStatement, packet.getSQL()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSQL())
+        return areMultiStatements(connectionSession, sqlStatement, packet.getSQL()) ? new MySQLMultiStatementsHandler(connectionSession, sqlStatement, packet.getSQL())
                 : ProxyBackendHandlerFactory.newInstance(databaseType, packet.getSQL(), sqlStatement, connectionSession, packet.getHintValueContext());
-        characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
+    }
+    
+    private boolean isLiteralNormalizationEnabled() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Boolean>getValue(ConfigurationPropertyKey.PROXY_TEXT_PROTOCOL_LITERAL_NORMALIZATION_ENABLED);
     }
     
     private boolean areMultiStatements(final ConnectionSession connectionSession, final SQLStatement sqlStatement, final String sql) {
@@ -26,6 +26,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressionCodec;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakePacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.database.UnknownDatabaseException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.AccessDeniedException;
@@ -59,6 +61,8 @@ import org.apache.shardingsphere.proxy.frontend.mysql.ssl.MySQLSSLRequestHandler
 import org.apache.shardingsphere.proxy.frontend.ssl.ProxySSLContext;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.MockedConstruction;
@@ -101,6 +105,8 @@ class MySQLAuthenticationEngineTest {
     
     @Test
     void assertHandshakeWithSSLNotEnabled() {
+        ContextManager contextManager = mockContextManager(mock(AuthorityRule.class));
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
         ChannelHandlerContext context = mockChannelHandlerContext();
         assertTrue(authenticationEngine.handshake(context) > 0);
         verify(context).writeAndFlush(any(MySQLHandshakePacket.class));
@@ -109,6 +115,8 @@ class MySQLAuthenticationEngineTest {
     @Test
     void assertHandshakeWithSSLEnabled() {
         when(ProxySSLContext.getInstance().isSSLEnabled()).thenReturn(true);
+        ContextManager contextManager = mockContextManager(mock(AuthorityRule.class));
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
         ChannelHandlerContext context = mockChannelHandlerContext();
         when(context.pipeline()).thenReturn(mock(ChannelPipeline.class));
         assertTrue(authenticationEngine.handshake(context) > 0);
@@ -285,7 +293,29 @@ class MySQLAuthenticationEngineTest {
         verify(context).writeAndFlush(any(MySQLOKPacket.class));
     }
     
+    @Test
+    void assertAuthenticateSuccessWithCompression() {
+        AuthorityRule rule = mock(AuthorityRule.class);
+        when(rule.getAuthenticatorType(any())).thenReturn("");
+        ShardingSphereUser user = new ShardingSphereUser("root", "", "127.0.0.1");
+        when(rule.findUser(user.getGrantee())).thenReturn(Optional.of(user));
+        ChannelHandlerContext context = mockChannelHandlerContext();
+        when(context.pipeline()).thenReturn(mock(ChannelPipeline.class, RETURNS_DEEP_STUBS));
+        ContextManager contextManager = mockContextManager(rule, PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_COMPRESSION_ENABLED.getKey(), Boolean.TRUE.toString())));
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        authenticationEngine.handshake(context);
+        MySQLPacketPayload payload = getPayload("root", null, authResponse);
+        when(payload.readInt4()).thenReturn(MySQLCapabilityFlag.calculateCapabilityFlags(MySQLCapabilityFlag.CLIENT_CONNECT_WITH_DB, MySQLCapabilityFlag.CLIENT_COMPRESS));
+        authenticationEngine.authenticate(context, payload);
+        verify(context).writeAndFlush(any(MySQLOKPacket.class));
+        verify(context.pipeline()).addBefore(any(), eq(MySQLCompressionCodec.class.getSimpleName()), any(MySQLCompressionCodec.class));
+    }
+    
     private ContextManager mockContextManager(final AuthorityRule rule) {
+        return mockContextManager(rule, new Properties());
+    }
+    
+    private ContextManager mockContextManager(final AuthorityRule rule, final Properties props) {
         ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
         ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
         when(database.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
@@ -295,7 +325,7 @@ class MySQLAuthenticationEngineTest {
         when(shardingSphereDataPersistService.load(any())).thenReturn(Optional.empty());
         when(metaDataPersistService.getShardingSphereDataPersistService()).thenReturn(shardingSphereDataPersistService);
         MetaDataContexts metaDataContexts = new MetaDataContexts(metaDataPersistService, new ShardingSphereMetaData(databases,
-                mock(ResourceMetaData.class), new RuleMetaData(Collections.singleton(rule)), new ConfigurationProperties(new Properties())));
+                mock(ResourceMetaData.class), new RuleMetaData(Collections.singleton(rule)), new ConfigurationProperties(props)));
         when(result.getMetaDataContexts()).thenReturn(metaDataContexts);
         return result;
     }
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.e
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.UnknownSQLStatementContext;
@@ -62,6 +63,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
+import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
@@ -73,6 +75,7 @@ import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -158,6 +161,28 @@ class MySQLComStmtExecuteExecutorTest {
         verify(proxyBackendHandler).close();
     }
     
+    @Test
+    void assertGetQueryRowPacketWithChangedJDBCTypes() throws SQLException, ReflectiveOperationException {
+        MySQLComStmtExecuteExecutor executor = new MySQLComStmtExecuteExecutor(mock(MySQLComStmtExecutePacket.class), connectionSession);
+        Plugins.getMemberAccessor().set(MySQLComStmtExecuteExecutor.class.getDeclaredField("proxyBackendHandler"), executor, proxyBackendHandler);
+        when(proxyBackendHandler.getRowData()).thenReturn(new QueryResponseRow(Collections.singletonList(new QueryResponseCell(Types.INTEGER, 1))),
+                new QueryResponseRow(Collections.singletonList(new QueryResponseCell(Types.INTEGER, 2))), new QueryResponseRow(Collections.singletonList(new QueryResponseCell(Types.VARCHAR, "foo"))));
+        MySQLPacket firstPacket = executor.getQueryRowPacket();
+        MySQLPacket secondPacket = executor.getQueryRowPacket();
+        MySQLPacket thirdPacket = executor.getQueryRowPacket();
+        assertThat(getRowEncoder(secondPacket), is(getRowEncoder(firstPacket)));
+        assertThat(getRowEncoder(thirdPacket), not(getRowEncoder(firstPacket)));
+        MySQLPacketPayload payload = mock(MySQLPacketPayload.class);
+        firstPacket.write(payload);
+        thirdPacket.write(payload);
+        verify(payload).writeInt4(1);
+        verify(payload).writeStringLenenc("foo");
+    }
+    
+    private Object getRowEncoder(final MySQLPacket packet) throws ReflectiveOperationException {
+        return Plugins.getMemberAccessor().get(MySQLBinaryResultSetRowPacket.class.getDeclaredField("encoder"), packet);
+    }
+    
     @Test
     void assertIsUpdateResponse() throws SQLException {
         MySQLComStmtExecutePacket packet = mock(MySQLComStmtExecutePacket.class);
@@ -40,12 +40,15 @@ import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
@@ -55,6 +58,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.plugins.MemberAccessor;
@@ -71,8 +75,11 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -94,6 +101,8 @@ class MySQLComQueryPacketExecutorTest {
     void setUp() {
         when(packet.getSQL()).thenReturn("");
         when(connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get()).thenReturn(MySQLCharacterSet.UTF8MB4_GENERAL_CI);
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Boolean>getValue(ConfigurationPropertyKey.PROXY_TEXT_PROTOCOL_LITERAL_NORMALIZATION_ENABLED)).thenReturn(false);
     }
     
     @Test
@@ -137,6 +146,38 @@ class MySQLComQueryPacketExecutorTest {
         assertThat(actualPackets.iterator().next(), instanceOf(MySQLOKPacket.class));
     }
     
+    @Test
+    void assertNewInstanceWithLiteralNormalization() throws SQLException {
+        when(connectionSession.getDatabaseName()).thenReturn("foo_db");
+        when(packet.getSQL()).thenReturn("update t set v=v+1 where id=1");
+        ContextManager contextManager = mock(ContextManager.class);
+        MetaDataContexts metaDataContexts = mockMetaDataContexts();
+        when(metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_TEXT_PROTOCOL_LITERAL_NORMALIZATION_ENABLED)).thenReturn(true);
+        when(contextManager.getMetaDataContexts()).thenReturn(metaDataContexts);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        try (MockedStatic<ProxyBackendHandlerFactory> mockedFactory = mockStatic(ProxyBackendHandlerFactory.class)) {
+            new MySQLComQueryPacketExecutor(packet, connectionSession);
+            mockedFactory.verify(() -> ProxyBackendHandlerFactory.newInstance(
+                    any(DatabaseType.class), eq("update t set v=v+1 where id=?"), eq(Collections.singletonList(1)), any(UpdateStatement.class), eq(connectionSession), any()));
+        }
+    }
+    
+    @Test
+    void assertNewInstanceWithLiteralNormalizationAndFunctionInProjection() throws SQLException {
+        when(connectionSession.getDatabaseName()).thenReturn("foo_db");
+        when(packet.getSQL()).thenReturn("select if(v=1, 'x', 'y'), id from t where id=1");
+        ContextManager contextManager = mock(ContextManager.class);
+        MetaDataContexts metaDataContexts = mockMetaDataContexts();
+        when(metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_TEXT_PROTOCOL_LITERAL_NORMALIZATION_ENABLED)).thenReturn(true);
+        when(contextManager.getMetaDataContexts()).thenReturn(metaDataContexts);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        try (MockedStatic<ProxyBackendHandlerFactory> mockedFactory = mockStatic(ProxyBackendHandlerFactory.class)) {
+            new MySQLComQueryPacketExecutor(packet, connectionSession);
+            mockedFactory.verify(() -> ProxyBackendHandlerFactory.newInstance(
+                    any(DatabaseType.class), eq("select if(v=1, 'x', 'y'), id from t where id=?"), eq(Collections.singletonList(1)), any(SelectStatement.class), eq(connectionSession), any()));
+        }
+    }
+    
     private MetaDataContexts mockMetaDataContexts() {
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
         MetaDataContexts result = mock(MetaDataContexts.class, RETURNS_DEEP_STUBS);
@@ -147,6 +188,7 @@ class MySQLComQueryPacketExecutorTest {
         when(result.getMetaData().getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
         when(result.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(1);
         when(result.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)).thenReturn(false);
+        when(result.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_TEXT_PROTOCOL_LITERAL_NORMALIZATION_ENABLED)).thenReturn(false);
         ShardingSphereTable table = new ShardingSphereTable("t", Arrays.asList(new ShardingSphereColumn("id", Types.BIGINT, true, false, false, false, true, false),
                 new ShardingSphereColumn("v", Types.INTEGER, false, false, false, false, true, false)), Collections.emptyList(), Collections.emptyList());
         ShardingSphereSchema schema = new ShardingSphereSchema();
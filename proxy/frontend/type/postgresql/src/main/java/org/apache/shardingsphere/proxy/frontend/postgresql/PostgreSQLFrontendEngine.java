@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.exception.dialect.exception.transaction.I
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.postgresql.authentication.PostgreSQLAuthenticationEngine;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLCommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLPortalContextRegistry;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
@@ -42,7 +43,10 @@ public final class PostgreSQLFrontendEngine implements DatabaseProtocolFrontendE
     
     @Override
     public void release(final ConnectionSession connectionSession) {
-        PostgreSQLPortalContextRegistry.getInstance().remove(connectionSession.getConnectionId());
+        PortalContext portalContext = PostgreSQLPortalContextRegistry.getInstance().remove(connectionSession.getConnectionId());
+        if (null != portalContext) {
+            portalContext.cancelCopyIn();
+        }
     }
     
     @Override
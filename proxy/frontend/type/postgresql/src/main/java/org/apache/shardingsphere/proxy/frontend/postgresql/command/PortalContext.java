@@ -18,11 +18,13 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
 import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyInContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.Portal;
 
 import java.sql.SQLException;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * PostgreSQL portal context.
@@ -31,6 +33,8 @@ public final class PortalContext {
     
     private final Map<String, Portal> portals = new LinkedHashMap<>();
     
+    private PostgreSQLCopyInContext copyInContext;
+    
     /**
      * Add portal.
      *
@@ -80,4 +84,41 @@ public final class PortalContext {
         }
         portals.clear();
     }
+    
+    /**
+     * Start copy in.
+     *
+     * @param copyInContext copy in context
+     */
+    public void startCopyIn(final PostgreSQLCopyInContext copyInContext) {
+        cancelCopyIn();
+        this.copyInContext = copyInContext;
+    }
+    
+    /**
+     * Find copy in.
+     *
+     * @return copy in context
+     */
+    public Optional<PostgreSQLCopyInContext> findCopyIn() {
+        return Optional.ofNullable(copyInContext);
+    }
+    
+    /**
+     * Remove copy in.
+     *
+     * @return removed copy in context
+     */
+    public Optional<PostgreSQLCopyInContext> removeCopyIn() {
+        Optional<PostgreSQLCopyInContext> result = Optional.ofNullable(copyInContext);
+        copyInContext = null;
+        return result;
+    }
+    
+    /**
+     * Cancel copy in.
+     */
+    public void cancelCopyIn() {
+        removeCopyIn().ifPresent(PostgreSQLCopyInContext::cancel);
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.StringJoiner;
+
+/**
+ * PostgreSQL copy format.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class PostgreSQLCopyFormat {
+    
+    private static final Collection<String> FALSE_VALUES = new HashSet<>(Arrays.asList("false", "off", "0"));
+    
+    private static final Collection<String> PROXY_HANDLED_OPTIONS = new HashSet<>(Arrays.asList("header", "encoding"));
+    
+    private final boolean csv;
+    
+    private final byte delimiter;
+    
+    private final String nullString;
+    
+    private final byte quote;
+    
+    private final byte escape;
+    
+    private final boolean header;
+    
+    private final String backendOptions;
+    
+    /**
+     * Create PostgreSQL copy format from options of copy statement.
+     *
+     * @param options options of copy statement
+     * @return PostgreSQL copy format
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static PostgreSQLCopyFormat valueOf(final Map<String, String> options) {
+        String format = options.containsKey("format") ? unquote(options.get("format")).toLowerCase() : "text";
+        ShardingSpherePreconditions.checkState("text".equals(format) || "csv".equals(format), () -> new UnsupportedSQLOperationException(String.format("COPY with %s format", format)));
+        boolean csv = "csv".equals(format);
+        byte delimiter = getSingleByteOption(options, "delimiter", csv ? ',' : '\t');
+        String nullString = options.containsKey("null") ? unquote(options.get("null")) : csv ? "" : "\\N";
+        byte quote = getSingleByteOption(options, "quote", '"');
+        byte escape = getSingleByteOption(options, "escape", (char) quote);
+        boolean header = options.containsKey("header") && !FALSE_VALUES.contains(unquote(options.get("header")).toLowerCase());
+        return new PostgreSQLCopyFormat(csv, delimiter, nullString, quote, escape, header, getBackendOptions(options));
+    }
+    
+    private static byte getSingleByteOption(final Map<String, String> options, final String optionName, final char defaultValue) {
+        if (!options.containsKey(optionName)) {
+            return (byte) defaultValue;
+        }
+        String result = unquote(options.get(optionName));
+        ShardingSpherePreconditions.checkState(1 == result.length() && result.charAt(0) < 0x80,
+                () -> new UnsupportedSQLOperationException(String.format("COPY %s must be a single one-byte character", optionName)));
+        return (byte) result.charAt(0);
+    }
+    
+    private static String unquote(final String value) {
+        if (value.length() > 2 && ('E' == value.charAt(0) || 'e' == value.charAt(0)) && '\'' == value.charAt(1) && '\'' == value.charAt(value.length() - 1)) {
+            return unescape(value.substring(2, value.length() - 1));
+        }
+        if (value.length() > 1 && '\'' == value.charAt(0) && '\'' == value.charAt(value.length() - 1)) {
+            return value.substring(1, value.length() - 1).replace("''", "'");
+        }
+        return value;
+    }
+    
+    private static String unescape(final String value) {
+        StringBuilder result = new StringBuilder(value.length());
+        int index = 0;
+        while (index < value.length()) {
+            char each = value.charAt(index);
+            if ('\\' == each && index + 1 < value.length()) {
+                result.append(unescape(value.charAt(index + 1)));
+                index += 2;
+            } else if ('\'' == each && index + 1 < value.length() && '\'' == value.charAt(index + 1)) {
+                result.append('\'');
+                index += 2;
+            } else {
+                result.append(each);
+                index++;
+            }
+        }
+        return result.toString();
+    }
+    
+    private static char unescape(final char escaped) {
+        switch (escaped) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            default:
+                return escaped;
+        }
+    }
+    
+    private static String getBackendOptions(final Map<String, String> options) {
+        StringJoiner result = new StringJoiner(", ", "(", ")");
+        result.setEmptyValue("");
+        for (Entry<String, String> entry : options.entrySet()) {
+            if (!PROXY_HANDLED_OPTIONS.contains(entry.getKey())) {
+                result.add(entry.getValue().isEmpty() ? entry.getKey().toUpperCase() : entry.getKey().toUpperCase() + " " + entry.getValue());
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.exception.postgresql.exception.metadata.ColumnNotFoundException;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * PostgreSQL copy in context.
+ *
+ * <p>Rows received by COPY FROM STDIN are routed by batch, and rows of each data node are forwarded to a COPY FROM STDIN running on the backend of the data node.
+ * Copies of all data nodes are committed after all of them are done, and rolled back if any of them fails. Committing is not atomic across data nodes,
+ * so a failure while committing may leave rows of data nodes committed before it.</p>
+ *
+ * <p>Rows are forwarded as they are received without SQL rewrite, so COPY FROM STDIN is rejected on tables governed by rules rewriting SQL other than sharding,
+ * such as encrypt.</p>
+ */
+@Slf4j
+public final class PostgreSQLCopyInContext {
+    
+    private static final int ROUTE_BATCH_SIZE = 1000;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final Charset charset;
+    
+    private final PostgreSQLCopyRowParser rowParser;
+    
+    private final PostgreSQLCopyRowRouter rowRouter;
+    
+    private final String backendSchemaName;
+    
+    private final String backendColumns;
+    
+    private final String backendOptions;
+    
+    @Getter
+    private final int columnCount;
+    
+    private final List<PostgreSQLCopyRow> pendingRows = new ArrayList<>(ROUTE_BATCH_SIZE);
+    
+    private final Map<DataNode, PostgreSQLCopyInTarget> targets = new LinkedHashMap<>();
+    
+    private long rowCount;
+    
+    public PostgreSQLCopyInContext(final ConnectionSession connectionSession, final PostgreSQLCopyStatement sqlStatement, final HintValueContext hintValueContext) {
+        this.connectionSession = connectionSession;
+        charset = connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        PostgreSQLCopyFormat format = PostgreSQLCopyFormat.valueOf(sqlStatement.getOptions());
+        rowParser = new PostgreSQLCopyRowParser(format, charset);
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        ShardingSphereDatabase database = metaData.getDatabase(connectionSession.getDatabaseName());
+        SimpleTableSegment tableSegment = sqlStatement.getTableSegment();
+        String tableName = tableSegment.getTableName().getIdentifier().getValue();
+        Optional<OwnerSegment> owner = tableSegment.getOwner();
+        String schemaName = owner.map(optional -> optional.getIdentifier().getValue()).orElseGet(() -> new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(database.getName()));
+        ShardingSphereSchema schema = database.getSchema(schemaName);
+        ShardingSpherePreconditions.checkState(null != schema && schema.containsTable(tableName), () -> new NoSuchTableException(tableName));
+        checkRewriteRules(database, tableName);
+        ShardingSphereTable table = schema.getTable(tableName);
+        List<String> columnNames = new ArrayList<>();
+        List<Integer> columnTypes = new ArrayList<>();
+        if (sqlStatement.getColumns().isEmpty()) {
+            for (ShardingSphereColumn each : table.getColumnValues()) {
+                columnNames.add(each.getName());
+                columnTypes.add(each.getDataType());
+            }
+        }
+        for (ColumnSegment each : sqlStatement.getColumns()) {
+            String columnName = each.getIdentifier().getValue();
+            ShardingSpherePreconditions.checkState(table.containsColumn(columnName), () -> new ColumnNotFoundException(tableName, columnName));
+            columnNames.add(each.getIdentifier().getValueWithQuoteCharacters());
+            columnTypes.add(table.getColumn(columnName).getDataType());
+        }
+        columnCount = columnNames.size();
+        backendSchemaName = owner.map(optional -> optional.getIdentifier().getValueWithQuoteCharacters() + ".").orElse("");
+        String logicTableName = backendSchemaName + tableSegment.getTableName().getIdentifier().getValueWithQuoteCharacters();
+        rowRouter = new PostgreSQLCopyRowRouter(connectionSession, metaData, hintValueContext, logicTableName, tableName, columnNames, columnTypes);
+        backendColumns = sqlStatement.getColumns().isEmpty() ? "" : " (" + String.join(",", columnNames) + ")";
+        backendOptions = format.getBackendOptions().isEmpty() ? "" : " WITH " + format.getBackendOptions();
+    }
+    
+    private void checkRewriteRules(final ShardingSphereDatabase database, final String tableName) {
+        for (ShardingSphereRule each : OrderedSPILoader.getServices(SQLRewriteContextDecorator.class, database.getRuleMetaData().getRules()).keySet()) {
+            Optional<TableMapperRuleAttribute> tableMapperRuleAttribute = each.getAttributes().findAttribute(TableMapperRuleAttribute.class);
+            boolean rewritten = !tableMapperRuleAttribute.isPresent()
+                    || tableMapperRuleAttribute.get().getLogicTableMapper().contains(tableName) && !tableMapperRuleAttribute.get().getDistributedTableMapper().contains(tableName);
+            ShardingSpherePreconditions.checkState(!rewritten,
+                    () -> new UnsupportedSQLOperationException(String.format("COPY FROM STDIN on table `%s` governed by %s", tableName, each.getClass().getSimpleName())));
+        }
+    }
+    
+    /**
+     * Receive copy data.
+     *
+     * @param data copy data
+     * @throws SQLException SQL exception
+     */
+    public void receive(final byte[] data) throws SQLException {
+        for (PostgreSQLCopyRow each : rowParser.parse(data)) {
+            pendingRows.add(each);
+            if (pendingRows.size() >= ROUTE_BATCH_SIZE) {
+                flushPendingRows();
+            }
+        }
+    }
+    
+    /**
+     * Complete copy.
+     *
+     * @return copied row count
+     * @throws SQLException SQL exception
+     */
+    public long complete() throws SQLException {
+        pendingRows.addAll(rowParser.finish());
+        flushPendingRows();
+        for (PostgreSQLCopyInTarget each : targets.values()) {
+            each.endCopy();
+        }
+        Iterator<PostgreSQLCopyInTarget> iterator = targets.values().iterator();
+        while (iterator.hasNext()) {
+            PostgreSQLCopyInTarget each = iterator.next();
+            iterator.remove();
+            each.commit();
+        }
+        return rowCount;
+    }
+    
+    /**
+     * Cancel copy.
+     */
+    public void cancel() {
+        for (Entry<DataNode, PostgreSQLCopyInTarget> entry : targets.entrySet()) {
+            try {
+                entry.getValue().cancelCopy();
+            } catch (final SQLException ex) {
+                log.warn("Cancel copy of data node `{}` failed.", entry.getKey(), ex);
+            }
+        }
+        targets.clear();
+        pendingRows.clear();
+    }
+    
+    private void flushPendingRows() throws SQLException {
+        if (pendingRows.isEmpty()) {
+            return;
+        }
+        for (Entry<DataNode, List<PostgreSQLCopyRow>> entry : rowRouter.route(pendingRows).entrySet()) {
+            getTarget(entry.getKey()).write(toBackendData(entry.getValue()));
+        }
+        rowCount += pendingRows.size();
+        pendingRows.clear();
+    }
+    
+    private PostgreSQLCopyInTarget getTarget(final DataNode dataNode) throws SQLException {
+        PostgreSQLCopyInTarget result = targets.get(dataNode);
+        if (null == result) {
+            int connectionOffset = (int) targets.keySet().stream().filter(each -> each.getDataSourceName().equalsIgnoreCase(dataNode.getDataSourceName())).count();
+            String sql = String.format("COPY %s%s%s FROM STDIN%s", backendSchemaName, dataNode.getTableName(), backendColumns, backendOptions);
+            result = PostgreSQLCopyInTarget.start(connectionSession, dataNode.getDataSourceName(), connectionOffset, sql);
+            targets.put(dataNode, result);
+        }
+        return result;
+    }
+    
+    private byte[] toBackendData(final List<PostgreSQLCopyRow> rows) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        for (PostgreSQLCopyRow each : rows) {
+            byte[] data = StandardCharsets.UTF_8.equals(charset) ? each.getData() : new String(each.getData(), charset).getBytes(StandardCharsets.UTF_8);
+            result.write(data, 0, data.length);
+            result.write('\n');
+        }
+        return result.toByteArray();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * PostgreSQL copy in target, which is a COPY FROM STDIN running on a backend connection.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyInTarget {
+    
+    private final Connection connection;
+    
+    private final boolean dedicatedConnection;
+    
+    private final CopyIn copyIn;
+    
+    /**
+     * Start copy in on backend data source.
+     *
+     * <p>A connection held by transaction is reused so that copied rows belong to the transaction, otherwise a dedicated connection is used, because
+     * connections of session are released after each command. Auto commit of dedicated connection is turned off, so that copied rows are committed
+     * only after copies of all data nodes are done.</p>
+     *
+     * @param connectionSession connection session
+     * @param dataSourceName actual data source name
+     * @param connectionOffset connection offset of data source
+     * @param sql SQL of backend copy
+     * @return started PostgreSQL copy in target
+     * @throws SQLException SQL exception
+     */
+    public static PostgreSQLCopyInTarget start(final ConnectionSession connectionSession, final String dataSourceName, final int connectionOffset, final String sql) throws SQLException {
+        boolean dedicatedConnection = !connectionSession.getTransactionStatus().isInConnectionHeldTransaction();
+        Connection connection = dedicatedConnection
+                ? ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDatabaseName().toLowerCase(), dataSourceName, 1, ConnectionMode.MEMORY_STRICTLY).get(0)
+                : connectionSession.getDatabaseConnectionManager().getConnections(dataSourceName, connectionOffset, 1, ConnectionMode.MEMORY_STRICTLY).get(0);
+        try {
+            if (dedicatedConnection) {
+                connection.setAutoCommit(false);
+            }
+            return new PostgreSQLCopyInTarget(connection, dedicatedConnection, connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql));
+        } catch (final SQLException ex) {
+            if (dedicatedConnection) {
+                connection.close();
+            }
+            throw ex;
+        }
+    }
+    
+    /**
+     * Write data to backend.
+     *
+     * @param data data
+     * @throws SQLException SQL exception
+     */
+    public void write(final byte[] data) throws SQLException {
+        copyIn.writeToCopy(data, 0, data.length);
+    }
+    
+    /**
+     * End copy.
+     *
+     * @return copied row count of backend
+     * @throws SQLException SQL exception
+     */
+    public long endCopy() throws SQLException {
+        return copyIn.endCopy();
+    }
+    
+    /**
+     * Commit copied rows.
+     *
+     * <p>Rows copied on a connection held by transaction are committed with the transaction.</p>
+     *
+     * @throws SQLException SQL exception
+     */
+    public void commit() throws SQLException {
+        try {
+            if (dedicatedConnection) {
+                connection.commit();
+            }
+        } finally {
+            close();
+        }
+    }
+    
+    /**
+     * Cancel copy and roll back copied rows.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void cancelCopy() throws SQLException {
+        try {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+            if (dedicatedConnection) {
+                connection.rollback();
+            }
+        } finally {
+            close();
+        }
+    }
+    
+    private void close() throws SQLException {
+        if (dedicatedConnection) {
+            connection.close();
+        }
+    }
+}
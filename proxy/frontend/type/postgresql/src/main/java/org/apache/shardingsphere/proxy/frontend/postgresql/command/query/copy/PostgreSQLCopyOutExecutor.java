@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.handler.ProxySQLComQueryParser;
+import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.prepare.PrepareStatementQuerySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Copy to stdout executor for PostgreSQL.
+ *
+ * <p>The table or query of copy statement is executed as a query, merged rows are streamed to client as copy data.</p>
+ */
+public final class PostgreSQLCopyOutExecutor implements QueryCommandExecutor {
+    
+    private final PostgreSQLCopyFormat format;
+    
+    private final PostgreSQLCopyRowEncoder rowEncoder;
+    
+    private final ProxyBackendHandler proxyBackendHandler;
+    
+    @Getter
+    private volatile ResponseType responseType;
+    
+    public PostgreSQLCopyOutExecutor(final PostgreSQLComQueryPacket packet, final PostgreSQLCopyStatement sqlStatement,
+                                     final DatabaseType databaseType, final ConnectionSession connectionSession) throws SQLException {
+        format = PostgreSQLCopyFormat.valueOf(sqlStatement.getOptions());
+        rowEncoder = new PostgreSQLCopyRowEncoder(format, connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+        String sql = getQuerySQL(packet.getSQL(), sqlStatement);
+        proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(databaseType, sql, ProxySQLComQueryParser.parse(sql, databaseType, connectionSession), connectionSession, packet.getHintValueContext());
+    }
+    
+    private String getQuerySQL(final String sql, final PostgreSQLCopyStatement sqlStatement) {
+        Optional<PrepareStatementQuerySegment> querySegment = sqlStatement.getPrepareStatementQuerySegment();
+        if (querySegment.isPresent()) {
+            return sql.substring(querySegment.get().getStartIndex(), querySegment.get().getStopIndex() + 1);
+        }
+        String projections = sqlStatement.getColumns().isEmpty() ? "*"
+                : sqlStatement.getColumns().stream().map(each -> each.getIdentifier().getValueWithQuoteCharacters()).collect(Collectors.joining(", "));
+        SimpleTableSegment tableSegment = sqlStatement.getTableSegment();
+        String owner = tableSegment.getOwner().map(optional -> optional.getIdentifier().getValueWithQuoteCharacters() + ".").orElse("");
+        return String.format("SELECT %s FROM %s%s", projections, owner, tableSegment.getTableName().getIdentifier().getValueWithQuoteCharacters());
+    }
+    
+    @Override
+    public Collection<DatabasePacket> execute() throws SQLException {
+        ResponseHeader responseHeader = proxyBackendHandler.execute();
+        ShardingSpherePreconditions.checkState(responseHeader instanceof QueryResponseHeader, () -> new UnsupportedSQLOperationException("COPY TO STDOUT with statement which returns no rows"));
+        responseType = ResponseType.QUERY;
+        List<QueryHeader> queryHeaders = ((QueryResponseHeader) responseHeader).getQueryHeaders();
+        Collection<DatabasePacket> result = new ArrayList<>(2);
+        result.add(new PostgreSQLCopyOutResponsePacket(PostgreSQLValueFormat.TEXT, queryHeaders.size()));
+        if (format.isHeader()) {
+            result.add(new PostgreSQLCopyDataPacket(rowEncoder.encode(queryHeaders.stream().map(QueryHeader::getColumnLabel).collect(Collectors.toList()))));
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return proxyBackendHandler.next();
+    }
+    
+    @Override
+    public PostgreSQLPacket getQueryRowPacket() throws SQLException {
+        return new PostgreSQLCopyDataPacket(rowEncoder.encode(proxyBackendHandler.getRowData().getData()));
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        proxyBackendHandler.close();
+    }
+}
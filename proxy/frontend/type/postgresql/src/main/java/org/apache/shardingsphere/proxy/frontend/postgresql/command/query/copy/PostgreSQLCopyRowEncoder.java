@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.Charset;
+import java.util.Collection;
+
+/**
+ * PostgreSQL copy row encoder.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyRowEncoder {
+    
+    private final PostgreSQLCopyFormat format;
+    
+    private final Charset charset;
+    
+    /**
+     * Encode values into a row of copy data.
+     *
+     * @param values values
+     * @return row of copy data
+     */
+    public byte[] encode(final Collection<?> values) {
+        StringBuilder result = new StringBuilder();
+        boolean firstValue = true;
+        for (Object each : values) {
+            if (!firstValue) {
+                result.append((char) format.getDelimiter());
+            }
+            appendValue(result, each);
+            firstValue = false;
+        }
+        return result.append('\n').toString().getBytes(charset);
+    }
+    
+    private void appendValue(final StringBuilder builder, final Object value) {
+        if (null == value) {
+            builder.append(format.getNullString());
+            return;
+        }
+        String text = value instanceof byte[] ? new String((byte[]) value, charset) : value.toString();
+        if (format.isCsv()) {
+            appendCSVValue(builder, text);
+        } else {
+            appendTextValue(builder, text);
+        }
+    }
+    
+    private void appendTextValue(final StringBuilder builder, final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if ('\\' == each) {
+                builder.append("\\\\");
+            } else if ('\n' == each) {
+                builder.append("\\n");
+            } else if ('\r' == each) {
+                builder.append("\\r");
+            } else if ('\t' == each) {
+                builder.append("\\t");
+            } else if (format.getDelimiter() == each) {
+                builder.append('\\').append(each);
+            } else {
+                builder.append(each);
+            }
+        }
+    }
+    
+    private void appendCSVValue(final StringBuilder builder, final String value) {
+        if (!isCSVQuoteNeeded(value)) {
+            builder.append(value);
+            return;
+        }
+        char quote = (char) format.getQuote();
+        char escape = (char) format.getEscape();
+        builder.append(quote);
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if (quote == each || escape == each) {
+                builder.append(escape);
+            }
+            builder.append(each);
+        }
+        builder.append(quote);
+    }
+    
+    private boolean isCSVQuoteNeeded(final String value) {
+        if (value.equals(format.getNullString())) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if (format.getDelimiter() == each || format.getQuote() == each || '\n' == each || '\r' == each) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
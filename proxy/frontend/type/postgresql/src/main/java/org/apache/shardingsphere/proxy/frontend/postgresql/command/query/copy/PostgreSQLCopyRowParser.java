@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * PostgreSQL copy row parser.
+ *
+ * <p>Copy data is split into rows as it arrives, a row divided into two CopyData messages is kept until its end is received.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyRowParser {
+    
+    private static final byte[] END_OF_DATA = {'\\', '.'};
+    
+    private final PostgreSQLCopyFormat format;
+    
+    private final Charset charset;
+    
+    private byte[] buffer = new byte[0];
+    
+    private int bufferLength;
+    
+    private boolean headerSkipped;
+    
+    private boolean endOfData;
+    
+    /**
+     * Parse copy data into complete rows.
+     *
+     * @param data copy data
+     * @return complete rows
+     */
+    public List<PostgreSQLCopyRow> parse(final byte[] data) {
+        if (endOfData) {
+            return Collections.emptyList();
+        }
+        append(data);
+        List<PostgreSQLCopyRow> result = new LinkedList<>();
+        int rowStartIndex = 0;
+        int rowEndIndex = findRowEndIndex(rowStartIndex);
+        while (rowEndIndex >= 0 && !endOfData) {
+            addRow(rowStartIndex, rowEndIndex, result);
+            rowStartIndex = rowEndIndex + 1;
+            rowEndIndex = findRowEndIndex(rowStartIndex);
+        }
+        bufferLength -= rowStartIndex;
+        System.arraycopy(buffer, rowStartIndex, buffer, 0, bufferLength);
+        return result;
+    }
+    
+    /**
+     * Finish parsing and get the last row which is not terminated by newline.
+     *
+     * @return last row
+     */
+    public List<PostgreSQLCopyRow> finish() {
+        if (endOfData || 0 == bufferLength) {
+            return Collections.emptyList();
+        }
+        List<PostgreSQLCopyRow> result = new LinkedList<>();
+        addRow(0, bufferLength, result);
+        bufferLength = 0;
+        return result;
+    }
+    
+    private void append(final byte[] data) {
+        if (bufferLength + data.length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, bufferLength + data.length));
+        }
+        System.arraycopy(data, 0, buffer, bufferLength, data.length);
+        bufferLength += data.length;
+    }
+    
+    private int findRowEndIndex(final int rowStartIndex) {
+        boolean quoted = false;
+        int index = rowStartIndex;
+        while (index < bufferLength) {
+            byte each = buffer[index];
+            if (format.isCsv()) {
+                if (quoted && format.getEscape() != format.getQuote() && format.getEscape() == each) {
+                    index++;
+                } else if (format.getQuote() == each) {
+                    quoted = !quoted;
+                }
+            } else if ('\\' == each) {
+                index++;
+            }
+            if (!quoted && '\n' == each) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+    
+    private void addRow(final int rowStartIndex, final int rowEndIndex, final List<PostgreSQLCopyRow> rows) {
+        int rowLength = rowEndIndex - rowStartIndex;
+        if (rowLength > 0 && '\r' == buffer[rowEndIndex - 1]) {
+            rowLength--;
+        }
+        byte[] data = Arrays.copyOfRange(buffer, rowStartIndex, rowStartIndex + rowLength);
+        if (Arrays.equals(END_OF_DATA, data)) {
+            endOfData = true;
+            return;
+        }
+        if (format.isHeader() && !headerSkipped) {
+            headerSkipped = true;
+            return;
+        }
+        rows.add(new PostgreSQLCopyRow(data, format.isCsv() ? parseCSVValues(data) : parseTextValues(data)));
+    }
+    
+    private List<String> parseTextValues(final byte[] data) {
+        List<String> result = new ArrayList<>();
+        int fieldStartIndex = 0;
+        int index = 0;
+        while (index < data.length) {
+            if ('\\' == data[index]) {
+                index++;
+            } else if (format.getDelimiter() == data[index]) {
+                result.add(decodeTextValue(data, fieldStartIndex, index));
+                fieldStartIndex = index + 1;
+            }
+            index++;
+        }
+        result.add(decodeTextValue(data, fieldStartIndex, Math.min(index, data.length)));
+        return result;
+    }
+    
+    private String decodeTextValue(final byte[] data, final int startIndex, final int endIndex) {
+        String rawValue = new String(data, startIndex, endIndex - startIndex, charset);
+        if (rawValue.equals(format.getNullString())) {
+            return null;
+        }
+        ByteArrayOutputStream result = new ByteArrayOutputStream(endIndex - startIndex);
+        int index = startIndex;
+        while (index < endIndex) {
+            if ('\\' == data[index] && index + 1 < endIndex) {
+                index = decodeTextEscape(data, index + 1, endIndex, result);
+            } else {
+                result.write(data[index]);
+                index++;
+            }
+        }
+        return new String(result.toByteArray(), charset);
+    }
+    
+    private int decodeTextEscape(final byte[] data, final int index, final int endIndex, final ByteArrayOutputStream output) {
+        byte escaped = data[index];
+        if (escaped >= '0' && escaped <= '7') {
+            return decodeNumericEscape(data, index, Math.min(index + 3, endIndex), 8, output);
+        }
+        if ('x' == escaped && index + 1 < endIndex && Character.digit(data[index + 1], 16) >= 0) {
+            return decodeNumericEscape(data, index + 1, Math.min(index + 3, endIndex), 16, output);
+        }
+        switch (escaped) {
+            case 'b':
+                output.write('\b');
+                break;
+            case 'f':
+                output.write('\f');
+                break;
+            case 'n':
+                output.write('\n');
+                break;
+            case 'r':
+                output.write('\r');
+                break;
+            case 't':
+                output.write('\t');
+                break;
+            case 'v':
+                output.write(0x0B);
+                break;
+            default:
+                output.write(escaped);
+                break;
+        }
+        return index + 1;
+    }
+    
+    private int decodeNumericEscape(final byte[] data, final int startIndex, final int maxEndIndex, final int radix, final ByteArrayOutputStream output) {
+        int value = 0;
+        int index = startIndex;
+        while (index < maxEndIndex && Character.digit(data[index], radix) >= 0) {
+            value = value * radix + Character.digit(data[index], radix);
+            index++;
+        }
+        output.write(value);
+        return index;
+    }
+    
+    private List<String> parseCSVValues(final byte[] data) {
+        List<String> result = new ArrayList<>();
+        ByteArrayOutputStream value = new ByteArrayOutputStream();
+        boolean quoted = false;
+        boolean everQuoted = false;
+        int fieldStartIndex = 0;
+        int index = 0;
+        while (index < data.length) {
+            byte each = data[index];
+            if (quoted && format.getEscape() == each && index + 1 < data.length && (format.getQuote() == data[index + 1] || format.getEscape() == data[index + 1])) {
+                value.write(data[index + 1]);
+                index++;
+            } else if (format.getQuote() == each) {
+                quoted = !quoted;
+                everQuoted = true;
+            } else if (!quoted && format.getDelimiter() == each) {
+                result.add(decodeCSVValue(data, fieldStartIndex, index, value, everQuoted));
+                value.reset();
+                everQuoted = false;
+                fieldStartIndex = index + 1;
+            } else {
+                value.write(each);
+            }
+            index++;
+        }
+        result.add(decodeCSVValue(data, fieldStartIndex, data.length, value, everQuoted));
+        return result;
+    }
+    
+    private String decodeCSVValue(final byte[] data, final int startIndex, final int endIndex, final ByteArrayOutputStream value, final boolean quoted) {
+        if (!quoted && new String(data, startIndex, endIndex - startIndex, charset).equals(format.getNullString())) {
+            return null;
+        }
+        return new String(value.toByteArray(), charset);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PostgreSQL copy row router.
+ *
+ * <p>Rows are routed in batches as the values of an equivalent multi-row insert statement, so that the sharding rule of the table decides the data node of each row.</p>
+ */
+public final class PostgreSQLCopyRowRouter {
+    
+    private final ConnectionSession connectionSession;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final HintValueContext hintValueContext;
+    
+    private final String qualifiedTableName;
+    
+    private final String tableName;
+    
+    private final List<String> columnNames;
+    
+    private final List<Integer> columnTypes;
+    
+    private final Map<Integer, SQLStatement> insertStatements = new HashMap<>();
+    
+    public PostgreSQLCopyRowRouter(final ConnectionSession connectionSession, final ShardingSphereMetaData metaData, final HintValueContext hintValueContext,
+                                   final String qualifiedTableName, final String tableName, final List<String> columnNames, final List<Integer> columnTypes) {
+        this.connectionSession = connectionSession;
+        this.metaData = metaData;
+        database = metaData.getDatabase(connectionSession.getDatabaseName());
+        this.hintValueContext = hintValueContext;
+        this.qualifiedTableName = qualifiedTableName;
+        this.tableName = tableName;
+        this.columnNames = columnNames;
+        this.columnTypes = columnTypes;
+    }
+    
+    /**
+     * Route rows to data nodes.
+     *
+     * @param rows rows to be routed
+     * @return rows of data nodes, data source names of data nodes are actual data source names
+     */
+    public Map<DataNode, List<PostgreSQLCopyRow>> route(final List<PostgreSQLCopyRow> rows) {
+        String sql = getInsertSQL(rows.size());
+        SQLStatement sqlStatement = insertStatements.computeIfAbsent(rows.size(), key -> parse(sql));
+        List<Object> params = getParameters(rows);
+        SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, connectionSession.getDatabaseName(), hintValueContext).bind(sqlStatement, params);
+        ShardingSpherePreconditions.checkState(!((InsertStatementContext) sqlStatementContext).getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false),
+                () -> new UnsupportedSQLOperationException("COPY FROM STDIN without generated key column"));
+        QueryContext queryContext = new QueryContext(sqlStatementContext, sql, params, hintValueContext);
+        RouteContext routeContext = new SQLRouteEngine(database.getRuleMetaData().getRules(), metaData.getProps())
+                .route(connectionSession.getConnectionContext(), queryContext, metaData.getGlobalRuleMetaData(), database);
+        return routeContext.getOriginalDataNodes().size() == rows.size() ? groupByOriginalDataNodes(routeContext, rows) : groupByRouteUnits(routeContext, rows);
+    }
+    
+    private String getInsertSQL(final int rowCount) {
+        String placeholders = "(" + String.join(",", Collections.nCopies(columnNames.size(), "?")) + ")";
+        StringBuilder result = new StringBuilder("INSERT INTO ").append(qualifiedTableName).append(" (").append(String.join(",", columnNames)).append(") VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                result.append(',');
+            }
+            result.append(placeholders);
+        }
+        return result.toString();
+    }
+    
+    private SQLStatement parse(final String sql) {
+        return metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(database.getProtocolType()).parse(sql, false);
+    }
+    
+    private List<Object> getParameters(final List<PostgreSQLCopyRow> rows) {
+        List<Object> result = new ArrayList<>(rows.size() * columnNames.size());
+        for (PostgreSQLCopyRow each : rows) {
+            for (int i = 0; i < columnNames.size(); i++) {
+                result.add(i < each.getValues().size() ? convertValue(each.getValues().get(i), columnTypes.get(i)) : null);
+            }
+        }
+        return result;
+    }
+    
+    private Object convertValue(final String value, final int columnType) {
+        if (null == value) {
+            return null;
+        }
+        try {
+            switch (columnType) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                    return Integer.parseInt(value.trim());
+                case Types.BIGINT:
+                    return Long.parseLong(value.trim());
+                case Types.NUMERIC:
+                case Types.DECIMAL:
+                    return new BigDecimal(value.trim());
+                case Types.REAL:
+                case Types.FLOAT:
+                case Types.DOUBLE:
+                    return Double.parseDouble(value.trim());
+                case Types.DATE:
+                    return Date.valueOf(value.trim());
+                case Types.TIMESTAMP:
+                    return Timestamp.valueOf(value.trim());
+                default:
+                    return value;
+            }
+        } catch (final IllegalArgumentException ignored) {
+            return value;
+        }
+    }
+    
+    private Map<DataNode, List<PostgreSQLCopyRow>> groupByOriginalDataNodes(final RouteContext routeContext, final List<PostgreSQLCopyRow> rows) {
+        Map<String, String> actualDataSourceNames = new HashMap<>(routeContext.getRouteUnits().size(), 1F);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            actualDataSourceNames.put(each.getDataSourceMapper().getLogicName(), each.getDataSourceMapper().getActualName());
+        }
+        Map<DataNode, List<PostgreSQLCopyRow>> result = new LinkedHashMap<>();
+        Iterator<PostgreSQLCopyRow> rowIterator = rows.iterator();
+        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
+            PostgreSQLCopyRow row = rowIterator.next();
+            for (DataNode dataNode : each) {
+                String actualDataSourceName = actualDataSourceNames.getOrDefault(dataNode.getDataSourceName(), dataNode.getDataSourceName());
+                result.computeIfAbsent(new DataNode(actualDataSourceName, dataNode.getTableName()), key -> new LinkedList<>()).add(row);
+            }
+        }
+        return result;
+    }
+    
+    private Map<DataNode, List<PostgreSQLCopyRow>> groupByRouteUnits(final RouteContext routeContext, final List<PostgreSQLCopyRow> rows) {
+        Map<DataNode, List<PostgreSQLCopyRow>> result = new LinkedHashMap<>();
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            Set<String> actualTableNames = each.getActualTableNames(tableName);
+            if (actualTableNames.isEmpty()) {
+                result.put(new DataNode(each.getDataSourceMapper().getActualName(), tableName), rows);
+            }
+            for (String actualTableName : actualTableNames) {
+                result.put(new DataNode(each.getDataSourceMapper().getActualName(), actualTableName), rows);
+            }
+        }
+        return result;
+    }
+}
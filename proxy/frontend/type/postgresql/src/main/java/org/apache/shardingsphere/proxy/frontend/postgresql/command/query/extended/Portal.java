@@ -177,10 +177,9 @@ public final class Portal {
     private List<Object> getData(final QueryResponseRow queryResponseRow) {
         Collection<QueryResponseCell> cells = queryResponseRow.getCells();
         List<Object> result = new ArrayList<>(cells.size());
-        List<QueryResponseCell> columns = new ArrayList<>(cells);
-        for (int i = 0; i < columns.size(); i++) {
-            PostgreSQLValueFormat format = determineValueFormat(i);
-            result.add(PostgreSQLValueFormat.BINARY == format ? createBinaryCell(columns.get(i)) : getCellData(columns.get(i)));
+        for (QueryResponseCell each : cells) {
+            PostgreSQLValueFormat format = determineValueFormat(result.size());
+            result.add(PostgreSQLValueFormat.BINARY == format ? createBinaryCell(each) : getCellData(each));
         }
         return result;
     }
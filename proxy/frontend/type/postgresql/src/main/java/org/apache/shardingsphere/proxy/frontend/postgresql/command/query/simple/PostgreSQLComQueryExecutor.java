@@ -68,9 +68,13 @@ public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
     private volatile ResponseType responseType;
     
     public PostgreSQLComQueryExecutor(final PortalContext portalContext, final PostgreSQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
+        this(portalContext, packet, ProxySQLComQueryParser.parse(packet.getSQL(), TypedSPILoader.getService(DatabaseType.class, "openGauss"), connectionSession), connectionSession);
+    }
+    
+    public PostgreSQLComQueryExecutor(final PortalContext portalContext, final PostgreSQLComQueryPacket packet, final SQLStatement sqlStatement,
+                                      final ConnectionSession connectionSession) throws SQLException {
         this.portalContext = portalContext;
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "openGauss");
-        SQLStatement sqlStatement = ProxySQLComQueryParser.parse(packet.getSQL(), databaseType, connectionSession);
         proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(databaseType, packet.getSQL(), sqlStatement, connectionSession, packet.getHintValueContext());
     }
     
@@ -63,6 +63,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.ddl
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.ddl.PostgreSQLDropDatabaseStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.ddl.PostgreSQLDropSequenceStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.ddl.PostgreSQLDropTableStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLDeleteStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLInsertStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLUpdateStatement;
@@ -124,6 +125,12 @@ class PostgreSQLCommandTest {
         assertThat(PostgreSQLCommand.DO.getTag(), is("DO"));
     }
     
+    @Test
+    void assertValueOfCopyStatement() {
+        assertThat(PostgreSQLCommand.valueOf(PostgreSQLCopyStatement.class).orElse(null), is(PostgreSQLCommand.COPY));
+        assertThat(PostgreSQLCommand.COPY.getTag(), is("COPY"));
+    }
+    
     @Test
     void assertValueOfAnalyzeStatement() {
         assertThat(PostgreSQLCommand.valueOf(AnalyzeTableStatement.class).orElse(null), is(PostgreSQLCommand.ANALYZE));
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSQLComCopyDataExecutorTest {
+    
+    @Mock
+    private PortalContext portalContext;
+    
+    @Mock
+    private PostgreSQLComCopyDataPacket packet;
+    
+    @Mock
+    private PostgreSQLCopyInContext copyInContext;
+    
+    @Test
+    void assertExecuteWithoutCopyIn() throws SQLException {
+        when(portalContext.findCopyIn()).thenReturn(Optional.empty());
+        assertTrue(new PostgreSQLComCopyDataExecutor(portalContext, packet).execute().isEmpty());
+    }
+    
+    @Test
+    void assertExecute() throws SQLException {
+        when(portalContext.findCopyIn()).thenReturn(Optional.of(copyInContext));
+        byte[] data = {'1', '\n'};
+        when(packet.getData()).thenReturn(data);
+        assertTrue(new PostgreSQLComCopyDataExecutor(portalContext, packet).execute().isEmpty());
+        verify(copyInContext).receive(data);
+    }
+    
+    @Test
+    void assertExecuteFailed() throws SQLException {
+        when(portalContext.findCopyIn()).thenReturn(Optional.of(copyInContext));
+        byte[] data = {'1', '\n'};
+        when(packet.getData()).thenReturn(data);
+        doThrow(SQLException.class).when(copyInContext).receive(data);
+        assertThrows(SQLException.class, () -> new PostgreSQLComCopyDataExecutor(portalContext, packet).execute());
+        verify(portalContext).cancelCopyIn();
+    }
+}
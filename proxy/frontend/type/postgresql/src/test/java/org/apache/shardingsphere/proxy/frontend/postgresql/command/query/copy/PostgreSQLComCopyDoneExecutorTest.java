@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
+import org.apache.shardingsphere.transaction.api.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSQLComCopyDoneExecutorTest {
+    
+    @Mock
+    private PortalContext portalContext;
+    
+    @Mock
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private PostgreSQLCopyInContext copyInContext;
+    
+    @Test
+    void assertExecuteWithoutCopyIn() throws SQLException {
+        when(portalContext.removeCopyIn()).thenReturn(Optional.empty());
+        assertTrue(new PostgreSQLComCopyDoneExecutor(portalContext, connectionSession).execute().isEmpty());
+    }
+    
+    @Test
+    void assertExecute() throws SQLException {
+        when(portalContext.removeCopyIn()).thenReturn(Optional.of(copyInContext));
+        when(copyInContext.complete()).thenReturn(10L);
+        when(connectionSession.getTransactionStatus()).thenReturn(new TransactionStatus(TransactionType.LOCAL));
+        Collection<DatabasePacket> actual = new PostgreSQLComCopyDoneExecutor(portalContext, connectionSession).execute();
+        assertThat(actual.size(), is(2));
+        Iterator<DatabasePacket> actualIterator = actual.iterator();
+        assertThat(actualIterator.next(), instanceOf(PostgreSQLCommandCompletePacket.class));
+        assertThat(actualIterator.next(), is(PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION));
+    }
+    
+    @Test
+    void assertExecuteFailed() throws SQLException {
+        when(portalContext.removeCopyIn()).thenReturn(Optional.of(copyInContext));
+        when(copyInContext.complete()).thenThrow(SQLException.class);
+        assertThrows(SQLException.class, () -> new PostgreSQLComCopyDoneExecutor(portalContext, connectionSession).execute());
+        verify(copyInContext).cancel();
+    }
+}
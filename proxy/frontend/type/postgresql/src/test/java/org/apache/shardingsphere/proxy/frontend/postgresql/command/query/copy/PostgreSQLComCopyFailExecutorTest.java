@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyFailPacket;
+import org.apache.shardingsphere.infra.exception.postgresql.exception.PostgreSQLException;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSQLComCopyFailExecutorTest {
+    
+    @Mock
+    private PortalContext portalContext;
+    
+    @Mock
+    private PostgreSQLComCopyFailPacket packet;
+    
+    @Mock
+    private PostgreSQLCopyInContext copyInContext;
+    
+    @Test
+    void assertExecuteWithoutCopyIn() throws SQLException {
+        when(portalContext.removeCopyIn()).thenReturn(Optional.empty());
+        assertTrue(new PostgreSQLComCopyFailExecutor(portalContext, packet).execute().isEmpty());
+    }
+    
+    @Test
+    void assertExecute() {
+        when(portalContext.removeCopyIn()).thenReturn(Optional.of(copyInContext));
+        when(packet.getErrorMessage()).thenReturn("aborted by user");
+        PostgreSQLException actual = assertThrows(PostgreSQLException.class, () -> new PostgreSQLComCopyFailExecutor(portalContext, packet).execute());
+        assertThat(actual.getServerErrorMessage().getSqlState(), is("57014"));
+        verify(copyInContext).cancel();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgreSQLCopyFormatTest {
+    
+    @Test
+    void assertValueOfDefaultTextFormat() {
+        PostgreSQLCopyFormat actual = PostgreSQLCopyFormat.valueOf(Collections.emptyMap());
+        assertFalse(actual.isCsv());
+        assertThat(actual.getDelimiter(), is((byte) '\t'));
+        assertThat(actual.getNullString(), is("\\N"));
+        assertFalse(actual.isHeader());
+        assertThat(actual.getBackendOptions(), is(""));
+    }
+    
+    @Test
+    void assertValueOfCSVFormat() {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("format", "csv");
+        options.put("delimiter", "'|'");
+        options.put("header", "");
+        options.put("escape", "E'\\\\'");
+        PostgreSQLCopyFormat actual = PostgreSQLCopyFormat.valueOf(options);
+        assertTrue(actual.isCsv());
+        assertThat(actual.getDelimiter(), is((byte) '|'));
+        assertThat(actual.getNullString(), is(""));
+        assertThat(actual.getQuote(), is((byte) '"'));
+        assertThat(actual.getEscape(), is((byte) '\\'));
+        assertTrue(actual.isHeader());
+        assertThat(actual.getBackendOptions(), is("(FORMAT csv, DELIMITER '|', ESCAPE E'\\\\')"));
+    }
+    
+    @Test
+    void assertValueOfHeaderOff() {
+        assertFalse(PostgreSQLCopyFormat.valueOf(Collections.singletonMap("header", "false")).isHeader());
+    }
+    
+    @Test
+    void assertValueOfBinaryFormat() {
+        assertThrows(UnsupportedSQLOperationException.class, () -> PostgreSQLCopyFormat.valueOf(Collections.singletonMap("format", "binary")));
+    }
+    
+    @Test
+    void assertValueOfMultiCharacterDelimiter() {
+        assertThrows(UnsupportedSQLOperationException.class, () -> PostgreSQLCopyFormat.valueOf(Collections.singletonMap("delimiter", "'||'")));
+    }
+}
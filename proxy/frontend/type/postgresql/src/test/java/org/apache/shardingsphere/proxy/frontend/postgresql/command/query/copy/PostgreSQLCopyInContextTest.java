@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.attribute.EncryptTableMapperRuleAttribute;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.internal.configuration.plugins.Plugins;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostgreSQLCopyInContextTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @BeforeEach
+    void setUp() {
+        when(connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        when(connectionSession.getDatabaseName()).thenReturn("foo_db");
+    }
+    
+    @Test
+    void assertNewInstance() {
+        mockMetaData(Collections.emptyList());
+        assertThat(new PostgreSQLCopyInContext(connectionSession, createCopyStatement(), new HintValueContext()).getColumnCount(), is(2));
+    }
+    
+    @Test
+    void assertNewInstanceWithEncryptTable() {
+        EncryptRule rule = mock(EncryptRule.class);
+        when(rule.getAttributes()).thenReturn(new RuleAttributes(new EncryptTableMapperRuleAttribute(Collections.singleton(new EncryptTableRuleConfiguration("t_order", Collections.emptyList())))));
+        mockMetaData(Collections.singleton(rule));
+        assertThrows(UnsupportedSQLOperationException.class, () -> new PostgreSQLCopyInContext(connectionSession, createCopyStatement(), new HintValueContext()));
+    }
+    
+    @Test
+    void assertComplete() throws ReflectiveOperationException, SQLException {
+        mockMetaData(Collections.emptyList());
+        PostgreSQLCopyInContext copyInContext = new PostgreSQLCopyInContext(connectionSession, createCopyStatement(), new HintValueContext());
+        PostgreSQLCopyInTarget fooTarget = mock(PostgreSQLCopyInTarget.class);
+        PostgreSQLCopyInTarget barTarget = mock(PostgreSQLCopyInTarget.class);
+        Map<DataNode, PostgreSQLCopyInTarget> targets = getTargets(copyInContext);
+        targets.put(new DataNode("foo_ds.t_order_0"), fooTarget);
+        targets.put(new DataNode("bar_ds.t_order_1"), barTarget);
+        copyInContext.complete();
+        InOrder inOrder = inOrder(fooTarget, barTarget);
+        inOrder.verify(fooTarget).endCopy();
+        inOrder.verify(barTarget).endCopy();
+        inOrder.verify(fooTarget).commit();
+        inOrder.verify(barTarget).commit();
+        assertTrue(targets.isEmpty());
+    }
+    
+    @Test
+    void assertCancelWithFailedTarget() throws ReflectiveOperationException, SQLException {
+        mockMetaData(Collections.emptyList());
+        PostgreSQLCopyInContext copyInContext = new PostgreSQLCopyInContext(connectionSession, createCopyStatement(), new HintValueContext());
+        PostgreSQLCopyInTarget failedTarget = mock(PostgreSQLCopyInTarget.class);
+        doThrow(SQLException.class).when(failedTarget).cancelCopy();
+        PostgreSQLCopyInTarget target = mock(PostgreSQLCopyInTarget.class);
+        Map<DataNode, PostgreSQLCopyInTarget> targets = getTargets(copyInContext);
+        targets.put(new DataNode("foo_ds.t_order_0"), failedTarget);
+        targets.put(new DataNode("bar_ds.t_order_1"), target);
+        copyInContext.cancel();
+        verify(target).cancelCopy();
+        assertTrue(targets.isEmpty());
+    }
+    
+    private void mockMetaData(final Collection<ShardingSphereRule> rules) {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        when(database.getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"));
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.getTables().put("t_order", new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false, false),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true)), Collections.emptyList(), Collections.emptyList()));
+        when(database.getSchema("public")).thenReturn(schema);
+        when(database.getRuleMetaData()).thenReturn(new RuleMetaData(rules));
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getDatabase("foo_db")).thenReturn(database);
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData()).thenReturn(metaData);
+    }
+    
+    private PostgreSQLCopyStatement createCopyStatement() {
+        PostgreSQLCopyStatement result = new PostgreSQLCopyStatement();
+        result.setTableSegment(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t_order"))));
+        result.setStdin(true);
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<DataNode, PostgreSQLCopyInTarget> getTargets(final PostgreSQLCopyInContext copyInContext) throws ReflectiveOperationException {
+        return (Map<DataNode, PostgreSQLCopyInTarget>) Plugins.getMemberAccessor().get(PostgreSQLCopyInContext.class.getDeclaredField("targets"), copyInContext);
+    }
+}
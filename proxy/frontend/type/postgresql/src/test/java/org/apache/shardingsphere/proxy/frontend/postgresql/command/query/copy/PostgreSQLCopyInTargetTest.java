@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.copy.CopyIn;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSQLCopyInTargetTest {
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private CopyIn copyIn;
+    
+    @Test
+    void assertEndCopy() throws SQLException {
+        when(copyIn.endCopy()).thenReturn(10L);
+        assertThat(new PostgreSQLCopyInTarget(connection, true, copyIn).endCopy(), is(10L));
+        verify(connection, never()).close();
+    }
+    
+    @Test
+    void assertCommitWithDedicatedConnection() throws SQLException {
+        new PostgreSQLCopyInTarget(connection, true, copyIn).commit();
+        verify(connection).commit();
+        verify(connection).close();
+    }
+    
+    @Test
+    void assertCommitWithTransactionConnection() throws SQLException {
+        new PostgreSQLCopyInTarget(connection, false, copyIn).commit();
+        verify(connection, never()).commit();
+        verify(connection, never()).close();
+    }
+    
+    @Test
+    void assertCancelCopyWithDedicatedConnection() throws SQLException {
+        when(copyIn.isActive()).thenReturn(true);
+        new PostgreSQLCopyInTarget(connection, true, copyIn).cancelCopy();
+        verify(copyIn).cancelCopy();
+        verify(connection).rollback();
+        verify(connection).close();
+    }
+    
+    @Test
+    void assertCancelCopyWithTransactionConnection() throws SQLException {
+        when(copyIn.isActive()).thenReturn(true);
+        new PostgreSQLCopyInTarget(connection, false, copyIn).cancelCopy();
+        verify(copyIn).cancelCopy();
+        verify(connection, never()).rollback();
+        verify(connection, never()).close();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PostgreSQLCopyRowEncoderTest {
+    
+    @Test
+    void assertEncodeTextRow() {
+        PostgreSQLCopyRowEncoder encoder = new PostgreSQLCopyRowEncoder(PostgreSQLCopyFormat.valueOf(Collections.emptyMap()), StandardCharsets.UTF_8);
+        byte[] actual = encoder.encode(Arrays.asList(1, null, "a\tb\\c\n"));
+        assertThat(new String(actual, StandardCharsets.UTF_8), is("1\t\\N\ta\\tb\\\\c\\n\n"));
+    }
+    
+    @Test
+    void assertEncodeCSVRow() {
+        PostgreSQLCopyRowEncoder encoder = new PostgreSQLCopyRowEncoder(PostgreSQLCopyFormat.valueOf(Collections.singletonMap("format", "csv")), StandardCharsets.UTF_8);
+        byte[] actual = encoder.encode(Arrays.asList(1, null, "", "a,\"b\"", "plain"));
+        assertThat(new String(actual, StandardCharsets.UTF_8), is("1,,\"\",\"a,\"\"b\"\"\",plain\n"));
+    }
+}
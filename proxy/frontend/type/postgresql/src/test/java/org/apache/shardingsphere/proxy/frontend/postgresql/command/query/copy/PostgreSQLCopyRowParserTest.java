@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgreSQLCopyRowParserTest {
+    
+    @Test
+    void assertParseTextRows() {
+        PostgreSQLCopyRowParser parser = createParser(Collections.emptyMap());
+        List<PostgreSQLCopyRow> actual = parser.parse(bytes("1\tfoo\\tbar\n2\t\\N\n"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getValues(), is(Arrays.asList("1", "foo\tbar")));
+        assertThat(actual.get(0).getData(), is(bytes("1\tfoo\\tbar")));
+        assertThat(actual.get(1).getValues(), is(Arrays.asList("2", null)));
+    }
+    
+    @Test
+    void assertParseRowAcrossCopyData() {
+        PostgreSQLCopyRowParser parser = createParser(Collections.emptyMap());
+        assertTrue(parser.parse(bytes("1\tf")).isEmpty());
+        List<PostgreSQLCopyRow> actual = parser.parse(bytes("oo\r\n2\tbar"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getValues(), is(Arrays.asList("1", "foo")));
+        actual = parser.finish();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getValues(), is(Arrays.asList("2", "bar")));
+    }
+    
+    @Test
+    void assertParseTextEscapes() {
+        List<PostgreSQLCopyRow> actual = createParser(Collections.emptyMap()).parse(bytes("a\\\tb\t\\101\\x42\\\\\n"));
+        assertThat(actual.get(0).getValues(), is(Arrays.asList("a\tb", "AB\\")));
+    }
+    
+    @Test
+    void assertParseEndOfData() {
+        PostgreSQLCopyRowParser parser = createParser(Collections.emptyMap());
+        List<PostgreSQLCopyRow> actual = parser.parse(bytes("1\tfoo\n\\.\n2\tbar\n"));
+        assertThat(actual.size(), is(1));
+        assertTrue(parser.parse(bytes("3\tbaz\n")).isEmpty());
+        assertTrue(parser.finish().isEmpty());
+    }
+    
+    @Test
+    void assertParseCSVRows() {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("format", "csv");
+        options.put("header", "");
+        PostgreSQLCopyRowParser parser = createParser(options);
+        List<PostgreSQLCopyRow> actual = parser.parse(bytes("id,name\n1,\"a,\"\"b\"\"\nc\"\n2,\n3,\"\"\n"));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0).getValues(), is(Arrays.asList("1", "a,\"b\"\nc")));
+        assertThat(actual.get(1).getValues(), is(Arrays.asList("2", null)));
+        assertThat(actual.get(2).getValues(), is(Arrays.asList("3", "")));
+    }
+    
+    private PostgreSQLCopyRowParser createParser(final Map<String, String> options) {
+        return new PostgreSQLCopyRowParser(PostgreSQLCopyFormat.valueOf(options), StandardCharsets.UTF_8);
+    }
+    
+    private byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -50,6 +50,8 @@ public final class EncryptColumnAssert {
             assertThat(assertContext.getText(String.format("`%s`'s assertion error", actual.getClass().getSimpleName())), actual.getName(), is(expected.getName()));
             assertThat(assertContext.getText(String.format("`%s`'s assertion error", actual.getClass().getSimpleName())),
                     actual.getCipher().getName(), is(expected.getCipher().getName()));
+            assertThat(assertContext.getText(String.format("`%s`'s assertion error", actual.getClass().getSimpleName())),
+                    actual.getCipher().getDecryptCacheSize(), is(expected.getCipher().getDecryptCacheSize()));
             AlgorithmAssert.assertIs(assertContext, actual.getCipher().getEncryptor(), expected.getCipher().getEncryptor());
             if (null == expected.getAssistedQuery()) {
                 assertNull(actual.getAssistedQuery(), assertContext.getText(String.format("`%s`'s assertion error", actual.getClass().getSimpleName())));
@@ -56,6 +56,9 @@ public final class ReadwriteSplittingRuleAssert {
             assertThat(assertContext.getText(String.format("`%s`'s readwrite-splitting rule segment assertion error: ",
                     actual.getClass().getSimpleName())), actual.getReadDataSources(), is(expected.getReadDataSources()));
             assertTransactionalReadQueryStrategy(assertContext, actual, expected);
+            assertThat(assertContext.getText("Max replication lag milliseconds assertion error"), actual.getMaxReplicationLagMilliseconds(), is(expected.getMaxReplicationLagMilliseconds()));
+            assertThat(assertContext.getText("Replication lag probe interval milliseconds assertion error"),
+                    actual.getReplicationLagProbeIntervalMilliseconds(), is(expected.getReplicationLagProbeIntervalMilliseconds()));
             assertLoadBalancer(assertContext, actual.getLoadBalancer(), expected.getLoadBalancer());
         }
     }
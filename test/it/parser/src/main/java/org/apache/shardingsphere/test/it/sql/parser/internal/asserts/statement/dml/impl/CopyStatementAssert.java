@@ -27,11 +27,15 @@ import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.SQLCaseAsse
 import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.segment.column.ColumnAssert;
 import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.segment.prepare.PrepareStatementQueryAssert;
 import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.segment.table.TableAssert;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.segment.impl.copy.ExpectedCopyOption;
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.statement.dml.CopyStatementTestCase;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -53,6 +57,7 @@ public final class CopyStatementAssert {
         assertTable(assertContext, actual, expected);
         assertColumns(assertContext, actual, expected);
         assertPrepareStatementQuerySegment(assertContext, actual, expected);
+        assertOptions(assertContext, actual, expected);
     }
     
     private static void assertTable(final SQLCaseAssertContext assertContext, final CopyStatement actual, final CopyStatementTestCase expected) {
@@ -82,4 +87,11 @@ public final class CopyStatementAssert {
             PrepareStatementQueryAssert.assertIs(assertContext, prepareStatementQuerySegment.get(), expected.getQuery());
         }
     }
+    
+    private static void assertOptions(final SQLCaseAssertContext assertContext, final CopyStatement actual, final CopyStatementTestCase expected) {
+        Map<String, String> actualOptions = CopyStatementHandler.getOptions(actual);
+        for (ExpectedCopyOption each : expected.getOptions()) {
+            assertThat(assertContext.getText(String.format("Copy option `%s` assertion error: ", each.getName())), actualOptions.get(each.getName()), is(each.getValue()));
+        }
+    }
 }
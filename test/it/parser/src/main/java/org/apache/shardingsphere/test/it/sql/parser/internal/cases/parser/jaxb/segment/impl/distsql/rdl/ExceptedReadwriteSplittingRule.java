@@ -42,6 +42,12 @@ public final class ExceptedReadwriteSplittingRule extends AbstractExpectedIdenti
     @XmlAttribute(name = "transactional-read-query-strategy")
     private String transactionalReadQueryStrategy;
     
+    @XmlAttribute(name = "max-replication-lag-milliseconds")
+    private long maxReplicationLagMilliseconds;
+    
+    @XmlAttribute(name = "replication-lag-probe-interval-milliseconds")
+    private long replicationLagProbeIntervalMilliseconds;
+    
     @XmlElement(name = "load-balancer")
     private ExpectedAlgorithm loadBalancer;
 }
@@ -22,6 +22,7 @@ import lombok.Setter;
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.segment.AbstractExpectedIdentifierSQLSegment;
 import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.segment.impl.distsql.ExpectedAlgorithm;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 
 /**
@@ -33,4 +34,7 @@ public final class ExpectedEncryptColumnItem extends AbstractExpectedIdentifierS
     
     @XmlElement
     private ExpectedAlgorithm encryptor;
+    
+    @XmlAttribute(name = "decrypt-cache-size")
+    private int decryptCacheSize;
 }